@@ -21,6 +21,7 @@ import com.mongodb2.client.FindIterable;
 import com.mongodb2.client.MongoCursor;
 import com.mongodb2.client.MongoIterable;
 import com.mongodb2.client.model.Collation;
+import com.mongodb2.client.model.HedgeOptions;
 import com.mongodb2.client.model.FindOptions;
 import com.mongodb2.operation.AggregateOperation;
 import com.mongodb2.operation.AggregateToCollectionOperation;
@@ -33,6 +34,7 @@ import org.bson2.conversions.Bson;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Spliterator;
 import java.util.concurrent.TimeUnit;
 
 import static com.mongodb2.assertions.Assertions.notNull;
@@ -55,6 +57,7 @@ class AggregateIterableImpl<TDocument, TResult> implements AggregateIterable<TRe
     private Boolean useCursor;
     private Boolean bypassDocumentValidation;
     private Collation collation;
+    private HedgeOptions hedgeOptions;
 
     AggregateIterableImpl(final MongoNamespace namespace, final Class<TDocument> documentClass, final Class<TResult> resultClass,
                           final CodecRegistry codecRegistry, final ReadPreference readPreference, final ReadConcern readConcern,
@@ -118,6 +121,12 @@ class AggregateIterableImpl<TDocument, TResult> implements AggregateIterable<TRe
         return this;
     }
 
+    @Override
+    public AggregateIterable<TResult> hedgeOptions(final HedgeOptions hedgeOptions) {
+        this.hedgeOptions = hedgeOptions;
+        return this;
+    }
+
     @Override
     public MongoCursor<TResult> iterator() {
         return execute().iterator();
@@ -164,7 +173,8 @@ class AggregateIterableImpl<TDocument, TResult> implements AggregateIterable<TRe
                     .batchSize(batchSize)
                     .useCursor(useCursor)
                     .readConcern(readConcern)
-                    .collation(collation),
+                    .collation(collation)
+                    .hedgeOptions(hedgeOptions),
                     readPreference, executor);
         }
     }
@@ -192,4 +202,9 @@ class AggregateIterableImpl<TDocument, TResult> implements AggregateIterable<TRe
         }
         return aggregateList;
     }
+
+    @Override
+    public Spliterator<TResult> spliterator() {
+        return execute().spliterator();
+    }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb2;
+
+import com.mongodb2.client.ColumnarBatch;
+import com.mongodb2.client.MongoCursor;
+import com.mongodb2.operation.BatchCursor;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A cursor that returns each batch of a batch cursor of decoded rows as a single {@code ColumnarBatch}.
+ */
+class ColumnarBatchCursor implements MongoCursor<ColumnarBatch> {
+    private final BatchCursor<long[]> batchCursor;
+    private final ColumnarBatchDecoder decoder;
+
+    ColumnarBatchCursor(final BatchCursor<long[]> batchCursor, final ColumnarBatchDecoder decoder) {
+        this.batchCursor = batchCursor;
+        this.decoder = decoder;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Cursors do not support removal");
+    }
+
+    @Override
+    public void close() {
+        batchCursor.close();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return batchCursor.hasNext();
+    }
+
+    @Override
+    public ColumnarBatch next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return decoder.toBatch(batchCursor.next());
+    }
+
+    @Override
+    public ColumnarBatch tryNext() {
+        List<long[]> rows = batchCursor.tryNext();
+        return rows == null ? null : decoder.toBatch(rows);
+    }
+
+    @Override
+    public ServerCursor getServerCursor() {
+        return batchCursor.getServerCursor();
+    }
+
+    @Override
+    public ServerAddress getServerAddress() {
+        return batchCursor.getServerAddress();
+    }
+}
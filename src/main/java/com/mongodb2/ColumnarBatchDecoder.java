@@ -0,0 +1,176 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb2;
+
+import com.mongodb2.client.ColumnarBatch;
+import com.mongodb2.client.model.Column;
+import org.bson2.BsonReader;
+import org.bson2.BsonType;
+import org.bson2.codecs.Decoder;
+import org.bson2.codecs.DecoderContext;
+import util.ValueConverter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.mongodb2.assertions.Assertions.isTrueArgument;
+import static com.mongodb2.assertions.Assertions.notNull;
+
+/**
+ * Decodes each result document into a row holding the requested numeric fields, and transposes a batch of rows into a
+ * {@code ColumnarBatch}.  Fields that are not requested are skipped without being decoded.
+ *
+ * <p>A row is a {@code long[]} holding the raw bits of the value of each column, as a long or, for a double column, as the bits of the
+ * double, followed by a bitmap with a bit set for each column that has a value.</p>
+ */
+final class ColumnarBatchDecoder implements Decoder<long[]> {
+    private final List<Column> columns;
+    private final Map<String, Integer> columnIndexes;
+    private final BsonType[] columnTypes;
+    private final boolean reconvert;
+    private final int rowLength;
+
+    /**
+     * Construct an instance.
+     *
+     * @param columns   the columns
+     * @param reconvert whether values are reconverted with {@code ValueConverter}, as they are by {@code DocumentCodec}
+     */
+    ColumnarBatchDecoder(final List<Column> columns, final boolean reconvert) {
+        this.columns = new ArrayList<Column>(notNull("columns", columns));
+        this.columnIndexes = new HashMap<String, Integer>();
+        this.columnTypes = new BsonType[this.columns.size()];
+        for (int i = 0; i < columnTypes.length; i++) {
+            Column column = notNull("column", this.columns.get(i));
+            isTrueArgument("column names are unique", columnIndexes.put(column.getName(), i) == null);
+            columnTypes[i] = column.getType();
+        }
+        this.reconvert = reconvert;
+        this.rowLength = columnTypes.length + ((columnTypes.length + 63) >>> 6);
+    }
+
+    @Override
+    public long[] decode(final BsonReader reader, final DecoderContext decoderContext) {
+        long[] row = new long[rowLength];
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            Integer index = columnIndexes.get(reader.readName());
+            if (index == null) {
+                reader.skipValue();
+            } else {
+                readValue(reader, index, row);
+            }
+        }
+        reader.readEndDocument();
+        return row;
+    }
+
+    /**
+     * Transposes a batch of decoded rows into columns.
+     *
+     * @param rows the rows
+     * @return the batch
+     */
+    ColumnarBatch toBatch(final List<long[]> rows) {
+        int size = rows.size();
+        int bitmapLength = (size + 63) >>> 6;
+        Object[] values = new Object[columnTypes.length];
+        long[][] nullBitmaps = new long[columnTypes.length][];
+        for (int column = 0; column < columnTypes.length; column++) {
+            int presentWord = columnTypes.length + (column >>> 6);
+            long presentBit = 1L << column;
+            long[] nullBitmap = new long[bitmapLength];
+            switch (columnTypes[column]) {
+                case INT32:
+                    int[] int32Values = new int[size];
+                    for (int i = 0; i < size; i++) {
+                        long[] row = rows.get(i);
+                        int32Values[i] = (int) row[column];
+                        if ((row[presentWord] & presentBit) == 0) {
+                            nullBitmap[i >>> 6] |= 1L << i;
+                        }
+                    }
+                    values[column] = int32Values;
+                    break;
+                case INT64:
+                    long[] int64Values = new long[size];
+                    for (int i = 0; i < size; i++) {
+                        long[] row = rows.get(i);
+                        int64Values[i] = row[column];
+                        if ((row[presentWord] & presentBit) == 0) {
+                            nullBitmap[i >>> 6] |= 1L << i;
+                        }
+                    }
+                    values[column] = int64Values;
+                    break;
+                default:
+                    double[] doubleValues = new double[size];
+                    for (int i = 0; i < size; i++) {
+                        long[] row = rows.get(i);
+                        doubleValues[i] = Double.longBitsToDouble(row[column]);
+                        if ((row[presentWord] & presentBit) == 0) {
+                            nullBitmap[i >>> 6] |= 1L << i;
+                        }
+                    }
+                    values[column] = doubleValues;
+                    break;
+            }
+            nullBitmaps[column] = nullBitmap;
+        }
+        return new ColumnarBatch(columns, size, values, nullBitmaps);
+    }
+
+    private void readValue(final BsonReader reader, final int column, final long[] row) {
+        BsonType columnType = columnTypes[column];
+        long bits;
+        switch (reader.getCurrentBsonType()) {
+            case INT32:
+                int int32Value = reconvert ? ValueConverter.reconvertInteger(reader.readInt32()) : reader.readInt32();
+                bits = columnType == BsonType.DOUBLE ? Double.doubleToRawLongBits(int32Value) : int32Value;
+                break;
+            case INT64:
+                long int64Value = reconvert ? ValueConverter.reconvertLong(reader.readInt64()) : reader.readInt64();
+                if (columnType == BsonType.INT32) {
+                    clear(column, row);
+                    return;
+                }
+                bits = columnType == BsonType.DOUBLE ? Double.doubleToRawLongBits(int64Value) : int64Value;
+                break;
+            case DOUBLE:
+                double doubleValue = reconvert ? ValueConverter.reconvertDouble(reader.readDouble()) : reader.readDouble();
+                if (columnType != BsonType.DOUBLE) {
+                    clear(column, row);
+                    return;
+                }
+                bits = Double.doubleToRawLongBits(doubleValue);
+                break;
+            default:
+                reader.skipValue();
+                clear(column, row);
+                return;
+        }
+        row[column] = bits;
+        row[columnTypes.length + (column >>> 6)] |= 1L << column;
+    }
+
+    private void clear(final int column, final long[] row) {
+        row[column] = 0;
+        row[columnTypes.length + (column >>> 6)] &= ~(1L << column);
+    }
+}
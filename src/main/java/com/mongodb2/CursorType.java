@@ -54,6 +54,24 @@ public enum CursorType {
         public boolean isTailable() {
             return true;
         }
+    },
+
+    /**
+     * A non-tailable cursor for which the server streams every batch of results as soon as the previous one has been sent, without
+     * waiting for the client to ask for more.  This suits reading all the results of a large query as fast as possible, but the
+     * connection can not be used for anything else until the last batch has been read, and closing the cursor early closes the
+     * connection.
+     *
+     * <p>Exhaust cursors use the legacy OP_QUERY wire protocol whatever the server version, so they do not support a read concern or
+     * a collation.</p>
+     *
+     * @since 3.5
+     */
+    Exhaust {
+        @Override
+        public boolean isTailable() {
+            return false;
+        }
     };
 
     /**
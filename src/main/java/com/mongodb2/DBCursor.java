@@ -227,9 +227,6 @@ public class DBCursor implements Cursor, Iterable<DBObject> {
      * @mongodb.driver.manual ../meta-driver/latest/legacy/mongodb-wire-protocol/#op-query Query Flags
      */
     public DBCursor setOptions(final int options) {
-        if ((options & Bytes.QUERYOPTION_EXHAUST) != 0) {
-            throw new UnsupportedOperationException("exhaust query option is not supported");
-        }
         this.options = options;
         return this;
     }
@@ -498,6 +495,8 @@ public class DBCursor implements Cursor, Iterable<DBObject> {
             } else {
                 operation.cursorType(CursorType.Tailable);
             }
+        } else if ((this.options & Bytes.QUERYOPTION_EXHAUST) != 0) {
+            operation.cursorType(CursorType.Exhaust);
         } else {
             operation.cursorType(findOptions.getCursorType());
         }
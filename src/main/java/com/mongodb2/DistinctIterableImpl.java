@@ -22,10 +22,12 @@ import com.mongodb2.client.MongoIterable;
 import com.mongodb2.client.model.Collation;
 import com.mongodb2.operation.DistinctOperation;
 import com.mongodb2.operation.OperationExecutor;
+import org.bson2.BsonDocumentWrapper;
 import org.bson2.codecs.configuration.CodecRegistry;
 import org.bson2.conversions.Bson;
 
 import java.util.Collection;
+import java.util.Spliterator;
 import java.util.concurrent.TimeUnit;
 
 import static com.mongodb2.assertions.Assertions.notNull;
@@ -112,10 +114,15 @@ class DistinctIterableImpl<TDocument, TResult> implements DistinctIterable<TResu
 
     private MongoIterable<TResult> execute() {
         DistinctOperation<TResult> operation = new DistinctOperation<TResult>(namespace, fieldName, codecRegistry.get(resultClass))
-                .filter(filter == null ? null : filter.toBsonDocument(documentClass, codecRegistry))
+                .filter(BsonDocumentWrapper.asBsonDocument(filter, documentClass, codecRegistry))
                 .maxTime(maxTimeMS, MILLISECONDS)
                 .readConcern(readConcern)
                 .collation(collation);
         return new OperationIterable<TResult>(operation, readPreference, executor);
     }
+
+    @Override
+    public Spliterator<TResult> spliterator() {
+        return execute().spliterator();
+    }
 }
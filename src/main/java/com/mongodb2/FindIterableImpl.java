@@ -16,19 +16,28 @@
 
 package com.mongodb2;
 
+import com.mongodb2.client.ColumnarBatch;
 import com.mongodb2.client.FindIterable;
 import com.mongodb2.client.MongoCursor;
 import com.mongodb2.client.MongoIterable;
 import com.mongodb2.client.model.Collation;
+import com.mongodb2.client.model.Column;
+import com.mongodb2.client.model.HedgeOptions;
 import com.mongodb2.client.model.FindOptions;
 import com.mongodb2.operation.BatchCursor;
 import com.mongodb2.operation.FindOperation;
 import com.mongodb2.operation.OperationExecutor;
 import org.bson2.BsonDocument;
+import org.bson2.BsonDocumentWrapper;
+import org.bson2.BsonInt32;
+import org.bson2.codecs.Decoder;
+import org.bson2.codecs.DocumentCodec;
 import org.bson2.codecs.configuration.CodecRegistry;
 import org.bson2.conversions.Bson;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Spliterator;
 import java.util.concurrent.TimeUnit;
 
 import static com.mongodb2.assertions.Assertions.notNull;
@@ -98,12 +107,24 @@ final class FindIterableImpl<TDocument, TResult> implements FindIterable<TResult
         return this;
     }
 
+    @Override
+    public FindIterable<TResult> prefetchBatches(final int prefetchBatches) {
+        findOptions.prefetchBatches(prefetchBatches);
+        return this;
+    }
+
     @Override
     public FindIterable<TResult> collation(final Collation collation) {
         findOptions.collation(collation);
         return this;
     }
 
+    @Override
+    public FindIterable<TResult> hedgeOptions(final HedgeOptions hedgeOptions) {
+        findOptions.hedgeOptions(hedgeOptions);
+        return this;
+    }
+
     @Override
     public FindIterable<TResult> modifiers(final Bson modifiers) {
         findOptions.modifiers(modifiers);
@@ -171,14 +192,38 @@ final class FindIterableImpl<TDocument, TResult> implements FindIterable<TResult
         return execute().into(target);
     }
 
+    @Override
+    public MongoCursor<ColumnarBatch> columnarBatches(final List<Column> columns) {
+        ColumnarBatchDecoder decoder = new ColumnarBatchDecoder(columns, codecRegistry.get(resultClass) instanceof DocumentCodec);
+        FindOperation<long[]> operation = createQueryOperation(decoder).projection(createColumnProjection(columns));
+        return new ColumnarBatchCursor(executor.execute(operation, readPreference), decoder);
+    }
+
+    // only the requested fields are decoded, so only they need to be returned by the server
+    private BsonDocument createColumnProjection(final List<Column> columns) {
+        BsonDocument projection = new BsonDocument();
+        for (final Column column : columns) {
+            projection.put(column.getName(), new BsonInt32(1));
+        }
+        if (!projection.containsKey("_id")) {
+            projection.put("_id", new BsonInt32(0));
+        }
+        return projection;
+    }
+
     private MongoIterable<TResult> execute() {
         return new FindOperationIterable(createQueryOperation(), readPreference, executor);
     }
 
     private FindOperation<TResult> createQueryOperation() {
-        return new FindOperation<TResult>(namespace, codecRegistry.get(resultClass))
-                   .filter(filter.toBsonDocument(documentClass, codecRegistry))
+        return createQueryOperation(codecRegistry.get(resultClass));
+    }
+
+    private <T> FindOperation<T> createQueryOperation(final Decoder<T> decoder) {
+        return new FindOperation<T>(namespace, decoder)
+                   .filter(toBsonDocument(filter))
                    .batchSize(findOptions.getBatchSize())
+                   .prefetchBatches(findOptions.getPrefetchBatches())
                    .skip(findOptions.getSkip())
                    .limit(findOptions.getLimit())
                    .maxTime(findOptions.getMaxTime(MILLISECONDS), MILLISECONDS)
@@ -192,11 +237,12 @@ final class FindIterableImpl<TDocument, TResult> implements FindIterable<TResult
                    .partial(findOptions.isPartial())
                    .slaveOk(readPreference.isSlaveOk())
                    .readConcern(readConcern)
-                   .collation(findOptions.getCollation());
+                   .collation(findOptions.getCollation())
+                   .hedgeOptions(findOptions.getHedgeOptions());
     }
 
     private BsonDocument toBsonDocument(final Bson document) {
-        return document == null ? null : document.toBsonDocument(documentClass, codecRegistry);
+        return BsonDocumentWrapper.asBsonDocument(document, documentClass, codecRegistry);
     }
 
     private final class FindOperationIterable extends OperationIterable<TResult> {
@@ -217,4 +263,9 @@ final class FindIterableImpl<TDocument, TResult> implements FindIterable<TResult
             return batchCursor.hasNext() ? batchCursor.next().iterator().next() : null;
         }
     }
+
+    @Override
+    public Spliterator<TResult> spliterator() {
+        return execute().spliterator();
+    }
 }
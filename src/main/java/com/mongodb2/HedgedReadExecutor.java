@@ -0,0 +1,259 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb2;
+
+import com.mongodb2.annotations.ThreadSafe;
+import com.mongodb2.binding.ReadBinding;
+import com.mongodb2.binding.SingleServerBinding;
+import com.mongodb2.client.model.HedgeOptions;
+import com.mongodb2.connection.Cluster;
+import com.mongodb2.connection.ServerDescription;
+import com.mongodb2.diagnostics.logging.Logger;
+import com.mongodb2.diagnostics.logging.Loggers;
+import com.mongodb2.internal.thread.DaemonThreadFactory;
+import com.mongodb2.operation.BatchCursor;
+import com.mongodb2.operation.ReadOperation;
+import com.mongodb2.selector.CompositeServerSelector;
+import com.mongodb2.selector.ReadPreferenceServerSelector;
+import com.mongodb2.selector.ServerSelector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Executes hedged reads.  The read is executed on a pooled thread against a server chosen as usual, and if it has not completed by the
+ * time the hedge delay has elapsed, it is executed again against another eligible server.  The first successful result is returned, and
+ * any later result is discarded, closing it if it is a cursor so that the server-side cursor is killed.
+ */
+@ThreadSafe
+final class HedgedReadExecutor {
+    private static final Logger LOGGER = Loggers.getLogger("operation");
+
+    private static final int MAX_LATENCY_SAMPLES = 1024;
+    private static final int MIN_LATENCY_SAMPLES = 32;
+    private static final int LATENCY_SAMPLES_PER_SORT = 64;
+    private static final double MAX_HEDGE_BUDGET = 10;
+
+    private final Cluster cluster;
+    private final ExecutorService executorService = Executors.newCachedThreadPool(new DaemonThreadFactory("hedged-read"));
+    private final Random random = new Random();
+
+    // guarded by this
+    private final long[] latencySamples = new long[MAX_LATENCY_SAMPLES];
+    private int latencySampleCount;
+    private int nextLatencySample;
+    private long[] sortedLatencySamples;
+    private int latencySamplesSinceSort;
+    private double hedgeBudget;
+
+    HedgedReadExecutor(final Cluster cluster) {
+        this.cluster = cluster;
+    }
+
+    <T> T execute(final ReadOperation<T> operation, final ReadPreference readPreference, final HedgeOptions hedgeOptions) {
+        depositHedgeBudget(hedgeOptions.getMaxHedgeRatio());
+
+        ServerAddress firstServerAddress = cluster.selectServer(new ReadPreferenceServerSelector(readPreference)).getDescription()
+                                                  .getAddress();
+        HedgedRead<T> hedgedRead = new HedgedRead<T>();
+        hedgedRead.start(operation, firstServerAddress, readPreference);
+
+        if (!hedgedRead.await(getHedgeDelayNanos(hedgeOptions))) {
+            ServerAddress hedgeServerAddress = selectHedgeServer(readPreference, firstServerAddress);
+            if (hedgeServerAddress != null && withdrawHedgeBudget()) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(format("Hedging read sent to %s with a read sent to %s", firstServerAddress, hedgeServerAddress));
+                }
+                hedgedRead.start(operation, hedgeServerAddress, readPreference);
+            }
+        }
+        return hedgedRead.getResult();
+    }
+
+    void close() {
+        executorService.shutdownNow();
+    }
+
+    private ServerAddress selectHedgeServer(final ReadPreference readPreference, final ServerAddress excludedServerAddress) {
+        ServerSelector serverSelector = new ReadPreferenceServerSelector(readPreference);
+        if (cluster.getSettings().getServerSelector() != null) {
+            serverSelector = new CompositeServerSelector(asList(serverSelector, cluster.getSettings().getServerSelector()));
+        }
+        List<ServerAddress> candidates = new ArrayList<ServerAddress>();
+        for (ServerDescription cur : serverSelector.select(cluster.getDescription())) {
+            if (!cur.getAddress().equals(excludedServerAddress)) {
+                candidates.add(cur.getAddress());
+            }
+        }
+        return candidates.isEmpty() ? null : candidates.get(random.nextInt(candidates.size()));
+    }
+
+    private synchronized void depositHedgeBudget(final double amount) {
+        hedgeBudget = Math.min(hedgeBudget + amount, MAX_HEDGE_BUDGET);
+    }
+
+    private synchronized boolean withdrawHedgeBudget() {
+        if (hedgeBudget < 1) {
+            return false;
+        }
+        hedgeBudget--;
+        return true;
+    }
+
+    private synchronized void addLatencySample(final long elapsedTimeNanos) {
+        latencySamples[nextLatencySample] = elapsedTimeNanos;
+        nextLatencySample = (nextLatencySample + 1) % MAX_LATENCY_SAMPLES;
+        latencySampleCount = Math.min(latencySampleCount + 1, MAX_LATENCY_SAMPLES);
+        latencySamplesSinceSort++;
+    }
+
+    // the percentile is taken from a sorted copy of the samples, which is only refreshed every so often so that the cost of sorting is
+    // spread across many reads
+    private synchronized long getHedgeDelayNanos(final HedgeOptions hedgeOptions) {
+        long minDelayNanos = hedgeOptions.getMinDelay(NANOSECONDS);
+        long maxDelayNanos = hedgeOptions.getMaxDelay(NANOSECONDS);
+        if (latencySampleCount < MIN_LATENCY_SAMPLES) {
+            return maxDelayNanos;
+        }
+        if (sortedLatencySamples == null || latencySamplesSinceSort >= LATENCY_SAMPLES_PER_SORT) {
+            sortedLatencySamples = Arrays.copyOf(latencySamples, latencySampleCount);
+            Arrays.sort(sortedLatencySamples);
+            latencySamplesSinceSort = 0;
+        }
+        int index = (int) Math.ceil(hedgeOptions.getDelayPercentile() / 100 * sortedLatencySamples.length) - 1;
+        long delayNanos = sortedLatencySamples[Math.max(index, 0)];
+        return Math.min(Math.max(delayNanos, minDelayNanos), maxDelayNanos);
+    }
+
+    private final class HedgedRead<T> {
+        // guarded by this
+        private int pendingAttemptCount;
+        private boolean hasResult;
+        private boolean abandoned;
+        private T result;
+        private RuntimeException firstFailure;
+
+        void start(final ReadOperation<T> operation, final ServerAddress serverAddress, final ReadPreference readPreference) {
+            synchronized (this) {
+                pendingAttemptCount++;
+            }
+            try {
+                executorService.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        long startTimeNanos = System.nanoTime();
+                        ReadBinding binding = new SingleServerBinding(cluster, serverAddress, readPreference);
+                        try {
+                            T attemptResult = operation.execute(binding);
+                            addLatencySample(System.nanoTime() - startTimeNanos);
+                            succeeded(attemptResult);
+                        } catch (RuntimeException e) {
+                            failed(e);
+                        } finally {
+                            binding.release();
+                        }
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                failed(new IllegalStateException("state should be: open"));
+            }
+        }
+
+        /**
+         * Waits for the read to complete, successfully or not.
+         *
+         * @param timeoutNanos the maximum time to wait
+         * @return true if the read completed
+         */
+        synchronized boolean await(final long timeoutNanos) {
+            long deadlineNanos = System.nanoTime() + timeoutNanos;
+            long remainingNanos = timeoutNanos;
+            while (!isComplete() && remainingNanos > 0) {
+                waitNanos(remainingNanos);
+                remainingNanos = deadlineNanos - System.nanoTime();
+            }
+            return isComplete();
+        }
+
+        synchronized T getResult() {
+            while (!isComplete()) {
+                waitNanos(0);
+            }
+            if (hasResult) {
+                return result;
+            }
+            throw firstFailure;
+        }
+
+        private void succeeded(final T attemptResult) {
+            synchronized (this) {
+                pendingAttemptCount--;
+                if (!hasResult && !abandoned) {
+                    result = attemptResult;
+                    hasResult = true;
+                    notifyAll();
+                    return;
+                }
+            }
+            discard(attemptResult);
+        }
+
+        private synchronized void failed(final RuntimeException e) {
+            pendingAttemptCount--;
+            if (firstFailure == null) {
+                firstFailure = e;
+            }
+            notifyAll();
+        }
+
+        private boolean isComplete() {
+            return hasResult || pendingAttemptCount == 0;
+        }
+
+        private void waitNanos(final long timeoutNanos) {
+            try {
+                if (timeoutNanos == 0) {
+                    wait();
+                } else {
+                    NANOSECONDS.timedWait(this, timeoutNanos);
+                }
+            } catch (InterruptedException e) {
+                abandoned = true;
+                throw new MongoInterruptedException("Interrupted waiting for a hedged read", e);
+            }
+        }
+
+        private void discard(final T attemptResult) {
+            if (attemptResult instanceof BatchCursor) {
+                try {
+                    ((BatchCursor<?>) attemptResult).close();
+                } catch (RuntimeException e) {
+                    LOGGER.debug("Exception closing the cursor of a hedged read that lost", e);
+                }
+            }
+        }
+    }
+}
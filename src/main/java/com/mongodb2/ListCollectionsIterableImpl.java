@@ -26,6 +26,7 @@ import org.bson2.codecs.configuration.CodecRegistry;
 import org.bson2.conversions.Bson;
 
 import java.util.Collection;
+import java.util.Spliterator;
 import java.util.concurrent.TimeUnit;
 
 import static com.mongodb2.assertions.Assertions.notNull;
@@ -111,4 +112,8 @@ final class ListCollectionsIterableImpl<TResult> implements ListCollectionsItera
         return document == null ? null : document.toBsonDocument(BsonDocument.class, codecRegistry);
     }
 
+    @Override
+    public Spliterator<TResult> spliterator() {
+        return execute().spliterator();
+    }
 }
@@ -23,6 +23,7 @@ import com.mongodb2.operation.OperationExecutor;
 import org.bson2.codecs.configuration.CodecRegistry;
 
 import java.util.Collection;
+import java.util.Spliterator;
 import java.util.concurrent.TimeUnit;
 
 import static com.mongodb2.assertions.Assertions.notNull;
@@ -91,4 +92,8 @@ final class ListDatabasesIterableImpl<TResult> implements ListDatabasesIterable<
         return new ListDatabasesOperation<TResult>(codecRegistry.get(resultClass)).maxTime(maxTimeMS, MILLISECONDS);
     }
 
+    @Override
+    public Spliterator<TResult> spliterator() {
+        return execute().spliterator();
+    }
 }
@@ -24,6 +24,7 @@ import com.mongodb2.operation.OperationExecutor;
 import org.bson2.codecs.configuration.CodecRegistry;
 
 import java.util.Collection;
+import java.util.Spliterator;
 import java.util.concurrent.TimeUnit;
 
 import static com.mongodb2.assertions.Assertions.notNull;
@@ -96,4 +97,8 @@ final class ListIndexesIterableImpl<TResult> implements ListIndexesIterable<TRes
                 .maxTime(maxTimeMS, MILLISECONDS);
     }
 
+    @Override
+    public Spliterator<TResult> spliterator() {
+        return execute().spliterator();
+    }
 }
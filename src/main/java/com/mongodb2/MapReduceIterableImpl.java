@@ -26,11 +26,13 @@ import com.mongodb2.operation.MapReduceToCollectionOperation;
 import com.mongodb2.operation.MapReduceWithInlineResultsOperation;
 import com.mongodb2.operation.OperationExecutor;
 import org.bson2.BsonDocument;
+import org.bson2.BsonDocumentWrapper;
 import org.bson2.BsonJavaScript;
 import org.bson2.codecs.configuration.CodecRegistry;
 import org.bson2.conversions.Bson;
 
 import java.util.Collection;
+import java.util.Spliterator;
 import java.util.concurrent.TimeUnit;
 
 import static com.mongodb2.ReadPreference.primary;
@@ -270,7 +272,11 @@ class MapReduceIterableImpl<TDocument, TResult> implements MapReduceIterable<TRe
     }
 
     private BsonDocument toBsonDocument(final Bson document) {
-        return document == null ? null : document.toBsonDocument(documentClass, codecRegistry);
+        return BsonDocumentWrapper.asBsonDocument(document, documentClass, codecRegistry);
     }
 
+    @Override
+    public Spliterator<TResult> spliterator() {
+        return execute().spliterator();
+    }
 }
@@ -20,6 +20,8 @@ import com.mongodb2.client.MongoCursor;
 import com.mongodb2.client.MongoIterable;
 
 import java.util.Collection;
+import java.util.Spliterator;
+import java.util.stream.Stream;
 
 class MappingIterable<U, V> implements MongoIterable<V> {
 
@@ -76,4 +78,19 @@ class MappingIterable<U, V> implements MongoIterable<V> {
     public <W> MongoIterable<W> map(final Function<V, W> newMap) {
         return new MappingIterable<V, W>(this, newMap);
     }
+
+    @Override
+    public Spliterator<V> spliterator() {
+        return stream().spliterator();
+    }
+
+    @Override
+    public Stream<V> stream() {
+        return iterable.stream().map(new java.util.function.Function<U, V>() {
+            @Override
+            public V apply(final U u) {
+                return mapper.apply(u);
+            }
+        });
+    }
 }
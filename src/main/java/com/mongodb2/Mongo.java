@@ -24,6 +24,7 @@ import com.mongodb2.binding.ReadWriteBinding;
 import com.mongodb2.binding.SingleServerBinding;
 import com.mongodb2.binding.WriteBinding;
 import com.mongodb2.client.MongoDriverInformation;
+import com.mongodb2.client.model.HedgeOptions;
 import com.mongodb2.connection.BufferProvider;
 import com.mongodb2.connection.Cluster;
 import com.mongodb2.connection.ClusterConnectionMode;
@@ -41,7 +42,9 @@ import com.mongodb2.internal.thread.DaemonThreadFactory;
 import com.mongodb2.management.JMXConnectionPoolListener;
 import com.mongodb2.operation.CurrentOpOperation;
 import com.mongodb2.operation.FsyncUnlockOperation;
+import com.mongodb2.operation.HedgeableReadOperation;
 import com.mongodb2.operation.ListDatabasesOperation;
+import com.mongodb2.operation.MixedBulkWriteOperation;
 import com.mongodb2.operation.OperationExecutor;
 import com.mongodb2.operation.ReadOperation;
 import com.mongodb2.operation.WriteOperation;
@@ -99,6 +102,8 @@ public class Mongo {
 
     private final ConcurrentLinkedQueue<ServerCursorAndNamespace> orphanedCursors = new ConcurrentLinkedQueue<ServerCursorAndNamespace>();
     private final ExecutorService cursorCleaningService;
+    private final HedgedReadExecutor hedgedReadExecutor;
+    private final WriteCoalescer writeCoalescer;
 
     /**
      * Creates a Mongo instance based on a (single) mongodb node (localhost, default port)
@@ -320,6 +325,8 @@ public class Mongo {
         this.optionHolder = new Bytes.OptionHolder(null);
         this.credentialsList = unmodifiableList(credentialsList);
         cursorCleaningService = options.isCursorFinalizerEnabled() ? createCursorCleaningService() : null;
+        hedgedReadExecutor = new HedgedReadExecutor(cluster);
+        writeCoalescer = new WriteCoalescer(cluster);
     }
 
     /**
@@ -531,6 +538,7 @@ public class Mongo {
         if (cursorCleaningService != null) {
             cursorCleaningService.shutdownNow();
         }
+        hedgedReadExecutor.close();
     }
 
     /**
@@ -718,6 +726,7 @@ public class Mongo {
                                             .requiredReplicaSetName(options.getRequiredReplicaSetName())
                                             .serverSelectionTimeout(options.getServerSelectionTimeout(), MILLISECONDS)
                                             .serverSelector(createServerSelector(options))
+                                            .serverSelectionStrategy(options.getServerSelectionStrategy())
                                             .description(options.getDescription())
                                             .maxWaitQueueSize(options.getConnectionPoolSettings().getMaxWaitQueueSize()),
                              credentialsList, options, mongoDriverInformation);
@@ -731,6 +740,7 @@ public class Mongo {
                                             .requiredReplicaSetName(options.getRequiredReplicaSetName())
                                             .serverSelectionTimeout(options.getServerSelectionTimeout(), MILLISECONDS)
                                             .serverSelector(createServerSelector(options))
+                                            .serverSelectionStrategy(options.getServerSelectionStrategy())
                                             .description(options.getDescription())
                                             .maxWaitQueueSize(options.getConnectionPoolSettings().getMaxWaitQueueSize()),
                              credentialsList, options, mongoDriverInformation);
@@ -754,7 +764,8 @@ public class Mongo {
                                                   new JMXConnectionPoolListener(), null,
                                                   createCommandListener(options.getCommandListeners()),
                                                   options.getApplicationName(),
-                                                  mongoDriverInformation);
+                                                  mongoDriverInformation,
+                                                  options.getCompressorList());
     }
 
     private static CommandListener createCommandListener(final List<CommandListener> commandListeners) {
@@ -831,6 +842,11 @@ public class Mongo {
     }
 
     <T> T execute(final ReadOperation<T> operation, final ReadPreference readPreference) {
+        HedgeOptions hedgeOptions = operation instanceof HedgeableReadOperation
+                                    ? ((HedgeableReadOperation<T>) operation).getHedgeOptions() : null;
+        if (hedgeOptions != null && readPreference.isSlaveOk()) {
+            return hedgedReadExecutor.execute(operation, readPreference, hedgeOptions);
+        }
         ReadBinding binding = getReadBinding(readPreference);
         try {
             return operation.execute(binding);
@@ -839,7 +855,11 @@ public class Mongo {
         }
     }
 
+    @SuppressWarnings("unchecked")
     <T> T execute(final WriteOperation<T> operation) {
+        if (operation instanceof MixedBulkWriteOperation && WriteCoalescer.canCoalesce((MixedBulkWriteOperation) operation)) {
+            return (T) writeCoalescer.execute((MixedBulkWriteOperation) operation);
+        }
         WriteBinding binding = getWriteBinding();
         try {
 
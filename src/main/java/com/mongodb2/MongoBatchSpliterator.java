@@ -0,0 +1,120 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb2;
+
+import com.mongodb2.annotations.NotThreadSafe;
+import com.mongodb2.operation.BatchCursor;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * A spliterator over the results of a batch cursor, which splits off whole batches as the server returns them, so that each batch of a
+ * parallel stream is processed by a single task while the cursor goes on to fetch the next.  The cursor is closed once its last batch
+ * has been handed out, or when {@link #close()} is called.
+ *
+ * @param <T> the type of the results
+ */
+@NotThreadSafe
+class MongoBatchSpliterator<T> implements Spliterator<T>, Closeable {
+    private static final int CHARACTERISTICS = ORDERED | NONNULL;
+
+    private final BatchCursor<T> batchCursor;
+    private List<T> curBatch;
+    private int curPos;
+    private boolean closed;
+
+    MongoBatchSpliterator(final BatchCursor<T> batchCursor) {
+        this.batchCursor = batchCursor;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        if (!hasNextInBatch() && !nextBatch()) {
+            return false;
+        }
+        action.accept(curBatch.get(curPos++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super T> action) {
+        while (hasNextInBatch() || nextBatch()) {
+            while (curPos < curBatch.size()) {
+                action.accept(curBatch.get(curPos++));
+            }
+        }
+    }
+
+    /**
+     * Splits off the rest of the current batch if it has not all been consumed, or else the next batch from the cursor.
+     *
+     * @return a spliterator over a single batch, or null if the cursor is exhausted
+     */
+    @Override
+    public Spliterator<T> trySplit() {
+        if (!hasNextInBatch() && !nextBatch()) {
+            return null;
+        }
+        List<T> split = curBatch.subList(curPos, curBatch.size());
+        curBatch = null;
+        curPos = 0;
+        return Spliterators.spliterator(split, CHARACTERISTICS);
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    /**
+     * Closes the underlying cursor, if it is not already closed.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            curBatch = null;
+            batchCursor.close();
+        }
+    }
+
+    private boolean hasNextInBatch() {
+        return curBatch != null && curPos < curBatch.size();
+    }
+
+    private boolean nextBatch() {
+        if (closed) {
+            return false;
+        }
+        if (!batchCursor.hasNext()) {
+            close();
+            return false;
+        }
+        curBatch = batchCursor.next();
+        curPos = 0;
+        return true;
+    }
+}
@@ -19,6 +19,7 @@ package com.mongodb2;
 import com.mongodb2.annotations.Immutable;
 import com.mongodb2.annotations.NotThreadSafe;
 import com.mongodb2.connection.ConnectionPoolSettings;
+import com.mongodb2.connection.ServerSelectionStrategy;
 import com.mongodb2.connection.ServerSettings;
 import com.mongodb2.connection.SocketSettings;
 import com.mongodb2.connection.SslSettings;
@@ -56,6 +57,7 @@ public class MongoClientOptions {
 
     private final String description;
     private final String applicationName;
+    private final List<MongoCompressor> compressorList;
     private final ReadPreference readPreference;
     private final WriteConcern writeConcern;
     private final ReadConcern readConcern;
@@ -68,6 +70,7 @@ public class MongoClientOptions {
     private final int maxWaitTime;
     private final int maxConnectionIdleTime;
     private final int maxConnectionLifeTime;
+    private final int maxRequestsPerConnection;
 
     private final int connectTimeout;
     private final int socketTimeout;
@@ -80,6 +83,7 @@ public class MongoClientOptions {
     private final int heartbeatConnectTimeout;
     private final int heartbeatSocketTimeout;
     private final int localThreshold;
+    private final ServerSelectionStrategy serverSelectionStrategy;
 
     private final String requiredReplicaSetName;
     private final DBDecoderFactory dbDecoderFactory;
@@ -99,6 +103,7 @@ public class MongoClientOptions {
     private MongoClientOptions(final Builder builder) {
         description = builder.description;
         applicationName = builder.applicationName;
+        compressorList = builder.compressorList;
         minConnectionsPerHost = builder.minConnectionsPerHost;
         maxConnectionsPerHost = builder.maxConnectionsPerHost;
         threadsAllowedToBlockForConnectionMultiplier = builder.threadsAllowedToBlockForConnectionMultiplier;
@@ -106,6 +111,7 @@ public class MongoClientOptions {
         maxWaitTime = builder.maxWaitTime;
         maxConnectionIdleTime = builder.maxConnectionIdleTime;
         maxConnectionLifeTime = builder.maxConnectionLifeTime;
+        maxRequestsPerConnection = builder.maxRequestsPerConnection;
         connectTimeout = builder.connectTimeout;
         socketTimeout = builder.socketTimeout;
         socketKeepAlive = builder.socketKeepAlive;
@@ -121,6 +127,7 @@ public class MongoClientOptions {
         heartbeatConnectTimeout = builder.heartbeatConnectTimeout;
         heartbeatSocketTimeout = builder.heartbeatSocketTimeout;
         localThreshold = builder.localThreshold;
+        serverSelectionStrategy = builder.serverSelectionStrategy;
         requiredReplicaSetName = builder.requiredReplicaSetName;
         dbDecoderFactory = builder.dbDecoderFactory;
         dbEncoderFactory = builder.dbEncoderFactory;
@@ -139,6 +146,7 @@ public class MongoClientOptions {
                                                        .maxWaitTime(getMaxWaitTime(), MILLISECONDS)
                                                        .maxConnectionIdleTime(getMaxConnectionIdleTime(), MILLISECONDS)
                                                        .maxConnectionLifeTime(getMaxConnectionLifeTime(), MILLISECONDS)
+                                                       .maxRequestsPerConnection(getMaxRequestsPerConnection())
                                                        .build();
 
         socketSettings = SocketSettings.builder()
@@ -224,6 +232,19 @@ public class MongoClientOptions {
         return applicationName;
     }
 
+    /**
+     * Gets the compressors to use for compressing messages to the server. The driver will use the first compressor in the list that the
+     * server is configured to support.
+     *
+     * <p>Default is the empty list.</p>
+     *
+     * @return the list of compressors to request
+     * @mongodb.server.release 3.4
+     */
+    public List<MongoCompressor> getCompressorList() {
+        return compressorList;
+    }
+
     /**
      * <p>The maximum number of connections allowed per host for this MongoClient instance. Those connections will be kept in a pool when
      * idle. Once the pool is exhausted, any operation requiring a connection will block waiting for an available connection.</p>
@@ -308,6 +329,18 @@ public class MongoClientOptions {
         return maxConnectionLifeTime;
     }
 
+    /**
+     * <p>The maximum number of synchronous requests that may be in flight on a single pooled connection at the same time.  When greater
+     * than one, threads share connections and their replies are dispatched by request id, so fewer connections serve more threads.</p>
+     *
+     * <p>Default is 1, which disables sharing.</p>
+     *
+     * @return the maximum number of requests in flight on one connection
+     */
+    public int getMaxRequestsPerConnection() {
+        return maxRequestsPerConnection;
+    }
+
     /**
      * <p>The connection timeout in milliseconds.  A value of 0 means no timeout. It is used solely when establishing a new connection
      * {@link java.net.Socket#connect(java.net.SocketAddress, int) }</p>
@@ -409,6 +442,20 @@ public class MongoClientOptions {
         return localThreshold;
     }
 
+    /**
+     * <p>Gets the strategy for choosing among the servers that are within the local threshold.  With
+     * {@link ServerSelectionStrategy#POWER_OF_TWO_CHOICES}, the client samples two of those servers and sends the operation to the one
+     * with fewer operations in flight, weighted by recent operation latency, rather than choosing uniformly at random.</p>
+     *
+     * <p>Default is {@link ServerSelectionStrategy#RANDOM}.</p>
+     *
+     * @return the server selection strategy
+     * @since 3.5
+     */
+    public ServerSelectionStrategy getServerSelectionStrategy() {
+        return serverSelectionStrategy;
+    }
+
     /**
      * <p>Gets the required replica set name.  With this option set, the MongoClient instance will</p>
      *
@@ -632,6 +679,9 @@ public class MongoClientOptions {
         if (localThreshold != that.localThreshold) {
             return false;
         }
+        if (serverSelectionStrategy != that.serverSelectionStrategy) {
+            return false;
+        }
         if (alwaysUseMBeans != that.alwaysUseMBeans) {
             return false;
         }
@@ -659,6 +709,9 @@ public class MongoClientOptions {
         if (maxConnectionLifeTime != that.maxConnectionLifeTime) {
             return false;
         }
+        if (maxRequestsPerConnection != that.maxRequestsPerConnection) {
+            return false;
+        }
         if (maxConnectionsPerHost != that.maxConnectionsPerHost) {
             return false;
         }
@@ -698,6 +751,9 @@ public class MongoClientOptions {
         if (applicationName != null ? !applicationName.equals(that.applicationName) : that.applicationName != null) {
             return false;
         }
+        if (!compressorList.equals(that.compressorList)) {
+            return false;
+        }
         if (!readPreference.equals(that.readPreference)) {
             return false;
         }
@@ -737,6 +793,7 @@ public class MongoClientOptions {
     public int hashCode() {
         int result = description != null ? description.hashCode() : 0;
         result = 31 * result + (applicationName != null ? applicationName.hashCode() : 0);
+        result = 31 * result + compressorList.hashCode();
         result = 31 * result + readPreference.hashCode();
         result = 31 * result + writeConcern.hashCode();
         result = 31 * result + (readConcern != null ? readConcern.hashCode() : 0);
@@ -752,6 +809,7 @@ public class MongoClientOptions {
         result = 31 * result + maxWaitTime;
         result = 31 * result + maxConnectionIdleTime;
         result = 31 * result + maxConnectionLifeTime;
+        result = 31 * result + maxRequestsPerConnection;
         result = 31 * result + connectTimeout;
         result = 31 * result + socketTimeout;
         result = 31 * result + (socketKeepAlive ? 1 : 0);
@@ -763,6 +821,7 @@ public class MongoClientOptions {
         result = 31 * result + heartbeatConnectTimeout;
         result = 31 * result + heartbeatSocketTimeout;
         result = 31 * result + localThreshold;
+        result = 31 * result + serverSelectionStrategy.hashCode();
         result = 31 * result + (requiredReplicaSetName != null ? requiredReplicaSetName.hashCode() : 0);
         result = 31 * result + (dbDecoderFactory != null ? dbDecoderFactory.hashCode() : 0);
         result = 31 * result + (dbEncoderFactory != null ? dbEncoderFactory.hashCode() : 0);
@@ -776,6 +835,7 @@ public class MongoClientOptions {
         return "MongoClientOptions{"
                + "description='" + description + '\''
                + ", applicationName='" + applicationName + '\''
+               + ", compressorList=" + compressorList
                + ", readPreference=" + readPreference
                + ", writeConcern=" + writeConcern
                + ", readConcern=" + readConcern
@@ -791,6 +851,7 @@ public class MongoClientOptions {
                + ", maxWaitTime=" + maxWaitTime
                + ", maxConnectionIdleTime=" + maxConnectionIdleTime
                + ", maxConnectionLifeTime=" + maxConnectionLifeTime
+               + ", maxRequestsPerConnection=" + maxRequestsPerConnection
                + ", connectTimeout=" + connectTimeout
                + ", socketTimeout=" + socketTimeout
                + ", socketKeepAlive=" + socketKeepAlive
@@ -802,6 +863,7 @@ public class MongoClientOptions {
                + ", heartbeatConnectTimeout=" + heartbeatConnectTimeout
                + ", heartbeatSocketTimeout=" + heartbeatSocketTimeout
                + ", localThreshold=" + localThreshold
+               + ", serverSelectionStrategy=" + serverSelectionStrategy
                + ", requiredReplicaSetName='" + requiredReplicaSetName + '\''
                + ", dbDecoderFactory=" + dbDecoderFactory
                + ", dbEncoderFactory=" + dbEncoderFactory
@@ -823,6 +885,7 @@ public class MongoClientOptions {
     public static class Builder {
         private String description;
         private String applicationName;
+        private List<MongoCompressor> compressorList = Collections.emptyList();
         private ReadPreference readPreference = ReadPreference.primary();
         private WriteConcern writeConcern = WriteConcern.ACKNOWLEDGED;
         private ReadConcern readConcern = ReadConcern.DEFAULT;
@@ -839,6 +902,7 @@ public class MongoClientOptions {
         private int maxWaitTime = 1000 * 60 * 2;
         private int maxConnectionIdleTime;
         private int maxConnectionLifeTime;
+        private int maxRequestsPerConnection = 1;
         private int connectTimeout = 1000 * 10;
         private int socketTimeout = 0;
         private boolean socketKeepAlive = false;
@@ -851,6 +915,7 @@ public class MongoClientOptions {
         private int heartbeatConnectTimeout = 20000;
         private int heartbeatSocketTimeout = 20000;
         private int localThreshold = 15;
+        private ServerSelectionStrategy serverSelectionStrategy = ServerSelectionStrategy.RANDOM;
 
         private String requiredReplicaSetName;
         private DBDecoderFactory dbDecoderFactory = DefaultDBDecoder.FACTORY;
@@ -877,6 +942,7 @@ public class MongoClientOptions {
         public Builder(final MongoClientOptions options) {
             description = options.getDescription();
             applicationName = options.getApplicationName();
+            compressorList = options.getCompressorList();
             minConnectionsPerHost = options.getMinConnectionsPerHost();
             maxConnectionsPerHost = options.getConnectionsPerHost();
             threadsAllowedToBlockForConnectionMultiplier = options.getThreadsAllowedToBlockForConnectionMultiplier();
@@ -884,6 +950,7 @@ public class MongoClientOptions {
             maxWaitTime = options.getMaxWaitTime();
             maxConnectionIdleTime = options.getMaxConnectionIdleTime();
             maxConnectionLifeTime = options.getMaxConnectionLifeTime();
+            maxRequestsPerConnection = options.getMaxRequestsPerConnection();
             connectTimeout = options.getConnectTimeout();
             socketTimeout = options.getSocketTimeout();
             socketKeepAlive = options.isSocketKeepAlive();
@@ -899,6 +966,7 @@ public class MongoClientOptions {
             heartbeatConnectTimeout = options.getHeartbeatConnectTimeout();
             heartbeatSocketTimeout = options.getHeartbeatSocketTimeout();
             localThreshold = options.getLocalThreshold();
+            serverSelectionStrategy = options.getServerSelectionStrategy();
             requiredReplicaSetName = options.getRequiredReplicaSetName();
             dbDecoderFactory = options.getDbDecoderFactory();
             dbEncoderFactory = options.getDbEncoderFactory();
@@ -942,6 +1010,21 @@ public class MongoClientOptions {
             return this;
         }
 
+        /**
+         * Sets the compressors to use for compressing messages to the server. The driver will use the first compressor in the list that
+         * the server is configured to support.
+         *
+         * @param compressorList the list of compressors to request
+         * @return {@code this}
+         * @see #getCompressorList()
+         * @mongodb.server.release 3.4
+         */
+        public Builder compressorList(final List<MongoCompressor> compressorList) {
+            notNull("compressorList", compressorList);
+            this.compressorList = Collections.unmodifiableList(new ArrayList<MongoCompressor>(compressorList));
+            return this;
+        }
+
         /**
          * Sets the minimum number of connections per host.
          *
@@ -1041,6 +1124,20 @@ public class MongoClientOptions {
             return this;
         }
 
+        /**
+         * Sets the maximum number of synchronous requests that may be in flight on a single pooled connection at the same time.
+         *
+         * @param maxRequestsPerConnection the maximum number of requests per connection, which must be &gt; 0
+         * @return {@code this}
+         * @throws IllegalArgumentException if {@code maxRequestsPerConnection < 1}
+         * @see MongoClientOptions#getMaxRequestsPerConnection()
+         */
+        public Builder maxRequestsPerConnection(final int maxRequestsPerConnection) {
+            isTrueArgument("maxRequestsPerConnection must be > 0", maxRequestsPerConnection > 0);
+            this.maxRequestsPerConnection = maxRequestsPerConnection;
+            return this;
+        }
+
 
         /**
          * Sets the connection timeout.
@@ -1363,6 +1460,19 @@ public class MongoClientOptions {
             return this;
         }
 
+        /**
+         * Sets the strategy for choosing among the servers that are within the local threshold.
+         *
+         * @param serverSelectionStrategy the server selection strategy
+         * @return {@code this}
+         * @see MongoClientOptions#getServerSelectionStrategy()
+         * @since 3.5
+         */
+        public Builder serverSelectionStrategy(final ServerSelectionStrategy serverSelectionStrategy) {
+            this.serverSelectionStrategy = notNull("serverSelectionStrategy", serverSelectionStrategy);
+            return this;
+        }
+
         /**
          * Sets the required replica set name for the cluster.
          *
@@ -28,6 +28,7 @@ import com.mongodb2.client.FindIterable;
 import com.mongodb2.client.ListIndexesIterable;
 import com.mongodb2.client.MapReduceIterable;
 import com.mongodb2.client.MongoCollection;
+import com.mongodb2.client.ParallelScanIterable;
 import com.mongodb2.client.model.BulkWriteOptions;
 import com.mongodb2.client.model.CountOptions;
 import com.mongodb2.client.model.DeleteManyModel;
@@ -37,17 +38,20 @@ import com.mongodb2.client.model.FindOneAndDeleteOptions;
 import com.mongodb2.client.model.FindOneAndReplaceOptions;
 import com.mongodb2.client.model.FindOneAndUpdateOptions;
 import com.mongodb2.client.model.FindOptions;
+import com.mongodb2.client.model.HedgeOptions;
 import com.mongodb2.client.model.IndexModel;
 import com.mongodb2.client.model.IndexOptions;
 import com.mongodb2.client.model.InsertManyOptions;
 import com.mongodb2.client.model.InsertOneModel;
 import com.mongodb2.client.model.InsertOneOptions;
+import com.mongodb2.client.model.PreparedBson;
 import com.mongodb2.client.model.RenameCollectionOptions;
 import com.mongodb2.client.model.ReplaceOneModel;
 import com.mongodb2.client.model.ReturnDocument;
 import com.mongodb2.client.model.UpdateManyModel;
 import com.mongodb2.client.model.UpdateOneModel;
 import com.mongodb2.client.model.UpdateOptions;
+import com.mongodb2.client.model.WriteCoalescingOptions;
 import com.mongodb2.client.model.WriteModel;
 import com.mongodb2.client.result.DeleteResult;
 import com.mongodb2.client.result.UpdateResult;
@@ -61,6 +65,7 @@ import com.mongodb2.operation.FindAndUpdateOperation;
 import com.mongodb2.operation.MixedBulkWriteOperation;
 import com.mongodb2.operation.OperationExecutor;
 import com.mongodb2.operation.RenameCollectionOperation;
+import com.mongodb2.operation.StreamingInsertOperation;
 import org.bson2.BsonDocument;
 import org.bson2.BsonDocumentWrapper;
 import org.bson2.BsonString;
@@ -72,6 +77,7 @@ import org.bson2.codecs.configuration.CodecRegistry;
 import org.bson2.conversions.Bson;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -89,10 +95,19 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
     private final WriteConcern writeConcern;
     private final ReadConcern readConcern;
     private final OperationExecutor executor;
+    private final HedgeOptions hedgeOptions;
+    private final WriteCoalescingOptions writeCoalescingOptions;
 
     MongoCollectionImpl(final MongoNamespace namespace, final Class<TDocument> documentClass, final CodecRegistry codecRegistry,
                         final ReadPreference readPreference, final WriteConcern writeConcern, final ReadConcern readConcern,
                         final OperationExecutor executor) {
+        this(namespace, documentClass, codecRegistry, readPreference, writeConcern, readConcern, executor, null, null);
+    }
+
+    MongoCollectionImpl(final MongoNamespace namespace, final Class<TDocument> documentClass, final CodecRegistry codecRegistry,
+                        final ReadPreference readPreference, final WriteConcern writeConcern, final ReadConcern readConcern,
+                        final OperationExecutor executor, final HedgeOptions hedgeOptions,
+                        final WriteCoalescingOptions writeCoalescingOptions) {
         this.namespace = notNull("namespace", namespace);
         this.documentClass = notNull("documentClass", documentClass);
         this.codecRegistry = notNull("codecRegistry", codecRegistry);
@@ -100,6 +115,8 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
         this.writeConcern = notNull("writeConcern", writeConcern);
         this.readConcern = notNull("readConcern", readConcern);
         this.executor = notNull("executor", executor);
+        this.hedgeOptions = hedgeOptions;
+        this.writeCoalescingOptions = writeCoalescingOptions;
     }
 
     @Override
@@ -132,34 +149,61 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
         return readConcern;
     }
 
+    @Override
+    public HedgeOptions getHedgeOptions() {
+        return hedgeOptions;
+    }
+
+    @Override
+    public WriteCoalescingOptions getWriteCoalescingOptions() {
+        return writeCoalescingOptions;
+    }
+
     @Override
     public <NewTDocument> MongoCollection<NewTDocument> withDocumentClass(final Class<NewTDocument> clazz) {
         return new MongoCollectionImpl<NewTDocument>(namespace, clazz, codecRegistry, readPreference, writeConcern, readConcern,
-                executor);
+                executor, hedgeOptions, writeCoalescingOptions);
     }
 
     @Override
     public MongoCollection<TDocument> withCodecRegistry(final CodecRegistry codecRegistry) {
         return new MongoCollectionImpl<TDocument>(namespace, documentClass, codecRegistry, readPreference, writeConcern, readConcern,
-                executor);
+                executor, hedgeOptions, writeCoalescingOptions);
     }
 
     @Override
     public MongoCollection<TDocument> withReadPreference(final ReadPreference readPreference) {
         return new MongoCollectionImpl<TDocument>(namespace, documentClass, codecRegistry, readPreference, writeConcern, readConcern,
-                executor);
+                executor, hedgeOptions, writeCoalescingOptions);
     }
 
     @Override
     public MongoCollection<TDocument> withWriteConcern(final WriteConcern writeConcern) {
         return new MongoCollectionImpl<TDocument>(namespace, documentClass, codecRegistry, readPreference, writeConcern, readConcern,
-                executor);
+                executor, hedgeOptions, writeCoalescingOptions);
     }
 
     @Override
     public MongoCollection<TDocument> withReadConcern(final ReadConcern readConcern) {
         return new MongoCollectionImpl<TDocument>(namespace, documentClass, codecRegistry, readPreference, writeConcern, readConcern,
-                executor);
+                executor, hedgeOptions, writeCoalescingOptions);
+    }
+
+    @Override
+    public MongoCollection<TDocument> withHedgeOptions(final HedgeOptions hedgeOptions) {
+        return new MongoCollectionImpl<TDocument>(namespace, documentClass, codecRegistry, readPreference, writeConcern, readConcern,
+                executor, hedgeOptions, writeCoalescingOptions);
+    }
+
+    @Override
+    public MongoCollection<TDocument> withWriteCoalescingOptions(final WriteCoalescingOptions writeCoalescingOptions) {
+        return new MongoCollectionImpl<TDocument>(namespace, documentClass, codecRegistry, readPreference, writeConcern, readConcern,
+                executor, hedgeOptions, writeCoalescingOptions);
+    }
+
+    @Override
+    public PreparedBson prepare(final Bson template) {
+        return new PreparedBson(template, documentClass, codecRegistry);
     }
 
     @Override
@@ -179,7 +223,8 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
                                        .skip(options.getSkip())
                                        .limit(options.getLimit())
                                        .maxTime(options.getMaxTime(MILLISECONDS), MILLISECONDS)
-                                       .collation(options.getCollation());
+                                       .collation(options.getCollation())
+                                       .hedgeOptions(options.getHedgeOptions() != null ? options.getHedgeOptions() : hedgeOptions);
         if (options.getHint() != null) {
             operation.hint(toBsonDocument(options.getHint()));
         } else if (options.getHintString() != null) {
@@ -217,7 +262,7 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
     @Override
     public <TResult> FindIterable<TResult> find(final Bson filter, final Class<TResult> resultClass) {
         return new FindIterableImpl<TDocument, TResult>(namespace, this.documentClass, resultClass, codecRegistry, readPreference,
-                readConcern, executor, filter, new FindOptions());
+                readConcern, executor, filter, new FindOptions().hedgeOptions(hedgeOptions));
     }
 
     @Override
@@ -228,7 +273,7 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
     @Override
     public <TResult> AggregateIterable<TResult> aggregate(final List<? extends Bson> pipeline, final Class<TResult> resultClass) {
         return new AggregateIterableImpl<TDocument, TResult>(namespace, documentClass, resultClass, codecRegistry, readPreference,
-                readConcern, writeConcern, executor, pipeline);
+                readConcern, writeConcern, executor, pipeline).hedgeOptions(hedgeOptions);
     }
 
     @Override
@@ -243,6 +288,17 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
                 readConcern, writeConcern, executor, mapFunction, reduceFunction);
     }
 
+    @Override
+    public ParallelScanIterable<TDocument> parallelScan(final int numCursors) {
+        return parallelScan(numCursors, documentClass);
+    }
+
+    @Override
+    public <TResult> ParallelScanIterable<TResult> parallelScan(final int numCursors, final Class<TResult> resultClass) {
+        return new ParallelScanIterableImpl<TResult>(namespace, resultClass, codecRegistry, readPreference, readConcern, executor,
+                numCursors);
+    }
+
     @Override
     public BulkWriteResult bulkWrite(final List<? extends WriteModel<? extends TDocument>> requests) {
         return bulkWrite(requests, new BulkWriteOptions());
@@ -299,7 +355,8 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
         }
 
         return executor.execute(new MixedBulkWriteOperation(namespace, writeRequests, options.isOrdered(), writeConcern)
-                .bypassDocumentValidation(options.getBypassDocumentValidation()));
+                .bypassDocumentValidation(options.getBypassDocumentValidation())
+                .parallelism(options.getParallelism()));
     }
 
     @Override
@@ -338,6 +395,43 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
             requests.add(new InsertRequest(documentToBsonDocument(document)));
         }
         executor.execute(new MixedBulkWriteOperation(namespace, requests, options.isOrdered(), writeConcern)
+                .bypassDocumentValidation(options.getBypassDocumentValidation())
+                .parallelism(options.getParallelism()));
+    }
+
+    @Override
+    public void insertMany(final Iterator<? extends TDocument> documents) {
+        insertMany(documents, new InsertManyOptions());
+    }
+
+    @Override
+    public void insertMany(final Iterator<? extends TDocument> documents, final InsertManyOptions options) {
+        notNull("documents", documents);
+        Iterator<InsertRequest> requests = new Iterator<InsertRequest>() {
+            @Override
+            public boolean hasNext() {
+                return documents.hasNext();
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public InsertRequest next() {
+                TDocument document = documents.next();
+                if (document == null) {
+                    throw new IllegalArgumentException("documents can not contain a null value");
+                }
+                if (getCodec() instanceof CollectibleCodec) {
+                    document = ((CollectibleCodec<TDocument>) getCodec()).generateIdIfAbsentFromDocument(document);
+                }
+                return new InsertRequest(documentToBsonDocument(document));
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+        executor.execute(new StreamingInsertOperation(namespace, requests, options.isOrdered(), writeConcern)
                 .bypassDocumentValidation(options.getBypassDocumentValidation()));
     }
 
@@ -550,7 +644,8 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
     private BulkWriteResult executeSingleWriteRequest(final WriteRequest request, final Boolean bypassDocumentValidation) {
         try {
             return executor.execute(new MixedBulkWriteOperation(namespace, asList(request), true, writeConcern)
-                    .bypassDocumentValidation(bypassDocumentValidation));
+                    .bypassDocumentValidation(bypassDocumentValidation)
+                    .writeCoalescingOptions(writeCoalescingOptions));
         } catch (MongoBulkWriteException e) {
             if (e.getWriteErrors().isEmpty()) {
                 throw new MongoWriteConcernException(e.getWriteConcernError(),
@@ -598,6 +693,6 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
     }
 
     private BsonDocument toBsonDocument(final Bson bson) {
-        return bson == null ? null : bson.toBsonDocument(documentClass, codecRegistry);
+        return BsonDocumentWrapper.asBsonDocument(bson, documentClass, codecRegistry);
     }
 }
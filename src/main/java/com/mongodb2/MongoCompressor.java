@@ -0,0 +1,146 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb2;
+
+import com.mongodb2.annotations.Immutable;
+
+import java.util.zip.Deflater;
+
+import static com.mongodb2.assertions.Assertions.isTrueArgument;
+import static com.mongodb2.assertions.Assertions.notNull;
+
+/**
+ * Metadata describing a compressor to use for sending and receiving messages to a MongoDB server.  The compressor is offered to the
+ * server in the isMaster handshake and is only used on connections where the server agrees to it.
+ *
+ * @mongodb.server.release 3.4
+ */
+@Immutable
+public final class MongoCompressor {
+    /**
+     * The name of the zlib compressor.
+     */
+    public static final String ZLIB = "zlib";
+
+    private static final int DEFAULT_THRESHOLD = 1024;
+
+    private final String name;
+    private final int level;
+    private final int threshold;
+
+    /**
+     * Create an instance for zlib compression, using the default compression level and threshold.
+     *
+     * @return A compressor based on the zlib compression algorithm
+     */
+    public static MongoCompressor createZlibCompressor() {
+        return new MongoCompressor(ZLIB, Deflater.DEFAULT_COMPRESSION, DEFAULT_THRESHOLD);
+    }
+
+    private MongoCompressor(final String name, final int level, final int threshold) {
+        this.name = notNull("name", name);
+        this.level = level;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Gets the name of the compressor.
+     *
+     * @return the non-null compressor name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the compression level, from 0 (no compression) to 9 (best compression), or -1 for the default level of the algorithm.
+     *
+     * @return the compression level
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the size threshold, in bytes, below which a message is sent uncompressed.  Small messages gain little from compression and
+     * are not worth the CPU time.
+     *
+     * @return the threshold in bytes
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Creates a new compressor from this compressor with the given compression level.
+     *
+     * @param level the compression level, from 0 to 9, or -1 for the default
+     * @return the new compressor
+     */
+    public MongoCompressor withLevel(final int level) {
+        isTrueArgument("level >= -1 and <= 9", level >= -1 && level <= 9);
+        return new MongoCompressor(name, level, threshold);
+    }
+
+    /**
+     * Creates a new compressor from this compressor with the given size threshold.
+     *
+     * @param threshold the size in bytes below which messages are sent uncompressed, which must be &gt;= 0
+     * @return the new compressor
+     */
+    public MongoCompressor withThreshold(final int threshold) {
+        isTrueArgument("threshold >= 0", threshold >= 0);
+        return new MongoCompressor(name, level, threshold);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        MongoCompressor that = (MongoCompressor) o;
+
+        if (level != that.level) {
+            return false;
+        }
+        if (threshold != that.threshold) {
+            return false;
+        }
+        return name.equals(that.name);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = name.hashCode();
+        result = 31 * result + level;
+        result = 31 * result + threshold;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "MongoCompressor{"
+               + "name='" + name + '\''
+               + ", level=" + level
+               + ", threshold=" + threshold
+               + '}';
+    }
+}
@@ -23,6 +23,7 @@ import com.mongodb2.operation.OperationExecutor;
 import com.mongodb2.operation.ReadOperation;
 
 import java.util.Collection;
+import java.util.Spliterator;
 
 /**
  * MongoIterable implementation that aids iteration over the results of results of an inline map-reduce operation.
@@ -93,4 +94,8 @@ class OperationIterable<T> implements MongoIterable<T> {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public Spliterator<T> spliterator() {
+        return new MongoBatchSpliterator<T>(executor.execute(operation, readPreference));
+    }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2015 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb2;
+
+import com.mongodb2.client.MongoCursor;
+import com.mongodb2.client.MongoIterable;
+import com.mongodb2.client.ParallelScanIterable;
+import com.mongodb2.operation.OperationExecutor;
+import com.mongodb2.operation.ParallelScanOperation;
+import org.bson2.codecs.configuration.CodecRegistry;
+
+import java.util.Collection;
+import java.util.Spliterator;
+
+import static com.mongodb2.assertions.Assertions.notNull;
+
+class ParallelScanIterableImpl<TResult> implements ParallelScanIterable<TResult> {
+    private final MongoNamespace namespace;
+    private final Class<TResult> resultClass;
+    private final ReadPreference readPreference;
+    private final ReadConcern readConcern;
+    private final CodecRegistry codecRegistry;
+    private final OperationExecutor executor;
+    private final int numCursors;
+
+    private int batchSize;
+    private int maxBufferedBatches;
+
+    ParallelScanIterableImpl(final MongoNamespace namespace, final Class<TResult> resultClass, final CodecRegistry codecRegistry,
+                             final ReadPreference readPreference, final ReadConcern readConcern, final OperationExecutor executor,
+                             final int numCursors) {
+        this.namespace = notNull("namespace", namespace);
+        this.resultClass = notNull("resultClass", resultClass);
+        this.codecRegistry = notNull("codecRegistry", codecRegistry);
+        this.readPreference = notNull("readPreference", readPreference);
+        this.readConcern = notNull("readConcern", readConcern);
+        this.executor = notNull("executor", executor);
+        this.numCursors = numCursors;
+    }
+
+    @Override
+    public ParallelScanIterable<TResult> batchSize(final int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    @Override
+    public ParallelScanIterable<TResult> maxBufferedBatches(final int maxBufferedBatches) {
+        this.maxBufferedBatches = maxBufferedBatches;
+        return this;
+    }
+
+    @Override
+    public MongoCursor<TResult> iterator() {
+        return execute().iterator();
+    }
+
+    @Override
+    public TResult first() {
+        return execute().first();
+    }
+
+    @Override
+    public <U> MongoIterable<U> map(final Function<TResult, U> mapper) {
+        return new MappingIterable<TResult, U>(this, mapper);
+    }
+
+    @Override
+    public void forEach(final Block<? super TResult> block) {
+        execute().forEach(block);
+    }
+
+    @Override
+    public <A extends Collection<? super TResult>> A into(final A target) {
+        return execute().into(target);
+    }
+
+    @Override
+    public Spliterator<TResult> spliterator() {
+        return execute().spliterator();
+    }
+
+    private MongoIterable<TResult> execute() {
+        ParallelScanOperation<TResult> operation = new ParallelScanOperation<TResult>(namespace, numCursors, codecRegistry.get(resultClass))
+                .batchSize(batchSize)
+                .maxBufferedBatches(maxBufferedBatches)
+                .readConcern(readConcern);
+        return new OperationIterable<TResult>(operation, readPreference, executor);
+    }
+}
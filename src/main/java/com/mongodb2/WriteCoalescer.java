@@ -0,0 +1,244 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb2;
+
+import com.mongodb2.annotations.ThreadSafe;
+import com.mongodb2.binding.ClusterBinding;
+import com.mongodb2.binding.WriteBinding;
+import com.mongodb2.bulk.BulkWriteError;
+import com.mongodb2.bulk.BulkWriteResult;
+import com.mongodb2.bulk.BulkWriteUpsert;
+import com.mongodb2.bulk.WriteRequest;
+import com.mongodb2.client.model.WriteCoalescingOptions;
+import com.mongodb2.connection.Cluster;
+import com.mongodb2.diagnostics.logging.Logger;
+import com.mongodb2.diagnostics.logging.Loggers;
+import com.mongodb2.operation.MixedBulkWriteOperation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.mongodb2.ReadPreference.primary;
+import static com.mongodb2.bulk.WriteRequest.Type.INSERT;
+import static java.lang.String.format;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Coalesces concurrent single document inserts.  The first insert to a namespace becomes the leader of a batch, and waits for up to the
+ * maximum delay for other inserts with the same write concern, document validation setting and coalescing options to join it.  The
+ * leader then executes the batch as a single unordered bulk write, and each insert in the batch is given its own share of the result.
+ */
+@ThreadSafe
+final class WriteCoalescer {
+    private static final Logger LOGGER = Loggers.getLogger("operation");
+
+    private final Cluster cluster;
+
+    // guarded by this
+    private final Map<BatchKey, Batch> openBatches = new HashMap<BatchKey, Batch>();
+
+    WriteCoalescer(final Cluster cluster) {
+        this.cluster = cluster;
+    }
+
+    static boolean canCoalesce(final MixedBulkWriteOperation operation) {
+        return operation.getWriteCoalescingOptions() != null && operation.getWriteRequests().size() == 1
+               && operation.getWriteRequests().get(0).getType() == INSERT;
+    }
+
+    BulkWriteResult execute(final MixedBulkWriteOperation operation) {
+        WriteCoalescingOptions options = operation.getWriteCoalescingOptions();
+        BatchKey key = new BatchKey(operation);
+        Batch batch;
+        int index;
+        boolean isLeader;
+        synchronized (this) {
+            batch = openBatches.get(key);
+            isLeader = batch == null;
+            if (isLeader) {
+                batch = new Batch(key);
+                openBatches.put(key, batch);
+            }
+            index = batch.requests.size();
+            batch.requests.add(operation.getWriteRequests().get(0));
+            if (batch.requests.size() >= options.getMaxBatchSize()) {
+                openBatches.remove(key);
+                batch.filled();
+            }
+        }
+
+        if (isLeader) {
+            batch.awaitFilled(options.getMaxDelay(NANOSECONDS));
+            synchronized (this) {
+                if (openBatches.get(key) == batch) {
+                    openBatches.remove(key);
+                }
+            }
+            batch.execute();
+        }
+        return batch.getResult(index);
+    }
+
+    private static final class BatchKey {
+        private final MongoNamespace namespace;
+        private final WriteConcern writeConcern;
+        private final Boolean bypassDocumentValidation;
+        private final WriteCoalescingOptions options;
+
+        BatchKey(final MixedBulkWriteOperation operation) {
+            this.namespace = operation.getNamespace();
+            this.writeConcern = operation.getWriteConcern();
+            this.bypassDocumentValidation = operation.getBypassDocumentValidation();
+            this.options = operation.getWriteCoalescingOptions();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            BatchKey that = (BatchKey) o;
+
+            if (!namespace.equals(that.namespace)) {
+                return false;
+            }
+            if (!writeConcern.equals(that.writeConcern)) {
+                return false;
+            }
+            if (bypassDocumentValidation != null ? !bypassDocumentValidation.equals(that.bypassDocumentValidation)
+                                                 : that.bypassDocumentValidation != null) {
+                return false;
+            }
+            return options.equals(that.options);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = namespace.hashCode();
+            result = 31 * result + writeConcern.hashCode();
+            result = 31 * result + (bypassDocumentValidation != null ? bypassDocumentValidation.hashCode() : 0);
+            result = 31 * result + options.hashCode();
+            return result;
+        }
+    }
+
+    private final class Batch {
+        private final BatchKey key;
+        // guarded by WriteCoalescer.this until the batch is no longer open
+        private final List<WriteRequest> requests = new ArrayList<WriteRequest>();
+
+        // guarded by this
+        private boolean filled;
+        private boolean complete;
+        private BulkWriteResult result;
+        private MongoBulkWriteException bulkWriteException;
+        private RuntimeException failure;
+
+        Batch(final BatchKey key) {
+            this.key = key;
+        }
+
+        synchronized void filled() {
+            filled = true;
+            notifyAll();
+        }
+
+        synchronized void awaitFilled(final long timeoutNanos) {
+            long deadlineNanos = System.nanoTime() + timeoutNanos;
+            long remainingNanos = timeoutNanos;
+            try {
+                while (!filled && remainingNanos > 0) {
+                    NANOSECONDS.timedWait(this, remainingNanos);
+                    remainingNanos = deadlineNanos - System.nanoTime();
+                }
+            } catch (InterruptedException e) {
+                // send the batch early rather than abandon the inserts that have joined it
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        void execute() {
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace(format("Executing %d coalesced inserts into %s", requests.size(), key.namespace));
+            }
+            BulkWriteResult batchResult = null;
+            MongoBulkWriteException batchBulkWriteException = null;
+            RuntimeException batchFailure = null;
+            WriteBinding binding = new ClusterBinding(cluster, primary());
+            try {
+                batchResult = new MixedBulkWriteOperation(key.namespace, requests, false, key.writeConcern)
+                                      .bypassDocumentValidation(key.bypassDocumentValidation)
+                                      .execute(binding);
+            } catch (MongoBulkWriteException e) {
+                batchBulkWriteException = e;
+            } catch (RuntimeException e) {
+                batchFailure = e;
+            } finally {
+                binding.release();
+            }
+            synchronized (this) {
+                result = batchResult;
+                bulkWriteException = batchBulkWriteException;
+                failure = batchFailure;
+                complete = true;
+                notifyAll();
+            }
+        }
+
+        synchronized BulkWriteResult getResult(final int index) {
+            while (!complete) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    throw new MongoInterruptedException("Interrupted waiting for a coalesced insert", e);
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            if (bulkWriteException != null) {
+                for (BulkWriteError cur : bulkWriteException.getWriteErrors()) {
+                    if (cur.getIndex() == index) {
+                        throw new MongoBulkWriteException(insertedResult(0), singletonList(new BulkWriteError(cur.getCode(),
+                                                                                                              cur.getMessage(),
+                                                                                                              cur.getDetails(), 0)),
+                                                          bulkWriteException.getWriteConcernError(),
+                                                          bulkWriteException.getServerAddress());
+                    }
+                }
+                if (bulkWriteException.getWriteConcernError() != null) {
+                    throw new MongoBulkWriteException(insertedResult(1), Collections.<BulkWriteError>emptyList(),
+                                                      bulkWriteException.getWriteConcernError(), bulkWriteException.getServerAddress());
+                }
+                return insertedResult(1);
+            }
+            return result.wasAcknowledged() ? insertedResult(1) : result;
+        }
+
+        private BulkWriteResult insertedResult(final int insertedCount) {
+            return BulkWriteResult.acknowledged(INSERT, insertedCount, Collections.<BulkWriteUpsert>emptyList());
+        }
+    }
+}
@@ -26,6 +26,7 @@ import com.mongodb2.async.SingleResultCallback;
 import com.mongodb2.client.model.Collation;
 import com.mongodb2.operation.AsyncOperationExecutor;
 import com.mongodb2.operation.DistinctOperation;
+import org.bson2.BsonDocumentWrapper;
 import org.bson2.codecs.configuration.CodecRegistry;
 import org.bson2.conversions.Bson;
 
@@ -120,7 +121,7 @@ class DistinctIterableImpl<TDocument, TResult> implements DistinctIterable<TResu
 
     private MongoIterable<TResult> execute() {
         DistinctOperation<TResult> operation = new DistinctOperation<TResult>(namespace, fieldName, codecRegistry.get(resultClass))
-                .filter(filter == null ? null : filter.toBsonDocument(documentclass, codecRegistry))
+                .filter(BsonDocumentWrapper.asBsonDocument(filter, documentclass, codecRegistry))
                 .maxTime(maxTimeMS, MILLISECONDS)
                 .readConcern(readConcern)
                 .collation(collation);
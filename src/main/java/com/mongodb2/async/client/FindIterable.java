@@ -141,6 +141,9 @@ public interface FindIterable<T> extends MongoIterable<T> {
     /**
      * Sets the cursor type.
      *
+     * <p>With {@link CursorType#Exhaust}, the server streams every batch without waiting to be asked, and the cursor holds its
+     * connection until the last batch has been read or the cursor is closed.</p>
+     *
      * @param cursorType the cursor type
      * @return this
      */
@@ -29,6 +29,7 @@ import com.mongodb2.client.model.FindOptions;
 import com.mongodb2.operation.AsyncOperationExecutor;
 import com.mongodb2.operation.FindOperation;
 import org.bson2.BsonDocument;
+import org.bson2.BsonDocumentWrapper;
 import org.bson2.codecs.configuration.CodecRegistry;
 import org.bson2.conversions.Bson;
 
@@ -209,7 +210,7 @@ class FindIterableImpl<TDocument, TResult> implements FindIterable<TResult> {
     }
 
     private BsonDocument toBsonDocument(final Bson document) {
-        return document == null ? null : document.toBsonDocument(documentClass, codecRegistry);
+        return BsonDocumentWrapper.asBsonDocument(document, documentClass, codecRegistry);
     }
 
 }
@@ -32,6 +32,7 @@ import com.mongodb2.operation.MapReduceStatistics;
 import com.mongodb2.operation.MapReduceToCollectionOperation;
 import com.mongodb2.operation.MapReduceWithInlineResultsOperation;
 import org.bson2.BsonDocument;
+import org.bson2.BsonDocumentWrapper;
 import org.bson2.BsonJavaScript;
 import org.bson2.codecs.configuration.CodecRegistry;
 import org.bson2.conversions.Bson;
@@ -289,6 +290,6 @@ class MapReduceIterableImpl<TDocument, TResult> implements MapReduceIterable<TRe
     }
 
     private BsonDocument toBsonDocument(final Bson document) {
-        return document == null ? null : document.toBsonDocument(documentClass, codecRegistry);
+        return BsonDocumentWrapper.asBsonDocument(document, documentClass, codecRegistry);
     }
 }
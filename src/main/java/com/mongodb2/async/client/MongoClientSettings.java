@@ -16,6 +16,7 @@
 
 package com.mongodb2.async.client;
 
+import com.mongodb2.MongoCompressor;
 import com.mongodb2.MongoCredential;
 import com.mongodb2.ReadConcern;
 import com.mongodb2.ReadPreference;
@@ -63,6 +64,7 @@ public final class MongoClientSettings {
     private final ServerSettings serverSettings;
     private final SslSettings sslSettings;
     private final String applicationName;
+    private final List<MongoCompressor> compressorList;
 
     /**
      * Convenience method to create a Builder.
@@ -107,6 +109,7 @@ public final class MongoClientSettings {
         private SslSettings sslSettings = SslSettings.builder().build();
         private List<MongoCredential> credentialList = Collections.emptyList();
         private String applicationName;
+        private List<MongoCompressor> compressorList = Collections.emptyList();
 
         private Builder() {
         }
@@ -132,6 +135,7 @@ public final class MongoClientSettings {
             connectionPoolSettings = settings.getConnectionPoolSettings();
             sslSettings = settings.getSslSettings();
             applicationName = settings.getApplicationName();
+            compressorList = settings.getCompressorList();
         }
 
         /**
@@ -316,6 +320,21 @@ public final class MongoClientSettings {
             return this;
         }
 
+        /**
+         * Sets the compressors to use for compressing messages to the server. The driver will use the first compressor in the list that
+         * the server is configured to support.
+         *
+         * @param compressorList the list of compressors to request
+         * @return {@code this}
+         * @see #getCompressorList()
+         * @mongodb.server.release 3.4
+         */
+        public Builder compressorList(final List<MongoCompressor> compressorList) {
+            notNull("compressorList", compressorList);
+            this.compressorList = Collections.unmodifiableList(new ArrayList<MongoCompressor>(compressorList));
+            return this;
+        }
+
         /**
          * Build an instance of {@code MongoClientSettings}.
          *
@@ -417,6 +436,19 @@ public final class MongoClientSettings {
         return applicationName;
     }
 
+    /**
+     * Gets the compressors to use for compressing messages to the server. The driver will use the first compressor in the list that the
+     * server is configured to support.
+     *
+     * <p>Default is the empty list.</p>
+     *
+     * @return the list of compressors to request
+     * @mongodb.server.release 3.4
+     */
+    public List<MongoCompressor> getCompressorList() {
+        return compressorList;
+    }
+
 
     /**
      * Gets the cluster settings.
@@ -491,6 +523,7 @@ public final class MongoClientSettings {
         codecRegistry = builder.codecRegistry;
         commandListeners = builder.commandListeners;
         applicationName = builder.applicationName;
+        compressorList = builder.compressorList;
         clusterSettings = builder.clusterSettings;
         serverSettings = builder.serverSettings;
         socketSettings = builder.socketSettings;
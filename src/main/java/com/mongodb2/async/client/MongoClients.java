@@ -190,7 +190,7 @@ public final class MongoClients {
                 heartbeatStreamFactory,
                 settings.getCredentialList(), null, new JMXConnectionPoolListener(), null,
                 createCommandListener(settings.getCommandListeners()),
-                settings.getApplicationName(), mongoDriverInformation), externalResourceCloser);
+                settings.getApplicationName(), mongoDriverInformation, settings.getCompressorList()), externalResourceCloser);
     }
 
     /**
@@ -33,6 +33,7 @@ import com.mongodb2.client.model.IndexModel;
 import com.mongodb2.client.model.IndexOptions;
 import com.mongodb2.client.model.InsertManyOptions;
 import com.mongodb2.client.model.InsertOneOptions;
+import com.mongodb2.client.model.PreparedBson;
 import com.mongodb2.client.model.RenameCollectionOptions;
 import com.mongodb2.client.model.UpdateOptions;
 import com.mongodb2.client.model.WriteModel;
@@ -149,6 +150,21 @@ public interface MongoCollection<TDocument> {
      */
     MongoCollection<TDocument> withReadConcern(ReadConcern readConcern);
 
+    /**
+     * Prepares a filter, update or other document in which {@link com.mongodb2.client.model.Parameter} placeholders stand in for values, so
+     * that it is encoded once, using the document class and codec registry of this collection, and is then bound to the values of its
+     * parameters each time it is used.  The bound document may be passed to any method of this collection that takes a {@code Bson}.
+     * <blockquote><pre>
+     *    PreparedBson filter = collection.prepare(eq("_id", parameter(0)));
+     *    collection.find(filter.bind(id)).first(callback);
+     * </pre></blockquote>
+     *
+     * @param template the template
+     * @return the prepared template
+     * @since 3.5
+     */
+    PreparedBson prepare(Bson template);
+
     /**
      * Counts the number of documents in the collection.
      *
@@ -280,6 +296,36 @@ public interface MongoCollection<TDocument> {
      */
     <TResult> MapReduceIterable<TResult> mapReduce(String mapFunction, String reduceFunction, Class<TResult> resultClass);
 
+    /**
+     * Scans the whole collection over several cursors at once.  The cursors are driven concurrently, and their results are interleaved
+     * in no particular order.
+     *
+     * <p>If the server does not support the parallelCollectionScan command, or can only scan the collection with a single cursor, the
+     * collection is instead split into ranges of {@code _id}, each of which is scanned by a separate find.</p>
+     *
+     * @param numCursors the maximum number of cursors to scan the collection with, which must be between 1 and 10000, inclusive
+     * @return an iterable containing every document in the collection
+     * @mongodb.driver.manual reference/command/parallelCollectionScan/ parallelCollectionScan
+     * @since 3.5
+     */
+    ParallelScanIterable<TDocument> parallelScan(int numCursors);
+
+    /**
+     * Scans the whole collection over several cursors at once.  The cursors are driven concurrently, and their results are interleaved
+     * in no particular order.
+     *
+     * <p>If the server does not support the parallelCollectionScan command, or can only scan the collection with a single cursor, the
+     * collection is instead split into ranges of {@code _id}, each of which is scanned by a separate find.</p>
+     *
+     * @param numCursors  the maximum number of cursors to scan the collection with, which must be between 1 and 10000, inclusive
+     * @param resultClass the class to decode each document into
+     * @param <TResult>   the target document type of the iterable.
+     * @return an iterable containing every document in the collection
+     * @mongodb.driver.manual reference/command/parallelCollectionScan/ parallelCollectionScan
+     * @since 3.5
+     */
+    <TResult> ParallelScanIterable<TResult> parallelScan(int numCursors, Class<TResult> resultClass);
+
     /**
      * Executes a mix of inserts, updates, replaces, and deletes.
      *
@@ -47,6 +47,7 @@ import com.mongodb2.client.model.IndexOptions;
 import com.mongodb2.client.model.InsertManyOptions;
 import com.mongodb2.client.model.InsertOneModel;
 import com.mongodb2.client.model.InsertOneOptions;
+import com.mongodb2.client.model.PreparedBson;
 import com.mongodb2.client.model.RenameCollectionOptions;
 import com.mongodb2.client.model.ReplaceOneModel;
 import com.mongodb2.client.model.ReturnDocument;
@@ -170,6 +171,11 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
                 executor);
     }
 
+    @Override
+    public PreparedBson prepare(final Bson template) {
+        return new PreparedBson(template, documentClass, codecRegistry);
+    }
+
     @Override
     public void count(final SingleResultCallback<Long> callback) {
         count(new BsonDocument(), new CountOptions(), callback);
@@ -251,6 +257,17 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
                 readConcern, writeConcern, executor, mapFunction, reduceFunction);
     }
 
+    @Override
+    public ParallelScanIterable<TDocument> parallelScan(final int numCursors) {
+        return parallelScan(numCursors, documentClass);
+    }
+
+    @Override
+    public <TResult> ParallelScanIterable<TResult> parallelScan(final int numCursors, final Class<TResult> resultClass) {
+        return new ParallelScanIterableImpl<TResult>(namespace, resultClass, codecRegistry, readPreference, readConcern, executor,
+                numCursors);
+    }
+
     @Override
     public void bulkWrite(final List<? extends WriteModel<? extends TDocument>> requests,
                           final SingleResultCallback<BulkWriteResult> callback) {
@@ -310,7 +327,8 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
         }
 
         executor.execute(new MixedBulkWriteOperation(namespace, writeRequests, options.isOrdered(), writeConcern)
-                .bypassDocumentValidation(options.getBypassDocumentValidation()), callback);
+                .bypassDocumentValidation(options.getBypassDocumentValidation())
+                .parallelism(options.getParallelism()), callback);
     }
 
     @Override
@@ -353,7 +371,8 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
             requests.add(new InsertRequest(documentToBsonDocument(document)));
         }
         executor.execute(new MixedBulkWriteOperation(namespace, requests, options.isOrdered(), writeConcern)
-                .bypassDocumentValidation(options.getBypassDocumentValidation()), errorHandlingCallback(
+                .bypassDocumentValidation(options.getBypassDocumentValidation())
+                .parallelism(options.getParallelism()), errorHandlingCallback(
                 new SingleResultCallback<BulkWriteResult>() {
                     @Override
                     public void onResult(final BulkWriteResult result, final Throwable t) {
@@ -684,6 +703,6 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
     }
 
     private BsonDocument toBsonDocument(final Bson document) {
-        return document == null ? null : document.toBsonDocument(documentClass, codecRegistry);
+        return BsonDocumentWrapper.asBsonDocument(document, documentClass, codecRegistry);
     }
 }
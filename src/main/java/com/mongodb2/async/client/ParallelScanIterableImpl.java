@@ -0,0 +1,100 @@
+/*
+ * Copyright 2015 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb2.async.client;
+
+import com.mongodb2.Block;
+import com.mongodb2.Function;
+import com.mongodb2.MongoNamespace;
+import com.mongodb2.ReadConcern;
+import com.mongodb2.ReadPreference;
+import com.mongodb2.async.AsyncBatchCursor;
+import com.mongodb2.async.SingleResultCallback;
+import com.mongodb2.operation.AsyncOperationExecutor;
+import com.mongodb2.operation.ParallelScanOperation;
+import org.bson2.codecs.configuration.CodecRegistry;
+
+import java.util.Collection;
+
+import static com.mongodb2.assertions.Assertions.notNull;
+
+class ParallelScanIterableImpl<TResult> implements ParallelScanIterable<TResult> {
+    private final MongoNamespace namespace;
+    private final Class<TResult> resultClass;
+    private final ReadPreference readPreference;
+    private final ReadConcern readConcern;
+    private final CodecRegistry codecRegistry;
+    private final AsyncOperationExecutor executor;
+    private final int numCursors;
+
+    private int batchSize;
+
+    ParallelScanIterableImpl(final MongoNamespace namespace, final Class<TResult> resultClass, final CodecRegistry codecRegistry,
+                             final ReadPreference readPreference, final ReadConcern readConcern, final AsyncOperationExecutor executor,
+                             final int numCursors) {
+        this.namespace = notNull("namespace", namespace);
+        this.resultClass = notNull("resultClass", resultClass);
+        this.codecRegistry = notNull("codecRegistry", codecRegistry);
+        this.readPreference = notNull("readPreference", readPreference);
+        this.readConcern = notNull("readConcern", readConcern);
+        this.executor = notNull("executor", executor);
+        this.numCursors = numCursors;
+    }
+
+    @Override
+    public ParallelScanIterable<TResult> batchSize(final int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    @Override
+    public void first(final SingleResultCallback<TResult> callback) {
+        notNull("callback", callback);
+        execute().first(callback);
+    }
+
+    @Override
+    public void forEach(final Block<? super TResult> block, final SingleResultCallback<Void> callback) {
+        notNull("block", block);
+        notNull("callback", callback);
+        execute().forEach(block, callback);
+    }
+
+    @Override
+    public <A extends Collection<? super TResult>> void into(final A target, final SingleResultCallback<A> callback) {
+        notNull("target", target);
+        notNull("callback", callback);
+        execute().into(target, callback);
+    }
+
+    @Override
+    public <U> MongoIterable<U> map(final Function<TResult, U> mapper) {
+        return new MappingIterable<TResult, U>(this, mapper);
+    }
+
+    @Override
+    public void batchCursor(final SingleResultCallback<AsyncBatchCursor<TResult>> callback) {
+        notNull("callback", callback);
+        execute().batchCursor(callback);
+    }
+
+    private MongoIterable<TResult> execute() {
+        ParallelScanOperation<TResult> operation = new ParallelScanOperation<TResult>(namespace, numCursors, codecRegistry.get(resultClass))
+                .batchSize(batchSize)
+                .readConcern(readConcern);
+        return new OperationIterable<TResult>(operation, readPreference, executor);
+    }
+}
@@ -17,6 +17,7 @@
 package com.mongodb2.client;
 
 import com.mongodb2.client.model.Collation;
+import com.mongodb2.client.model.HedgeOptions;
 
 import java.util.concurrent.TimeUnit;
 
@@ -100,4 +101,14 @@ public interface AggregateIterable<TResult> extends MongoIterable<TResult> {
      * @mongodb.server.release 3.4
      */
     AggregateIterable<TResult> collation(Collation collation);
+
+    /**
+     * Sets the hedge options, which default to those of the collection.  Pipelines that end with an $out stage are never hedged.
+     *
+     * <p>A null value means that the operation is not hedged.</p>
+     * @param hedgeOptions the hedge options to use
+     * @return this
+     * @since 3.5
+     */
+    AggregateIterable<TResult> hedgeOptions(HedgeOptions hedgeOptions);
 }
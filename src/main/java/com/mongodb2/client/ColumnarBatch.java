@@ -0,0 +1,156 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb2.client;
+
+import com.mongodb2.client.model.Column;
+import org.bson2.BsonType;
+
+import java.util.List;
+
+import static com.mongodb2.assertions.Assertions.isTrueArgument;
+import static com.mongodb2.assertions.Assertions.notNull;
+
+/**
+ * A batch of query results decoded into columns of primitive values, one column for each requested field.  Row {@code i} of every column
+ * holds the value of the field in the {@code i}th document of the batch, and a null bitmap per column records the rows in which the field
+ * was missing or held a value that the column can not represent.
+ *
+ * <p>The arrays returned by the accessors are not copied, and so must not be modified.</p>
+ *
+ * @see FindIterable#columnarBatches(List)
+ * @since 3.5
+ */
+public final class ColumnarBatch {
+    private final List<Column> columns;
+    private final int size;
+    private final Object[] values;
+    private final long[][] nullBitmaps;
+
+    /**
+     * Construct a new instance.
+     *
+     * <p>This constructor should not be considered a part of the public API.</p>
+     *
+     * @param columns     the columns
+     * @param size        the number of rows
+     * @param values      the values of each column, as an {@code int[]}, {@code long[]} or {@code double[]} according to its type
+     * @param nullBitmaps the null bitmap of each column, in which bit {@code i % 64} of word {@code i / 64} is set if row {@code i} is null
+     */
+    public ColumnarBatch(final List<Column> columns, final int size, final Object[] values, final long[][] nullBitmaps) {
+        this.columns = notNull("columns", columns);
+        this.size = size;
+        this.values = notNull("values", values);
+        this.nullBitmaps = notNull("nullBitmaps", nullBitmaps);
+        isTrueArgument("one array of values per column", values.length == columns.size());
+        isTrueArgument("one null bitmap per column", nullBitmaps.length == columns.size());
+    }
+
+    /**
+     * Gets the columns.
+     *
+     * @return the columns
+     */
+    public List<Column> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Gets the number of rows, which is the number of documents in the batch.
+     *
+     * @return the number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the position of the column for the field with the given name.
+     *
+     * @param name the field name
+     * @return the position of the column, or -1 if there is no such column
+     */
+    public int indexOf(final String name) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).getName().equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the values of an int32 column.  The value of a null row is 0.
+     *
+     * @param column the position of the column
+     * @return the values, of which only the first {@link #size()} are valid
+     */
+    public int[] getInt32Values(final int column) {
+        isTrueArgument("column type is INT32", columns.get(column).getType() == BsonType.INT32);
+        return (int[]) values[column];
+    }
+
+    /**
+     * Gets the values of an int64 column.  The value of a null row is 0.
+     *
+     * @param column the position of the column
+     * @return the values, of which only the first {@link #size()} are valid
+     */
+    public long[] getInt64Values(final int column) {
+        isTrueArgument("column type is INT64", columns.get(column).getType() == BsonType.INT64);
+        return (long[]) values[column];
+    }
+
+    /**
+     * Gets the values of a double column.  The value of a null row is 0.
+     *
+     * @param column the position of the column
+     * @return the values, of which only the first {@link #size()} are valid
+     */
+    public double[] getDoubleValues(final int column) {
+        isTrueArgument("column type is DOUBLE", columns.get(column).getType() == BsonType.DOUBLE);
+        return (double[]) values[column];
+    }
+
+    /**
+     * Gets the null bitmap of a column, in which bit {@code i % 64} of word {@code i / 64} is set if row {@code i} is null.
+     *
+     * @param column the position of the column
+     * @return the null bitmap
+     */
+    public long[] getNullBitmap(final int column) {
+        return nullBitmaps[column];
+    }
+
+    /**
+     * Returns whether the given row of a column is null.
+     *
+     * @param column the position of the column
+     * @param row    the row
+     * @return true if the row is null
+     */
+    public boolean isNull(final int column, final int row) {
+        return (nullBitmaps[column][row >>> 6] & (1L << row)) != 0;
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnarBatch{"
+                       + "columns=" + columns
+                       + ", size=" + size
+                       + '}';
+    }
+}
@@ -18,8 +18,11 @@ package com.mongodb2.client;
 
 import com.mongodb2.CursorType;
 import com.mongodb2.client.model.Collation;
+import com.mongodb2.client.model.Column;
+import com.mongodb2.client.model.HedgeOptions;
 import org.bson2.conversions.Bson;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -140,6 +143,9 @@ public interface FindIterable<TResult> extends MongoIterable<TResult> {
     /**
      * Sets the cursor type.
      *
+     * <p>With {@link CursorType#Exhaust}, the server streams every batch without waiting to be asked, and the cursor holds its
+     * connection until the last batch has been read or the cursor is closed.</p>
+     *
      * @param cursorType the cursor type
      * @return this
      */
@@ -155,6 +161,17 @@ public interface FindIterable<TResult> extends MongoIterable<TResult> {
     @Override
     FindIterable<TResult> batchSize(int batchSize);
 
+    /**
+     * Sets the maximum number of batches that the cursor fetches ahead of the consumer, in the background, so that fetching and decoding
+     * the next batch overlaps the processing of the current one.  The default is 0, which means that the next batch is only requested
+     * once the current one has been consumed.  Tailable cursors never prefetch.
+     *
+     * @param prefetchBatches the maximum number of prefetched batches, which must be at least 0
+     * @return this
+     * @since 3.5
+     */
+    FindIterable<TResult> prefetchBatches(int prefetchBatches);
+
     /**
      * Sets the collation options
      *
@@ -165,4 +182,26 @@ public interface FindIterable<TResult> extends MongoIterable<TResult> {
      * @mongodb.server.release 3.4
      */
     FindIterable<TResult> collation(Collation collation);
+
+    /**
+     * Sets the hedge options, which default to those of the collection.
+     *
+     * <p>A null value means that the operation is not hedged.</p>
+     * @param hedgeOptions the hedge options to use
+     * @return this
+     * @since 3.5
+     */
+    FindIterable<TResult> hedgeOptions(HedgeOptions hedgeOptions);
+
+    /**
+     * Executes the query and returns a cursor over its results a batch at a time, with the given numeric fields of each batch decoded
+     * into columns of primitive values.  The query projects the results onto the requested fields, in place of any projection set on
+     * this iterable, so this is much cheaper than iterating the results when only a few numeric fields are of interest.  Values are
+     * reconverted just as they would be when decoding the results into documents.
+     *
+     * @param columns the fields to decode, each of which must have a distinct name
+     * @return a cursor over the batches of results
+     * @since 3.5
+     */
+    MongoCursor<ColumnarBatch> columnarBatches(List<Column> columns);
 }
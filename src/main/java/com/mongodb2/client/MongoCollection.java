@@ -28,12 +28,15 @@ import com.mongodb2.client.model.DeleteOptions;
 import com.mongodb2.client.model.FindOneAndDeleteOptions;
 import com.mongodb2.client.model.FindOneAndReplaceOptions;
 import com.mongodb2.client.model.FindOneAndUpdateOptions;
+import com.mongodb2.client.model.HedgeOptions;
 import com.mongodb2.client.model.IndexModel;
 import com.mongodb2.client.model.IndexOptions;
 import com.mongodb2.client.model.InsertManyOptions;
 import com.mongodb2.client.model.InsertOneOptions;
+import com.mongodb2.client.model.PreparedBson;
 import com.mongodb2.client.model.RenameCollectionOptions;
 import com.mongodb2.client.model.UpdateOptions;
+import com.mongodb2.client.model.WriteCoalescingOptions;
 import com.mongodb2.client.model.WriteModel;
 import com.mongodb2.client.result.DeleteResult;
 import com.mongodb2.client.result.UpdateResult;
@@ -41,6 +44,7 @@ import org.bson2.Document;
 import org.bson2.codecs.configuration.CodecRegistry;
 import org.bson2.conversions.Bson;
 
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -104,6 +108,23 @@ public interface MongoCollection<TDocument> {
      */
     ReadConcern getReadConcern();
 
+    /**
+     * Get the hedge options for the MongoCollection, which are applied to the find, count and aggregate operations on it that don't
+     * specify their own.
+     *
+     * @return the {@link HedgeOptions}, which may be null if reads are not hedged
+     * @since 3.5
+     */
+    HedgeOptions getHedgeOptions();
+
+    /**
+     * Get the write coalescing options for the MongoCollection, which are applied to its single document inserts.
+     *
+     * @return the {@link WriteCoalescingOptions}, which may be null if inserts are not coalesced
+     * @since 3.5
+     */
+    WriteCoalescingOptions getWriteCoalescingOptions();
+
     /**
      * Create a new MongoCollection instance with a different default class to cast any documents returned from the database into..
      *
@@ -148,6 +169,43 @@ public interface MongoCollection<TDocument> {
      */
     MongoCollection<TDocument> withReadConcern(ReadConcern readConcern);
 
+    /**
+     * Create a new MongoCollection instance with different hedge options.  Reads are only hedged if the read preference allows them to go
+     * to a secondary.
+     *
+     * @param hedgeOptions the new {@link HedgeOptions} for the collection, which may be null to stop hedging reads
+     * @return a new MongoCollection instance with the different HedgeOptions
+     * @since 3.5
+     */
+    MongoCollection<TDocument> withHedgeOptions(HedgeOptions hedgeOptions);
+
+    /**
+     * Create a new MongoCollection instance with different write coalescing options.  Each call to {@code insertOne} is then coalesced
+     * with concurrent calls from other threads that insert into the same namespace with the same write concern, and the batch is sent
+     * to the server as a single unordered insert command.
+     *
+     * @param writeCoalescingOptions the new {@link WriteCoalescingOptions} for the collection, which may be null to stop coalescing
+     *                               inserts
+     * @return a new MongoCollection instance with the different WriteCoalescingOptions
+     * @since 3.5
+     */
+    MongoCollection<TDocument> withWriteCoalescingOptions(WriteCoalescingOptions writeCoalescingOptions);
+
+    /**
+     * Prepares a filter, update or other document in which {@link com.mongodb2.client.model.Parameter} placeholders stand in for values, so
+     * that it is encoded once, using the document class and codec registry of this collection, and is then bound to the values of its
+     * parameters each time it is used.  The bound document may be passed to any method of this collection that takes a {@code Bson}.
+     * <blockquote><pre>
+     *    PreparedBson filter = collection.prepare(eq("_id", parameter(0)));
+     *    collection.find(filter.bind(id)).first();
+     * </pre></blockquote>
+     *
+     * @param template the template
+     * @return the prepared template
+     * @since 3.5
+     */
+    PreparedBson prepare(Bson template);
+
     /**
      * Counts the number of documents in the collection.
      *
@@ -277,6 +335,36 @@ public interface MongoCollection<TDocument> {
      */
     <TResult> MapReduceIterable<TResult> mapReduce(String mapFunction, String reduceFunction, Class<TResult> resultClass);
 
+    /**
+     * Scans the whole collection over several cursors at once.  The cursors are driven concurrently, and their results are interleaved
+     * in no particular order.
+     *
+     * <p>If the server does not support the parallelCollectionScan command, or can only scan the collection with a single cursor, the
+     * collection is instead split into ranges of {@code _id}, each of which is scanned by a separate find.</p>
+     *
+     * @param numCursors the maximum number of cursors to scan the collection with, which must be between 1 and 10000, inclusive
+     * @return an iterable containing every document in the collection
+     * @mongodb.driver.manual reference/command/parallelCollectionScan/ parallelCollectionScan
+     * @since 3.5
+     */
+    ParallelScanIterable<TDocument> parallelScan(int numCursors);
+
+    /**
+     * Scans the whole collection over several cursors at once.  The cursors are driven concurrently, and their results are interleaved
+     * in no particular order.
+     *
+     * <p>If the server does not support the parallelCollectionScan command, or can only scan the collection with a single cursor, the
+     * collection is instead split into ranges of {@code _id}, each of which is scanned by a separate find.</p>
+     *
+     * @param numCursors  the maximum number of cursors to scan the collection with, which must be between 1 and 10000, inclusive
+     * @param resultClass the class to decode each document into
+     * @param <TResult>   the target document type of the iterable.
+     * @return an iterable containing every document in the collection
+     * @mongodb.driver.manual reference/command/parallelCollectionScan/ parallelCollectionScan
+     * @since 3.5
+     */
+    <TResult> ParallelScanIterable<TResult> parallelScan(int numCursors, Class<TResult> resultClass);
+
     /**
      * Executes a mix of inserts, updates, replaces, and deletes.
      *
@@ -342,6 +430,33 @@ public interface MongoCollection<TDocument> {
      */
     void insertMany(List<? extends TDocument> documents, InsertManyOptions options);
 
+    /**
+     * Inserts the documents returned by the given iterator, without first collecting them all.  The iterator is drained one batch at a
+     * time, and each batch is sent to the server before the next is taken, so that the memory used does not grow with the number of
+     * documents.  Only the ordered and bypass document validation options apply.
+     *
+     * @param documents the iterator of documents to insert, which is drained by this call
+     * @throws com.mongodb2.MongoBulkWriteException if there's an exception in the bulk write operation, in which case the index of each
+     * error is the position of its document in the iterator
+     * @throws com.mongodb2.MongoException          if the write failed due some other failure
+     * @since 3.5
+     */
+    void insertMany(Iterator<? extends TDocument> documents);
+
+    /**
+     * Inserts the documents returned by the given iterator, without first collecting them all.  The iterator is drained one batch at a
+     * time, and each batch is sent to the server before the next is taken, so that the memory used does not grow with the number of
+     * documents.  Only the ordered and bypass document validation options apply.
+     *
+     * @param documents the iterator of documents to insert, which is drained by this call
+     * @param options   the options to apply to the operation
+     * @throws com.mongodb2.MongoBulkWriteException if there's an exception in the bulk write operation, in which case the index of each
+     * error is the position of its document in the iterator
+     * @throws com.mongodb2.MongoException          if the write failed due some other failure
+     * @since 3.5
+     */
+    void insertMany(Iterator<? extends TDocument> documents, InsertManyOptions options);
+
     /**
      * Removes at most one document from the collection that matches the given filter.  If no documents match, the collection is not
      * modified.
@@ -19,7 +19,13 @@ package com.mongodb2.client;
 import com.mongodb2.Block;
 import com.mongodb2.Function;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Collection;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  *The MongoIterable is the results from an operation, such as a query.
@@ -74,4 +80,28 @@ public interface MongoIterable<TResult> extends Iterable<TResult> {
      * @mongodb.driver.manual reference/method/cursor.batchSize/#cursor.batchSize Batch Size
      */
     MongoIterable<TResult> batchSize(int batchSize);
+
+    /**
+     * Creates a sequential stream of the results, executing the operation if necessary.  The stream may be made parallel, in which case
+     * each batch of results returned by the server is processed in a single task.  Close the stream to close the cursor if the results
+     * are not all consumed.
+     *
+     * @return the stream
+     * @since 3.5
+     */
+    default Stream<TResult> stream() {
+        final Spliterator<TResult> spliterator = spliterator();
+        return StreamSupport.stream(spliterator, false).onClose(new Runnable() {
+            @Override
+            public void run() {
+                if (spliterator instanceof Closeable) {
+                    try {
+                        ((Closeable) spliterator).close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            }
+        });
+    }
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb2.client;
+
+/**
+ * Iterable for a parallel scan of a collection.
+ *
+ * <p>The collection is scanned over several cursors at once, each of which is driven by a pooled thread that fetches and decodes batches
+ * ahead of the consumer.  The results of the different cursors are interleaved, so their order is not defined.</p>
+ *
+ * @param <TResult> The type of the result.
+ * @mongodb.driver.manual reference/command/parallelCollectionScan/ parallelCollectionScan
+ * @since 3.5
+ */
+public interface ParallelScanIterable<TResult> extends MongoIterable<TResult> {
+
+    /**
+     * Sets the number of documents to return per batch.
+     *
+     * @param batchSize the batch size
+     * @return this
+     * @mongodb.driver.manual reference/method/cursor.batchSize/#cursor.batchSize Batch Size
+     */
+    ParallelScanIterable<TResult> batchSize(int batchSize);
+
+    /**
+     * Sets the maximum number of batches that are fetched ahead of the consumer.  Once the limit is reached, the cursors wait for the
+     * consumer to catch up before fetching more.  The default value is 0, which allows two batches per cursor.
+     *
+     * @param maxBufferedBatches the maximum number of buffered batches, which must be greater than or equal to 0
+     * @return this
+     */
+    ParallelScanIterable<TResult> maxBufferedBatches(int maxBufferedBatches);
+}
@@ -26,6 +26,7 @@ import com.mongodb2.client.model.Collation;
 import org.bson2.conversions.Bson;
 
 import java.util.Collection;
+import java.util.Spliterator;
 import java.util.concurrent.TimeUnit;
 
 class GridFSFindIterableImpl implements GridFSFindIterable {
@@ -108,4 +109,8 @@ class GridFSFindIterableImpl implements GridFSFindIterable {
         return underlying.into(target);
     }
 
+    @Override
+    public Spliterator<GridFSFile> spliterator() {
+        return underlying.spliterator();
+    }
 }
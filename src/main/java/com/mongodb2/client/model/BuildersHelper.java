@@ -16,26 +16,51 @@ package com.mongodb2.client.model;
 
 import org.bson2.BsonDocument;
 import org.bson2.BsonDocumentWriter;
+import org.bson2.BsonValue;
+import org.bson2.BsonWriter;
+import org.bson2.codecs.BsonValueCodec;
+import org.bson2.codecs.Codec;
 import org.bson2.codecs.Encoder;
 import org.bson2.codecs.EncoderContext;
 import org.bson2.codecs.configuration.CodecRegistry;
 import org.bson2.conversions.Bson;
+import org.bson2.conversions.WritableBson;
 
 final class BuildersHelper {
+    private static final Codec<BsonValue> BSON_VALUE_CODEC = new BsonValueCodec();
 
     @SuppressWarnings("unchecked")
-    static <TItem> void encodeValue(final BsonDocumentWriter writer, final TItem value, final CodecRegistry codecRegistry) {
+    static <TItem> void encodeValue(final BsonWriter writer, final TItem value, final CodecRegistry codecRegistry) {
         if (value == null) {
             writer.writeNull();
         } else if (value instanceof Bson) {
-            ((Encoder) codecRegistry.get(BsonDocument.class)).encode(writer,
-                                                                     ((Bson) value).toBsonDocument(BsonDocument.class, codecRegistry),
-                                                                     EncoderContext.builder().build());
+            writeBson(writer, (Bson) value, BsonDocument.class, codecRegistry);
         } else {
             ((Encoder) codecRegistry.get(value.getClass())).encode(writer, value, EncoderContext.builder().build());
         }
     }
 
+    static <TDocument> void writeBson(final BsonWriter writer, final Bson bson, final Class<TDocument> documentClass,
+                                      final CodecRegistry codecRegistry) {
+        if (bson instanceof WritableBson) {
+            ((WritableBson) bson).writeTo(writer, documentClass, codecRegistry);
+        } else {
+            codecRegistry.get(BsonDocument.class).encode(writer, bson.toBsonDocument(documentClass, codecRegistry),
+                                                         EncoderContext.builder().build());
+        }
+    }
+
+    static void writeBsonValue(final BsonWriter writer, final BsonValue value) {
+        BSON_VALUE_CODEC.encode(writer, value, EncoderContext.builder().build());
+    }
+
+    static <TDocument> BsonDocument render(final WritableBson bson, final Class<TDocument> documentClass,
+                                           final CodecRegistry codecRegistry) {
+        BsonDocumentWriter writer = new BsonDocumentWriter(new BsonDocument());
+        bson.writeTo(writer, documentClass, codecRegistry);
+        return writer.getDocument();
+    }
+
     private BuildersHelper() {
     }
 }
@@ -16,6 +16,8 @@
 
 package com.mongodb2.client.model;
 
+import static com.mongodb2.assertions.Assertions.isTrueArgument;
+
 /**
  * The options to apply to a bulk write.
  *
@@ -24,6 +26,7 @@ package com.mongodb2.client.model;
 public final class BulkWriteOptions {
     private boolean ordered = true;
     private Boolean bypassDocumentValidation;
+    private int parallelism = 1;
 
     /**
      * If true, then when a write fails, return without performing the remaining
@@ -72,4 +75,29 @@ public final class BulkWriteOptions {
         this.bypassDocumentValidation = bypassDocumentValidation;
         return this;
     }
+
+    /**
+     * Gets the maximum number of batches of an unordered write that are sent to the server at once.  The default is 1.
+     *
+     * @return the parallelism
+     * @since 3.5
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the maximum number of batches of an unordered write that are sent to the server at once, each over its own connection from
+     * the pool.  The writes are split into batches of at most the server's maximum batch size, which is 1000 writes for MongoDB 3.4.
+     * This has no effect on ordered writes, whose batches are always sent one after another.
+     *
+     * @param parallelism the parallelism, which must be greater than 0
+     * @return this
+     * @since 3.5
+     */
+    public BulkWriteOptions parallelism(final int parallelism) {
+        isTrueArgument("parallelism > 0", parallelism > 0);
+        this.parallelism = parallelism;
+        return this;
+    }
 }
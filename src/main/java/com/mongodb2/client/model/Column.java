@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb2.client.model;
+
+import org.bson2.BsonType;
+
+import static com.mongodb2.assertions.Assertions.isTrueArgument;
+import static com.mongodb2.assertions.Assertions.notNull;
+
+/**
+ * A numeric top-level field to decode into a column of a {@link com.mongodb2.client.ColumnarBatch}.
+ *
+ * <p>A value is stored in the column if its type can be widened to the type of the column: an int32 column holds only int32 values, an
+ * int64 column holds int32 and int64 values, and a double column holds int32, int64 and double values.  Any other value, as well as a
+ * missing field, is stored as null.  Widening is exact except for an int64 value whose magnitude is greater than 2<sup>53</sup> stored
+ * in a double column, which is rounded to the nearest double, as a cast from {@code long} to {@code double} would.</p>
+ *
+ * @see com.mongodb2.client.FindIterable#columnarBatches(java.util.List)
+ * @since 3.5
+ */
+public final class Column {
+    private final String name;
+    private final BsonType type;
+
+    /**
+     * Creates an int32 column.
+     *
+     * @param name the field name
+     * @return the column
+     */
+    public static Column int32Column(final String name) {
+        return new Column(name, BsonType.INT32);
+    }
+
+    /**
+     * Creates an int64 column.
+     *
+     * @param name the field name
+     * @return the column
+     */
+    public static Column int64Column(final String name) {
+        return new Column(name, BsonType.INT64);
+    }
+
+    /**
+     * Creates a double column.
+     *
+     * @param name the field name
+     * @return the column
+     */
+    public static Column doubleColumn(final String name) {
+        return new Column(name, BsonType.DOUBLE);
+    }
+
+    /**
+     * Construct a new instance.
+     *
+     * @param name the field name
+     * @param type the type of the column, which must be one of {@code INT32}, {@code INT64} or {@code DOUBLE}
+     */
+    public Column(final String name, final BsonType type) {
+        this.name = notNull("name", name);
+        this.type = notNull("type", type);
+        isTrueArgument("type is INT32, INT64 or DOUBLE", type == BsonType.INT32 || type == BsonType.INT64 || type == BsonType.DOUBLE);
+    }
+
+    /**
+     * Gets the field name.
+     *
+     * @return the field name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the type of the column.
+     *
+     * @return the type
+     */
+    public BsonType getType() {
+        return type;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        Column column = (Column) o;
+
+        if (!name.equals(column.name)) {
+            return false;
+        }
+        return type == column.type;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = name.hashCode();
+        result = 31 * result + type.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "Column{"
+                       + "name='" + name + '\''
+                       + ", type=" + type
+                       + '}';
+    }
+}
@@ -35,6 +35,7 @@ public class CountOptions {
     private int skip;
     private long maxTimeMS;
     private Collation collation;
+    private HedgeOptions hedgeOptions;
 
     /**
      * Gets the hint to apply.
@@ -168,4 +169,27 @@ public class CountOptions {
         this.collation = collation;
         return this;
     }
+
+    /**
+     * Returns the hedge options
+     *
+     * @return the hedge options
+     * @since 3.5
+     */
+    public HedgeOptions getHedgeOptions() {
+        return hedgeOptions;
+    }
+
+    /**
+     * Sets the hedge options
+     *
+     * <p>A null value means that the hedge options of the collection are used.</p>
+     * @param hedgeOptions the hedge options to use
+     * @return this
+     * @since 3.5
+     */
+    public CountOptions hedgeOptions(final HedgeOptions hedgeOptions) {
+        this.hedgeOptions = hedgeOptions;
+        return this;
+    }
 }
@@ -29,8 +29,10 @@ import org.bson2.BsonRegularExpression;
 import org.bson2.BsonString;
 import org.bson2.BsonType;
 import org.bson2.BsonValue;
+import org.bson2.BsonWriter;
 import org.bson2.codecs.configuration.CodecRegistry;
 import org.bson2.conversions.Bson;
+import org.bson2.conversions.WritableBson;
 
 import java.util.Arrays;
 import java.util.List;
@@ -39,6 +41,9 @@ import java.util.regex.Pattern;
 
 import static com.mongodb2.assertions.Assertions.notNull;
 import static com.mongodb2.client.model.BuildersHelper.encodeValue;
+import static com.mongodb2.client.model.BuildersHelper.render;
+import static com.mongodb2.client.model.BuildersHelper.writeBson;
+import static com.mongodb2.client.model.BuildersHelper.writeBsonValue;
 import static java.util.Arrays.asList;
 
 /**
@@ -504,11 +509,23 @@ public final class Filters {
      * @mongodb.driver.manual reference/operator/query/elemMatch $elemMatch
      */
     public static Bson elemMatch(final String fieldName, final Bson filter) {
-        return new Bson() {
+        return new WritableBson() {
             @Override
             public <TDocument> BsonDocument toBsonDocument(final Class<TDocument> documentClass, final CodecRegistry codecRegistry) {
                 return new BsonDocument(fieldName, new BsonDocument("$elemMatch", filter.toBsonDocument(documentClass, codecRegistry)));
             }
+
+            @Override
+            public <TDocument> void writeTo(final BsonWriter writer, final Class<TDocument> documentClass,
+                                            final CodecRegistry codecRegistry) {
+                writer.writeStartDocument();
+                writer.writeName(fieldName);
+                writer.writeStartDocument();
+                writer.writeName("$elemMatch");
+                writeBson(writer, filter, documentClass, codecRegistry);
+                writer.writeEndDocument();
+                writer.writeEndDocument();
+            }
         };
     }
 
@@ -848,7 +865,7 @@ public final class Filters {
                        + '}';
     }
 
-    private static final class SimpleFilter implements Bson {
+    private static final class SimpleFilter implements WritableBson {
         private final String fieldName;
         private final BsonValue value;
 
@@ -862,13 +879,21 @@ public final class Filters {
             return new BsonDocument(fieldName, value);
         }
 
+        @Override
+        public <TDocument> void writeTo(final BsonWriter writer, final Class<TDocument> documentClass, final CodecRegistry codecRegistry) {
+            writer.writeStartDocument();
+            writer.writeName(fieldName);
+            writeBsonValue(writer, value);
+            writer.writeEndDocument();
+        }
+
         @Override
         public String toString() {
             return operatorFilterToString(fieldName, "$eq", value);
         }
     }
 
-    private static final class OperatorFilter<TItem> implements Bson {
+    private static final class OperatorFilter<TItem> implements WritableBson {
         private final String operatorName;
         private final String fieldName;
         private final TItem value;
@@ -881,8 +906,11 @@ public final class Filters {
 
         @Override
         public <TDocument> BsonDocument toBsonDocument(final Class<TDocument> documentClass, final CodecRegistry codecRegistry) {
-            BsonDocumentWriter writer = new BsonDocumentWriter(new BsonDocument());
+            return render(this, documentClass, codecRegistry);
+        }
 
+        @Override
+        public <TDocument> void writeTo(final BsonWriter writer, final Class<TDocument> documentClass, final CodecRegistry codecRegistry) {
             writer.writeStartDocument();
             writer.writeName(fieldName);
             writer.writeStartDocument();
@@ -890,8 +918,6 @@ public final class Filters {
             encodeValue(writer, value, codecRegistry);
             writer.writeEndDocument();
             writer.writeEndDocument();
-
-            return writer.getDocument();
         }
 
         @Override
@@ -978,7 +1004,7 @@ public final class Filters {
         }
     }
 
-    private static class OrNorFilter implements Bson {
+    private static class OrNorFilter implements WritableBson {
         private enum Operator {
             OR("$or", "Or"),
             NOR("$nor", "Nor");
@@ -1014,6 +1040,17 @@ public final class Filters {
             return orRenderable;
         }
 
+        @Override
+        public <TDocument> void writeTo(final BsonWriter writer, final Class<TDocument> documentClass, final CodecRegistry codecRegistry) {
+            writer.writeStartDocument();
+            writer.writeStartArray(operator.name);
+            for (Bson filter : filters) {
+                writeBson(writer, filter, documentClass, codecRegistry);
+            }
+            writer.writeEndArray();
+            writer.writeEndDocument();
+        }
+
         @Override
         public String toString() {
             return operator.toStringName + " Filter{"
@@ -1022,7 +1059,7 @@ public final class Filters {
         }
     }
 
-    private static class IterableOperatorFilter<TItem> implements Bson {
+    private static class IterableOperatorFilter<TItem> implements WritableBson {
         private final String fieldName;
         private final String operatorName;
         private final Iterable<TItem> values;
@@ -1035,8 +1072,11 @@ public final class Filters {
 
         @Override
         public <TDocument> BsonDocument toBsonDocument(final Class<TDocument> documentClass, final CodecRegistry codecRegistry) {
-            BsonDocumentWriter writer = new BsonDocumentWriter(new BsonDocument());
+            return render(this, documentClass, codecRegistry);
+        }
 
+        @Override
+        public <TDocument> void writeTo(final BsonWriter writer, final Class<TDocument> documentClass, final CodecRegistry codecRegistry) {
             writer.writeStartDocument();
             writer.writeName(fieldName);
 
@@ -1050,8 +1090,6 @@ public final class Filters {
             writer.writeEndDocument();
 
             writer.writeEndDocument();
-
-            return writer.getDocument();
         }
 
         @Override
@@ -1060,7 +1098,7 @@ public final class Filters {
         }
     }
 
-    private static class SimpleEncodingFilter<TItem> implements Bson {
+    private static class SimpleEncodingFilter<TItem> implements WritableBson {
         private final String fieldName;
         private final TItem value;
 
@@ -1071,14 +1109,15 @@ public final class Filters {
 
         @Override
         public <TDocument> BsonDocument toBsonDocument(final Class<TDocument> documentClass, final CodecRegistry codecRegistry) {
-            BsonDocumentWriter writer = new BsonDocumentWriter(new BsonDocument());
+            return render(this, documentClass, codecRegistry);
+        }
 
+        @Override
+        public <TDocument> void writeTo(final BsonWriter writer, final Class<TDocument> documentClass, final CodecRegistry codecRegistry) {
             writer.writeStartDocument();
             writer.writeName(fieldName);
             encodeValue(writer, value, codecRegistry);
             writer.writeEndDocument();
-
-            return writer.getDocument();
         }
 
         @Override
@@ -45,6 +45,8 @@ public final class FindOptions {
     private boolean oplogReplay;
     private boolean partial;
     private Collation collation;
+    private HedgeOptions hedgeOptions;
+    private int prefetchBatches;
 
     /**
      * Construct a new instance.
@@ -204,6 +206,31 @@ public final class FindOptions {
         return this;
     }
 
+    /**
+     * Gets the maximum number of batches that the cursor fetches ahead of the consumer.  The default is 0, which means that the next batch
+     * is only requested once the current one has been consumed.
+     *
+     * @return the maximum number of prefetched batches
+     * @since 3.5
+     */
+    public int getPrefetchBatches() {
+        return prefetchBatches;
+    }
+
+    /**
+     * Sets the maximum number of batches that the cursor fetches ahead of the consumer, in the background.  Tailable cursors never
+     * prefetch.
+     *
+     * @param prefetchBatches the maximum number of prefetched batches, which must be at least 0
+     * @return this
+     * @since 3.5
+     */
+    public FindOptions prefetchBatches(final int prefetchBatches) {
+        isTrueArgument("prefetchBatches >= 0", prefetchBatches >= 0);
+        this.prefetchBatches = prefetchBatches;
+        return this;
+    }
+
     /**
      * Gets the query modifiers to apply to this operation.  The default is not to apply any modifiers.
      *
@@ -378,6 +405,29 @@ public final class FindOptions {
         return this;
     }
 
+    /**
+     * Returns the hedge options
+     *
+     * @return the hedge options
+     * @since 3.5
+     */
+    public HedgeOptions getHedgeOptions() {
+        return hedgeOptions;
+    }
+
+    /**
+     * Sets the hedge options
+     *
+     * <p>A null value means that the operation is not hedged.</p>
+     * @param hedgeOptions the hedge options to use
+     * @return this
+     * @since 3.5
+     */
+    public FindOptions hedgeOptions(final HedgeOptions hedgeOptions) {
+        this.hedgeOptions = hedgeOptions;
+        return this;
+    }
+
     @Override
     public String toString() {
         return "FindOptions{"
@@ -393,6 +443,8 @@ public final class FindOptions {
                + ", oplogReplay=" + oplogReplay
                + ", partial=" + partial
                + ", collation=" + collation
+               + ", hedgeOptions=" + hedgeOptions
+               + ", prefetchBatches=" + prefetchBatches
                + '}';
     }
 }
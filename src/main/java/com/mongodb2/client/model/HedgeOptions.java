@@ -0,0 +1,243 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb2.client.model;
+
+import com.mongodb2.annotations.Immutable;
+import com.mongodb2.annotations.NotThreadSafe;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb2.assertions.Assertions.isTrueArgument;
+import static com.mongodb2.assertions.Assertions.notNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * The options for hedging reads that are allowed to go to a secondary.
+ *
+ * <p>A hedged read is sent to a single eligible server as usual.  If that server has not replied by the time a hedge delay has elapsed,
+ * the same read is sent to a second eligible server, and whichever reply arrives first is used.  The hedge delay adapts to the observed
+ * latency of reads, and is the given percentile of recent read times, bounded by a minimum and a maximum delay.  The number of hedges is
+ * limited to a ratio of the number of reads, so that a cluster that is slow across the board is not sent twice the load.</p>
+ *
+ * <p>Reads with a primary read preference are never hedged, as there is only one eligible server.</p>
+ *
+ * @since 3.5
+ */
+@Immutable
+public final class HedgeOptions {
+    private final double delayPercentile;
+    private final long minDelayMS;
+    private final long maxDelayMS;
+    private final double maxHedgeRatio;
+
+    /**
+     * Convenience method to create a Builder.
+     *
+     * @return a builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Convenience method to create a from an existing {@code HedgeOptions}.
+     *
+     * @param options create a builder from existing options
+     * @return a builder
+     */
+    public static Builder builder(final HedgeOptions options) {
+        return new Builder(options);
+    }
+
+    /**
+     * A HedgeOptions builder.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private double delayPercentile = 95;
+        private long minDelayMS = 2;
+        private long maxDelayMS = 200;
+        private double maxHedgeRatio = 0.05;
+
+        private Builder() {
+        }
+
+        private Builder(final HedgeOptions options) {
+            this.delayPercentile = options.getDelayPercentile();
+            this.minDelayMS = options.getMinDelay(MILLISECONDS);
+            this.maxDelayMS = options.getMaxDelay(MILLISECONDS);
+            this.maxHedgeRatio = options.getMaxHedgeRatio();
+        }
+
+        /**
+         * Sets the percentile of recent read times that a read must exceed before it is hedged.  The default is 95.
+         *
+         * @param delayPercentile the percentile, which must be greater than 0 and at most 100
+         * @return this
+         */
+        public Builder delayPercentile(final double delayPercentile) {
+            isTrueArgument("delayPercentile > 0 and <= 100", delayPercentile > 0 && delayPercentile <= 100);
+            this.delayPercentile = delayPercentile;
+            return this;
+        }
+
+        /**
+         * Sets the minimum time to wait for a reply before hedging a read.  The default is 2 milliseconds.
+         *
+         * @param minDelay the minimum delay, which must be at least 0
+         * @param timeUnit the time unit
+         * @return this
+         */
+        public Builder minDelay(final long minDelay, final TimeUnit timeUnit) {
+            notNull("timeUnit", timeUnit);
+            isTrueArgument("minDelay >= 0", minDelay >= 0);
+            this.minDelayMS = MILLISECONDS.convert(minDelay, timeUnit);
+            return this;
+        }
+
+        /**
+         * Sets the maximum time to wait for a reply before hedging a read.  This is also the delay used until enough reads have
+         * completed to estimate the delay percentile.  The default is 200 milliseconds.
+         *
+         * @param maxDelay the maximum delay, which must be at least 0
+         * @param timeUnit the time unit
+         * @return this
+         */
+        public Builder maxDelay(final long maxDelay, final TimeUnit timeUnit) {
+            notNull("timeUnit", timeUnit);
+            isTrueArgument("maxDelay >= 0", maxDelay >= 0);
+            this.maxDelayMS = MILLISECONDS.convert(maxDelay, timeUnit);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of hedges, as a ratio of the number of hedgeable reads.  The default is 0.05, which allows at most one
+         * read in twenty to be hedged over time, with short bursts above that.
+         *
+         * @param maxHedgeRatio the maximum ratio, which must be greater than 0 and at most 1
+         * @return this
+         */
+        public Builder maxHedgeRatio(final double maxHedgeRatio) {
+            isTrueArgument("maxHedgeRatio > 0 and <= 1", maxHedgeRatio > 0 && maxHedgeRatio <= 1);
+            this.maxHedgeRatio = maxHedgeRatio;
+            return this;
+        }
+
+        /**
+         * Create the HedgeOptions
+         *
+         * @return the hedge options
+         */
+        public HedgeOptions build() {
+            isTrueArgument("minDelay <= maxDelay", minDelayMS <= maxDelayMS);
+            return new HedgeOptions(this);
+        }
+    }
+
+    /**
+     * Gets the percentile of recent read times that a read must exceed before it is hedged.
+     *
+     * @return the delay percentile
+     */
+    public double getDelayPercentile() {
+        return delayPercentile;
+    }
+
+    /**
+     * Gets the minimum time to wait for a reply before hedging a read.
+     *
+     * @param timeUnit the time unit
+     * @return the minimum delay
+     */
+    public long getMinDelay(final TimeUnit timeUnit) {
+        notNull("timeUnit", timeUnit);
+        return timeUnit.convert(minDelayMS, MILLISECONDS);
+    }
+
+    /**
+     * Gets the maximum time to wait for a reply before hedging a read.
+     *
+     * @param timeUnit the time unit
+     * @return the maximum delay
+     */
+    public long getMaxDelay(final TimeUnit timeUnit) {
+        notNull("timeUnit", timeUnit);
+        return timeUnit.convert(maxDelayMS, MILLISECONDS);
+    }
+
+    /**
+     * Gets the maximum number of hedges, as a ratio of the number of hedgeable reads.
+     *
+     * @return the maximum hedge ratio
+     */
+    public double getMaxHedgeRatio() {
+        return maxHedgeRatio;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        HedgeOptions that = (HedgeOptions) o;
+
+        if (Double.compare(that.delayPercentile, delayPercentile) != 0) {
+            return false;
+        }
+        if (minDelayMS != that.minDelayMS) {
+            return false;
+        }
+        if (maxDelayMS != that.maxDelayMS) {
+            return false;
+        }
+        return Double.compare(that.maxHedgeRatio, maxHedgeRatio) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        int result;
+        long temp;
+        temp = Double.doubleToLongBits(delayPercentile);
+        result = (int) (temp ^ (temp >>> 32));
+        result = 31 * result + (int) (minDelayMS ^ (minDelayMS >>> 32));
+        result = 31 * result + (int) (maxDelayMS ^ (maxDelayMS >>> 32));
+        temp = Double.doubleToLongBits(maxHedgeRatio);
+        result = 31 * result + (int) (temp ^ (temp >>> 32));
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "HedgeOptions{"
+               + "delayPercentile=" + delayPercentile
+               + ", minDelayMS=" + minDelayMS
+               + ", maxDelayMS=" + maxDelayMS
+               + ", maxHedgeRatio=" + maxHedgeRatio
+               + '}';
+    }
+
+    private HedgeOptions(final Builder builder) {
+        this.delayPercentile = builder.delayPercentile;
+        this.minDelayMS = builder.minDelayMS;
+        this.maxDelayMS = builder.maxDelayMS;
+        this.maxHedgeRatio = builder.maxHedgeRatio;
+    }
+}
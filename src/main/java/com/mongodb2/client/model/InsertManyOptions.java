@@ -16,6 +16,8 @@
 
 package com.mongodb2.client.model;
 
+import static com.mongodb2.assertions.Assertions.isTrueArgument;
+
 /**
  * The options to apply to an operation that inserts multiple documents into a collection.
  *
@@ -26,6 +28,7 @@ package com.mongodb2.client.model;
 public final class InsertManyOptions {
     private boolean ordered = true;
     private Boolean bypassDocumentValidation;
+    private int parallelism = 1;
 
     /**
      * Gets whether the documents should be inserted in the order provided, stopping on the first failed insertion. The default is true.
@@ -71,4 +74,29 @@ public final class InsertManyOptions {
         this.bypassDocumentValidation = bypassDocumentValidation;
         return this;
     }
+
+    /**
+     * Gets the maximum number of batches of an unordered write that are sent to the server at once.  The default is 1.
+     *
+     * @return the parallelism
+     * @since 3.5
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the maximum number of batches of an unordered write that are sent to the server at once, each over its own connection from
+     * the pool.  The writes are split into batches of at most the server's maximum batch size, which is 1000 writes for MongoDB 3.4.
+     * This has no effect on ordered writes, whose batches are always sent one after another.
+     *
+     * @param parallelism the parallelism, which must be greater than 0
+     * @return this
+     * @since 3.5
+     */
+    public InsertManyOptions parallelism(final int parallelism) {
+        isTrueArgument("parallelism > 0", parallelism > 0);
+        this.parallelism = parallelism;
+        return this;
+    }
 }
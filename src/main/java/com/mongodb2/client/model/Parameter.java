@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb2.client.model;
+
+import static com.mongodb2.assertions.Assertions.isTrueArgument;
+
+/**
+ * A placeholder for a value that is supplied each time a {@link PreparedBson} is bound.  A parameter may be used in place of a value in
+ * any of the filters and updates created by {@link Filters} and {@link Updates}, which allows usage like:
+ * <blockquote><pre>
+ *    PreparedBson filter = collection.prepare(and(eq("status", parameter(0)), gt("qty", parameter(1))));
+ *    collection.find(filter.bind("A", 10));
+ * </pre></blockquote>
+ *
+ * @see PreparedBson
+ * @since 3.5
+ */
+public final class Parameter {
+    private final int index;
+
+    /**
+     * Creates a placeholder for the parameter at the given index.
+     *
+     * @param index the index of the parameter, which must not be negative
+     * @return the placeholder
+     */
+    public static Parameter parameter(final int index) {
+        return new Parameter(index);
+    }
+
+    private Parameter(final int index) {
+        isTrueArgument("index >= 0", index >= 0);
+        this.index = index;
+    }
+
+    /**
+     * Gets the index of the parameter.
+     *
+     * @return the index
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return index == ((Parameter) o).index;
+    }
+
+    @Override
+    public int hashCode() {
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return "Parameter{"
+                       + "index=" + index
+                       + '}';
+    }
+}
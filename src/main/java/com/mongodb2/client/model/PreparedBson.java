@@ -0,0 +1,328 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb2.client.model;
+
+import org.bson2.BsonBinary;
+import org.bson2.BsonBinaryReader;
+import org.bson2.BsonBinarySubType;
+import org.bson2.BsonBinaryWriter;
+import org.bson2.BsonReader;
+import org.bson2.BsonType;
+import org.bson2.BsonWriter;
+import org.bson2.RawBsonDocument;
+import org.bson2.codecs.Codec;
+import org.bson2.codecs.DecoderContext;
+import org.bson2.codecs.EncoderContext;
+import org.bson2.codecs.configuration.CodecRegistry;
+import org.bson2.conversions.Bson;
+import org.bson2.io.BasicOutputBuffer;
+import org.bson2.io.BsonInput;
+import org.bson2.types.ObjectId;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.mongodb2.assertions.Assertions.notNull;
+import static com.mongodb2.client.model.BuildersHelper.encodeValue;
+import static com.mongodb2.client.model.BuildersHelper.writeBson;
+import static java.lang.String.format;
+
+/**
+ * A filter, update or other document with {@link Parameter} placeholders, encoded once into BSON.  Each time it is bound, only the values
+ * of the parameters are encoded, using the codecs of the registry it was prepared with, and they are copied into the encoded template in
+ * place of their placeholders, after which the lengths of the enclosing documents are adjusted.  The bound document is a
+ * {@code RawBsonDocument}, which is copied into a command as bytes, so a query shape that is executed repeatedly with different values is
+ * neither rebuilt nor re-encoded field by field on each execution.
+ *
+ * <p>Placeholders are found by the codec registry that the template is rendered with, so they may be used as values in the builders of
+ * {@link Filters} and {@link Updates}, which encode their values with that registry, but not in documents such as a {@code Document} that
+ * encode their values with a registry of their own.</p>
+ *
+ * <p>Instances are immutable, and so may be shared between threads.</p>
+ *
+ * @see Parameter
+ * @since 3.5
+ */
+public final class PreparedBson {
+    private static final int MARKER_LENGTH = 16;
+
+    private final CodecRegistry codecRegistry;
+    private final byte[] template;
+    private final int parameterCount;
+    // in order of their position in the template
+    private final List<Slot> slots;
+
+    /**
+     * Prepares the given template.
+     *
+     * @param template      the template, in which {@link Parameter} placeholders stand in for values
+     * @param documentClass the document class in scope for the collection
+     * @param codecRegistry the codec registry, which is used to encode the template and the values of its parameters
+     * @param <TDocument>   the type of the document class
+     */
+    public <TDocument> PreparedBson(final Bson template, final Class<TDocument> documentClass, final CodecRegistry codecRegistry) {
+        notNull("template", template);
+        notNull("documentClass", documentClass);
+        this.codecRegistry = notNull("codecRegistry", codecRegistry);
+
+        byte[] markerPrefix = new ObjectId().toByteArray();
+        BasicOutputBuffer outputBuffer = new BasicOutputBuffer();
+        BsonBinaryWriter writer = new BsonBinaryWriter(outputBuffer);
+        try {
+            writeBson(writer, template, documentClass, new PlaceholderCodecRegistry(codecRegistry, markerPrefix));
+        } finally {
+            writer.close();
+        }
+        this.template = outputBuffer.toByteArray();
+        this.slots = findSlots(this.template, markerPrefix);
+
+        int maxIndex = -1;
+        for (Slot slot : slots) {
+            maxIndex = Math.max(maxIndex, slot.parameterIndex);
+        }
+        this.parameterCount = maxIndex + 1;
+    }
+
+    /**
+     * Gets the number of parameters that must be supplied to bind this template, which is one more than the highest index of its
+     * placeholders.
+     *
+     * @return the number of parameters
+     */
+    public int getParameterCount() {
+        return parameterCount;
+    }
+
+    /**
+     * Binds the template to the given values, one for each parameter, in order of their index.
+     *
+     * @param parameters the values of the parameters
+     * @return the document, with each placeholder replaced by the value of its parameter
+     */
+    public RawBsonDocument bind(final Object... parameters) {
+        notNull("parameters", parameters);
+        if (parameters.length != parameterCount) {
+            throw new IllegalArgumentException(format("Expected %d parameters but got %d", parameterCount, parameters.length));
+        }
+        if (slots.isEmpty()) {
+            return new RawBsonDocument(template);
+        }
+
+        int[] valueOffsets = new int[parameterCount];
+        int[] valueLengths = new int[parameterCount];
+        byte[] values = encodeParameters(parameters, valueOffsets, valueLengths);
+
+        int[] deltas = new int[slots.size()];
+        int length = template.length;
+        for (int i = 0; i < slots.size(); i++) {
+            Slot slot = slots.get(i);
+            deltas[i] = valueLengths[slot.parameterIndex] - (slot.valueEnd - slot.valueStart);
+            length += deltas[i];
+        }
+
+        byte[] bytes = new byte[length];
+        int templatePosition = 0;
+        int position = 0;
+        for (Slot slot : slots) {
+            int unchangedLength = slot.valueStart - templatePosition;
+            System.arraycopy(template, templatePosition, bytes, position, unchangedLength);
+            // the type of each value precedes its empty name
+            bytes[position + slot.typeOffset - templatePosition] = values[valueOffsets[slot.parameterIndex] - 2];
+            position += unchangedLength;
+            System.arraycopy(values, valueOffsets[slot.parameterIndex], bytes, position, valueLengths[slot.parameterIndex]);
+            position += valueLengths[slot.parameterIndex];
+            templatePosition = slot.valueEnd;
+        }
+        System.arraycopy(template, templatePosition, bytes, position, template.length - templatePosition);
+
+        for (int i = 0; i < slots.size(); i++) {
+            if (deltas[i] != 0) {
+                for (int containerOffset : slots.get(i).containerOffsets) {
+                    int offset = containerOffset + shiftAt(containerOffset, deltas);
+                    writeInt32(bytes, offset, readInt32(bytes, offset) + deltas[i]);
+                }
+            }
+        }
+        return new RawBsonDocument(bytes);
+    }
+
+    @Override
+    public String toString() {
+        return "PreparedBson{"
+                       + "template=" + new RawBsonDocument(template)
+                       + ", parameterCount=" + parameterCount
+                       + '}';
+    }
+
+    // the number of bytes by which the given offset in the template moves in the bound document
+    private int shiftAt(final int templateOffset, final int[] deltas) {
+        int shift = 0;
+        for (int i = 0; i < slots.size() && slots.get(i).typeOffset < templateOffset; i++) {
+            shift += deltas[i];
+        }
+        return shift;
+    }
+
+    // encodes the parameters as the elements of a document, each with an empty name, recording where the value of each one starts and ends
+    private byte[] encodeParameters(final Object[] parameters, final int[] valueOffsets, final int[] valueLengths) {
+        BasicOutputBuffer outputBuffer = new BasicOutputBuffer(template.length);
+        BsonBinaryWriter writer = new BsonBinaryWriter(outputBuffer);
+        try {
+            writer.writeStartDocument();
+            for (int i = 0; i < parameters.length; i++) {
+                valueOffsets[i] = outputBuffer.getPosition() + 2;
+                writer.writeName("");
+                encodeValue(writer, parameters[i], codecRegistry);
+                valueLengths[i] = outputBuffer.getPosition() - valueOffsets[i];
+            }
+            writer.writeEndDocument();
+        } finally {
+            writer.close();
+        }
+        return outputBuffer.getInternalBuffer();
+    }
+
+    private static List<Slot> findSlots(final byte[] template, final byte[] markerPrefix) {
+        List<Slot> slots = new ArrayList<Slot>();
+        BsonBinaryReader reader = new BsonBinaryReader(ByteBuffer.wrap(template));
+        try {
+            reader.readStartDocument();
+            findSlots(reader, reader.getBsonInput(), markerPrefix, false, new int[]{0}, slots);
+            reader.readEndDocument();
+        } finally {
+            reader.close();
+        }
+        return slots;
+    }
+
+    private static void findSlots(final BsonBinaryReader reader, final BsonInput bsonInput, final byte[] markerPrefix,
+                                  final boolean isArray, final int[] containerOffsets, final List<Slot> slots) {
+        while (true) {
+            int typeOffset = bsonInput.getPosition();
+            BsonType type = reader.readBsonType();
+            if (type == BsonType.END_OF_DOCUMENT) {
+                break;
+            }
+            if (!isArray) {
+                reader.skipName();
+            }
+            int valueStart = bsonInput.getPosition();
+            if (type == BsonType.DOCUMENT || type == BsonType.ARRAY) {
+                int[] nestedContainerOffsets = Arrays.copyOf(containerOffsets, containerOffsets.length + 1);
+                nestedContainerOffsets[containerOffsets.length] = valueStart;
+                if (type == BsonType.DOCUMENT) {
+                    reader.readStartDocument();
+                    findSlots(reader, bsonInput, markerPrefix, false, nestedContainerOffsets, slots);
+                    reader.readEndDocument();
+                } else {
+                    reader.readStartArray();
+                    findSlots(reader, bsonInput, markerPrefix, true, nestedContainerOffsets, slots);
+                    reader.readEndArray();
+                }
+            } else if (type == BsonType.BINARY) {
+                BsonBinary binary = reader.readBinaryData();
+                int parameterIndex = getParameterIndex(binary, markerPrefix);
+                if (parameterIndex >= 0) {
+                    slots.add(new Slot(parameterIndex, typeOffset, valueStart, bsonInput.getPosition(), containerOffsets));
+                }
+            } else {
+                reader.skipValue();
+            }
+        }
+    }
+
+    private static int getParameterIndex(final BsonBinary binary, final byte[] markerPrefix) {
+        byte[] data = binary.getData();
+        if (binary.getType() != BsonBinarySubType.USER_DEFINED.getValue() || data.length != MARKER_LENGTH) {
+            return -1;
+        }
+        for (int i = 0; i < markerPrefix.length; i++) {
+            if (data[i] != markerPrefix[i]) {
+                return -1;
+            }
+        }
+        return readInt32(data, markerPrefix.length);
+    }
+
+    private static int readInt32(final byte[] bytes, final int offset) {
+        return (bytes[offset] & 0xff) | (bytes[offset + 1] & 0xff) << 8 | (bytes[offset + 2] & 0xff) << 16
+               | (bytes[offset + 3] & 0xff) << 24;
+    }
+
+    private static void writeInt32(final byte[] bytes, final int offset, final int value) {
+        bytes[offset] = (byte) value;
+        bytes[offset + 1] = (byte) (value >> 8);
+        bytes[offset + 2] = (byte) (value >> 16);
+        bytes[offset + 3] = (byte) (value >> 24);
+    }
+
+    private static final class Slot {
+        private final int parameterIndex;
+        private final int typeOffset;
+        private final int valueStart;
+        private final int valueEnd;
+        // the offsets of the length of each document or array that encloses the placeholder, outermost first
+        private final int[] containerOffsets;
+
+        Slot(final int parameterIndex, final int typeOffset, final int valueStart, final int valueEnd, final int[] containerOffsets) {
+            this.parameterIndex = parameterIndex;
+            this.typeOffset = typeOffset;
+            this.valueStart = valueStart;
+            this.valueEnd = valueEnd;
+            this.containerOffsets = containerOffsets;
+        }
+    }
+
+    // encodes each Parameter as a binary value that is unique to the template being prepared, so that its slot can be found afterwards
+    private static final class PlaceholderCodecRegistry implements CodecRegistry {
+        private final CodecRegistry wrapped;
+        private final Codec<Parameter> placeholderCodec;
+
+        PlaceholderCodecRegistry(final CodecRegistry wrapped, final byte[] markerPrefix) {
+            this.wrapped = wrapped;
+            this.placeholderCodec = new Codec<Parameter>() {
+                @Override
+                public void encode(final BsonWriter writer, final Parameter value, final EncoderContext encoderContext) {
+                    byte[] marker = Arrays.copyOf(markerPrefix, MARKER_LENGTH);
+                    writeInt32(marker, markerPrefix.length, value.getIndex());
+                    writer.writeBinaryData(new BsonBinary(BsonBinarySubType.USER_DEFINED, marker));
+                }
+
+                @Override
+                public Parameter decode(final BsonReader reader, final DecoderContext decoderContext) {
+                    throw new UnsupportedOperationException("Decoding a Parameter is not supported");
+                }
+
+                @Override
+                public Class<Parameter> getEncoderClass() {
+                    return Parameter.class;
+                }
+            };
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> Codec<T> get(final Class<T> clazz) {
+            if (clazz == Parameter.class) {
+                return (Codec<T>) placeholderCodec;
+            }
+            return wrapped.get(clazz);
+        }
+    }
+}
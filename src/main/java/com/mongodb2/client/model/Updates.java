@@ -15,19 +15,21 @@
 package com.mongodb2.client.model;
 
 import org.bson2.BsonDocument;
-import org.bson2.BsonDocumentWriter;
 import org.bson2.BsonInt32;
 import org.bson2.BsonInt64;
 import org.bson2.BsonString;
 import org.bson2.BsonValue;
+import org.bson2.BsonWriter;
 import org.bson2.codecs.configuration.CodecRegistry;
 import org.bson2.conversions.Bson;
+import org.bson2.conversions.WritableBson;
 
 import java.util.List;
 import java.util.Map;
 
 import static com.mongodb2.assertions.Assertions.notNull;
 import static com.mongodb2.client.model.BuildersHelper.encodeValue;
+import static com.mongodb2.client.model.BuildersHelper.render;
 import static java.util.Arrays.asList;
 
 /**
@@ -283,19 +285,21 @@ public final class Updates {
      * @mongodb.driver.manual reference/operator/update/pull/ $pull
      */
     public static Bson pullByFilter(final Bson filter) {
-        return new Bson() {
+        return new WritableBson() {
             @Override
             public <TDocument> BsonDocument toBsonDocument(final Class<TDocument> tDocumentClass, final CodecRegistry codecRegistry) {
-                BsonDocumentWriter writer = new BsonDocumentWriter(new BsonDocument());
+                return render(this, tDocumentClass, codecRegistry);
+            }
 
+            @Override
+            public <TDocument> void writeTo(final BsonWriter writer, final Class<TDocument> tDocumentClass,
+                                            final CodecRegistry codecRegistry) {
                 writer.writeStartDocument();
                 writer.writeName("$pull");
 
                 encodeValue(writer, filter, codecRegistry);
 
                 writer.writeEndDocument();
-
-                return writer.getDocument();
             }
         };
     }
@@ -419,7 +423,7 @@ public final class Updates {
         return new BsonDocument("$bit", new BsonDocument(fieldName, new BsonDocument(bitwiseOperator, value)));
     }
 
-    private static class SimpleUpdate<TItem> implements Bson {
+    private static class SimpleUpdate<TItem> implements WritableBson {
         private final String fieldName;
         private final TItem value;
         private final String operator;
@@ -432,8 +436,11 @@ public final class Updates {
 
         @Override
         public <TDocument> BsonDocument toBsonDocument(final Class<TDocument> tDocumentClass, final CodecRegistry codecRegistry) {
-            BsonDocumentWriter writer = new BsonDocumentWriter(new BsonDocument());
+            return render(this, tDocumentClass, codecRegistry);
+        }
 
+        @Override
+        public <TDocument> void writeTo(final BsonWriter writer, final Class<TDocument> tDocumentClass, final CodecRegistry codecRegistry) {
             writer.writeStartDocument();
             writer.writeName(operator);
 
@@ -443,8 +450,6 @@ public final class Updates {
             writer.writeEndDocument();
 
             writer.writeEndDocument();
-
-            return writer.getDocument();
         }
 
         @Override
@@ -457,7 +462,7 @@ public final class Updates {
         }
     }
 
-    private static class WithEachUpdate<TItem> implements Bson {
+    private static class WithEachUpdate<TItem> implements WritableBson {
         private final String fieldName;
         private final List<TItem> values;
         private final String operator;
@@ -470,8 +475,11 @@ public final class Updates {
 
         @Override
         public <TDocument> BsonDocument toBsonDocument(final Class<TDocument> tDocumentClass, final CodecRegistry codecRegistry) {
-            BsonDocumentWriter writer = new BsonDocumentWriter(new BsonDocument());
+            return render(this, tDocumentClass, codecRegistry);
+        }
 
+        @Override
+        public <TDocument> void writeTo(final BsonWriter writer, final Class<TDocument> tDocumentClass, final CodecRegistry codecRegistry) {
             writer.writeStartDocument();
             writer.writeName(operator);
 
@@ -492,11 +500,9 @@ public final class Updates {
             writer.writeEndDocument();
 
             writer.writeEndDocument();
-
-            return writer.getDocument();
         }
 
-        protected <TDocument> void writeAdditionalFields(final BsonDocumentWriter writer, final Class<TDocument> tDocumentClass,
+        protected <TDocument> void writeAdditionalFields(final BsonWriter writer, final Class<TDocument> tDocumentClass,
                                                          final CodecRegistry codecRegistry) {
         }
 
@@ -526,7 +532,7 @@ public final class Updates {
         }
 
         @Override
-        protected <TDocument> void writeAdditionalFields(final BsonDocumentWriter writer, final Class<TDocument> tDocumentClass,
+        protected <TDocument> void writeAdditionalFields(final BsonWriter writer, final Class<TDocument> tDocumentClass,
                                                          final CodecRegistry codecRegistry) {
             if (options.getPosition() != null) {
                 writer.writeInt32("$position", options.getPosition());
@@ -548,7 +554,7 @@ public final class Updates {
         }
     }
 
-    private static class PullAllUpdate<TItem> implements Bson {
+    private static class PullAllUpdate<TItem> implements WritableBson {
         private final String fieldName;
         private final List<TItem> values;
 
@@ -559,8 +565,11 @@ public final class Updates {
 
         @Override
         public <TDocument> BsonDocument toBsonDocument(final Class<TDocument> tDocumentClass, final CodecRegistry codecRegistry) {
-            BsonDocumentWriter writer = new BsonDocumentWriter(new BsonDocument());
+            return render(this, tDocumentClass, codecRegistry);
+        }
 
+        @Override
+        public <TDocument> void writeTo(final BsonWriter writer, final Class<TDocument> tDocumentClass, final CodecRegistry codecRegistry) {
             writer.writeStartDocument();
             writer.writeName("$pullAll");
 
@@ -576,8 +585,6 @@ public final class Updates {
             writer.writeEndDocument();
 
             writer.writeEndDocument();
-
-            return writer.getDocument();
         }
 
         @Override
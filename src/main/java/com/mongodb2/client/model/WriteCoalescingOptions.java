@@ -0,0 +1,173 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb2.client.model;
+
+import com.mongodb2.annotations.Immutable;
+import com.mongodb2.annotations.NotThreadSafe;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb2.assertions.Assertions.isTrueArgument;
+import static com.mongodb2.assertions.Assertions.notNull;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * The options for coalescing concurrent single document inserts into batched insert commands.
+ *
+ * <p>An insert that is coalesced waits for up to the maximum delay for other inserts to the same namespace, with the same write concern
+ * and document validation setting, from any thread of the application.  The inserts that arrive within that window, up to the maximum
+ * batch size, are sent to the server as a single unordered insert command, and each insert is then given its own result, or its own
+ * write error.  Inserts that are coalesced therefore trade a little latency for far fewer round trips and connection checkouts.</p>
+ *
+ * <p>Inserts from different threads are only ordered relative to each other by the order in which they are applied by the server.</p>
+ *
+ * @since 3.5
+ */
+@Immutable
+public final class WriteCoalescingOptions {
+    private final long maxDelayMicros;
+    private final int maxBatchSize;
+
+    /**
+     * Convenience method to create a Builder.
+     *
+     * @return a builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Convenience method to create a from an existing {@code WriteCoalescingOptions}.
+     *
+     * @param options create a builder from existing options
+     * @return a builder
+     */
+    public static Builder builder(final WriteCoalescingOptions options) {
+        return new Builder(options);
+    }
+
+    /**
+     * A WriteCoalescingOptions builder.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private long maxDelayMicros = 1000;
+        private int maxBatchSize = 1000;
+
+        private Builder() {
+        }
+
+        private Builder(final WriteCoalescingOptions options) {
+            this.maxDelayMicros = options.getMaxDelay(MICROSECONDS);
+            this.maxBatchSize = options.getMaxBatchSize();
+        }
+
+        /**
+         * Sets the maximum time that an insert waits for other inserts to coalesce with before it is sent.  The default is 1 millisecond.
+         *
+         * @param maxDelay the maximum delay, which must be at least 0
+         * @param timeUnit the time unit
+         * @return this
+         */
+        public Builder maxDelay(final long maxDelay, final TimeUnit timeUnit) {
+            notNull("timeUnit", timeUnit);
+            isTrueArgument("maxDelay >= 0", maxDelay >= 0);
+            this.maxDelayMicros = MICROSECONDS.convert(maxDelay, timeUnit);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of inserts that are coalesced into a single batch.  A batch is sent as soon as it is full, without
+         * waiting for the rest of the maximum delay.  The default is 1000.
+         *
+         * @param maxBatchSize the maximum batch size, which must be greater than 0
+         * @return this
+         */
+        public Builder maxBatchSize(final int maxBatchSize) {
+            isTrueArgument("maxBatchSize > 0", maxBatchSize > 0);
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Create the WriteCoalescingOptions
+         *
+         * @return the write coalescing options
+         */
+        public WriteCoalescingOptions build() {
+            return new WriteCoalescingOptions(this);
+        }
+    }
+
+    /**
+     * Gets the maximum time that an insert waits for other inserts to coalesce with before it is sent.
+     *
+     * @param timeUnit the time unit
+     * @return the maximum delay
+     */
+    public long getMaxDelay(final TimeUnit timeUnit) {
+        notNull("timeUnit", timeUnit);
+        return timeUnit.convert(maxDelayMicros, MICROSECONDS);
+    }
+
+    /**
+     * Gets the maximum number of inserts that are coalesced into a single batch.
+     *
+     * @return the maximum batch size
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        WriteCoalescingOptions that = (WriteCoalescingOptions) o;
+
+        if (maxDelayMicros != that.maxDelayMicros) {
+            return false;
+        }
+        return maxBatchSize == that.maxBatchSize;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = (int) (maxDelayMicros ^ (maxDelayMicros >>> 32));
+        result = 31 * result + maxBatchSize;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "WriteCoalescingOptions{"
+               + "maxDelayMicros=" + maxDelayMicros
+               + ", maxBatchSize=" + maxBatchSize
+               + '}';
+    }
+
+    private WriteCoalescingOptions(final Builder builder) {
+        this.maxDelayMicros = builder.maxDelayMicros;
+        this.maxBatchSize = builder.maxBatchSize;
+    }
+}
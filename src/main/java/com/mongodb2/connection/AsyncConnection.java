@@ -226,6 +226,48 @@ public interface AsyncConnection extends ReferenceCounted {
                         boolean noCursorTimeout, boolean partial, boolean oplogReplay, Decoder<T> resultDecoder,
                         SingleResultCallback<QueryResult<T>> callback);
 
+    /**
+     * Execute the query asynchronously, optionally as an exhaust query.
+     *
+     * <p>The server streams every batch of an exhaust query without waiting for a get more request, so once an exhaust query has
+     * returned a cursor, each further batch must be read with {@link #receiveExhaustBatchAsync(MongoNamespace, Decoder,
+     * SingleResultCallback)}, and the connection can not be used for anything else until the last batch has been read.  If the connection
+     * is released before then, it is closed rather than returned to the pool.</p>
+     *
+     * @param namespace       the namespace to query
+     * @param queryDocument   the query document
+     * @param fields          the field to include or exclude
+     * @param skip            the number of documents to skip
+     * @param limit           the maximum number of documents to return in all batches
+     * @param batchSize       the maximum number of documents to return in this batch
+     * @param slaveOk         whether the query can run on a secondary
+     * @param tailableCursor  whether to return a tailable cursor
+     * @param awaitData       whether a tailable cursor should wait before returning if no documents are available
+     * @param noCursorTimeout whether the cursor should not timeout
+     * @param partial         whether partial results from sharded clusters are acceptable
+     * @param oplogReplay     whether to replay the oplog
+     * @param exhaust         whether the server should stream all the batches of results
+     * @param resultDecoder   the decoder for the query result documents
+     * @param <T>             the query result document type
+     * @param callback        the callback to be passed the query result
+     * @since 3.5
+     */
+    <T> void queryAsync(MongoNamespace namespace, BsonDocument queryDocument, BsonDocument fields,
+                        int skip, int limit, int batchSize, boolean slaveOk, boolean tailableCursor, boolean awaitData,
+                        boolean noCursorTimeout, boolean partial, boolean oplogReplay, boolean exhaust, Decoder<T> resultDecoder,
+                        SingleResultCallback<QueryResult<T>> callback);
+
+    /**
+     * Asynchronously receive the next batch of results streamed by the server for the exhaust query last executed on this connection.
+     *
+     * @param namespace     the namespace that was queried
+     * @param resultDecoder the decoder for the query result documents
+     * @param callback      the callback to be passed the query result
+     * @param <T>           the type of the query result documents
+     * @since 3.5
+     */
+    <T> void receiveExhaustBatchAsync(MongoNamespace namespace, Decoder<T> resultDecoder, SingleResultCallback<QueryResult<T>> callback);
+
     /**
      * Get more result documents from a cursor asynchronously.
      *
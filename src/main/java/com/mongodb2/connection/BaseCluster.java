@@ -33,13 +33,19 @@ import com.mongodb2.event.ClusterOpeningEvent;
 import com.mongodb2.event.ServerListener;
 import com.mongodb2.internal.connection.ConcurrentLinkedDeque;
 import com.mongodb2.selector.CompositeServerSelector;
+import com.mongodb2.selector.LatencyMinimizingServerSelector;
+import com.mongodb2.selector.ReadPreferenceServerSelector;
+import com.mongodb2.selector.ServerAddressSelector;
 import com.mongodb2.selector.ServerSelector;
+import com.mongodb2.selector.WritableServerSelector;
 
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -54,6 +60,7 @@ import static java.util.concurrent.TimeUnit.NANOSECONDS;
 abstract class BaseCluster implements Cluster {
 
     private static final Logger LOGGER = Loggers.getLogger("cluster");
+    private static final int MAX_CACHED_SELECTORS = 64;
 
     private final AtomicReference<CountDownLatch> phase = new AtomicReference<CountDownLatch>(new CountDownLatch(1));
     private final ClusterableServerFactory serverFactory;
@@ -63,10 +70,12 @@ abstract class BaseCluster implements Cluster {
     private final ClusterListener clusterListener;
     private final Deque<ServerSelectionRequest> waitQueue = new ConcurrentLinkedDeque<ServerSelectionRequest>();
     private final AtomicInteger waitQueueSize = new AtomicInteger(0);
+    private final boolean isSettingsServerSelectorCacheable;
     private Thread waitQueueHandler;
 
     private volatile boolean isClosed;
     private volatile ClusterDescription description;
+    private volatile ServerSelectionCache selectionCache;
 
     public BaseCluster(final ClusterId clusterId, final ClusterSettings settings, final ClusterableServerFactory serverFactory) {
         this.clusterId = notNull("clusterId", clusterId);
@@ -74,6 +83,7 @@ abstract class BaseCluster implements Cluster {
         this.serverFactory = notNull("serverFactory", serverFactory);
         this.clusterListener = settings.getClusterListeners().isEmpty()
                                        ? new NoOpClusterListener() : new ClusterEventMulticaster(settings.getClusterListeners());
+        this.isSettingsServerSelectorCacheable = settings.getServerSelector() == null || isCacheable(settings.getServerSelector());
         clusterListener.clusterOpening(new ClusterOpeningEvent(clusterId));
     }
 
@@ -84,8 +94,7 @@ abstract class BaseCluster implements Cluster {
         try {
             CountDownLatch currentPhase = phase.get();
             ClusterDescription curDescription = description;
-            ServerSelector compositeServerSelector = getCompositeServerSelector(serverSelector);
-            Server server = selectRandomServer(compositeServerSelector, curDescription);
+            Server server = selectRandomServer(serverSelector, curDescription);
 
             boolean selectionFailureLogged = false;
 
@@ -117,7 +126,7 @@ abstract class BaseCluster implements Cluster {
 
                 currentPhase = phase.get();
                 curDescription = description;
-                server = selectRandomServer(compositeServerSelector, curDescription);
+                server = selectRandomServer(serverSelector, curDescription);
             }
 
         } catch (InterruptedException e) {
@@ -132,8 +141,7 @@ abstract class BaseCluster implements Cluster {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(String.format("Asynchronously selecting server with selector %s", serverSelector));
         }
-        ServerSelectionRequest request = new ServerSelectionRequest(serverSelector, getCompositeServerSelector(serverSelector),
-                                                                    getMaxWaitTimeNanos(), callback);
+        ServerSelectionRequest request = new ServerSelectionRequest(serverSelector, getMaxWaitTimeNanos(), callback);
 
         CountDownLatch currentPhase = phase.get();
         ClusterDescription currentDescription = description;
@@ -236,6 +244,7 @@ abstract class BaseCluster implements Cluster {
         }
 
         description = newDescription;
+        selectionCache = new ServerSelectionCache(newDescription);
         phase.getAndSet(new CountDownLatch(1)).countDown();
     }
 
@@ -272,7 +281,7 @@ abstract class BaseCluster implements Cluster {
                     return true;
                 }
 
-                Server server = selectRandomServer(request.compositeSelector, description);
+                Server server = selectRandomServer(request.originalSelector, description);
                 if (server != null) {
                     if (LOGGER.isTraceEnabled()) {
                         LOGGER.trace(String.format("Asynchronously selected server %s", server.getDescription().getAddress()));
@@ -314,12 +323,76 @@ abstract class BaseCluster implements Cluster {
 
 
     private Server selectRandomServer(final ServerSelector serverSelector, final ClusterDescription clusterDescription) {
-        List<ServerDescription> serverDescriptions = serverSelector.select(clusterDescription);
-        if (!serverDescriptions.isEmpty()) {
-            return getRandomServer(new ArrayList<ServerDescription>(serverDescriptions));
+        ServerDescription[] candidates = getCandidates(serverSelector, clusterDescription);
+        if (candidates.length == 0) {
+            return null;
+        }
+        ClusterableServer server;
+        if (candidates.length > 1 && settings.getServerSelectionStrategy() == ServerSelectionStrategy.POWER_OF_TWO_CHOICES) {
+            server = getLessLoadedServer(candidates);
         } else {
+            server = getServer(candidates[getRandom().nextInt(candidates.length)].getAddress());
+        }
+        if (server == null) {
+            // the chosen server has been removed from the cluster since the description was created, so try the others
+            server = getRandomServer(new ArrayList<ServerDescription>(asList(candidates)));
+        }
+        if (server != null && server.getLoad() != null) {
+            server.getLoad().selected();
+        }
+        return server;
+    }
+
+    // samples two distinct candidates and returns the one with the lower expected cost, or null if either has been removed
+    private ClusterableServer getLessLoadedServer(final ServerDescription[] candidates) {
+        Random random = getRandom();
+        int firstPos = random.nextInt(candidates.length);
+        int secondPos = random.nextInt(candidates.length - 1);
+        if (secondPos >= firstPos) {
+            secondPos++;
+        }
+        ClusterableServer first = getServer(candidates[firstPos].getAddress());
+        ClusterableServer second = getServer(candidates[secondPos].getAddress());
+        if (first == null || second == null) {
             return null;
         }
+        if (first.getLoad() == null || second.getLoad() == null) {
+            return first;
+        }
+        return first.getLoad().getCost(candidates[firstPos].getRoundTripTimeNanos())
+               <= second.getLoad().getCost(candidates[secondPos].getRoundTripTimeNanos()) ? first : second;
+    }
+
+    // Selection is a pure function of the selector and the description, so for the driver's own selectors, which compare equal by
+    // value, the candidates are computed once per description and shared by all subsequent selections until the description changes
+    private ServerDescription[] getCandidates(final ServerSelector serverSelector, final ClusterDescription clusterDescription) {
+        ServerSelectionCache cache = selectionCache;
+        boolean useCache = cache != null && cache.description == clusterDescription && isSettingsServerSelectorCacheable
+                           && isCacheable(serverSelector);
+        if (useCache) {
+            ServerDescription[] candidates = cache.candidatesBySelector.get(serverSelector);
+            if (candidates != null) {
+                return candidates;
+            }
+        }
+
+        List<ServerDescription> serverDescriptions = getCompositeServerSelector(serverSelector).select(clusterDescription);
+        ServerDescription[] candidates = serverDescriptions.toArray(new ServerDescription[serverDescriptions.size()]);
+        if (useCache && cache.candidatesBySelector.size() < MAX_CACHED_SELECTORS) {
+            cache.candidatesBySelector.put(serverSelector, candidates);
+        }
+        return candidates;
+    }
+
+    // only selectors whose result depends solely on the cluster description, and whose equals compares by value, can be cached
+    @SuppressWarnings("deprecation")
+    private static boolean isCacheable(final ServerSelector serverSelector) {
+        Class<? extends ServerSelector> selectorClass = serverSelector.getClass();
+        return selectorClass == ReadPreferenceServerSelector.class
+               || selectorClass == WritableServerSelector.class
+               || selectorClass == LatencyMinimizingServerSelector.class
+               || selectorClass == com.mongodb2.selector.PrimaryServerSelector.class
+               || selectorClass == ServerAddressSelector.class;
     }
 
     private ServerSelector getCompositeServerSelector(final ServerSelector serverSelector) {
@@ -387,19 +460,26 @@ abstract class BaseCluster implements Cluster {
                                                       settings.getMaxWaitQueueSize()));
     }
 
+    private static final class ServerSelectionCache {
+        private final ClusterDescription description;
+        private final ConcurrentMap<ServerSelector, ServerDescription[]> candidatesBySelector =
+        new ConcurrentHashMap<ServerSelector, ServerDescription[]>();
+
+        ServerSelectionCache(final ClusterDescription description) {
+            this.description = description;
+        }
+    }
+
     private static final class ServerSelectionRequest {
         private final ServerSelector originalSelector;
-        private final ServerSelector compositeSelector;
         private final long maxWaitTimeNanos;
         private final SingleResultCallback<Server> callback;
         private final long startTimeNanos = System.nanoTime();
         private CountDownLatch phase;
 
-        ServerSelectionRequest(final ServerSelector serverSelector, final ServerSelector compositeSelector,
-                               final long maxWaitTimeNanos,
+        ServerSelectionRequest(final ServerSelector serverSelector, final long maxWaitTimeNanos,
                                final SingleResultCallback<Server> callback) {
             this.originalSelector = serverSelector;
-            this.compositeSelector = compositeSelector;
             this.maxWaitTimeNanos = maxWaitTimeNanos;
             this.callback = callback;
         }
@@ -32,6 +32,7 @@ abstract class BaseQueryMessage extends RequestMessage {
     private boolean noCursorTimeout;
     private boolean awaitData;
     private boolean partial;
+    private boolean exhaust;
 
     /**
      * Construct an instance.
@@ -195,6 +196,28 @@ abstract class BaseQueryMessage extends RequestMessage {
         return this;
     }
 
+    /**
+     * Returns true if the server should stream all the results of the query without waiting for a get more request for each batch.
+     *
+     * @return if the query is an exhaust query
+     * @mongodb.driver.manual ../meta-driver/latest/legacy/mongodb-wire-protocol/#op-query OP_QUERY
+     */
+    public boolean isExhaust() {
+        return exhaust;
+    }
+
+    /**
+     * Sets if the server should stream all the results of the query without waiting for a get more request for each batch.
+     *
+     * @param exhaust if the query is an exhaust query
+     * @return this
+     * @mongodb.driver.manual ../meta-driver/latest/legacy/mongodb-wire-protocol/#op-query OP_QUERY
+     */
+    public BaseQueryMessage exhaust(final boolean exhaust) {
+        this.exhaust = exhaust;
+        return this;
+    }
+
     private int getCursorFlag() {
         int cursorFlag = 0;
         if (isTailableCursor()) {
@@ -212,6 +235,9 @@ abstract class BaseQueryMessage extends RequestMessage {
         if (isAwaitData()){
             cursorFlag |= 1 << 5;
         }
+        if (isExhaust()) {
+            cursorFlag |= 1 << 6;
+        }
         if (isPartial()) {
             cursorFlag |= 1 << 7;
         }
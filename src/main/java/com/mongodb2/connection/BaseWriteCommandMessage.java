@@ -21,7 +21,6 @@ import com.mongodb2.WriteConcern;
 import org.bson2.BsonBinaryWriter;
 import org.bson2.BsonBinaryWriterSettings;
 import org.bson2.BsonDocument;
-import org.bson2.BsonWriterSettings;
 import org.bson2.FieldNameValidator;
 import org.bson2.codecs.EncoderContext;
 import org.bson2.io.BsonOutput;
@@ -120,7 +119,7 @@ abstract class BaseWriteCommandMessage extends RequestMessage {
 
         int commandStartPosition = outputStream.getPosition();
         int firstDocumentStartPosition = outputStream.getPosition();
-        BsonBinaryWriter writer = new BsonBinaryWriter(new BsonWriterSettings(),
+        BsonBinaryWriter writer = new BsonBinaryWriter(WRITER_SETTINGS,
                 new BsonBinaryWriterSettings(getSettings().getMaxDocumentSize() + HEADROOM),
                 outputStream, getFieldNameValidator());
         try {
@@ -25,6 +25,7 @@ import org.bson2.BsonType;
 import org.bson2.BsonValue;
 import org.bson2.ByteBuf;
 import org.bson2.RawBsonDocument;
+import org.bson2.RawBsonFieldIndex;
 import org.bson2.codecs.BsonDocumentCodec;
 import org.bson2.codecs.BsonValueCodecProvider;
 import org.bson2.codecs.DecoderContext;
@@ -52,6 +53,7 @@ class ByteBufBsonDocument extends BsonDocument implements Cloneable {
     private static final CodecRegistry REGISTRY = fromProviders(new BsonValueCodecProvider());
 
     private final transient ByteBuf byteBuf;
+    private transient RawBsonFieldIndex fieldIndex;
 
     static List<ByteBufBsonDocument> create(final ResponseBuffers responseBuffers) {
         int numDocuments = responseBuffers.getReplyHeader().getNumberReturned();
@@ -134,22 +136,7 @@ class ByteBufBsonDocument extends BsonDocument implements Cloneable {
 
     @Override
     public int size() {
-        return findInDocument(new Finder<Integer>() {
-            private int size;
-
-            @Override
-            public Integer find(final BsonReader bsonReader) {
-                size++;
-                bsonReader.readName();
-                bsonReader.skipValue();
-                return null;
-            }
-
-            @Override
-            public Integer notFound() {
-                return size;
-            }
-        });
+        return getFieldIndex().size();
     }
 
     @Override
@@ -173,21 +160,7 @@ class ByteBufBsonDocument extends BsonDocument implements Cloneable {
             throw new IllegalArgumentException("key can not be null");
         }
 
-        return findInDocument(new Finder<Boolean>() {
-            @Override
-            public Boolean find(final BsonReader bsonReader) {
-                if (bsonReader.readName().equals(key)) {
-                    return true;
-                }
-                bsonReader.skipValue();
-                return null;
-            }
-
-            @Override
-            public Boolean notFound() {
-                return false;
-            }
-        });
+        return getFieldIndex().indexOf(key) >= 0;
     }
 
     @Override
@@ -215,19 +188,25 @@ class ByteBufBsonDocument extends BsonDocument implements Cloneable {
             throw new IllegalArgumentException("key can not be null");
         }
 
-        return findInDocument(new Finder<BsonValue>() {
+        RawBsonFieldIndex fieldIndex = getFieldIndex();
+        int index = fieldIndex.indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        return fieldIndex.getValue(byteBuf, index, new RawBsonFieldIndex.DocumentFactory() {
+            // decoded eagerly rather than returned as a view, since the buffer is released once the reply has been processed
             @Override
-            public BsonValue find(final BsonReader bsonReader) {
-                if (bsonReader.readName().equals(key)) {
-                    return deserializeBsonValue(bsonReader);
+            public BsonDocument create(final int offset, final int length) {
+                ByteBuf duplicateByteBuf = byteBuf.duplicate();
+                duplicateByteBuf.position(byteBuf.position() + offset);
+                duplicateByteBuf.limit(byteBuf.position() + offset + length);
+                BsonBinaryReader bsonReader = new BsonBinaryReader(new ByteBufferBsonInput(duplicateByteBuf));
+                try {
+                    return new BsonDocumentCodec().decode(bsonReader, DecoderContext.builder().build());
+                } finally {
+                    duplicateByteBuf.release();
+                    bsonReader.close();
                 }
-                bsonReader.skipValue();
-                return null;
-            }
-
-            @Override
-            public BsonValue notFound() {
-                return null;
             }
         });
     }
@@ -276,6 +255,16 @@ class ByteBufBsonDocument extends BsonDocument implements Cloneable {
         T notFound();
     }
 
+    // racy single-check: the index is immutable, so at worst it is built more than once
+    private RawBsonFieldIndex getFieldIndex() {
+        RawBsonFieldIndex index = fieldIndex;
+        if (index == null) {
+            index = RawBsonFieldIndex.build(byteBuf);
+            fieldIndex = index;
+        }
+        return index;
+    }
+
     private <T> T findInDocument(final Finder<T> finder) {
         ByteBuf duplicateByteBuf = byteBuf.duplicate();
         BsonBinaryReader bsonReader = new BsonBinaryReader(new ByteBufferBsonInput(duplicateByteBuf));
@@ -46,6 +46,7 @@ public final class ClusterSettings {
     private final ClusterType requiredClusterType;
     private final String requiredReplicaSetName;
     private final ServerSelector serverSelector;
+    private final ServerSelectionStrategy serverSelectionStrategy;
     private final String description;
     private final long serverSelectionTimeoutMS;
     private final int maxWaitQueueSize;
@@ -70,6 +71,7 @@ public final class ClusterSettings {
         private ClusterType requiredClusterType = ClusterType.UNKNOWN;
         private String requiredReplicaSetName;
         private ServerSelector serverSelector;
+        private ServerSelectionStrategy serverSelectionStrategy = ServerSelectionStrategy.RANDOM;
         private String description;
         private long serverSelectionTimeoutMS = TimeUnit.MILLISECONDS.convert(30, TimeUnit.SECONDS);
         private int maxWaitQueueSize = 500;
@@ -153,6 +155,19 @@ public final class ClusterSettings {
             return this;
         }
 
+        /**
+         * Sets the strategy for choosing among the servers that satisfy the server selector.  The default is
+         * {@link ServerSelectionStrategy#RANDOM}.
+         *
+         * @param serverSelectionStrategy the server selection strategy
+         * @return this
+         * @since 3.5
+         */
+        public Builder serverSelectionStrategy(final ServerSelectionStrategy serverSelectionStrategy) {
+            this.serverSelectionStrategy = notNull("serverSelectionStrategy", serverSelectionStrategy);
+            return this;
+        }
+
         /**
          * Sets the timeout to apply when selecting a server.  If the timeout expires before a server is found to handle a request, a
          * {@link com.mongodb2.MongoTimeoutException} will be thrown.  The default value is 30 seconds.
@@ -293,6 +308,17 @@ public final class ClusterSettings {
         return serverSelector;
     }
 
+    /**
+     * Gets the strategy for choosing among the servers that satisfy the server selector.  The default is
+     * {@link ServerSelectionStrategy#RANDOM}.
+     *
+     * @return the server selection strategy
+     * @since 3.5
+     */
+    public ServerSelectionStrategy getServerSelectionStrategy() {
+        return serverSelectionStrategy;
+    }
+
     /**
      * Gets the timeout to apply when selecting a server.  If the timeout expires before a server is found to
      * handle a request, a {@link com.mongodb2.MongoTimeoutException} will be thrown.  The default value is 30 seconds.
@@ -365,6 +391,9 @@ public final class ClusterSettings {
         if (serverSelector != null ? !serverSelector.equals(that.serverSelector) : that.serverSelector != null) {
             return false;
         }
+        if (serverSelectionStrategy != that.serverSelectionStrategy) {
+            return false;
+        }
         if (!clusterListeners.equals(that.clusterListeners)) {
             return false;
         }
@@ -379,6 +408,7 @@ public final class ClusterSettings {
         result = 31 * result + requiredClusterType.hashCode();
         result = 31 * result + (requiredReplicaSetName != null ? requiredReplicaSetName.hashCode() : 0);
         result = 31 * result + (serverSelector != null ? serverSelector.hashCode() : 0);
+        result = 31 * result + serverSelectionStrategy.hashCode();
         result = 31 * result + (description != null ? description.hashCode() : 0);
         result = 31 * result + (int) (serverSelectionTimeoutMS ^ (serverSelectionTimeoutMS >>> 32));
         result = 31 * result + maxWaitQueueSize;
@@ -394,6 +424,7 @@ public final class ClusterSettings {
                + ", requiredClusterType=" + requiredClusterType
                + ", requiredReplicaSetName='" + requiredReplicaSetName + '\''
                + ", serverSelector='" + serverSelector + '\''
+               + ", serverSelectionStrategy=" + serverSelectionStrategy
                + ", clusterListeners='" + clusterListeners + '\''
                + ", serverSelectionTimeout='" + serverSelectionTimeoutMS + " ms" + '\''
                + ", maxWaitQueueSize=" + maxWaitQueueSize
@@ -445,6 +476,7 @@ public final class ClusterSettings {
         requiredReplicaSetName = builder.requiredReplicaSetName;
         requiredClusterType = builder.requiredClusterType;
         serverSelector = builder.serverSelector;
+        serverSelectionStrategy = builder.serverSelectionStrategy;
         serverSelectionTimeoutMS = builder.serverSelectionTimeoutMS;
         maxWaitQueueSize = builder.maxWaitQueueSize;
         clusterListeners = builder.clusterListeners;
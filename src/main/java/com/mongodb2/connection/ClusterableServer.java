@@ -44,4 +44,11 @@ interface ClusterableServer extends Server {
      * Attempt to connect to the server.
      */
     void connect();
+
+    /**
+     * Gets the load on this server, as tracked for load-aware server selection.
+     *
+     * @return the server load, or null if the load on this server is not tracked
+     */
+    ServerLoad getLoad();
 }
@@ -19,6 +19,9 @@ package com.mongodb2.connection;
 import com.mongodb2.ServerAddress;
 import com.mongodb2.annotations.Immutable;
 
+import java.util.Collections;
+import java.util.List;
+
 import static com.mongodb2.assertions.Assertions.notNull;
 import static com.mongodb2.connection.ServerDescription.getDefaultMaxDocumentSize;
 
@@ -35,6 +38,7 @@ public class ConnectionDescription {
     private final int maxBatchCount;
     private final int maxDocumentSize;
     private final int maxMessageSize;
+    private final List<String> compressors;
 
     private static final int DEFAULT_MAX_MESSAGE_SIZE = 0x2000000;   // 32MB
     private static final int DEFAULT_MAX_WRITE_BATCH_SIZE = 512;
@@ -62,18 +66,37 @@ public class ConnectionDescription {
     public ConnectionDescription(final ConnectionId connectionId,  final ServerVersion serverVersion,
                                  final ServerType serverType, final int maxBatchCount, final int maxDocumentSize,
                                  final int maxMessageSize) {
+        this(connectionId, serverVersion, serverType, maxBatchCount, maxDocumentSize, maxMessageSize, Collections.<String>emptyList());
+    }
+
+    /**
+     * Construct an instance.
+     *
+     * @param connectionId    the connection id
+     * @param serverVersion   the server version
+     * @param serverType      the server type
+     * @param maxBatchCount   the max batch count
+     * @param maxDocumentSize the max document size in bytes
+     * @param maxMessageSize  the max message size in bytes
+     * @param compressors     the available compressors on the connection
+     */
+    public ConnectionDescription(final ConnectionId connectionId,  final ServerVersion serverVersion,
+                                 final ServerType serverType, final int maxBatchCount, final int maxDocumentSize,
+                                 final int maxMessageSize, final List<String> compressors) {
         this.connectionId = connectionId;
         this.serverType = serverType;
         this.maxBatchCount = maxBatchCount;
         this.maxDocumentSize = maxDocumentSize;
         this.maxMessageSize = maxMessageSize;
         this.serverVersion = serverVersion;
+        this.compressors = Collections.unmodifiableList(notNull("compressors", compressors));
     }
 
 
     ConnectionDescription withConnectionId(final ConnectionId connectionId) {
         notNull("connectionId", connectionId);
-        return new ConnectionDescription(connectionId, serverVersion, serverType, maxBatchCount, maxDocumentSize, maxMessageSize);
+        return new ConnectionDescription(connectionId, serverVersion, serverType, maxBatchCount, maxDocumentSize, maxMessageSize,
+                                         compressors);
     }
 
     /**
@@ -139,6 +162,15 @@ public class ConnectionDescription {
         return maxMessageSize;
     }
 
+    /**
+     * Gets the compressors that the server agreed to use on this connection, in order of preference.
+     *
+     * @return the list of compressor names, which may be empty
+     */
+    public List<String> getCompressors() {
+        return compressors;
+    }
+
     /**
      * Get the default maximum message size.
      *
@@ -187,6 +219,9 @@ public class ConnectionDescription {
         if (!serverVersion.equals(that.serverVersion)) {
             return false;
         }
+        if (!compressors.equals(that.compressors)) {
+            return false;
+        }
 
         return true;
     }
@@ -199,6 +234,7 @@ public class ConnectionDescription {
         result = 31 * result + maxBatchCount;
         result = 31 * result + maxDocumentSize;
         result = 31 * result + maxMessageSize;
+        result = 31 * result + compressors.hashCode();
         return result;
     }
 }
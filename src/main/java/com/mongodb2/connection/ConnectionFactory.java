@@ -17,7 +17,8 @@
 package com.mongodb2.connection;
 
 interface ConnectionFactory {
-    Connection create(InternalConnection internalConnection, ProtocolExecutor executor, ClusterConnectionMode clusterConnectionMode);
+    Connection create(InternalConnection internalConnection, ProtocolExecutor executor, ClusterConnectionMode clusterConnectionMode,
+                      ConnectionPool connectionPool);
 
     AsyncConnection createAsync(InternalConnection internalConnection, ProtocolExecutor executor,
                                 ClusterConnectionMode clusterConnectionMode);
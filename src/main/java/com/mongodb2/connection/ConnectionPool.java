@@ -27,6 +27,10 @@ interface ConnectionPool extends Closeable {
 
     InternalConnection get(long timeout, TimeUnit timeUnit);
 
+    // returns the given connection if no other caller shares it, and otherwise checks out one that is never shared, which the caller
+    // must close, for a request such as an exhaust query that the server answers with replies that no one asked for
+    InternalConnection getExclusive(InternalConnection connection);
+
     void getAsync(SingleResultCallback<InternalConnection> callback);
 
     void invalidate();
@@ -41,6 +41,7 @@ public class ConnectionPoolSettings {
     private final long maxConnectionIdleTimeMS;
     private final long maintenanceInitialDelayMS;
     private final long maintenanceFrequencyMS;
+    private final int maxRequestsPerConnection;
 
     /**
      * Gets a Builder for creating a new ConnectionPoolSettings instance.
@@ -64,6 +65,7 @@ public class ConnectionPoolSettings {
         private long maxConnectionIdleTimeMS;
         private long maintenanceInitialDelayMS;
         private long maintenanceFrequencyMS = MILLISECONDS.convert(1, MINUTES);
+        private int maxRequestsPerConnection = 1;
 
         /**
          * <p>The maximum number of connections allowed. Those connections will be kept in the pool when idle. Once the pool is exhausted,
@@ -171,6 +173,22 @@ public class ConnectionPoolSettings {
             return this;
         }
 
+        /**
+         * <p>The maximum number of synchronous requests that may be in flight on a single pooled connection at the same time.  When
+         * greater than one, threads share checked out connections: their requests are written back-to-back and each reply is handed to
+         * the waiting thread by its {@code responseTo} id, so that many threads can be served by few connections.  Asynchronous
+         * operations always get a connection of their own.</p>
+         *
+         * <p>Default is 1, which disables sharing.</p>
+         *
+         * @param maxRequestsPerConnection the maximum number of requests in flight on one connection
+         * @return this
+         */
+        public Builder maxRequestsPerConnection(final int maxRequestsPerConnection) {
+            this.maxRequestsPerConnection = maxRequestsPerConnection;
+            return this;
+        }
+
         /**
          * Creates a new ConnectionPoolSettings object with the settings initialised on this builder.
          *
@@ -299,6 +317,17 @@ public class ConnectionPoolSettings {
         return timeUnit.convert(maintenanceFrequencyMS, MILLISECONDS);
     }
 
+    /**
+     * <p>The maximum number of synchronous requests that may be in flight on a single pooled connection at the same time.</p>
+     *
+     * <p>Default is 1, which disables sharing.</p>
+     *
+     * @return the maximum number of requests in flight on one connection
+     */
+    public int getMaxRequestsPerConnection() {
+        return maxRequestsPerConnection;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -334,6 +363,9 @@ public class ConnectionPoolSettings {
         if (maxWaitTimeMS != that.maxWaitTimeMS) {
             return false;
         }
+        if (maxRequestsPerConnection != that.maxRequestsPerConnection) {
+            return false;
+        }
 
         return true;
     }
@@ -348,6 +380,7 @@ public class ConnectionPoolSettings {
         result = 31 * result + (int) (maxConnectionIdleTimeMS ^ (maxConnectionIdleTimeMS >>> 32));
         result = 31 * result + (int) (maintenanceInitialDelayMS ^ (maintenanceInitialDelayMS >>> 32));
         result = 31 * result + (int) (maintenanceFrequencyMS ^ (maintenanceFrequencyMS >>> 32));
+        result = 31 * result + maxRequestsPerConnection;
         return result;
     }
 
@@ -362,6 +395,7 @@ public class ConnectionPoolSettings {
                + ", maxConnectionIdleTimeMS=" + maxConnectionIdleTimeMS
                + ", maintenanceInitialDelayMS=" + maintenanceInitialDelayMS
                + ", maintenanceFrequencyMS=" + maintenanceFrequencyMS
+               + ", maxRequestsPerConnection=" + maxRequestsPerConnection
                + '}';
     }
 
@@ -374,6 +408,7 @@ public class ConnectionPoolSettings {
         isTrue("maxConnectionIdleTime >= 0", builder.maxConnectionIdleTimeMS >= 0);
         isTrue("sizeMaintenanceFrequency > 0", builder.maintenanceFrequencyMS > 0);
         isTrue("maxSize >= minSize", builder.maxSize >= builder.minSize);
+        isTrue("maxRequestsPerConnection > 0", builder.maxRequestsPerConnection > 0);
 
         maxSize = builder.maxSize;
         minSize = builder.minSize;
@@ -383,5 +418,6 @@ public class ConnectionPoolSettings {
         maxConnectionIdleTimeMS = builder.maxConnectionIdleTimeMS;
         maintenanceInitialDelayMS = builder.maintenanceInitialDelayMS;
         maintenanceFrequencyMS = builder.maintenanceFrequencyMS;
+        maxRequestsPerConnection = builder.maxRequestsPerConnection;
     }
 }
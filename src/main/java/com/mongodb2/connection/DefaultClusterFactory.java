@@ -16,6 +16,7 @@
 
 package com.mongodb2.connection;
 
+import com.mongodb2.MongoCompressor;
 import com.mongodb2.MongoCredential;
 import com.mongodb2.client.MongoDriverInformation;
 import com.mongodb2.event.ClusterListener;
@@ -23,6 +24,7 @@ import com.mongodb2.event.CommandListener;
 import com.mongodb2.event.ConnectionListener;
 import com.mongodb2.event.ConnectionPoolListener;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -99,6 +101,39 @@ public final class DefaultClusterFactory implements ClusterFactory {
                           final CommandListener commandListener,
                           final String applicationName,
                           final MongoDriverInformation mongoDriverInformation) {
+        return create(settings, serverSettings, connectionPoolSettings, streamFactory, heartbeatStreamFactory, credentialList,
+                clusterListener, connectionPoolListener, connectionListener, commandListener, applicationName, mongoDriverInformation,
+                Collections.<MongoCompressor>emptyList());
+    }
+
+    /**
+     * Creates a cluster with the given settings.  The cluster mode will be based on the mode from the settings.
+     *
+     * @param settings               the cluster settings
+     * @param serverSettings         the server settings
+     * @param connectionPoolSettings the connection pool settings
+     * @param streamFactory          the stream factory
+     * @param heartbeatStreamFactory the heartbeat stream factory
+     * @param credentialList         the credential list
+     * @param clusterListener        an optional listener for cluster-related events
+     * @param connectionPoolListener an optional listener for connection pool-related events
+     * @param connectionListener     an optional listener for connection-related events
+     * @param commandListener        an optional listener for command-related events
+     * @param applicationName        an optional application name to associate with connections to the servers in this cluster
+     * @param mongoDriverInformation the optional driver information associate with connections to the servers in this cluster
+     * @param compressorList         the list of compressors to request, in priority order
+     * @return the cluster
+     */
+    public Cluster create(final ClusterSettings settings, final ServerSettings serverSettings,
+                          final ConnectionPoolSettings connectionPoolSettings, final StreamFactory streamFactory,
+                          final StreamFactory heartbeatStreamFactory,
+                          final List<MongoCredential> credentialList,
+                          final ClusterListener clusterListener, final ConnectionPoolListener connectionPoolListener,
+                          final ConnectionListener connectionListener,
+                          final CommandListener commandListener,
+                          final String applicationName,
+                          final MongoDriverInformation mongoDriverInformation,
+                          final List<MongoCompressor> compressorList) {
         if (clusterListener != null) {
             throw new IllegalArgumentException("Add cluster listener to ClusterSettings");
         }
@@ -108,7 +143,7 @@ public final class DefaultClusterFactory implements ClusterFactory {
                 connectionListener != null ? connectionListener : new NoOpConnectionListener(),
                 connectionPoolListener != null ? connectionPoolListener : new NoOpConnectionPoolListener(),
                 commandListener, applicationName,
-                mongoDriverInformation != null ? mongoDriverInformation : MongoDriverInformation.builder().build());
+                mongoDriverInformation != null ? mongoDriverInformation : MongoDriverInformation.builder().build(), compressorList);
 
         if (settings.getMode() == ClusterConnectionMode.SINGLE) {
             return new SingleServerCluster(clusterId, settings, serverFactory);
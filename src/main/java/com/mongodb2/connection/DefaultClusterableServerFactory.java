@@ -16,6 +16,7 @@
 
 package com.mongodb2.connection;
 
+import com.mongodb2.MongoCompressor;
 import com.mongodb2.MongoCredential;
 import com.mongodb2.ServerAddress;
 import com.mongodb2.client.MongoDriverInformation;
@@ -25,6 +26,7 @@ import com.mongodb2.event.ConnectionPoolListener;
 import com.mongodb2.event.ServerListener;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 class DefaultClusterableServerFactory implements ClusterableServerFactory {
@@ -40,6 +42,7 @@ class DefaultClusterableServerFactory implements ClusterableServerFactory {
     private final CommandListener commandListener;
     private final String applicationName;
     private final MongoDriverInformation mongoDriverInformation;
+    private final List<MongoCompressor> compressorList;
 
     public DefaultClusterableServerFactory(final ClusterId clusterId, final ClusterSettings clusterSettings, final ServerSettings settings,
                                            final ConnectionPoolSettings connectionPoolSettings,
@@ -48,7 +51,8 @@ class DefaultClusterableServerFactory implements ClusterableServerFactory {
                                            final List<MongoCredential> credentialList,
                                            final ConnectionListener connectionListener,
                                            final ConnectionPoolListener connectionPoolListener, final CommandListener commandListener,
-                                           final String applicationName, final MongoDriverInformation mongoDriverInformation) {
+                                           final String applicationName, final MongoDriverInformation mongoDriverInformation,
+                                           final List<MongoCompressor> compressorList) {
         this.clusterId = clusterId;
         this.clusterSettings = clusterSettings;
         this.settings = settings;
@@ -61,24 +65,30 @@ class DefaultClusterableServerFactory implements ClusterableServerFactory {
         this.commandListener = commandListener;
         this.applicationName = applicationName;
         this.mongoDriverInformation = mongoDriverInformation;
+        this.compressorList = compressorList;
     }
 
     @Override
     public ClusterableServer create(final ServerAddress serverAddress, final ServerListener serverListener) {
         ConnectionPool connectionPool = new DefaultConnectionPool(new ServerId(clusterId, serverAddress),
                 new InternalStreamConnectionFactory(streamFactory, credentialList, connectionListener, applicationName,
-                        mongoDriverInformation), connectionPoolSettings, connectionPoolListener);
+                        mongoDriverInformation, compressorList), connectionPoolSettings, connectionPoolListener);
         ServerMonitorFactory serverMonitorFactory =
             new DefaultServerMonitorFactory(new ServerId(clusterId, serverAddress), settings,
                     new InternalStreamConnectionFactory(heartbeatStreamFactory, credentialList, connectionListener, applicationName,
-                            mongoDriverInformation), connectionPool);
+                            mongoDriverInformation, Collections.<MongoCompressor>emptyList()), connectionPool);
         List<ServerListener> serverListeners = new ArrayList<ServerListener>();
         if (serverListener != null) {
             serverListeners.add(serverListener);
         }
         serverListeners.addAll(settings.getServerListeners());
-        return new DefaultServer(new ServerId(clusterId, serverAddress), clusterSettings.getMode(), connectionPool,
-                new DefaultConnectionFactory(), serverMonitorFactory, serverListeners, commandListener);
+        boolean trackLoad = clusterSettings.getServerSelectionStrategy() == ServerSelectionStrategy.POWER_OF_TWO_CHOICES;
+        DefaultServer server = new DefaultServer(new ServerId(clusterId, serverAddress), clusterSettings.getMode(), connectionPool,
+                new DefaultConnectionFactory(), serverMonitorFactory, serverListeners, commandListener, trackLoad);
+        if (trackLoad) {
+            server.getLoad().register();
+        }
+        return server;
     }
 
     @Override
@@ -19,8 +19,8 @@ package com.mongodb2.connection;
 class DefaultConnectionFactory implements ConnectionFactory {
     @Override
     public Connection create(final InternalConnection internalConnection, final ProtocolExecutor executor,
-                             final ClusterConnectionMode clusterConnectionMode) {
-        return new DefaultServerConnection(internalConnection, executor, clusterConnectionMode);
+                             final ClusterConnectionMode clusterConnectionMode, final ConnectionPool connectionPool) {
+        return new DefaultServerConnection(internalConnection, executor, clusterConnectionMode, connectionPool);
     }
 
     @Override
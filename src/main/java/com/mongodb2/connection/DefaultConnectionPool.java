@@ -39,7 +39,9 @@ import com.mongodb2.internal.connection.ConcurrentPool;
 import com.mongodb2.internal.thread.DaemonThreadFactory;
 import org.bson2.ByteBuf;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -67,6 +69,9 @@ class DefaultConnectionPool implements ConnectionPool {
     private final Runnable maintenanceTask;
     private final ConnectionPoolListener connectionPoolListener;
     private final ServerId serverId;
+    // checked out connections that synchronous callers may share, mapped to the number of callers currently using each of them
+    private final Map<UsageTrackingInternalConnection, Integer> sharedConnections =
+    new LinkedHashMap<UsageTrackingInternalConnection, Integer>();
     private volatile boolean closed;
 
     public DefaultConnectionPool(final ServerId serverId,
@@ -90,6 +95,24 @@ class DefaultConnectionPool implements ConnectionPool {
 
     @Override
     public InternalConnection get(final long timeout, final TimeUnit timeUnit) {
+        return get(timeout, timeUnit, false);
+    }
+
+    @Override
+    public InternalConnection getExclusive(final InternalConnection connection) {
+        if (connection instanceof PooledConnection && !((PooledConnection) connection).shared) {
+            return connection;
+        }
+        return get(settings.getMaxWaitTime(MILLISECONDS), MILLISECONDS, true);
+    }
+
+    private InternalConnection get(final long timeout, final TimeUnit timeUnit, final boolean exclusive) {
+        if (isMultiplexing() && !exclusive) {
+            PooledConnection sharedConnection = getSharedConnection();
+            if (sharedConnection != null) {
+                return sharedConnection;
+            }
+        }
         try {
             if (waitQueueSize.incrementAndGet() > settings.getMaxWaitQueueSize()) {
                 throw createWaitQueueFullException();
@@ -110,6 +133,9 @@ class DefaultConnectionPool implements ConnectionPool {
                     }
                 }
 
+                if (isMultiplexing() && !exclusive) {
+                    return share(pooledConnection);
+                }
                 return pooledConnection;
             } finally {
                 connectionPoolListener.waitQueueExited(new ConnectionPoolWaitQueueExitedEvent(serverId, currentThread().getId()));
@@ -264,7 +290,56 @@ class DefaultConnectionPool implements ConnectionPool {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Checked out connection [%s] to server %s", getId(internalConnection), serverId.getAddress()));
         }
-        return new PooledConnection(internalConnection);
+        return new PooledConnection(internalConnection, false);
+    }
+
+    private boolean isMultiplexing() {
+        return settings.getMaxRequestsPerConnection() > 1;
+    }
+
+    private PooledConnection getSharedConnection() {
+        synchronized (sharedConnections) {
+            for (Map.Entry<UsageTrackingInternalConnection, Integer> cur : sharedConnections.entrySet()) {
+                UsageTrackingInternalConnection internalConnection = cur.getKey();
+                // a connection with more replies to come to an exhaust query can't be shared, as they could be read by any of its callers
+                if (cur.getValue() < settings.getMaxRequestsPerConnection() && !internalConnection.isClosed()
+                    && !internalConnection.hasMoreToCome() && !shouldPrune(internalConnection)) {
+                    cur.setValue(cur.getValue() + 1);
+                    connectionPoolListener.connectionCheckedOut(new ConnectionCheckedOutEvent(getId(internalConnection)));
+                    if (LOGGER.isTraceEnabled()) {
+                        LOGGER.trace(format("Sharing connection [%s] to server %s with %d other request(s)", getId(internalConnection),
+                                            serverId.getAddress(), cur.getValue() - 1));
+                    }
+                    return new PooledConnection(internalConnection, true);
+                }
+            }
+        }
+        return null;
+    }
+
+    private PooledConnection share(final PooledConnection pooledConnection) {
+        synchronized (sharedConnections) {
+            sharedConnections.put(pooledConnection.wrapped, 1);
+        }
+        return new PooledConnection(pooledConnection.wrapped, true);
+    }
+
+    /**
+     * Gives up one caller's share of a shared connection.
+     *
+     * @param internalConnection the shared connection
+     * @return true if this was the last caller using the connection, in which case it must be released to the pool
+     */
+    private boolean unshare(final UsageTrackingInternalConnection internalConnection) {
+        synchronized (sharedConnections) {
+            int remaining = sharedConnections.get(internalConnection) - 1;
+            if (remaining > 0) {
+                sharedConnections.put(internalConnection, remaining);
+                return false;
+            }
+            sharedConnections.remove(internalConnection);
+            return true;
+        }
     }
 
     private MongoTimeoutException createTimeoutException() {
@@ -374,10 +449,12 @@ class DefaultConnectionPool implements ConnectionPool {
 
     private class PooledConnection implements InternalConnection {
         private final UsageTrackingInternalConnection wrapped;
+        private final boolean shared;
         private final AtomicBoolean isClosed = new AtomicBoolean();
 
-        public PooledConnection(final UsageTrackingInternalConnection wrapped) {
+        public PooledConnection(final UsageTrackingInternalConnection wrapped, final boolean shared) {
             this.wrapped = notNull("wrapped", wrapped);
+            this.shared = shared;
         }
 
         @Override
@@ -402,7 +479,10 @@ class DefaultConnectionPool implements ConnectionPool {
                         LOGGER.trace(format("Checked in connection [%s] to server %s", getId(wrapped), serverId.getAddress()));
                     }
                 }
-                pool.release(wrapped, wrapped.isClosed() || shouldPrune(wrapped));
+                if (shared && !unshare(wrapped)) {
+                    return;
+                }
+                pool.release(wrapped, wrapped.isClosed() || wrapped.hasMoreToCome() || shouldPrune(wrapped));
             }
         }
 
@@ -417,6 +497,11 @@ class DefaultConnectionPool implements ConnectionPool {
             return isClosed.get() || wrapped.isClosed();
         }
 
+        @Override
+        public boolean hasMoreToCome() {
+            return wrapped.hasMoreToCome();
+        }
+
         @Override
         public ByteBuf getBuffer(final int capacity) {
             return wrapped.getBuffer(capacity);
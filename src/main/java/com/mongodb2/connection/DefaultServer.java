@@ -33,6 +33,7 @@ import com.mongodb2.event.ServerListener;
 import com.mongodb2.event.ServerOpeningEvent;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.mongodb2.assertions.Assertions.isTrue;
 import static com.mongodb2.assertions.Assertions.notNull;
@@ -49,6 +50,7 @@ class DefaultServer implements ClusterableServer {
     private final ChangeListener<ServerDescription> serverStateListener;
     private final ServerListener serverListener;
     private final CommandListener commandListener;
+    private final ServerLoad load;
     private volatile ServerDescription description;
     private volatile boolean isClosed;
 
@@ -59,6 +61,18 @@ class DefaultServer implements ClusterableServer {
                          final ServerMonitorFactory serverMonitorFactory,
                          final List<ServerListener> serverListeners,
                          final CommandListener commandListener) {
+        this(serverId, clusterConnectionMode, connectionPool, connectionFactory, serverMonitorFactory, serverListeners, commandListener,
+             false);
+    }
+
+    public DefaultServer(final ServerId serverId,
+                         final ClusterConnectionMode clusterConnectionMode,
+                         final ConnectionPool connectionPool,
+                         final ConnectionFactory connectionFactory,
+                         final ServerMonitorFactory serverMonitorFactory,
+                         final List<ServerListener> serverListeners,
+                         final CommandListener commandListener,
+                         final boolean trackLoad) {
         notNull("serverListeners", serverListeners);
         serverListener = serverListeners.isEmpty() ? new NoOpServerListener() : new ServerEventMulticaster(serverListeners);
 
@@ -71,6 +85,8 @@ class DefaultServer implements ClusterableServer {
         this.serverStateListener = new DefaultServerStateListener();
 
         this.serverId = serverId;
+        // the load is only needed by load-aware server selection, so don't pay for tracking it otherwise
+        this.load = trackLoad ? new ServerLoad(serverId) : null;
 
         serverListener.serverOpening(new ServerOpeningEvent(this.serverId));
 
@@ -83,7 +99,8 @@ class DefaultServer implements ClusterableServer {
     public Connection getConnection() {
         isTrue("open", !isClosed());
         try {
-            return connectionFactory.create(connectionPool.get(), new DefaultServerProtocolExecutor(), clusterConnectionMode);
+            return connectionFactory.create(connectionPool.get(), new DefaultServerProtocolExecutor(), clusterConnectionMode,
+                                            connectionPool);
         } catch (MongoSecurityException e) {
             invalidate();
             throw e;
@@ -133,6 +150,9 @@ class DefaultServer implements ClusterableServer {
         if (!isClosed()) {
             connectionPool.close();
             serverMonitor.close();
+            if (load != null) {
+                load.unregister();
+            }
             isClosed = true;
             serverListener.serverClosed(new ServerClosedEvent(serverId));
         }
@@ -148,6 +168,11 @@ class DefaultServer implements ClusterableServer {
         serverMonitor.connect();
     }
 
+    @Override
+    public ServerLoad getLoad() {
+        return load;
+    }
+
     ConnectionPool getConnectionPool() {
         return connectionPool;
     }
@@ -163,12 +188,20 @@ class DefaultServer implements ClusterableServer {
     private class DefaultServerProtocolExecutor implements ProtocolExecutor {
         @Override
         public <T> T execute(final Protocol<T> protocol, final InternalConnection connection) {
+            long startTimeNanos = load != null ? load.operationStarted() : 0;
+            boolean succeeded = false;
             try {
                 protocol.setCommandListener(commandListener);
-                return protocol.execute(connection);
+                T result = protocol.execute(connection);
+                succeeded = true;
+                return result;
             } catch (MongoException e) {
                 handleThrowable(e);
                 throw e;
+            } finally {
+                if (load != null) {
+                    load.operationCompleted(startTimeNanos, succeeded);
+                }
             }
         }
 
@@ -176,15 +209,28 @@ class DefaultServer implements ClusterableServer {
         public <T> void executeAsync(final Protocol<T> protocol, final InternalConnection connection,
                                      final SingleResultCallback<T> callback) {
             protocol.setCommandListener(commandListener);
-            protocol.executeAsync(connection, errorHandlingCallback(new SingleResultCallback<T>() {
-                @Override
-                public void onResult(final T result, final Throwable t) {
-                    if (t != null) {
-                        handleThrowable(t);
+            final long startTimeNanos = load != null ? load.operationStarted() : 0;
+            // completes the operation exactly once, whether the protocol fails synchronously or calls back
+            final AtomicBoolean completed = new AtomicBoolean();
+            try {
+                protocol.executeAsync(connection, errorHandlingCallback(new SingleResultCallback<T>() {
+                    @Override
+                    public void onResult(final T result, final Throwable t) {
+                        if (load != null && !completed.getAndSet(true)) {
+                            load.operationCompleted(startTimeNanos, t == null);
+                        }
+                        if (t != null) {
+                            handleThrowable(t);
+                        }
+                        callback.onResult(result, t);
                     }
-                    callback.onResult(result, t);
+                }, LOGGER));
+            } catch (RuntimeException e) {
+                if (load != null && !completed.getAndSet(true)) {
+                    load.operationCompleted(startTimeNanos, false);
                 }
-            }, LOGGER));
+                throw e;
+            }
         }
     }
 
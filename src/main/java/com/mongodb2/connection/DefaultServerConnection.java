@@ -42,12 +42,24 @@ class DefaultServerConnection extends AbstractReferenceCounted implements Connec
     private final InternalConnection wrapped;
     private final ProtocolExecutor protocolExecutor;
     private final ClusterConnectionMode clusterConnectionMode;
+    // the pool that wrapped was checked out from, from which to check out an exclusive connection for an exhaust query, or null
+    private final ConnectionPool connectionPool;
+    // the exclusive connection that an exhaust query was executed on, if wrapped is shared with other requests
+    private volatile InternalConnection exhaustConnection;
+    // the reply that the next reply to an exhaust query will be a response to, or null if no more replies are to come
+    private volatile QueryResult<?> lastExhaustResult;
 
     public DefaultServerConnection(final InternalConnection wrapped, final ProtocolExecutor protocolExecutor,
                                    final ClusterConnectionMode clusterConnectionMode) {
+        this(wrapped, protocolExecutor, clusterConnectionMode, null);
+    }
+
+    public DefaultServerConnection(final InternalConnection wrapped, final ProtocolExecutor protocolExecutor,
+                                   final ClusterConnectionMode clusterConnectionMode, final ConnectionPool connectionPool) {
         this.wrapped = wrapped;
         this.protocolExecutor = protocolExecutor;
         this.clusterConnectionMode = clusterConnectionMode;
+        this.connectionPool = connectionPool;
     }
 
     @Override
@@ -60,6 +72,7 @@ class DefaultServerConnection extends AbstractReferenceCounted implements Connec
     public void release() {
         super.release();
         if (getCount() == 0) {
+            closeExhaustConnection();
             wrapped.close();
         }
     }
@@ -218,6 +231,50 @@ class DefaultServerConnection extends AbstractReferenceCounted implements Connec
                                .partial(partial));
     }
 
+    @Override
+    public <T> QueryResult<T> query(final MongoNamespace namespace, final BsonDocument queryDocument, final BsonDocument fields,
+                                    final int skip, final int limit, final int batchSize,
+                                    final boolean slaveOk, final boolean tailableCursor,
+                                    final boolean awaitData, final boolean noCursorTimeout,
+                                    final boolean partial, final boolean oplogReplay, final boolean exhaust,
+                                    final Decoder<T> resultDecoder) {
+        InternalConnection queryConnection = wrapped;
+        if (exhaust && connectionPool != null) {
+            // the server streams the replies to an exhaust query without waiting to be asked, so it can't share a connection with other
+            // requests, which would otherwise read replies meant for the exhaust cursor
+            closeExhaustConnection();
+            queryConnection = connectionPool.getExclusive(wrapped);
+            if (queryConnection != wrapped) {
+                exhaustConnection = queryConnection;
+            }
+        }
+        QueryResult<T> queryResult = executeProtocol(new QueryProtocol<T>(namespace, skip, limit, batchSize, queryDocument, fields,
+                                                                          resultDecoder)
+                                                     .tailableCursor(tailableCursor)
+                                                     .slaveOk(getSlaveOk(slaveOk))
+                                                     .oplogReplay(oplogReplay)
+                                                     .noCursorTimeout(noCursorTimeout)
+                                                     .awaitData(awaitData)
+                                                     .partial(partial)
+                                                     .exhaust(exhaust), queryConnection);
+        if (exhaust) {
+            exhaustBatchReceived(queryResult);
+        }
+        return queryResult;
+    }
+
+    @Override
+    public <T> QueryResult<T> receiveExhaustBatch(final MongoNamespace namespace, final Decoder<T> resultDecoder) {
+        QueryResult<?> localLastExhaustResult = takeLastExhaustResult();
+        InternalConnection localExhaustConnection = exhaustConnection;
+        QueryResult<T> queryResult = executeProtocol(new ExhaustReplyProtocol<T>(namespace, localLastExhaustResult.getReplyRequestId(),
+                                                                                 localLastExhaustResult.getCursor().getId(),
+                                                                                 resultDecoder),
+                                                     localExhaustConnection != null ? localExhaustConnection : wrapped);
+        exhaustBatchReceived(queryResult);
+        return queryResult;
+    }
+
     @Override
     public <T> void queryAsync(final MongoNamespace namespace, final BsonDocument queryDocument, final BsonDocument fields,
                                final int numberToReturn, final int skip,
@@ -248,6 +305,37 @@ class DefaultServerConnection extends AbstractReferenceCounted implements Connec
                              .partial(partial), callback);
     }
 
+    @Override
+    public <T> void queryAsync(final MongoNamespace namespace, final BsonDocument queryDocument, final BsonDocument fields, final int skip,
+                               final int limit, final int batchSize, final boolean slaveOk, final boolean tailableCursor,
+                               final boolean awaitData, final boolean noCursorTimeout, final boolean partial, final boolean oplogReplay,
+                               final boolean exhaust, final Decoder<T> resultDecoder,
+                               final SingleResultCallback<QueryResult<T>> callback) {
+        executeProtocolAsync(new QueryProtocol<T>(namespace, skip, limit, batchSize, queryDocument, fields, resultDecoder)
+                             .tailableCursor(tailableCursor)
+                             .slaveOk(getSlaveOk(slaveOk))
+                             .oplogReplay(oplogReplay)
+                             .noCursorTimeout(noCursorTimeout)
+                             .awaitData(awaitData)
+                             .partial(partial)
+                             .exhaust(exhaust), exhaust ? new ExhaustBatchCallback<T>(callback) : callback);
+    }
+
+    @Override
+    public <T> void receiveExhaustBatchAsync(final MongoNamespace namespace, final Decoder<T> resultDecoder,
+                                             final SingleResultCallback<QueryResult<T>> callback) {
+        QueryResult<?> localLastExhaustResult;
+        try {
+            localLastExhaustResult = takeLastExhaustResult();
+        } catch (Throwable t) {
+            callback.onResult(null, t);
+            return;
+        }
+        executeProtocolAsync(new ExhaustReplyProtocol<T>(namespace, localLastExhaustResult.getReplyRequestId(),
+                                                         localLastExhaustResult.getCursor().getId(), resultDecoder),
+                             new ExhaustBatchCallback<T>(callback));
+    }
+
     @Override
     public <T> QueryResult<T> getMore(final MongoNamespace namespace, final long cursorId, final int numberToReturn,
                                       final Decoder<T> resultDecoder) {
@@ -280,13 +368,36 @@ class DefaultServerConnection extends AbstractReferenceCounted implements Connec
         executeProtocolAsync(new KillCursorProtocol(namespace, cursors), callback);
     }
 
+    private QueryResult<?> takeLastExhaustResult() {
+        QueryResult<?> localLastExhaustResult = lastExhaustResult;
+        isTrue("exhaust query has more replies to come", localLastExhaustResult != null);
+        lastExhaustResult = null;
+        return localLastExhaustResult;
+    }
+
+    private void exhaustBatchReceived(final QueryResult<?> queryResult) {
+        lastExhaustResult = queryResult.getCursor() == null ? null : queryResult;
+    }
+
     private boolean getSlaveOk(final boolean slaveOk) {
         return slaveOk
                || (clusterConnectionMode == ClusterConnectionMode.SINGLE && wrapped.getDescription().getServerType() != SHARD_ROUTER);
     }
 
     private <T> T executeProtocol(final Protocol<T> protocol) {
-        return protocolExecutor.execute(protocol, this.wrapped);
+        return executeProtocol(protocol, this.wrapped);
+    }
+
+    private <T> T executeProtocol(final Protocol<T> protocol, final InternalConnection connection) {
+        return protocolExecutor.execute(protocol, connection);
+    }
+
+    private void closeExhaustConnection() {
+        InternalConnection localExhaustConnection = exhaustConnection;
+        if (localExhaustConnection != null) {
+            exhaustConnection = null;
+            localExhaustConnection.close();
+        }
     }
 
     private <T> void executeProtocolAsync(final Protocol<T> protocol, final SingleResultCallback<T> callback) {
@@ -297,4 +408,20 @@ class DefaultServerConnection extends AbstractReferenceCounted implements Connec
             errHandlingCallback.onResult(null, t);
         }
     }
+
+    private class ExhaustBatchCallback<T> implements SingleResultCallback<QueryResult<T>> {
+        private final SingleResultCallback<QueryResult<T>> wrapped;
+
+        ExhaustBatchCallback(final SingleResultCallback<QueryResult<T>> wrapped) {
+            this.wrapped = wrapped;
+        }
+
+        @Override
+        public void onResult(final QueryResult<T> result, final Throwable t) {
+            if (t == null) {
+                exhaustBatchReceived(result);
+            }
+            wrapped.onResult(result, t);
+        }
+    }
 }
@@ -28,7 +28,7 @@ import com.mongodb2.event.ServerMonitorListener;
 import org.bson2.BsonDocument;
 import org.bson2.BsonInt32;
 
-import java.util.concurrent.locks.Condition;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -37,9 +37,15 @@ import static com.mongodb2.connection.DescriptionHelper.createServerDescription;
 import static com.mongodb2.connection.ServerConnectionState.CONNECTING;
 import static com.mongodb2.connection.ServerType.UNKNOWN;
 import static java.lang.String.format;
-import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
+/**
+ * Monitors a server by running isMaster checks on the shared {@link ServerMonitorScheduler}, rather than on a thread of its own.
+ *
+ * <p>The interval between checks adapts to the state of the server.  While its description is changing, or while it is a replica set
+ * member that knows of no primary, it is checked at the minimum heartbeat frequency.  Once it is stable the interval doubles after each
+ * check, up to the heartbeat frequency.</p>
+ */
 @ThreadSafe
 class DefaultServerMonitor implements ServerMonitor {
 
@@ -51,15 +57,31 @@ class DefaultServerMonitor implements ServerMonitor {
     private final InternalConnectionFactory internalConnectionFactory;
     private final ConnectionPool connectionPool;
     private final ServerSettings settings;
-    private final ServerMonitorRunnable monitor;
-    private final Thread monitorThread;
+    private final ServerMonitorScheduler scheduler;
+    private final ServerMonitorTask monitor;
     private final Lock lock = new ReentrantLock();
-    private final Condition condition = lock.newCondition();
     private volatile boolean isClosed;
 
+    // guarded by lock
+    private ScheduledFuture<?> scheduledCheck;
+    // incremented each time a check is scheduled, so that a check that was replaced after it started to run knows not to proceed
+    private long scheduledCheckGeneration;
+    private long scheduledCheckTimeNanos;
+    private long lastCheckStartTimeNanos;
+    private boolean hasChecked;
+    private boolean isChecking;
+    private boolean isCheckRequested;
+
     DefaultServerMonitor(final ServerId serverId, final ServerSettings settings,
                          final ChangeListener<ServerDescription> serverStateListener,
                          final InternalConnectionFactory internalConnectionFactory, final ConnectionPool connectionPool) {
+        this(serverId, settings, serverStateListener, internalConnectionFactory, connectionPool, ServerMonitorScheduler.getInstance());
+    }
+
+    DefaultServerMonitor(final ServerId serverId, final ServerSettings settings,
+                         final ChangeListener<ServerDescription> serverStateListener,
+                         final InternalConnectionFactory internalConnectionFactory, final ConnectionPool connectionPool,
+                         final ServerMonitorScheduler scheduler) {
         this.settings = settings;
         this.serverId = serverId;
         this.serverMonitorListener = settings.getServerMonitorListeners().isEmpty()
@@ -68,22 +90,36 @@ class DefaultServerMonitor implements ServerMonitor {
         this.serverStateListener = serverStateListener;
         this.internalConnectionFactory = internalConnectionFactory;
         this.connectionPool = connectionPool;
-        monitor = new ServerMonitorRunnable();
-        monitorThread = new Thread(monitor, "cluster-" + this.serverId.getClusterId() + "-" + this.serverId.getAddress());
-        monitorThread.setDaemon(true);
+        this.scheduler = scheduler;
+        monitor = new ServerMonitorTask();
         isClosed = false;
     }
 
     @Override
     public void start() {
-        monitorThread.start();
+        lock.lock();
+        try {
+            scheduleCheck(0);
+        } finally {
+            lock.unlock();
+        }
     }
 
     @Override
     public void connect() {
         lock.lock();
         try {
-            condition.signal();
+            if (isClosed) {
+                return;
+            }
+            if (isChecking) {
+                isCheckRequested = true;
+                return;
+            }
+            long delayNanos = getMinimumDelayNanos();
+            if (scheduledCheck == null || scheduledCheckTimeNanos - System.nanoTime() > delayNanos) {
+                scheduleCheck(delayNanos);
+            }
         } finally {
             lock.unlock();
         }
@@ -92,74 +128,165 @@ class DefaultServerMonitor implements ServerMonitor {
     @Override
     public void close() {
         isClosed = true;
-        monitorThread.interrupt();
+        lock.lock();
+        try {
+            // a check in progress closes the monitor's connection when it completes.  Otherwise a final run on the scheduler closes it, so
+            // that the connection is never touched by two threads at once
+            if (!isChecking) {
+                scheduleCheck(0);
+            }
+        } finally {
+            lock.unlock();
+        }
     }
 
-    class ServerMonitorRunnable implements Runnable {
-        private final ExponentiallyWeightedMovingAverage averageRoundTripTime = new ExponentiallyWeightedMovingAverage(0.2);
+    // must be called while holding the lock
+    private void scheduleCheck(final long delayNanos) {
+        if (scheduledCheck != null) {
+            scheduledCheck.cancel(false);
+        }
+        scheduledCheckTimeNanos = System.nanoTime() + delayNanos;
+        scheduledCheck = scheduler.schedule(new ScheduledCheck(++scheduledCheckGeneration), delayNanos, NANOSECONDS);
+    }
+
+    // must be called while holding the lock
+    private long getMinimumDelayNanos() {
+        if (!hasChecked) {
+            return 0;
+        }
+        long timeSinceLastCheckNanos = System.nanoTime() - lastCheckStartTimeNanos;
+        return Math.max(0, settings.getMinHeartbeatFrequency(NANOSECONDS) - timeSinceLastCheckNanos);
+    }
+
+    private final class ScheduledCheck implements Runnable {
+        private final long generation;
+
+        ScheduledCheck(final long generation) {
+            this.generation = generation;
+        }
 
         @Override
-        @SuppressWarnings("unchecked")
-        public synchronized void run() {
-            InternalConnection connection = null;
+        public void run() {
+            monitor.run(generation);
+        }
+    }
+
+    class ServerMonitorTask {
+        private final ExponentiallyWeightedMovingAverage averageRoundTripTime = new ExponentiallyWeightedMovingAverage(0.2);
+        private InternalConnection connection;
+        private ServerDescription currentServerDescription = getConnectingServerDescription(null);
+        private long intervalNanos = settings.getMinHeartbeatFrequency(NANOSECONDS);
+
+        synchronized void run(final long generation) {
+            lock.lock();
             try {
-                ServerDescription currentServerDescription = getConnectingServerDescription(null);
-                while (!isClosed) {
-                    ServerDescription previousServerDescription = currentServerDescription;
-                    try {
-                        if (connection == null) {
-                            connection = internalConnectionFactory.create(serverId);
-                            try {
-                                connection.open();
-                            } catch (Throwable t) {
-                                connection = null;
-                                throw t;
-                            }
-                        }
-                        try {
-                            currentServerDescription = lookupServerDescription(connection);
-                        } catch (MongoSocketException e) {
-                            connectionPool.invalidate();
-                            connection.close();
-                            connection = null;
-                            connection = internalConnectionFactory.create(serverId);
-                            try {
-                                connection.open();
-                            } catch (Throwable t) {
-                                connection = null;
-                                throw t;
-                            }
-                            try {
-                                currentServerDescription = lookupServerDescription(connection);
-                            } catch (MongoSocketException e1) {
-                                connection.close();
-                                connection = null;
-                                throw e1;
-                            }
-                        }
-                    } catch (Throwable t) {
-                        averageRoundTripTime.reset();
-                        currentServerDescription = getConnectingServerDescription(t);
-                    }
-
-                    if (!isClosed) {
-                        try {
-                            logStateChange(previousServerDescription, currentServerDescription);
-                            serverStateListener.stateChanged(new ChangeEvent<ServerDescription>(previousServerDescription,
-                                                                                                       currentServerDescription));
-                        } catch (Throwable t) {
-                            LOGGER.warn("Exception in monitor thread during notification of server description state change", t);
-                        }
-                        waitForNext();
-                    }
+                if (generation != scheduledCheckGeneration) {
+                    // this check was cancelled and replaced by another after it started to run
+                    return;
+                }
+                scheduledCheck = null;
+                if (!isClosed) {
+                    isChecking = true;
+                    isCheckRequested = false;
+                    hasChecked = true;
+                    lastCheckStartTimeNanos = System.nanoTime();
                 }
             } finally {
-                if (connection != null) {
+                lock.unlock();
+            }
+
+            if (isClosed) {
+                closeConnection();
+                return;
+            }
+
+            ServerDescription previousServerDescription = currentServerDescription;
+            try {
+                currentServerDescription = check();
+            } catch (Throwable t) {
+                averageRoundTripTime.reset();
+                currentServerDescription = getConnectingServerDescription(t);
+            }
+
+            if (!isClosed) {
+                try {
+                    logStateChange(previousServerDescription, currentServerDescription);
+                    serverStateListener.stateChanged(new ChangeEvent<ServerDescription>(previousServerDescription,
+                                                                                               currentServerDescription));
+                } catch (Throwable t) {
+                    LOGGER.warn("Exception in monitor thread during notification of server description state change", t);
+                }
+            }
+
+            long delayNanos = getNextIntervalNanos(previousServerDescription, currentServerDescription);
+            lock.lock();
+            try {
+                isChecking = false;
+                if (isClosed) {
+                    closeConnection();
+                    return;
+                }
+                if (isCheckRequested) {
+                    delayNanos = Math.min(delayNanos, getMinimumDelayNanos());
+                }
+                scheduleCheck(delayNanos);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private ServerDescription check() {
+            if (connection == null) {
+                connection = internalConnectionFactory.create(serverId);
+                try {
+                    connection.open();
+                } catch (Throwable t) {
+                    connection = null;
+                    throw t;
+                }
+            }
+            try {
+                return lookupServerDescription(connection);
+            } catch (MongoSocketException e) {
+                connectionPool.invalidate();
+                connection.close();
+                connection = null;
+                connection = internalConnectionFactory.create(serverId);
+                try {
+                    connection.open();
+                } catch (Throwable t) {
+                    connection = null;
+                    throw t;
+                }
+                try {
+                    return lookupServerDescription(connection);
+                } catch (MongoSocketException e1) {
                     connection.close();
+                    connection = null;
+                    throw e1;
                 }
             }
         }
 
+        private void closeConnection() {
+            if (connection != null) {
+                connection.close();
+                connection = null;
+            }
+        }
+
+        private long getNextIntervalNanos(final ServerDescription previousServerDescription,
+                                          final ServerDescription currentServerDescription) {
+            long minIntervalNanos = settings.getMinHeartbeatFrequency(NANOSECONDS);
+            if (shouldLogStageChange(previousServerDescription, currentServerDescription)
+                || (currentServerDescription.isReplicaSetMember() && currentServerDescription.getPrimary() == null)) {
+                intervalNanos = minIntervalNanos;
+            } else {
+                intervalNanos = Math.max(minIntervalNanos, Math.min(settings.getHeartbeatFrequency(NANOSECONDS), intervalNanos * 2));
+            }
+            return intervalNanos;
+        }
+
         private ServerDescription getConnectingServerDescription(final Throwable exception) {
             return ServerDescription.builder().type(UNKNOWN).state(CONNECTING).address(serverId.getAddress()).exception(exception).build();
         }
@@ -199,33 +326,6 @@ class DefaultServerMonitor implements ServerMonitor {
                 }
             }
         }
-
-        private void waitForNext() {
-            try {
-                long timeRemaining = waitForSignalOrTimeout();
-                if (timeRemaining > 0) {
-                    long timeWaiting = settings.getHeartbeatFrequency(NANOSECONDS) - timeRemaining;
-                    long minimumNanosToWait = settings.getMinHeartbeatFrequency(NANOSECONDS);
-                    if (timeWaiting < minimumNanosToWait) {
-                        long millisToSleep = MILLISECONDS.convert(minimumNanosToWait - timeWaiting, NANOSECONDS);
-                        if (millisToSleep > 0) {
-                            Thread.sleep(millisToSleep);
-                        }
-                    }
-                }
-            } catch (InterruptedException e) {
-                // fall through
-            }
-        }
-
-        private long waitForSignalOrTimeout() throws InterruptedException {
-            lock.lock();
-            try {
-                return condition.awaitNanos(settings.getHeartbeatFrequency(NANOSECONDS));
-            } finally {
-                lock.unlock();
-            }
-        }
     }
 
     static boolean shouldLogStageChange(final ServerDescription previous, final ServerDescription current) {
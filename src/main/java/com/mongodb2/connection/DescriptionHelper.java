@@ -58,7 +58,7 @@ final class DescriptionHelper {
                                                              final BsonDocument buildInfoResult) {
         return new ConnectionDescription(connectionId, getVersion(buildInfoResult), getServerType(isMasterResult),
                                          getMaxWriteBatchSize(isMasterResult), getMaxBsonObjectSize(isMasterResult),
-                                         getMaxMessageSizeBytes(isMasterResult));
+                                         getMaxMessageSizeBytes(isMasterResult), getCompressors(isMasterResult));
 
     }
 
@@ -115,6 +115,14 @@ final class DescriptionHelper {
         return isMasterResult.getInt32("maxWriteBatchSize", new BsonInt32(getDefaultMaxWriteBatchSize())).getValue();
     }
 
+    private static List<String> getCompressors(final BsonDocument isMasterResult) {
+        List<String> compressorList = new ArrayList<String>();
+        for (BsonValue compressor : isMasterResult.getArray("compression", new BsonArray())) {
+            compressorList.add(compressor.asString().getValue());
+        }
+        return compressorList;
+    }
+
     private static String getString(final BsonDocument response, final String key) {
         if (response.containsKey(key)) {
             return response.getString(key).getValue();
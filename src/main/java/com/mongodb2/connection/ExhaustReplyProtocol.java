@@ -0,0 +1,134 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb2.connection;
+
+import com.mongodb2.MongoCursorNotFoundException;
+import com.mongodb2.MongoNamespace;
+import com.mongodb2.async.SingleResultCallback;
+import com.mongodb2.diagnostics.logging.Logger;
+import com.mongodb2.diagnostics.logging.Loggers;
+import com.mongodb2.event.CommandListener;
+import org.bson2.BsonDocument;
+import org.bson2.codecs.BsonDocumentCodec;
+import org.bson2.codecs.Decoder;
+
+import static com.mongodb2.connection.ProtocolHelper.getQueryFailureException;
+import static java.lang.String.format;
+
+/**
+ * Receives the next OP_REPLY that the server streams in response to an exhaust query.  Nothing is sent: each reply after the first is a
+ * response to the one before it, rather than to a request.
+ *
+ * <p>As no request is sent, no command events are published for the replies that this protocol receives.</p>
+ *
+ * @param <T> the type of document to decode query results to
+ * @mongodb.driver.manual ../meta-driver/latest/legacy/mongodb-wire-protocol/#op-query OP_QUERY
+ */
+class ExhaustReplyProtocol<T> implements Protocol<QueryResult<T>> {
+
+    public static final Logger LOGGER = Loggers.getLogger("protocol.query");
+
+    private final MongoNamespace namespace;
+    private final int responseTo;
+    private final long cursorId;
+    private final Decoder<T> resultDecoder;
+
+    /**
+     * Construct an instance.
+     *
+     * @param namespace     the namespace
+     * @param responseTo    the request id of the previous reply
+     * @param cursorId      the cursor id returned in the previous reply
+     * @param resultDecoder the decoder for the result documents
+     */
+    ExhaustReplyProtocol(final MongoNamespace namespace, final int responseTo, final long cursorId, final Decoder<T> resultDecoder) {
+        this.namespace = namespace;
+        this.responseTo = responseTo;
+        this.cursorId = cursorId;
+        this.resultDecoder = resultDecoder;
+    }
+
+    @Override
+    public QueryResult<T> execute(final InternalConnection connection) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Receiving more documents from namespace %s with exhaust cursor %d on connection [%s] to server %s",
+                                namespace, cursorId, connection.getDescription().getConnectionId(),
+                                connection.getDescription().getServerAddress()));
+        }
+        ResponseBuffers responseBuffers = connection.receiveMessage(responseTo);
+        try {
+            return getQueryResult(responseBuffers, connection.getDescription());
+        } finally {
+            responseBuffers.close();
+        }
+    }
+
+    @Override
+    public void executeAsync(final InternalConnection connection, final SingleResultCallback<QueryResult<T>> callback) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Asynchronously receiving more documents from namespace %s with exhaust cursor %d on connection [%s] to "
+                                + "server %s", namespace, cursorId, connection.getDescription().getConnectionId(),
+                                connection.getDescription().getServerAddress()));
+        }
+        final ConnectionDescription connectionDescription = connection.getDescription();
+        connection.receiveMessageAsync(responseTo, new ResponseCallback(responseTo, connectionDescription.getServerAddress()) {
+            @Override
+            protected void callCallback(final ResponseBuffers responseBuffers, final Throwable throwableFromCallback) {
+                try {
+                    if (throwableFromCallback != null) {
+                        throw throwableFromCallback;
+                    }
+                    callback.onResult(getQueryResult(responseBuffers, connectionDescription), null);
+                } catch (Throwable t) {
+                    callback.onResult(null, t);
+                } finally {
+                    try {
+                        if (responseBuffers != null) {
+                            responseBuffers.close();
+                        }
+                    } catch (Throwable t1) {
+                        LOGGER.debug("Exhaust ResponseBuffer close exception", t1);
+                    }
+                }
+            }
+        });
+    }
+
+    @Override
+    public void setCommandListener(final CommandListener commandListener) {
+    }
+
+    private QueryResult<T> getQueryResult(final ResponseBuffers responseBuffers, final ConnectionDescription connectionDescription) {
+        if (responseBuffers.getReplyHeader().isCursorNotFound()) {
+            throw new MongoCursorNotFoundException(cursorId, connectionDescription.getServerAddress());
+        }
+
+        if (responseBuffers.getReplyHeader().isQueryFailure()) {
+            BsonDocument errorDocument = new ReplyMessage<BsonDocument>(responseBuffers, new BsonDocumentCodec(),
+                                                                        responseTo).getDocuments().get(0);
+            throw getQueryFailureException(errorDocument, connectionDescription.getServerAddress());
+        }
+
+        QueryResult<T> queryResult = new QueryResult<T>(namespace, new ReplyMessage<T>(responseBuffers, resultDecoder, responseTo),
+                                                        connectionDescription.getServerAddress());
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Exhaust results received %s documents with cursor %s", queryResult.getResults().size(),
+                                queryResult.getCursor()));
+        }
+        return queryResult;
+    }
+}
@@ -63,6 +63,14 @@ interface InternalConnection extends BufferProvider {
      */
     boolean isClosed();
 
+    /**
+     * Returns whether the server has more replies to stream to an exhaust query sent on this connection.  A connection with more replies
+     * to come can not be used for another request until they have all been received.
+     *
+     * @return true if more replies are to come
+     */
+    boolean hasMoreToCome();
+
     /**
      * Send a message to the server. The connection may not make any attempt to validate the integrity of the message.
      *
@@ -39,12 +39,17 @@ import java.io.IOException;
 import java.io.InterruptedIOException;
 import java.net.SocketTimeoutException;
 import java.nio.channels.ClosedByInterruptException;
+import java.nio.charset.Charset;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -55,8 +60,13 @@ import java.util.concurrent.locks.ReentrantLock;
 import static com.mongodb2.assertions.Assertions.isTrue;
 import static com.mongodb2.assertions.Assertions.notNull;
 import static com.mongodb2.connection.ReplyHeader.REPLY_HEADER_LENGTH;
+import static com.mongodb2.connection.ZlibCompressor.MESSAGE_HEADER_LENGTH;
+import static com.mongodb2.connection.ZlibCompressor.OP_COMPRESSED_OP_CODE;
+import static com.mongodb2.connection.ZlibCompressor.getMessageLength;
+import static com.mongodb2.connection.ZlibCompressor.getOpCode;
 import static com.mongodb2.internal.async.ErrorHandlingResultCallback.errorHandlingCallback;
 import static java.lang.String.format;
+import static java.util.Arrays.asList;
 
 // This class is a bit strange currently.  It supports both concurrent synchronous and asynchronous send and receive, but for simplicity is
 // designed to only handle concurrent synchronous OR concurrent asynchronous requests at any given time.  This works because
@@ -68,6 +78,7 @@ class InternalStreamConnection implements InternalConnection {
     private final StreamFactory streamFactory;
     private final InternalConnectionInitializer connectionInitializer;
     private final ConnectionListener connectionListener;
+    private final ZlibCompressor compressor;
 
     private final Lock writerLock = new ReentrantLock(false);
     private final Lock readerLock = new ReentrantLock(false);
@@ -76,6 +87,8 @@ class InternalStreamConnection implements InternalConnection {
     private final Map<Integer, SingleResultCallback<ResponseBuffers>> readQueue =
     new HashMap<Integer, SingleResultCallback<ResponseBuffers>>();
     private final Map<Integer, ResponseBuffers> messages = new ConcurrentHashMap<Integer, ResponseBuffers>();
+    // the request ids whose synchronous readers gave up waiting before their reply was read
+    private final Set<Integer> abandonedResponseTos = Collections.newSetFromMap(new ConcurrentHashMap<Integer, Boolean>());
 
     private boolean isWriting;
     private boolean isReading;
@@ -86,19 +99,40 @@ class InternalStreamConnection implements InternalConnection {
 
     private volatile ConnectionDescription description;
     private volatile Stream stream;
+    // the compressor, if the server agreed to use it during the handshake
+    private volatile ZlibCompressor sendCompressor;
 
     private final AtomicBoolean isClosed = new AtomicBoolean();
     private final AtomicBoolean opened = new AtomicBoolean();
 
+    // the request id that the next reply to an exhaust query will be a response to, or null if no more replies are to come
+    private volatile Integer moreToComeResponseTo;
+
     static final Logger LOGGER = Loggers.getLogger("connection");
 
+    private static final int EXHAUST_FLAG = 1 << 6;
+    private static final Charset UTF8_CHARSET = Charset.forName("UTF-8");
+    private static final String COMMAND_COLLECTION_SUFFIX = ".$cmd";
+    // the commands that carry credentials, which are never compressed, so that the compressed size of a message can't leak anything
+    // about them
+    private static final Set<String> UNCOMPRESSIBLE_COMMANDS = new HashSet<String>(asList("saslStart", "saslContinue", "getnonce",
+                                                                                         "authenticate", "createUser", "updateUser",
+                                                                                         "copydbSaslStart", "copydbgetnonce"));
+
     InternalStreamConnection(final ServerId serverId, final StreamFactory streamFactory,
                              final InternalConnectionInitializer connectionInitializer,
                              final ConnectionListener connectionListener) {
+        this(serverId, streamFactory, connectionInitializer, connectionListener, null);
+    }
+
+    InternalStreamConnection(final ServerId serverId, final StreamFactory streamFactory,
+                             final InternalConnectionInitializer connectionInitializer,
+                             final ConnectionListener connectionListener, final ZlibCompressor compressor) {
         this.serverId = notNull("serverId", serverId);
         this.streamFactory = notNull("streamFactory", streamFactory);
         this.connectionInitializer = notNull("connectionInitializer", connectionInitializer);
         this.connectionListener = new ErrorHandlingConnectionListener(notNull("connectionListener", connectionListener));
+        this.compressor = compressor;
         description = new ConnectionDescription(serverId);
     }
 
@@ -114,6 +148,7 @@ class InternalStreamConnection implements InternalConnection {
         try {
             stream.open();
             description = connectionInitializer.initialize(this);
+            sendCompressor = findSendCompressor(description);
             opened.set(true);
 
             connectionListener.connectionOpened(new ConnectionOpenedEvent(getId()));
@@ -148,6 +183,7 @@ class InternalStreamConnection implements InternalConnection {
                             callback.onResult(null, t);
                         } else {
                             description = result;
+                            sendCompressor = findSendCompressor(description);
                             opened.set(true);
                             connectionListener.connectionOpened(new ConnectionOpenedEvent(getId()));
                             if (LOGGER.isInfoEnabled()) {
@@ -166,6 +202,13 @@ class InternalStreamConnection implements InternalConnection {
         });
     }
 
+    private ZlibCompressor findSendCompressor(final ConnectionDescription description) {
+        if (compressor != null && description.getCompressors().contains(compressor.getName())) {
+            return compressor;
+        }
+        return null;
+    }
+
     @Override
     public void close() {
         // All but the first call is a no-op
@@ -190,6 +233,11 @@ class InternalStreamConnection implements InternalConnection {
         return isClosed.get();
     }
 
+    @Override
+    public boolean hasMoreToCome() {
+        return moreToComeResponseTo != null;
+    }
+
     @Override
     public void sendMessage(final List<ByteBuf> byteBuffers, final int lastRequestId) {
         notNull("stream is open", stream);
@@ -198,16 +246,142 @@ class InternalStreamConnection implements InternalConnection {
             throw new MongoSocketClosedException("Cannot write to a closed stream", getServerAddress());
         }
 
+        List<ByteBuf> messageBuffers = null;
         writerLock.lock();
         try {
-            int messageSize = getMessageSize(byteBuffers);
-            stream.write(byteBuffers);
+            trackExhaustQuery(byteBuffers, lastRequestId);
+            messageBuffers = compress(byteBuffers);
+            int messageSize = getMessageSize(messageBuffers);
+            stream.write(getStreamBuffers(byteBuffers, messageBuffers));
             connectionListener.messagesSent(new ConnectionMessagesSentEvent(getId(), lastRequestId, messageSize));
         } catch (Exception e) {
             close();
             throw translateWriteException(e);
         } finally {
             writerLock.unlock();
+            releaseCompressed(byteBuffers, messageBuffers);
+        }
+    }
+
+    // The server streams the replies to an exhaust query until the cursor is exhausted, each in response to the one before, so an
+    // outgoing OP_QUERY with the exhaust flag set starts the chain, and the chain ends with the first reply that has no cursor
+    private void trackExhaustQuery(final List<ByteBuf> byteBuffers, final int lastRequestId) {
+        ByteBuf messageStart = byteBuffers.get(0);
+        int position = messageStart.position();
+        if (messageStart.limit() - position >= MESSAGE_HEADER_LENGTH + 4
+            && readInt(messageStart, position + 12) == RequestMessage.OpCode.OP_QUERY.getValue()
+            && (readInt(messageStart, position + MESSAGE_HEADER_LENGTH) & EXHAUST_FLAG) != 0) {
+            moreToComeResponseTo = lastRequestId;
+        }
+    }
+
+    private void trackExhaustReply(final ReplyHeader replyHeader) {
+        Integer localMoreToComeResponseTo = moreToComeResponseTo;
+        if (localMoreToComeResponseTo != null && localMoreToComeResponseTo == replyHeader.getResponseTo()) {
+            moreToComeResponseTo = replyHeader.getCursorId() != 0 && !replyHeader.isQueryFailure() ? replyHeader.getRequestId() : null;
+        }
+    }
+
+    private static int readInt(final ByteBuf buffer, final int index) {
+        return (buffer.get(index) & 0xff)
+               | (buffer.get(index + 1) & 0xff) << 8
+               | (buffer.get(index + 2) & 0xff) << 16
+               | (buffer.get(index + 3) & 0xff) << 24;
+    }
+
+    private List<ByteBuf> compress(final List<ByteBuf> byteBuffers) {
+        ZlibCompressor localSendCompressor = sendCompressor;
+        if (localSendCompressor == null || UNCOMPRESSIBLE_COMMANDS.contains(getCommandName(byteBuffers))) {
+            return byteBuffers;
+        }
+        return localSendCompressor.compress(byteBuffers, stream);
+    }
+
+    // Returns the name of the command that the message carries, which is the first key of the query document of an OP_QUERY on the
+    // $cmd collection, or null if the message is not a command.
+    private static String getCommandName(final List<ByteBuf> byteBuffers) {
+        if (readMessageInt(byteBuffers, 12) != RequestMessage.OpCode.OP_QUERY.getValue()) {
+            return null;
+        }
+        int namespaceStart = MESSAGE_HEADER_LENGTH + 4;
+        int namespaceEnd = findMessageCStringEnd(byteBuffers, namespaceStart);
+        if (namespaceEnd == -1 || !readMessageString(byteBuffers, namespaceStart, namespaceEnd).endsWith(COMMAND_COLLECTION_SUFFIX)) {
+            return null;
+        }
+        // skip the terminating null, numberToSkip, numberToReturn and the document length, to reach the type of the first element
+        int firstElementStart = namespaceEnd + 1 + 4 + 4 + 4;
+        if (readMessageByte(byteBuffers, firstElementStart) <= 0) {
+            return null;
+        }
+        int nameEnd = findMessageCStringEnd(byteBuffers, firstElementStart + 1);
+        return nameEnd == -1 ? null : readMessageString(byteBuffers, firstElementStart + 1, nameEnd);
+    }
+
+    // returns the byte at the given offset into the message, or -1 if the message is not that long
+    private static int readMessageByte(final List<ByteBuf> byteBuffers, final int index) {
+        int remaining = index;
+        for (final ByteBuf cur : byteBuffers) {
+            int size = cur.limit() - cur.position();
+            if (remaining < size) {
+                return cur.get(cur.position() + remaining) & 0xff;
+            }
+            remaining -= size;
+        }
+        return -1;
+    }
+
+    private static int readMessageInt(final List<ByteBuf> byteBuffers, final int index) {
+        int value = 0;
+        for (int i = 3; i >= 0; i--) {
+            int cur = readMessageByte(byteBuffers, index + i);
+            if (cur == -1) {
+                return -1;
+            }
+            value = value << 8 | cur;
+        }
+        return value;
+    }
+
+    // returns the offset of the null that terminates the C string starting at the given offset, or -1 if the message ends first
+    private static int findMessageCStringEnd(final List<ByteBuf> byteBuffers, final int start) {
+        for (int i = start;; i++) {
+            int cur = readMessageByte(byteBuffers, i);
+            if (cur <= 0) {
+                return cur == 0 ? i : -1;
+            }
+        }
+    }
+
+    private static String readMessageString(final List<ByteBuf> byteBuffers, final int start, final int end) {
+        byte[] bytes = new byte[end - start];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) readMessageByte(byteBuffers, start + i);
+        }
+        return new String(bytes, UTF8_CHARSET);
+    }
+
+    // A stream may take ownership of the buffers written to it, as the Netty stream does, so the compressed buffers are written as
+    // duplicates, in the same way that ByteBufferBsonOutput.getByteBuffers hands out its buffers, and are released by releaseCompressed
+    private List<ByteBuf> getStreamBuffers(final List<ByteBuf> byteBuffers, final List<ByteBuf> messageBuffers) {
+        if (messageBuffers == byteBuffers) {
+            return byteBuffers;
+        }
+        List<ByteBuf> streamBuffers = new ArrayList<ByteBuf>(messageBuffers.size());
+        for (final ByteBuf cur : messageBuffers) {
+            streamBuffers.add(cur.duplicate());
+        }
+        return streamBuffers;
+    }
+
+    // releases the compressed buffers, along with the original buffers that were never handed to the stream in their place
+    private void releaseCompressed(final List<ByteBuf> byteBuffers, final List<ByteBuf> messageBuffers) {
+        if (messageBuffers != null && messageBuffers != byteBuffers) {
+            for (final ByteBuf cur : messageBuffers) {
+                cur.release();
+            }
+            for (final ByteBuf cur : byteBuffers) {
+                cur.release();
+            }
         }
     }
 
@@ -222,7 +396,8 @@ class InternalStreamConnection implements InternalConnection {
         readerLock.lock();
         try {
             ResponseBuffers responseBuffers = receiveResponseBuffers();
-            messages.put(responseBuffers.getReplyHeader().getResponseTo(), responseBuffers);
+            trackExhaustReply(responseBuffers.getReplyHeader());
+            putMessage(responseBuffers);
             readingPhase.getAndSet(localLatch).countDown();
         } catch (Throwable t) {
             exceptionThatPrecededStreamClosing = translateReadException(t);
@@ -234,6 +409,7 @@ class InternalStreamConnection implements InternalConnection {
 
         while (true) {
             if (isClosed()) {
+                abandonMessage(responseTo);
                 if (exceptionThatPrecededStreamClosing != null) {
                     throw exceptionThatPrecededStreamClosing;
                 } else {
@@ -251,6 +427,7 @@ class InternalStreamConnection implements InternalConnection {
             try {
                 localLatch.await();
             } catch (InterruptedException e) {
+                abandonMessage(responseTo);
                 throw new MongoInterruptedException("Interrupted while reading from stream", e);
             }
 
@@ -258,6 +435,34 @@ class InternalStreamConnection implements InternalConnection {
         }
     }
 
+    // Hands a reply read by one synchronous reader to the reader that is waiting for it, or releases it if that reader has given up
+    private void putMessage(final ResponseBuffers responseBuffers) {
+        int responseTo = responseBuffers.getReplyHeader().getResponseTo();
+        if (abandonedResponseTos.remove(responseTo)) {
+            responseBuffers.close();
+            return;
+        }
+        messages.put(responseTo, responseBuffers);
+        // the reader may have given up between the check and the put
+        if (abandonedResponseTos.contains(responseTo)) {
+            releaseAbandonedMessage(responseTo);
+        }
+    }
+
+    // Releases the reply to the given request, whether it has already been read by another reader or is yet to be read
+    private void abandonMessage(final int responseTo) {
+        abandonedResponseTos.add(responseTo);
+        releaseAbandonedMessage(responseTo);
+    }
+
+    private void releaseAbandonedMessage(final int responseTo) {
+        ResponseBuffers abandoned = messages.remove(responseTo);
+        if (abandoned != null) {
+            abandonedResponseTos.remove(responseTo);
+            abandoned.close();
+        }
+    }
+
     @Override
     public void sendMessageAsync(final List<ByteBuf> byteBuffers, final int lastRequestId, final SingleResultCallback<Void> callback) {
         notNull("stream is open", stream, callback);
@@ -271,7 +476,23 @@ class InternalStreamConnection implements InternalConnection {
             LOGGER.trace(format("Queuing send message: %s. ([%s])", lastRequestId, getId()));
         }
 
-        SendMessageRequest sendMessageRequest = new SendMessageRequest(byteBuffers, lastRequestId, errorHandlingCallback(callback, LOGGER));
+        final List<ByteBuf> messageBuffers;
+        try {
+            trackExhaustQuery(byteBuffers, lastRequestId);
+            messageBuffers = compress(byteBuffers);
+        } catch (Throwable t) {
+            callback.onResult(null, translateWriteException(t));
+            return;
+        }
+
+        SendMessageRequest sendMessageRequest = new SendMessageRequest(getStreamBuffers(byteBuffers, messageBuffers), lastRequestId,
+                                                                       errorHandlingCallback(new SingleResultCallback<Void>() {
+                                                                           @Override
+                                                                           public void onResult(final Void result, final Throwable t) {
+                                                                               releaseCompressed(byteBuffers, messageBuffers);
+                                                                               callback.onResult(result, t);
+                                                                           }
+                                                                       }, LOGGER));
 
         boolean mustWrite = false;
         writerLock.lock();
@@ -430,8 +651,13 @@ class InternalStreamConnection implements InternalConnection {
     }
 
     private void receiveResponseAsync() {
-        readAsync(REPLY_HEADER_LENGTH,
-                  errorHandlingCallback(new ResponseHeaderCallback(new ResponseBuffersCallback()), LOGGER));
+        if (sendCompressor != null) {
+            readAsync(MESSAGE_HEADER_LENGTH,
+                      errorHandlingCallback(new MessageHeaderCallback(new ResponseHeaderCallback(new ResponseBuffersCallback())), LOGGER));
+        } else {
+            readAsync(REPLY_HEADER_LENGTH,
+                      errorHandlingCallback(new ResponseHeaderCallback(new ResponseBuffersCallback()), LOGGER));
+        }
     }
 
     private void readAsync(final int numBytes, final SingleResultCallback<ByteBuf> callback) {
@@ -491,7 +717,61 @@ class InternalStreamConnection implements InternalConnection {
     }
 
     private ResponseBuffers receiveResponseBuffers() throws IOException {
-        ByteBuf headerByteBuffer = stream.read(REPLY_HEADER_LENGTH);
+        if (sendCompressor != null) {
+            return receiveCompressibleResponseBuffers();
+        }
+        return receiveResponseBuffers(stream.read(REPLY_HEADER_LENGTH));
+    }
+
+    // Once compression is negotiated a reply may or may not be compressed, so read the common message header first to find out which.
+    private ResponseBuffers receiveCompressibleResponseBuffers() throws IOException {
+        ByteBuf messageHeader = stream.read(MESSAGE_HEADER_LENGTH);
+        ByteBuf remainder;
+        try {
+            if (getOpCode(messageHeader) == OP_COMPRESSED_OP_CODE) {
+                remainder = stream.read(getCompressedMessageRemainderLength(messageHeader));
+            } else {
+                remainder = stream.read(REPLY_HEADER_LENGTH - MESSAGE_HEADER_LENGTH);
+            }
+        } catch (IOException e) {
+            messageHeader.release();
+            throw e;
+        } catch (RuntimeException e) {
+            messageHeader.release();
+            throw e;
+        }
+
+        if (getOpCode(messageHeader) == OP_COMPRESSED_OP_CODE) {
+            return sendCompressor.uncompress(messageHeader, remainder, description.getMaxMessageSize());
+        }
+        return receiveResponseBuffers(mergeReplyHeader(messageHeader, remainder));
+    }
+
+    private int getCompressedMessageRemainderLength(final ByteBuf messageHeader) {
+        int messageLength = getMessageLength(messageHeader);
+        if (messageLength <= MESSAGE_HEADER_LENGTH || messageLength > description.getMaxMessageSize()) {
+            throw new MongoInternalException(format("The compressed reply message length %d is not valid", messageLength));
+        }
+        return messageLength - MESSAGE_HEADER_LENGTH;
+    }
+
+    private ByteBuf mergeReplyHeader(final ByteBuf messageHeader, final ByteBuf remainder) {
+        try {
+            ByteBuf replyHeader = stream.getBuffer(REPLY_HEADER_LENGTH);
+            for (int i = 0; i < MESSAGE_HEADER_LENGTH; i++) {
+                replyHeader.put(messageHeader.get(i));
+            }
+            for (int i = 0; i < REPLY_HEADER_LENGTH - MESSAGE_HEADER_LENGTH; i++) {
+                replyHeader.put(remainder.get(i));
+            }
+            return replyHeader.flip();
+        } finally {
+            messageHeader.release();
+            remainder.release();
+        }
+    }
+
+    private ResponseBuffers receiveResponseBuffers(final ByteBuf headerByteBuffer) throws IOException {
         ReplyHeader replyHeader;
         ByteBufferBsonInput headerInputBuffer = new ByteBufferBsonInput(headerByteBuffer);
         try {
@@ -514,6 +794,52 @@ class InternalStreamConnection implements InternalConnection {
         return stream.getBuffer(size);
     }
 
+    private class MessageHeaderCallback implements SingleResultCallback<ByteBuf> {
+        private final ResponseHeaderCallback responseHeaderCallback;
+
+        MessageHeaderCallback(final ResponseHeaderCallback responseHeaderCallback) {
+            this.responseHeaderCallback = responseHeaderCallback;
+        }
+
+        @Override
+        public void onResult(final ByteBuf messageHeader, final Throwable throwableFromCallback) {
+            if (throwableFromCallback != null) {
+                responseHeaderCallback.onResult(null, throwableFromCallback);
+                return;
+            }
+            final boolean compressed = getOpCode(messageHeader) == OP_COMPRESSED_OP_CODE;
+            int remainderLength;
+            try {
+                remainderLength = compressed ? getCompressedMessageRemainderLength(messageHeader)
+                                             : REPLY_HEADER_LENGTH - MESSAGE_HEADER_LENGTH;
+            } catch (Throwable t) {
+                messageHeader.release();
+                responseHeaderCallback.onResult(null, t);
+                return;
+            }
+            readAsync(remainderLength, new SingleResultCallback<ByteBuf>() {
+                @Override
+                public void onResult(final ByteBuf remainder, final Throwable t) {
+                    if (t != null) {
+                        messageHeader.release();
+                        responseHeaderCallback.onResult(null, t);
+                    } else if (compressed) {
+                        ResponseBuffers responseBuffers;
+                        try {
+                            responseBuffers = sendCompressor.uncompress(messageHeader, remainder, description.getMaxMessageSize());
+                        } catch (Throwable uncompressThrowable) {
+                            responseHeaderCallback.callback.onResult(null, uncompressThrowable);
+                            return;
+                        }
+                        responseHeaderCallback.onSuccess(responseBuffers);
+                    } else {
+                        responseHeaderCallback.onResult(mergeReplyHeader(messageHeader, remainder), null);
+                    }
+                }
+            });
+        }
+    }
+
     private class ResponseHeaderCallback implements SingleResultCallback<ByteBuf> {
         private final SingleResultCallback<ResponseBuffers> callback;
 
@@ -554,6 +880,8 @@ class InternalStreamConnection implements InternalConnection {
                 return;
             }
 
+            trackExhaustReply(responseBuffers.getReplyHeader());
+
             connectionListener.messageReceived(new ConnectionMessageReceivedEvent(getId(),
                                                                                   responseBuffers.getReplyHeader().getResponseTo(),
                                                                                   responseBuffers.getReplyHeader().getMessageLength()));
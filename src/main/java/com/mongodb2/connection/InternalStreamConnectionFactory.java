@@ -16,12 +16,14 @@
 
 package com.mongodb2.connection;
 
+import com.mongodb2.MongoCompressor;
 import com.mongodb2.MongoCredential;
 import com.mongodb2.client.MongoDriverInformation;
 import com.mongodb2.event.ConnectionListener;
 import org.bson2.BsonDocument;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static com.mongodb2.assertions.Assertions.notNull;
@@ -32,10 +34,19 @@ class InternalStreamConnectionFactory implements InternalConnectionFactory {
     private final ConnectionListener connectionListener;
     private final BsonDocument clientMetadataDocument;
     private final List<Authenticator> authenticators;
+    private final ZlibCompressor compressor;
 
     public InternalStreamConnectionFactory(final StreamFactory streamFactory, final List<MongoCredential> credentialList,
                                            final ConnectionListener connectionListener, final String applicationName,
                                            final MongoDriverInformation mongoDriverInformation) {
+        this(streamFactory, credentialList, connectionListener, applicationName, mongoDriverInformation,
+             Collections.<MongoCompressor>emptyList());
+    }
+
+    public InternalStreamConnectionFactory(final StreamFactory streamFactory, final List<MongoCredential> credentialList,
+                                           final ConnectionListener connectionListener, final String applicationName,
+                                           final MongoDriverInformation mongoDriverInformation,
+                                           final List<MongoCompressor> compressorList) {
         this.streamFactory = notNull("streamFactory", streamFactory);
         this.connectionListener = notNull("connectionListener", connectionListener);
         this.clientMetadataDocument = createClientMetadataDocument(applicationName, mongoDriverInformation);
@@ -44,13 +55,29 @@ class InternalStreamConnectionFactory implements InternalConnectionFactory {
         for (MongoCredential credential : credentialList) {
             authenticators.add(createAuthenticator(credential));
         }
+        this.compressor = createCompressor(notNull("compressorList", compressorList));
     }
 
     @Override
     public InternalConnection create(final ServerId serverId) {
+        if (compressor == null) {
+            return new InternalStreamConnection(serverId, streamFactory,
+                                                new InternalStreamConnectionInitializer(authenticators, clientMetadataDocument),
+                                                connectionListener);
+        }
         return new InternalStreamConnection(serverId, streamFactory,
-                                            new InternalStreamConnectionInitializer(authenticators, clientMetadataDocument),
-                                                   connectionListener);
+                                            new InternalStreamConnectionInitializer(authenticators, clientMetadataDocument,
+                                                                                    Collections.singletonList(compressor.getName())),
+                                            connectionListener, compressor);
+    }
+
+    private ZlibCompressor createCompressor(final List<MongoCompressor> compressorList) {
+        for (MongoCompressor cur : compressorList) {
+            if (cur.getName().equals(MongoCompressor.ZLIB)) {
+                return new ZlibCompressor(cur);
+            }
+        }
+        return null;
     }
 
     private Authenticator createAuthenticator(final MongoCredential credential) {
@@ -17,9 +17,12 @@
 package com.mongodb2.connection;
 
 import com.mongodb2.async.SingleResultCallback;
+import org.bson2.BsonArray;
 import org.bson2.BsonDocument;
 import org.bson2.BsonInt32;
+import org.bson2.BsonString;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -32,10 +35,17 @@ import static com.mongodb2.connection.DescriptionHelper.createConnectionDescript
 class InternalStreamConnectionInitializer implements InternalConnectionInitializer {
     private final List<Authenticator> authenticators;
     private final BsonDocument clientMetadataDocument;
+    private final List<String> compressorNames;
 
     InternalStreamConnectionInitializer(final List<Authenticator> authenticators, final BsonDocument clientMetadataDocument) {
+        this(authenticators, clientMetadataDocument, Collections.<String>emptyList());
+    }
+
+    InternalStreamConnectionInitializer(final List<Authenticator> authenticators, final BsonDocument clientMetadataDocument,
+                                        final List<String> compressorNames) {
         this.authenticators = notNull("authenticators", authenticators);
         this.clientMetadataDocument = clientMetadataDocument;
+        this.compressorNames = notNull("compressorNames", compressorNames);
     }
 
     @Override
@@ -92,6 +102,13 @@ class InternalStreamConnectionInitializer implements InternalConnectionInitializ
         if (clientMetadataDocument != null) {
             isMasterCommandDocument.append("client", clientMetadataDocument);
         }
+        if (!compressorNames.isEmpty()) {
+            BsonArray compression = new BsonArray();
+            for (String cur : compressorNames) {
+                compression.add(new BsonString(cur));
+            }
+            isMasterCommandDocument.append("compression", compression);
+        }
         return isMasterCommandDocument;
     }
 
@@ -71,6 +71,7 @@ class QueryProtocol<T> implements Protocol<QueryResult<T>> {
     private boolean noCursorTimeout;
     private boolean awaitData;
     private boolean partial;
+    private boolean exhaust;
     private CommandListener commandListener;
 
     /**
@@ -266,6 +267,28 @@ class QueryProtocol<T> implements Protocol<QueryResult<T>> {
         return this;
     }
 
+    /**
+     * Returns true if the server should stream all the results of the query without waiting for a get more request for each batch.
+     *
+     * @return if the query is an exhaust query
+     * @mongodb.driver.manual ../meta-driver/latest/legacy/mongodb-wire-protocol/#op-query OP_QUERY
+     */
+    public boolean isExhaust() {
+        return exhaust;
+    }
+
+    /**
+     * Sets if the server should stream all the results of the query without waiting for a get more request for each batch.
+     *
+     * @param exhaust if the query is an exhaust query
+     * @return this
+     * @mongodb.driver.manual ../meta-driver/latest/legacy/mongodb-wire-protocol/#op-query OP_QUERY
+     */
+    public QueryProtocol<T> exhaust(final boolean exhaust) {
+        this.exhaust = exhaust;
+        return this;
+    }
+
     @Override
     public QueryResult<T> execute(final InternalConnection connection) {
         if (LOGGER.isDebugEnabled()) {
@@ -381,6 +404,7 @@ class QueryProtocol<T> implements Protocol<QueryResult<T>> {
                                   .oplogReplay(isOplogReplay())
                                   .noCursorTimeout(isNoCursorTimeout())
                                   .awaitData(isAwaitData())
+                                  .exhaust(isExhaust())
                                   .partial(isPartial());
     }
 
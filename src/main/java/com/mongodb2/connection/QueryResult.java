@@ -33,6 +33,7 @@ public class QueryResult<T> {
     private final List<T> results;
     private final long cursorId;
     private final ServerAddress serverAddress;
+    private final int replyRequestId;
 
     /**
      * Construct an instance.
@@ -47,6 +48,7 @@ public class QueryResult<T> {
         this.results = results;
         this.cursorId = cursorId;
         this.serverAddress = serverAddress;
+        this.replyRequestId = 0;
     }
 
     /**
@@ -57,8 +59,11 @@ public class QueryResult<T> {
      * @param address      the server address
      */
     QueryResult(final MongoNamespace namespace, final ReplyMessage<T> replyMessage, final ServerAddress address) {
-        this(namespace, replyMessage.getDocuments(), replyMessage.getReplyHeader().getCursorId(), address
-            );
+        this.namespace = namespace;
+        this.results = replyMessage.getDocuments();
+        this.cursorId = replyMessage.getReplyHeader().getCursorId();
+        this.serverAddress = address;
+        this.replyRequestId = replyMessage.getReplyHeader().getRequestId();
     }
 
     /**
@@ -96,4 +101,9 @@ public class QueryResult<T> {
     public ServerAddress getAddress() {
         return serverAddress;
     }
+
+    // the request id of the reply that these results were read from, which the next reply to an exhaust query is a response to
+    int getReplyRequestId() {
+        return replyRequestId;
+    }
 }
@@ -45,6 +45,9 @@ abstract class RequestMessage {
 
     private static final CodecRegistry REGISTRY = fromProviders(new BsonValueCodecProvider());
 
+    // immutable, so shared by the writers of every message
+    static final BsonWriterSettings WRITER_SETTINGS = new BsonWriterSettings();
+
     private final String collectionName;
     private final MessageSettings settings;
     private final int id;
@@ -247,8 +250,8 @@ abstract class RequestMessage {
 
     private <T> void addDocument(final T obj, final Encoder<T> encoder, final EncoderContext encoderContext,
                                  final BsonOutput bsonOutput, final FieldNameValidator validator, final int maxDocumentSize) {
-        BsonBinaryWriter writer = new BsonBinaryWriter(new BsonWriterSettings(),
-                                                       new BsonBinaryWriterSettings(maxDocumentSize), bsonOutput, validator);
+        BsonBinaryWriter writer = new BsonBinaryWriter(WRITER_SETTINGS, new BsonBinaryWriterSettings(maxDocumentSize), bsonOutput,
+                                                       validator);
         try {
             encoder.encode(writer, obj, encoderContext);
         } finally {
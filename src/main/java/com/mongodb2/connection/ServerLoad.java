@@ -0,0 +1,144 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb2.connection;
+
+import com.mongodb2.annotations.ThreadSafe;
+import com.mongodb2.diagnostics.logging.Logger;
+import com.mongodb2.diagnostics.logging.Loggers;
+import com.mongodb2.management.MBeanServerFactory;
+import com.mongodb2.management.ServerLoadStatisticsMBean;
+
+import javax.management.NotCompliantMBeanException;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Tracks the operations in flight on a server and their recent latency, for load-aware server selection.
+ */
+@ThreadSafe
+final class ServerLoad implements ServerLoadStatisticsMBean {
+    private static final Logger LOGGER = Loggers.getLogger("cluster");
+
+    private final ServerId serverId;
+    private final AtomicInteger inFlightOperationCount = new AtomicInteger();
+    private final AtomicLong selectionCount = new AtomicLong();
+    private final ExponentiallyWeightedMovingAverage averageOperationTime = new ExponentiallyWeightedMovingAverage(0.2);
+    private volatile long averageOperationTimeNanos;
+    private volatile String mBeanName;
+
+    ServerLoad(final ServerId serverId) {
+        this.serverId = serverId;
+    }
+
+    /**
+     * Records the start of an operation.
+     *
+     * @return the start time, to pass to {@link #operationCompleted(long, boolean)}
+     */
+    long operationStarted() {
+        inFlightOperationCount.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the completion of an operation.  Only successful operations contribute to the average operation time, as a server that
+     * fails operations quickly would otherwise look like the least loaded, and attract more of them.
+     *
+     * @param startTimeNanos the start time returned by {@link #operationStarted()}
+     * @param succeeded      whether the operation succeeded
+     */
+    void operationCompleted(final long startTimeNanos, final boolean succeeded) {
+        long elapsedTimeNanos = System.nanoTime() - startTimeNanos;
+        inFlightOperationCount.decrementAndGet();
+        if (!succeeded) {
+            return;
+        }
+        synchronized (averageOperationTime) {
+            averageOperationTimeNanos = averageOperationTime.addSample(elapsedTimeNanos);
+        }
+    }
+
+    void selected() {
+        selectionCount.incrementAndGet();
+    }
+
+    /**
+     * Gets the expected cost of sending another operation to the server: the operations already in flight, plus this one, weighted by
+     * the average operation time.  Until an operation has completed, the heartbeat round trip time stands in for the operation time.
+     *
+     * @param roundTripTimeNanos the server's heartbeat round trip time
+     * @return the cost, which is only meaningful relative to that of other servers
+     */
+    double getCost(final long roundTripTimeNanos) {
+        long operationTimeNanos = averageOperationTimeNanos > 0 ? averageOperationTimeNanos : roundTripTimeNanos;
+        return (inFlightOperationCount.get() + 1) * (double) Math.max(operationTimeNanos, 1);
+    }
+
+    /**
+     * Registers an MBean for these statistics.
+     */
+    void register() {
+        mBeanName = format("org.mongodb.driver:type=ServerLoad,clusterId=%s,host=%s,port=%s",
+                           ObjectName.quote(serverId.getClusterId().getValue()), ObjectName.quote(serverId.getAddress().getHost()),
+                           serverId.getAddress().getPort());
+        try {
+            MBeanServerFactory.getMBeanServer().registerMBean(new StandardMBean(this, ServerLoadStatisticsMBean.class), mBeanName);
+        } catch (NotCompliantMBeanException e) {
+            LOGGER.warn("Unable to register MBean " + mBeanName, e);
+        }
+    }
+
+    /**
+     * Unregisters the MBean for these statistics, if it was registered.
+     */
+    void unregister() {
+        if (mBeanName != null) {
+            MBeanServerFactory.getMBeanServer().unregisterMBean(mBeanName);
+        }
+    }
+
+    @Override
+    public String getHost() {
+        return serverId.getAddress().getHost();
+    }
+
+    @Override
+    public int getPort() {
+        return serverId.getAddress().getPort();
+    }
+
+    @Override
+    public int getInFlightOperationCount() {
+        return inFlightOperationCount.get();
+    }
+
+    @Override
+    public long getAverageOperationTimeMicros() {
+        return MICROSECONDS.convert(averageOperationTimeNanos, NANOSECONDS);
+    }
+
+    @Override
+    public long getSelectionCount() {
+        return selectionCount.get();
+    }
+}
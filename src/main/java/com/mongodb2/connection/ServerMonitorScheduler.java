@@ -0,0 +1,75 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb2.connection;
+
+import com.mongodb2.annotations.ThreadSafe;
+import com.mongodb2.internal.thread.DaemonThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The scheduler on which the heartbeats of every server monitor in the JVM are run, so that the number of monitoring threads is not
+ * proportional to the number of clients and servers.  The threads are daemon threads, created as they are needed, so the scheduler never
+ * needs to be shut down.
+ *
+ * <p>A single thread waits for each check to become due, and hands it to a pool of threads that run the checks.  A check can block for
+ * as long as the connect or socket timeout when its server is unreachable, so the pool grows to as many threads as there are checks
+ * running at once, so that a slow check never delays the checks of other servers.  Threads that have been idle for a minute exit.</p>
+ */
+@ThreadSafe
+final class ServerMonitorScheduler {
+    private static final long IDLE_CHECK_THREAD_KEEP_ALIVE_SECONDS = 60;
+    private static final ServerMonitorScheduler INSTANCE = new ServerMonitorScheduler();
+
+    private final ScheduledThreadPoolExecutor timer;
+    private final ExecutorService checkExecutor;
+
+    static ServerMonitorScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    ServerMonitorScheduler() {
+        timer = new ScheduledThreadPoolExecutor(1, new DaemonThreadFactory("cluster-monitor-timer"));
+        // monitors frequently reschedule their next check, so don't let cancelled checks accumulate in the queue
+        timer.setRemoveOnCancelPolicy(true);
+        checkExecutor = new ThreadPoolExecutor(0, Integer.MAX_VALUE, IDLE_CHECK_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                                               new SynchronousQueue<Runnable>(), new DaemonThreadFactory("cluster-monitor"));
+    }
+
+    /**
+     * Schedules a check.  Cancelling the returned future prevents the check from starting if it is not yet due, but a check that has
+     * already been handed to a check thread runs regardless.
+     *
+     * @param check    the check
+     * @param delay    the delay before the check is due
+     * @param timeUnit the unit of the delay
+     * @return the future of the scheduled check
+     */
+    ScheduledFuture<?> schedule(final Runnable check, final long delay, final TimeUnit timeUnit) {
+        return timer.schedule(new Runnable() {
+            @Override
+            public void run() {
+                checkExecutor.execute(check);
+            }
+        }, delay, timeUnit);
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb2.connection;
+
+/**
+ * The strategy for choosing among the servers that satisfy a server selector.
+ *
+ * @since 3.5
+ */
+public enum ServerSelectionStrategy {
+    /**
+     * Choose uniformly at random among the suitable servers.
+     */
+    RANDOM,
+
+    /**
+     * Sample two of the suitable servers at random and choose the less loaded one, where load is the number of operations in flight on
+     * the server weighted by its recent operation latency.
+     */
+    POWER_OF_TWO_CHOICES
+}
@@ -31,6 +31,10 @@ import java.util.List;
 import static com.mongodb2.assertions.Assertions.notNull;
 
 class SocketStream implements Stream {
+    // Upper bound on the size of the pooled buffer that message buffers are gathered into before being handed to the socket.  Anything
+    // larger is written in chunks of this size.
+    private static final int MAX_COALESCED_BUFFER_SIZE = 64 * 1024;
+
     private final ServerAddress address;
     private final SocketSettings settings;
     private final SslSettings sslSettings;
@@ -71,8 +75,44 @@ class SocketStream implements Stream {
 
     @Override
     public void write(final List<ByteBuf> buffers) throws IOException {
-        for (final ByteBuf cur : buffers) {
+        if (buffers.size() == 1) {
+            ByteBuf cur = buffers.get(0);
             outputStream.write(cur.array(), 0, cur.limit());
+            return;
+        }
+
+        int totalSize = 0;
+        for (final ByteBuf cur : buffers) {
+            totalSize += cur.limit();
+        }
+
+        // Gather the message buffers into as few socket writes as possible, so that a message doesn't go out as a train of small
+        // segments, one per buffer.
+        ByteBuf coalescedBuffer = bufferProvider.getBuffer(Math.min(totalSize, MAX_COALESCED_BUFFER_SIZE));
+        try {
+            byte[] coalescedBytes = coalescedBuffer.array();
+            int coalescedSize = 0;
+            for (final ByteBuf cur : buffers) {
+                byte[] bytes = cur.array();
+                int offset = 0;
+                int remaining = cur.limit();
+                while (remaining > 0) {
+                    if (coalescedSize == coalescedBuffer.limit()) {
+                        outputStream.write(coalescedBytes, 0, coalescedSize);
+                        coalescedSize = 0;
+                    }
+                    int length = Math.min(remaining, coalescedBuffer.limit() - coalescedSize);
+                    System.arraycopy(bytes, offset, coalescedBytes, coalescedSize, length);
+                    coalescedSize += length;
+                    offset += length;
+                    remaining -= length;
+                }
+            }
+            if (coalescedSize > 0) {
+                outputStream.write(coalescedBytes, 0, coalescedSize);
+            }
+        } finally {
+            coalescedBuffer.release();
         }
     }
 
@@ -80,6 +80,11 @@ class UsageTrackingInternalConnection implements InternalConnection {
         return wrapped.isClosed();
     }
 
+    @Override
+    public boolean hasMoreToCome() {
+        return wrapped.hasMoreToCome();
+    }
+
     @Override
     public ByteBuf getBuffer(final int size) {
         return wrapped.getBuffer(size);
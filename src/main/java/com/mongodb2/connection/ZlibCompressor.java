@@ -0,0 +1,269 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb2.connection;
+
+import com.mongodb2.MongoCompressor;
+import com.mongodb2.MongoInternalException;
+import com.mongodb2.internal.connection.ConcurrentPool;
+import com.mongodb2.internal.connection.PowerOfTwoBufferPool;
+import org.bson2.ByteBuf;
+import org.bson2.io.ByteBufferBsonInput;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static com.mongodb2.assertions.Assertions.notNull;
+import static com.mongodb2.connection.ReplyHeader.REPLY_HEADER_LENGTH;
+import static java.lang.String.format;
+
+/**
+ * Wraps outgoing messages in OP_COMPRESSED and unwraps compressed replies, using zlib.  Deflaters, inflaters and scratch buffers are
+ * pooled, so that one instance can be shared by all the connections created by a factory.
+ */
+class ZlibCompressor {
+    static final int MESSAGE_HEADER_LENGTH = 16;
+    static final int OP_COMPRESSED_OP_CODE = 2012;
+    static final byte ZLIB_COMPRESSOR_ID = 2;
+
+    // originalOpcode (int32), uncompressedSize (int32) and compressorId (uint8)
+    private static final int COMPRESSED_HEADER_LENGTH = 9;
+    private static final int OP_REPLY_OP_CODE = 1;
+
+    private final MongoCompressor compressor;
+    private final BufferProvider scratchBufferPool = new PowerOfTwoBufferPool();
+    private final ConcurrentPool<Deflater> deflaterPool;
+    private final ConcurrentPool<Inflater> inflaterPool;
+
+    ZlibCompressor(final MongoCompressor compressor) {
+        this.compressor = notNull("compressor", compressor);
+        deflaterPool = new ConcurrentPool<Deflater>(Integer.MAX_VALUE, new ConcurrentPool.ItemFactory<Deflater>() {
+            @Override
+            public Deflater create(final boolean initialize) {
+                return new Deflater(compressor.getLevel());
+            }
+
+            @Override
+            public void close(final Deflater deflater) {
+                deflater.end();
+            }
+
+            @Override
+            public boolean shouldPrune(final Deflater deflater) {
+                return false;
+            }
+        });
+        inflaterPool = new ConcurrentPool<Inflater>(Integer.MAX_VALUE, new ConcurrentPool.ItemFactory<Inflater>() {
+            @Override
+            public Inflater create(final boolean initialize) {
+                return new Inflater();
+            }
+
+            @Override
+            public void close(final Inflater inflater) {
+                inflater.end();
+            }
+
+            @Override
+            public boolean shouldPrune(final Inflater inflater) {
+                return false;
+            }
+        });
+    }
+
+    String getName() {
+        return compressor.getName();
+    }
+
+    /**
+     * Compresses each of the messages contained in the given buffers.  The buffers may hold more than one message (e.g. a legacy write
+     * followed by its getlasterror command), each of which is wrapped separately.  Messages whose body is smaller than the threshold are
+     * copied unchanged.
+     *
+     * @param messageBuffers the buffers containing the encoded messages
+     * @param bufferProvider the provider of the returned buffers
+     * @return the buffers to write in place of the given ones, which the caller must release
+     */
+    List<ByteBuf> compress(final List<ByteBuf> messageBuffers, final BufferProvider bufferProvider) {
+        int totalSize = 0;
+        for (final ByteBuf cur : messageBuffers) {
+            totalSize += cur.remaining();
+        }
+
+        ByteBuf source = scratchBufferPool.getBuffer(totalSize);
+        ByteBuf target = null;
+        Deflater deflater = deflaterPool.get();
+        List<ByteBuf> compressedBuffers = new ArrayList<ByteBuf>();
+        try {
+            byte[] sourceBytes = source.array();
+            int offset = 0;
+            for (final ByteBuf cur : messageBuffers) {
+                cur.get(cur.position(), sourceBytes, offset, cur.remaining());
+                offset += cur.remaining();
+            }
+
+            source.order(ByteOrder.LITTLE_ENDIAN);
+            offset = 0;
+            while (offset < totalSize) {
+                int messageLength = source.getInt(offset);
+                int bodyLength = messageLength - MESSAGE_HEADER_LENGTH;
+                ByteBuf compressedBuffer;
+                if (bodyLength < compressor.getThreshold()) {
+                    compressedBuffer = bufferProvider.getBuffer(messageLength);
+                    compressedBuffer.put(sourceBytes, offset, messageLength);
+                } else {
+                    target = scratchBufferPool.getBuffer(MESSAGE_HEADER_LENGTH + COMPRESSED_HEADER_LENGTH + getMaxDeflatedSize(bodyLength));
+                    target.order(ByteOrder.LITTLE_ENDIAN);
+                    deflater.reset();
+                    deflater.setInput(sourceBytes, offset + MESSAGE_HEADER_LENGTH, bodyLength);
+                    deflater.finish();
+                    int compressedLength = MESSAGE_HEADER_LENGTH + COMPRESSED_HEADER_LENGTH;
+                    while (!deflater.finished()) {
+                        compressedLength += deflater.deflate(target.array(), compressedLength, target.limit() - compressedLength);
+                    }
+                    ByteBuffer header = target.asNIO();
+                    header.putInt(0, compressedLength);
+                    header.putInt(4, source.getInt(offset + 4));
+                    header.putInt(8, source.getInt(offset + 8));
+                    header.putInt(12, OP_COMPRESSED_OP_CODE);
+                    header.putInt(16, source.getInt(offset + 12));
+                    header.putInt(20, bodyLength);
+                    header.put(24, ZLIB_COMPRESSOR_ID);
+
+                    compressedBuffer = bufferProvider.getBuffer(compressedLength);
+                    compressedBuffer.put(target.array(), 0, compressedLength);
+                    target.release();
+                    target = null;
+                }
+                compressedBuffers.add(compressedBuffer.flip());
+                offset += messageLength;
+            }
+            return compressedBuffers;
+        } catch (RuntimeException e) {
+            for (final ByteBuf cur : compressedBuffers) {
+                cur.release();
+            }
+            throw e;
+        } finally {
+            if (target != null) {
+                target.release();
+            }
+            deflaterPool.release(deflater);
+            source.release();
+        }
+    }
+
+    /**
+     * Creates the response buffers for an OP_COMPRESSED reply.
+     *
+     * @param messageHeader     the 16 byte message header, which is released by this method
+     * @param compressedMessage the remainder of the message, which is released by this method
+     * @param maxMessageSize    the maximum size of an uncompressed reply
+     * @return the response buffers of the uncompressed reply
+     */
+    ResponseBuffers uncompress(final ByteBuf messageHeader, final ByteBuf compressedMessage, final int maxMessageSize) {
+        ByteBuf replyHeaderBuffer = scratchBufferPool.getBuffer(REPLY_HEADER_LENGTH);
+        // closing the input releases the reply header buffer, whether or not the reply is uncompressed successfully
+        ByteBufferBsonInput headerInputBuffer = new ByteBufferBsonInput(replyHeaderBuffer);
+        ByteBuf bodyBuffer = null;
+        Inflater inflater = inflaterPool.get();
+        try {
+            messageHeader.order(ByteOrder.LITTLE_ENDIAN);
+            compressedMessage.order(ByteOrder.LITTLE_ENDIAN);
+            int originalOpCode = compressedMessage.getInt();
+            int uncompressedSize = compressedMessage.getInt();
+            byte compressorId = compressedMessage.get();
+            if (originalOpCode != OP_REPLY_OP_CODE) {
+                throw new MongoInternalException(format("The compressed reply message opCode %d does not match the expected opCode %d",
+                                                        originalOpCode, OP_REPLY_OP_CODE));
+            }
+            if (compressorId != ZLIB_COMPRESSOR_ID) {
+                throw new MongoInternalException(format("The compressed reply message uses unsupported compressor id %d", compressorId));
+            }
+            if (uncompressedSize < REPLY_HEADER_LENGTH - MESSAGE_HEADER_LENGTH) {
+                throw new MongoInternalException(format("The uncompressed reply message size %d is too small", uncompressedSize));
+            }
+
+            ByteBuf compressedBytes = scratchBufferPool.getBuffer(compressedMessage.remaining());
+            try {
+                compressedMessage.get(compressedBytes.array(), 0, compressedBytes.limit());
+                inflater.reset();
+                inflater.setInput(compressedBytes.array(), 0, compressedBytes.limit());
+
+                ByteBuffer header = replyHeaderBuffer.order(ByteOrder.LITTLE_ENDIAN).asNIO();
+                header.putInt(0, MESSAGE_HEADER_LENGTH + uncompressedSize);
+                header.putInt(4, messageHeader.getInt(4));
+                header.putInt(8, messageHeader.getInt(8));
+                header.putInt(12, OP_REPLY_OP_CODE);
+                inflateFully(inflater, replyHeaderBuffer.array(), MESSAGE_HEADER_LENGTH, REPLY_HEADER_LENGTH - MESSAGE_HEADER_LENGTH);
+
+                int bodyLength = MESSAGE_HEADER_LENGTH + uncompressedSize - REPLY_HEADER_LENGTH;
+                if (bodyLength > 0) {
+                    bodyBuffer = scratchBufferPool.getBuffer(bodyLength);
+                    inflateFully(inflater, bodyBuffer.array(), 0, bodyLength);
+                }
+            } finally {
+                compressedBytes.release();
+            }
+
+            ReplyHeader replyHeader = new ReplyHeader(headerInputBuffer, maxMessageSize);
+            return new ResponseBuffers(replyHeader, bodyBuffer);
+        } catch (RuntimeException e) {
+            if (bodyBuffer != null) {
+                bodyBuffer.release();
+            }
+            throw e;
+        } finally {
+            headerInputBuffer.close();
+            inflaterPool.release(inflater);
+            messageHeader.release();
+            compressedMessage.release();
+        }
+    }
+
+    static int getOpCode(final ByteBuf messageHeader) {
+        return messageHeader.order(ByteOrder.LITTLE_ENDIAN).getInt(12);
+    }
+
+    static int getMessageLength(final ByteBuf messageHeader) {
+        return messageHeader.order(ByteOrder.LITTLE_ENDIAN).getInt(0);
+    }
+
+    private void inflateFully(final Inflater inflater, final byte[] bytes, final int offset, final int length) {
+        try {
+            int inflated = 0;
+            while (inflated < length) {
+                int count = inflater.inflate(bytes, offset + inflated, length - inflated);
+                if (count == 0 && (inflater.finished() || inflater.needsInput())) {
+                    throw new MongoInternalException("The compressed reply message is shorter than its uncompressed size");
+                }
+                inflated += count;
+            }
+        } catch (DataFormatException e) {
+            throw new MongoInternalException("The compressed reply message could not be decompressed", e);
+        }
+    }
+
+    // the zlib compressBound formula
+    private static int getMaxDeflatedSize(final int length) {
+        return length + (length >> 12) + (length >> 14) + (length >> 25) + 13;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb2.connection.netty;
+
+import com.mongodb2.MongoInternalException;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+
+/**
+ * Access to Netty's native epoll transport, which is loaded reflectively so that netty-transport-native-epoll remains an optional
+ * dependency.
+ */
+final class EpollTransport {
+    private static final String EPOLL_CLASS_NAME = "io.netty.channel.epoll.Epoll";
+    private static final String EVENT_LOOP_GROUP_CLASS_NAME = "io.netty.channel.epoll.EpollEventLoopGroup";
+    private static final String SOCKET_CHANNEL_CLASS_NAME = "io.netty.channel.epoll.EpollSocketChannel";
+
+    // this will end up false if the epoll transport is not on the class path, or if its native library can't be loaded on this platform
+    private static final boolean AVAILABLE;
+
+    static {
+        boolean available;
+        try {
+            available = (Boolean) Class.forName(EPOLL_CLASS_NAME).getMethod("isAvailable").invoke(null);
+        } catch (Exception e) {
+            available = false;
+        } catch (LinkageError e) {
+            available = false;
+        }
+        AVAILABLE = available;
+    }
+
+    /**
+     * Gets whether the native epoll transport can be used.
+     *
+     * @return true if the epoll transport is on the class path and its native library is loadable
+     */
+    static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /**
+     * Creates an epoll event loop group with the default number of threads.
+     *
+     * @return the event loop group
+     */
+    static EventLoopGroup createEventLoopGroup() {
+        try {
+            return (EventLoopGroup) Class.forName(EVENT_LOOP_GROUP_CLASS_NAME).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new MongoInternalException("Unable to create the epoll event loop group", e);
+        }
+    }
+
+    /**
+     * Gets the epoll socket channel class.
+     *
+     * @return the socket channel class
+     */
+    @SuppressWarnings("unchecked")
+    static Class<? extends SocketChannel> getSocketChannelClass() {
+        try {
+            return (Class<? extends SocketChannel>) Class.forName(SOCKET_CHANNEL_CLASS_NAME);
+        } catch (ClassNotFoundException e) {
+            throw new MongoInternalException("Unable to load the epoll socket channel class", e);
+        }
+    }
+
+    /**
+     * Gets whether the given event loop group is an epoll event loop group.
+     *
+     * @param eventLoopGroup the event loop group
+     * @return true if the event loop group belongs to the epoll transport
+     */
+    static boolean isEpollEventLoopGroup(final EventLoopGroup eventLoopGroup) {
+        return isSubclassOf(EVENT_LOOP_GROUP_CLASS_NAME, eventLoopGroup.getClass());
+    }
+
+    /**
+     * Gets whether the given socket channel class is the epoll socket channel class, or a subclass of it.
+     *
+     * @param socketChannelClass the socket channel class
+     * @return true if the socket channel class belongs to the epoll transport
+     */
+    static boolean isEpollSocketChannelClass(final Class<? extends SocketChannel> socketChannelClass) {
+        return isSubclassOf(SOCKET_CHANNEL_CLASS_NAME, socketChannelClass);
+    }
+
+    // the class can't be an epoll class if the epoll transport is not on the class path
+    private static boolean isSubclassOf(final String epollClassName, final Class<?> clazz) {
+        try {
+            return Class.forName(epollClassName, false, EpollTransport.class.getClassLoader()).isAssignableFrom(clazz);
+        } catch (ClassNotFoundException e) {
+            return false;
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+
+    private EpollTransport() {
+    }
+}
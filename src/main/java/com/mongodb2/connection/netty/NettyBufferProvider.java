@@ -18,7 +18,6 @@ package com.mongodb2.connection.netty;
 
 import com.mongodb2.connection.BufferProvider;
 import io.netty.buffer.ByteBufAllocator;
-import io.netty.buffer.PooledByteBufAllocator;
 import org.bson2.ByteBuf;
 
 final class NettyBufferProvider implements BufferProvider {
@@ -26,7 +25,7 @@ final class NettyBufferProvider implements BufferProvider {
     private final ByteBufAllocator allocator;
 
     public NettyBufferProvider() {
-        allocator = PooledByteBufAllocator.DEFAULT;
+        allocator = ByteBufAllocator.DEFAULT;
     }
 
     public NettyBufferProvider(final ByteBufAllocator allocator) {
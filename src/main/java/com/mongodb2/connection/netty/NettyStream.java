@@ -29,7 +29,6 @@ import com.mongodb2.connection.Stream;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.CompositeByteBuf;
-import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
@@ -175,7 +174,8 @@ final class NettyStream implements Stream {
 
     @Override
     public void writeAsync(final List<ByteBuf> buffers, final AsyncCompletionHandler<Void> handler) {
-        CompositeByteBuf composite = PooledByteBufAllocator.DEFAULT.compositeBuffer();
+        // size the composite to the number of buffers, as otherwise it consolidates (copies) its components once there are more than 16
+        CompositeByteBuf composite = allocator.compositeBuffer(buffers.size());
         for (ByteBuf cur : buffers) {
             composite.addComponent(true, ((NettyByteBuf) cur).asByteBuf());
         }
@@ -209,13 +209,11 @@ final class NettyStream implements Stream {
                         io.netty.buffer.ByteBuf next = iter.next();
                         int bytesNeededFromCurrentBuffer = Math.min(next.readableBytes(), bytesNeeded);
                         if (bytesNeededFromCurrentBuffer == next.readableBytes()) {
-                            composite.addComponent(next);
+                            composite.addComponent(true, next);
                             iter.remove();
                         } else {
-                            next.retain();
-                            composite.addComponent(next.readSlice(bytesNeededFromCurrentBuffer));
+                            composite.addComponent(true, next.readRetainedSlice(bytesNeededFromCurrentBuffer));
                         }
-                        composite.writerIndex(composite.writerIndex() + bytesNeededFromCurrentBuffer);
                         bytesNeeded -= bytesNeededFromCurrentBuffer;
                         if (bytesNeeded == 0) {
                             break;
@@ -249,10 +247,13 @@ final class NettyStream implements Stream {
     private void handleReadResponse(final io.netty.buffer.ByteBuf buffer, final Throwable t) {
         PendingReader localPendingReader = null;
         synchronized (this) {
-            if (buffer != null) {
-                pendingInboundBuffers.add(buffer.retain());
-            } else {
+            if (buffer == null) {
                 pendingException = t;
+                releasePendingInboundBuffers();
+            } else if (isClosed || pendingException != null) {
+                buffer.release();
+            } else {
+                pendingInboundBuffers.add(buffer);
             }
             if (pendingReader != null) {
                 localPendingReader = pendingReader;
@@ -277,6 +278,13 @@ final class NettyStream implements Stream {
             channel.close();
             channel = null;
         }
+        synchronized (this) {
+            releasePendingInboundBuffers();
+        }
+    }
+
+    // must be called while holding the lock on this
+    private void releasePendingInboundBuffers() {
         for (Iterator<io.netty.buffer.ByteBuf> iterator = pendingInboundBuffers.iterator(); iterator.hasNext();) {
             io.netty.buffer.ByteBuf nextByteBuf = iterator.next();
             iterator.remove();
@@ -310,6 +318,11 @@ final class NettyStream implements Stream {
     }
 
     private class InboundBufferHandler extends SimpleChannelInboundHandler<io.netty.buffer.ByteBuf> {
+        // ownership of each inbound buffer passes to the pending inbound buffers, which saves a retain and release per read
+        InboundBufferHandler() {
+            super(false);
+        }
+
         @Override
         protected void channelRead0(final ChannelHandlerContext ctx, final io.netty.buffer.ByteBuf buffer) throws Exception {
             handleReadResponse(buffer, null);
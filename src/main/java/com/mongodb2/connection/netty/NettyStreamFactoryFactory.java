@@ -79,10 +79,10 @@ public class NettyStreamFactoryFactory implements StreamFactoryFactory {
         private ByteBufAllocator allocator;
         private Class<? extends SocketChannel> socketChannelClass;
         private EventLoopGroup eventLoopGroup;
+        private boolean preferEpoll;
 
         private Builder() {
             allocator(ByteBufAllocator.DEFAULT);
-            socketChannelClass(NioSocketChannel.class);
         }
 
         /**
@@ -121,6 +121,23 @@ public class NettyStreamFactoryFactory implements StreamFactoryFactory {
             return this;
         }
 
+        /**
+         * Sets whether to prefer Netty's native epoll transport.
+         *
+         * <p>If true, and netty-transport-native-epoll is on the class path and usable on this platform, the factory will use an
+         * {@code EpollEventLoopGroup} and {@code EpollSocketChannel} in place of the NIO defaults.  An explicitly configured event loop
+         * group or socket channel class always takes precedence, and if only one of them is configured the other is chosen to match
+         * its transport.  Defaults to false.</p>
+         *
+         * @param preferEpoll whether to prefer the native epoll transport when it is available
+         * @return this
+         * @since 3.5
+         */
+        public Builder preferEpoll(final boolean preferEpoll) {
+            this.preferEpoll = preferEpoll;
+            return this;
+        }
+
         /**
          * Build an instance of {@code NettyStreamFactoryFactory}.
          * @return factory of the netty stream factory
@@ -146,11 +163,25 @@ public class NettyStreamFactoryFactory implements StreamFactoryFactory {
 
     private NettyStreamFactoryFactory(final Builder builder) {
         allocator = builder.allocator;
-        socketChannelClass = builder.socketChannelClass;
+        // the event loop group and socket channel class must come from the same transport, so if only one of them is configured
+        // the other is chosen to match it, and the preference for epoll applies only if neither is configured
+        boolean useEpoll;
+        if (builder.socketChannelClass != null) {
+            useEpoll = EpollTransport.isEpollSocketChannelClass(builder.socketChannelClass);
+        } else if (builder.eventLoopGroup != null) {
+            useEpoll = EpollTransport.isEpollEventLoopGroup(builder.eventLoopGroup);
+        } else {
+            useEpoll = builder.preferEpoll && EpollTransport.isAvailable();
+        }
+        if (builder.socketChannelClass != null) {
+            socketChannelClass = builder.socketChannelClass;
+        } else {
+            socketChannelClass = useEpoll ? EpollTransport.getSocketChannelClass() : NioSocketChannel.class;
+        }
         if (builder.eventLoopGroup != null) {
             eventLoopGroup = builder.eventLoopGroup;
         } else {
-            eventLoopGroup = new NioEventLoopGroup();
+            eventLoopGroup = useEpoll ? EpollTransport.createEventLoopGroup() : new NioEventLoopGroup();
         }
     }
 }
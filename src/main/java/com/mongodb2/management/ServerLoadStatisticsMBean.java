@@ -0,0 +1,63 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb2.management;
+
+/**
+ * <p>An MBean interface for the load on a server, as seen by the server selection of a single cluster.</p>
+ *
+ * <p>An MBean is registered for each server of a cluster whose server selection strategy is
+ * {@link com.mongodb2.connection.ServerSelectionStrategy#POWER_OF_TWO_CHOICES}, so that the distribution of operations across the
+ * servers can be observed.</p>
+ *
+ * @since 3.5
+ */
+public interface ServerLoadStatisticsMBean {
+    /**
+     * Gets the host of the server.
+     *
+     * @return the host
+     */
+    String getHost();
+
+    /**
+     * Gets the port of the server.
+     *
+     * @return the port
+     */
+    int getPort();
+
+    /**
+     * Gets the number of operations currently in flight on the server.
+     *
+     * @return the in-flight operation count
+     */
+    int getInFlightOperationCount();
+
+    /**
+     * Gets the exponentially weighted moving average of the time taken by operations on the server, in microseconds.
+     *
+     * @return the average operation time in microseconds, or 0 if no operation has completed
+     */
+    long getAverageOperationTimeMicros();
+
+    /**
+     * Gets the number of times the server has been chosen by server selection.
+     *
+     * @return the selection count
+     */
+    long getSelectionCount();
+}
@@ -27,6 +27,7 @@ import com.mongodb2.binding.AsyncReadBinding;
 import com.mongodb2.binding.ConnectionSource;
 import com.mongodb2.binding.ReadBinding;
 import com.mongodb2.client.model.Collation;
+import com.mongodb2.client.model.HedgeOptions;
 import com.mongodb2.connection.AsyncConnection;
 import com.mongodb2.connection.Connection;
 import com.mongodb2.connection.ConnectionDescription;
@@ -64,7 +65,7 @@ import static com.mongodb2.operation.OperationHelper.withConnection;
  * @mongodb.server.release 2.2
  * @since 3.0
  */
-public class AggregateOperation<T> implements AsyncReadOperation<AsyncBatchCursor<T>>, ReadOperation<BatchCursor<T>> {
+public class AggregateOperation<T> implements AsyncReadOperation<AsyncBatchCursor<T>>, HedgeableReadOperation<BatchCursor<T>> {
     private static final String RESULT = "result";
     private static final String FIRST_BATCH = "firstBatch";
 
@@ -77,6 +78,7 @@ public class AggregateOperation<T> implements AsyncReadOperation<AsyncBatchCurso
     private Boolean useCursor;
     private ReadConcern readConcern = ReadConcern.DEFAULT;
     private Collation collation;
+    private HedgeOptions hedgeOptions;
 
     /**
      * Construct a new instance.
@@ -248,6 +250,24 @@ public class AggregateOperation<T> implements AsyncReadOperation<AsyncBatchCurso
         return this;
     }
 
+    @Override
+    public HedgeOptions getHedgeOptions() {
+        return hedgeOptions;
+    }
+
+    /**
+     * Sets the hedge options.
+     *
+     * <p>A null value, the default, means that the operation is not hedged.</p>
+     * @param hedgeOptions the hedge options to use
+     * @return this
+     * @since 3.5
+     */
+    public AggregateOperation<T> hedgeOptions(final HedgeOptions hedgeOptions) {
+        this.hedgeOptions = hedgeOptions;
+        return this;
+    }
+
     @Override
     public BatchCursor<T> execute(final ReadBinding binding) {
         return withConnection(binding, new CallableWithConnectionAndSource<BatchCursor<T>>() {
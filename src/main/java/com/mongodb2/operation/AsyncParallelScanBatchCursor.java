@@ -0,0 +1,196 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb2.operation;
+
+import com.mongodb2.async.AsyncBatchCursor;
+import com.mongodb2.async.SingleResultCallback;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.mongodb2.assertions.Assertions.isTrue;
+import static com.mongodb2.internal.async.ErrorHandlingResultCallback.errorHandlingCallback;
+import static com.mongodb2.operation.OperationHelper.LOGGER;
+
+/**
+ * An async batch cursor that merges the batches of several cursors, all of which fetch their next batch concurrently.  Each cursor has at
+ * most one batch that has been fetched but not yet returned, and does not fetch another until that batch has been returned.
+ *
+ * @param <T> the type of the results
+ */
+class AsyncParallelScanBatchCursor<T> implements AsyncBatchCursor<T> {
+    private final List<AsyncBatchCursor<T>> cursors;
+    private volatile int batchSize;
+    private volatile boolean closed;
+
+    // guarded by this
+    private final Deque<BufferedBatch> bufferedBatches = new ArrayDeque<BufferedBatch>();
+    private final Set<AsyncBatchCursor<T>> fetchingCursors = new HashSet<AsyncBatchCursor<T>>();
+    private int activeCursorCount;
+    private Throwable failure;
+    private SingleResultCallback<List<T>> pendingCallback;
+
+    AsyncParallelScanBatchCursor(final List<AsyncBatchCursor<T>> cursors) {
+        this.cursors = cursors;
+        this.activeCursorCount = cursors.size();
+        for (AsyncBatchCursor<T> cursor : cursors) {
+            fetch(cursor);
+        }
+    }
+
+    @Override
+    public void next(final SingleResultCallback<List<T>> callback) {
+        isTrue("open", !closed);
+        SingleResultCallback<List<T>> errHandlingCallback = errorHandlingCallback(callback, LOGGER);
+        BufferedBatch batch;
+        Throwable t;
+        synchronized (this) {
+            t = failure;
+            batch = bufferedBatches.poll();
+            if (t == null && batch == null && activeCursorCount > 0) {
+                pendingCallback = errHandlingCallback;
+                return;
+            }
+        }
+        if (t != null) {
+            close();
+            errHandlingCallback.onResult(null, t);
+        } else if (batch != null) {
+            fetch(batch.cursor);
+            errHandlingCallback.onResult(batch.results, null);
+        } else {
+            close();
+            errHandlingCallback.onResult(null, null);
+        }
+    }
+
+    @Override
+    public void setBatchSize(final int batchSize) {
+        isTrue("open", !closed);
+        this.batchSize = batchSize;
+        for (AsyncBatchCursor<T> cursor : cursors) {
+            if (!cursor.isClosed()) {
+                cursor.setBatchSize(batchSize);
+            }
+        }
+    }
+
+    @Override
+    public int getBatchSize() {
+        isTrue("open", !closed);
+        return batchSize;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            bufferedBatches.clear();
+            pendingCallback = null;
+        }
+        // a cursor that is fetching a batch is closed once the batch arrives
+        for (AsyncBatchCursor<T> cursor : cursors) {
+            synchronized (this) {
+                if (fetchingCursors.contains(cursor)) {
+                    continue;
+                }
+            }
+            cursor.close();
+        }
+    }
+
+    private void fetch(final AsyncBatchCursor<T> cursor) {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            fetchingCursors.add(cursor);
+        }
+        cursor.next(new SingleResultCallback<List<T>>() {
+            @Override
+            public void onResult(final List<T> results, final Throwable t) {
+                batchFetched(cursor, results, t);
+            }
+        });
+    }
+
+    private void batchFetched(final AsyncBatchCursor<T> cursor, final List<T> results, final Throwable t) {
+        SingleResultCallback<List<T>> callback;
+        boolean fetchAgain = false;
+        synchronized (this) {
+            fetchingCursors.remove(cursor);
+            if (closed) {
+                callback = null;
+            } else if (t != null) {
+                failure = t;
+                callback = pendingCallback;
+            } else if (results == null) {
+                activeCursorCount--;
+                callback = activeCursorCount == 0 ? pendingCallback : null;
+            } else if (pendingCallback != null) {
+                callback = pendingCallback;
+                fetchAgain = true;
+            } else {
+                bufferedBatches.add(new BufferedBatch(cursor, results));
+                callback = null;
+            }
+            if (callback != null) {
+                pendingCallback = null;
+            }
+        }
+
+        if (closed || t != null) {
+            cursor.close();
+        }
+        if (callback == null) {
+            return;
+        }
+        if (t != null) {
+            close();
+            callback.onResult(null, t);
+        } else if (results == null) {
+            close();
+            callback.onResult(null, null);
+        } else {
+            if (fetchAgain) {
+                fetch(cursor);
+            }
+            callback.onResult(results, null);
+        }
+    }
+
+    private final class BufferedBatch {
+        private final AsyncBatchCursor<T> cursor;
+        private final List<T> results;
+
+        BufferedBatch(final AsyncBatchCursor<T> cursor, final List<T> results) {
+            this.cursor = cursor;
+            this.results = results;
+        }
+    }
+}
@@ -56,6 +56,8 @@ class AsyncQueryBatchCursor<T> implements AsyncBatchCursor<T> {
     private volatile ServerCursor cursor;
     private volatile int count;
     private volatile boolean closed;
+    // the connection that an exhaust query was executed on, which is held until the server has streamed the last batch
+    private volatile AsyncConnection exhaustConnection;
 
     AsyncQueryBatchCursor(final QueryResult<T> firstBatch, final int limit, final int batchSize,
                           final Decoder<T> decoder) {
@@ -64,6 +66,12 @@ class AsyncQueryBatchCursor<T> implements AsyncBatchCursor<T> {
 
     AsyncQueryBatchCursor(final QueryResult<T> firstBatch, final int limit, final int batchSize, final long maxTimeMS,
                           final Decoder<T> decoder, final AsyncConnectionSource connectionSource, final AsyncConnection connection) {
+        this(firstBatch, limit, batchSize, maxTimeMS, decoder, connectionSource, connection, false);
+    }
+
+    AsyncQueryBatchCursor(final QueryResult<T> firstBatch, final int limit, final int batchSize, final long maxTimeMS,
+                          final Decoder<T> decoder, final AsyncConnectionSource connectionSource, final AsyncConnection connection,
+                          final boolean exhaust) {
         isTrueArgument("maxTimeMS >= 0", maxTimeMS >= 0);
         this.maxTimeMS = maxTimeMS;
         this.namespace = firstBatch.getNamespace();
@@ -81,6 +89,9 @@ class AsyncQueryBatchCursor<T> implements AsyncBatchCursor<T> {
         } else {
             this.connectionSource = null;
         }
+        if (exhaust && this.cursor != null) {
+            this.exhaustConnection = connection.retain();
+        }
         this.count += firstBatch.getResults().size();
         if (limitReached()) {
              killCursor(connection);
@@ -139,6 +150,11 @@ class AsyncQueryBatchCursor<T> implements AsyncBatchCursor<T> {
     }
 
     private void getMore(final SingleResultCallback<List<T>> callback) {
+        AsyncConnection localExhaustConnection = exhaustConnection;
+        if (localExhaustConnection != null) {
+            getMore(localExhaustConnection.retain(), callback);
+            return;
+        }
         connectionSource.getConnection(new SingleResultCallback<AsyncConnection>() {
             @Override
             public void onResult(final AsyncConnection connection, final Throwable t) {
@@ -152,7 +168,9 @@ class AsyncQueryBatchCursor<T> implements AsyncBatchCursor<T> {
     }
 
     private void getMore(final AsyncConnection connection, final SingleResultCallback<List<T>> callback) {
-        if (serverIsAtLeastVersionThreeDotTwo(connection.getDescription())) {
+        if (exhaustConnection != null) {
+            connection.receiveExhaustBatchAsync(namespace, decoder, new QueryResultSingleResultCallback(connection, callback));
+        } else if (serverIsAtLeastVersionThreeDotTwo(connection.getDescription())) {
             connection.commandAsync(namespace.getDatabaseName(), asGetMoreCommandDocument(), false,
                                     new NoOpFieldNameValidator(), CommandResultDocumentCodec.create(decoder, "nextBatch"),
                                     new CommandResultSingleResultCallback(connection, callback));
@@ -178,6 +196,7 @@ class AsyncQueryBatchCursor<T> implements AsyncBatchCursor<T> {
     }
 
     private void killCursor(final AsyncConnection connection) {
+        releaseExhaustConnection();
         if (cursor != null) {
             final ServerCursor localCursor = cursor;
             final AsyncConnectionSource localConnectionSource = connectionSource;
@@ -202,6 +221,17 @@ class AsyncQueryBatchCursor<T> implements AsyncBatchCursor<T> {
         }
     }
 
+    // Any batches still to come are abandoned along with the connection, which the pool closes rather than reuse, and closing the
+    // connection kills the cursor on the server, so there is no need for a killCursors message.
+    private void releaseExhaustConnection() {
+        AsyncConnection localExhaustConnection = exhaustConnection;
+        if (localExhaustConnection != null) {
+            exhaustConnection = null;
+            cursor = null;
+            localExhaustConnection.release();
+        }
+    }
+
     private void killCursorAsynchronouslyAndReleaseConnectionAndSource(final AsyncConnection connection, final ServerCursor localCursor,
                                                                        final AsyncConnectionSource localConnectionSource) {
         connection.killCursorAsync(namespace, singletonList(localCursor.getId()), new SingleResultCallback<Void>() {
@@ -220,18 +250,36 @@ class AsyncQueryBatchCursor<T> implements AsyncBatchCursor<T> {
         } else {
             cursor = result.getCursor();
             count += result.getResults().size();
+            List<T> results = result.getResults();
+            if (exhaustConnection != null) {
+                results = trimToLimit(results);
+                if (cursor == null) {
+                    releaseExhaustConnection();
+                }
+            }
             if (limitReached()) {
                 killCursor(connection);
             }
             connection.release();
-            if (result.getResults().isEmpty()) {
+            if (results.isEmpty()) {
                 callback.onResult(null, null);
             } else {
-                callback.onResult(result.getResults(), null);
+                callback.onResult(results, null);
             }
         }
     }
 
+    // the server streams each batch of an exhaust query with the number of results asked for in the query, rather than the number
+    // remaining, so the last batch may go past the limit
+    private List<T> trimToLimit(final List<T> results) {
+        int excess = limit == 0 ? 0 : count - Math.abs(limit);
+        if (excess <= 0) {
+            return results;
+        }
+        count -= excess;
+        return results.subList(0, results.size() - excess);
+    }
+
     private class CommandResultSingleResultCallback implements SingleResultCallback<BsonDocument> {
         private final AsyncConnection connection;
         private final SingleResultCallback<List<T>> callback;
@@ -24,6 +24,7 @@ import com.mongodb2.async.SingleResultCallback;
 import com.mongodb2.binding.AsyncReadBinding;
 import com.mongodb2.binding.ReadBinding;
 import com.mongodb2.client.model.Collation;
+import com.mongodb2.client.model.HedgeOptions;
 import com.mongodb2.connection.AsyncConnection;
 import com.mongodb2.connection.Connection;
 import com.mongodb2.operation.CommandOperationHelper.CommandTransformer;
@@ -52,7 +53,7 @@ import static com.mongodb2.operation.OperationHelper.withConnection;
  *
  * @since 3.0
  */
-public class CountOperation implements AsyncReadOperation<Long>, ReadOperation<Long> {
+public class CountOperation implements AsyncReadOperation<Long>, HedgeableReadOperation<Long> {
     private final MongoNamespace namespace;
     private BsonDocument filter;
     private BsonValue hint;
@@ -61,6 +62,7 @@ public class CountOperation implements AsyncReadOperation<Long>, ReadOperation<L
     private long maxTimeMS;
     private ReadConcern readConcern = ReadConcern.DEFAULT;
     private Collation collation;
+    private HedgeOptions hedgeOptions;
 
     /**
      * Construct a new instance.
@@ -227,6 +229,24 @@ public class CountOperation implements AsyncReadOperation<Long>, ReadOperation<L
         return this;
     }
 
+    @Override
+    public HedgeOptions getHedgeOptions() {
+        return hedgeOptions;
+    }
+
+    /**
+     * Sets the hedge options.
+     *
+     * <p>A null value, the default, means that the operation is not hedged.</p>
+     * @param hedgeOptions the hedge options to use
+     * @return this
+     * @since 3.5
+     */
+    public CountOperation hedgeOptions(final HedgeOptions hedgeOptions) {
+        this.hedgeOptions = hedgeOptions;
+        return this;
+    }
+
     @Override
     public Long execute(final ReadBinding binding) {
         return withConnection(binding, new CallableWithConnection<Long>() {
@@ -34,6 +34,7 @@ import com.mongodb2.binding.ConnectionSource;
 import com.mongodb2.binding.ReadBinding;
 import com.mongodb2.binding.SingleConnectionReadBinding;
 import com.mongodb2.client.model.Collation;
+import com.mongodb2.client.model.HedgeOptions;
 import com.mongodb2.connection.AsyncConnection;
 import com.mongodb2.connection.Connection;
 import com.mongodb2.connection.ConnectionDescription;
@@ -78,7 +79,7 @@ import static com.mongodb2.operation.OperationHelper.withConnection;
  * @param <T> the operations result type.
  * @since 3.0
  */
-public class FindOperation<T> implements AsyncReadOperation<AsyncBatchCursor<T>>, ReadOperation<BatchCursor<T>> {
+public class FindOperation<T> implements AsyncReadOperation<AsyncBatchCursor<T>>, HedgeableReadOperation<BatchCursor<T>> {
     private static final String FIRST_BATCH = "firstBatch";
 
     private final MongoNamespace namespace;
@@ -99,6 +100,8 @@ public class FindOperation<T> implements AsyncReadOperation<AsyncBatchCursor<T>>
     private boolean partial;
     private ReadConcern readConcern = ReadConcern.DEFAULT;
     private Collation collation;
+    private HedgeOptions hedgeOptions;
+    private int prefetchBatches;
 
     /**
      * Construct a new instance.
@@ -173,6 +176,32 @@ public class FindOperation<T> implements AsyncReadOperation<AsyncBatchCursor<T>>
         return this;
     }
 
+    /**
+     * Gets the maximum number of batches that the cursor fetches ahead of the consumer.
+     *
+     * @return the maximum number of prefetched batches
+     * @since 3.5
+     */
+    public int getPrefetchBatches() {
+        return prefetchBatches;
+    }
+
+    /**
+     * Sets the maximum number of batches that the cursor fetches ahead of the consumer.  If greater than zero, the cursor issues each
+     * getMore in the background as soon as the previous batch has been received, so that fetching and decoding the next batch overlaps
+     * the processing of the current one.  The default is zero, which means that a getMore is only issued once the consumer has used up the
+     * current batch.  Tailable cursors never prefetch.
+     *
+     * @param prefetchBatches the maximum number of prefetched batches, which must be at least 0
+     * @return this
+     * @since 3.5
+     */
+    public FindOperation<T> prefetchBatches(final int prefetchBatches) {
+        isTrueArgument("prefetchBatches >= 0", prefetchBatches >= 0);
+        this.prefetchBatches = prefetchBatches;
+        return this;
+    }
+
     /**
      * Gets the limit to apply.  The default is null.
      *
@@ -505,12 +534,30 @@ public class FindOperation<T> implements AsyncReadOperation<AsyncBatchCursor<T>>
         return this;
     }
 
+    @Override
+    public HedgeOptions getHedgeOptions() {
+        return hedgeOptions;
+    }
+
+    /**
+     * Sets the hedge options.
+     *
+     * <p>A null value, the default, means that the operation is not hedged.</p>
+     * @param hedgeOptions the hedge options to use
+     * @return this
+     * @since 3.5
+     */
+    public FindOperation<T> hedgeOptions(final HedgeOptions hedgeOptions) {
+        this.hedgeOptions = hedgeOptions;
+        return this;
+    }
+
     @Override
     public BatchCursor<T> execute(final ReadBinding binding) {
         return withConnection(binding, new CallableWithConnectionAndSource<BatchCursor<T>>() {
             @Override
             public BatchCursor<T> call(final ConnectionSource source, final Connection connection) {
-                if (serverIsAtLeastVersionThreeDotTwo(connection.getDescription())) {
+                if (serverIsAtLeastVersionThreeDotTwo(connection.getDescription()) && !isExhaust()) {
                     try {
                         validateReadConcernAndCollation(connection, readConcern, collation);
                         return executeWrappedCommandProtocol(binding, namespace.getDatabaseName(),
@@ -522,6 +569,7 @@ public class FindOperation<T> implements AsyncReadOperation<AsyncBatchCursor<T>>
                     }
                 } else {
                     validateReadConcernAndCollation(connection, readConcern, collation);
+                    validateExhaust();
                     QueryResult<T> queryResult = connection.query(namespace,
                                                                   asDocument(connection.getDescription(), binding.getReadPreference()),
                                                                   projection,
@@ -534,8 +582,10 @@ public class FindOperation<T> implements AsyncReadOperation<AsyncBatchCursor<T>>
                                                                   isNoCursorTimeout(),
                                                                   isPartial(),
                                                                   isOplogReplay(),
+                                                                  isExhaust(),
                                                                   decoder);
-                    return new QueryBatchCursor<T>(queryResult, limit, batchSize, getMaxTimeForCursor(), decoder, source, connection);
+                    return new QueryBatchCursor<T>(queryResult, limit, batchSize, getMaxTimeForCursor(), decoder, source, connection,
+                                              getPrefetchBatchesForCursor(), isExhaust());
                 }
             }
         });
@@ -550,7 +600,7 @@ public class FindOperation<T> implements AsyncReadOperation<AsyncBatchCursor<T>>
                 if (t != null) {
                     errHandlingCallback.onResult(null, t);
                 } else {
-                    if (serverIsAtLeastVersionThreeDotTwo(connection.getDescription())) {
+                    if (serverIsAtLeastVersionThreeDotTwo(connection.getDescription()) && !isExhaust()) {
                         final SingleResultCallback<AsyncBatchCursor<T>> wrappedCallback =
                                 releasingCallback(exceptionTransformingCallback(errHandlingCallback), source, connection);
                         validateReadConcernAndCollation(source, connection, readConcern, collation,
@@ -576,22 +626,25 @@ public class FindOperation<T> implements AsyncReadOperation<AsyncBatchCursor<T>>
                                     @Override
                                     public void call(final AsyncConnectionSource source, final AsyncConnection connection, final
                                     Throwable t) {
+                                        Throwable exhaustException = t == null ? getExhaustValidationException() : null;
                                         if (t != null) {
                                             wrappedCallback.onResult(null, t);
+                                        } else if (exhaustException != null) {
+                                            wrappedCallback.onResult(null, exhaustException);
                                         } else {
                                             connection.queryAsync(namespace, asDocument(connection.getDescription(),
                                                     binding.getReadPreference()), projection, skip, limit, batchSize,
                                                     isSlaveOk() || binding.getReadPreference().isSlaveOk(),
                                                     isTailableCursor(), isAwaitData(), isNoCursorTimeout(), isPartial(), isOplogReplay(),
-                                                    decoder, new SingleResultCallback<QueryResult<T>>() {
+                                                    isExhaust(), decoder, new SingleResultCallback<QueryResult<T>>() {
                                                         @Override
                                                         public void onResult(final QueryResult<T> result, final Throwable t) {
                                                             if (t != null) {
                                                                 wrappedCallback.onResult(null, t);
                                                             } else {
                                                                 wrappedCallback.onResult(new AsyncQueryBatchCursor<T>(result, limit,
-                                                                        batchSize, getMaxTimeForCursor(), decoder, source, connection),
-                                                                        null);
+                                                                        batchSize, getMaxTimeForCursor(), decoder, source, connection,
+                                                                        isExhaust()), null);
                                                             }
                                                         }
                                                     });
@@ -859,11 +912,37 @@ public class FindOperation<T> implements AsyncReadOperation<AsyncBatchCursor<T>>
             @Override
             public BatchCursor<T> apply(final BsonDocument result, final ServerAddress serverAddress) {
                 QueryResult<T> queryResult = documentToQueryResult(result, serverAddress);
-                return new QueryBatchCursor<T>(queryResult, limit, batchSize, getMaxTimeForCursor(), decoder, source, connection);
+                return new QueryBatchCursor<T>(queryResult, limit, batchSize, getMaxTimeForCursor(), decoder, source, connection,
+                                              getPrefetchBatchesForCursor());
             }
         };
     }
 
+    private int getPrefetchBatchesForCursor() {
+        return isTailableCursor() || isExhaust() ? 0 : prefetchBatches;
+    }
+
+    private boolean isExhaust() {
+        return cursorType == CursorType.Exhaust;
+    }
+
+    // exhaust queries always use OP_QUERY, which has no way to express a read concern or a collation
+    private void validateExhaust() {
+        IllegalArgumentException exception = getExhaustValidationException();
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    private IllegalArgumentException getExhaustValidationException() {
+        if (isExhaust() && !readConcern.isServerDefault()) {
+            return new IllegalArgumentException("ReadConcern is not supported by exhaust cursors");
+        } else if (isExhaust() && collation != null) {
+            return new IllegalArgumentException("Collation is not supported by exhaust cursors");
+        }
+        return null;
+    }
+
     private long getMaxTimeForCursor() {
         return cursorType == CursorType.TailableAwait ? maxAwaitTimeMS : 0;
     }
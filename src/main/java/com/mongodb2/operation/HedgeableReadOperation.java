@@ -0,0 +1,35 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb2.operation;
+
+import com.mongodb2.client.model.HedgeOptions;
+
+/**
+ * A read operation that can be hedged, by sending it to a second eligible server if the first is slow to reply.  Hedging is carried out
+ * by the executor of the operation, which may execute it more than once, each time with a binding to a different server.
+ *
+ * @param <T> the operations result type.
+ * @since 3.5
+ */
+public interface HedgeableReadOperation<T> extends ReadOperation<T> {
+    /**
+     * Gets the hedge options.
+     *
+     * @return the hedge options, which may be null if the operation is not to be hedged
+     */
+    HedgeOptions getHedgeOptions();
+}
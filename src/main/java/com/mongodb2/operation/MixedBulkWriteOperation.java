@@ -17,6 +17,8 @@
 package com.mongodb2.operation;
 
 import com.mongodb2.MongoBulkWriteException;
+import com.mongodb2.MongoException;
+import com.mongodb2.MongoInternalException;
 import com.mongodb2.MongoNamespace;
 import com.mongodb2.WriteConcern;
 import com.mongodb2.WriteConcernException;
@@ -32,12 +34,14 @@ import com.mongodb2.bulk.InsertRequest;
 import com.mongodb2.bulk.UpdateRequest;
 import com.mongodb2.bulk.WriteConcernError;
 import com.mongodb2.bulk.WriteRequest;
+import com.mongodb2.client.model.WriteCoalescingOptions;
 import com.mongodb2.connection.AsyncConnection;
 import com.mongodb2.connection.BulkWriteBatchCombiner;
 import com.mongodb2.connection.Connection;
 import com.mongodb2.connection.ConnectionDescription;
 import com.mongodb2.connection.ServerVersion;
 import com.mongodb2.internal.connection.IndexMap;
+import com.mongodb2.internal.thread.DaemonThreadFactory;
 import org.bson2.BsonDocument;
 import org.bson2.BsonString;
 import org.bson2.BsonValue;
@@ -47,6 +51,8 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static com.mongodb2.assertions.Assertions.isTrueArgument;
 import static com.mongodb2.assertions.Assertions.notNull;
@@ -72,11 +78,15 @@ import static java.util.Collections.singletonList;
  * @since 3.0
  */
 public class MixedBulkWriteOperation implements AsyncWriteOperation<BulkWriteResult>, WriteOperation<BulkWriteResult> {
+    private static final ExecutorService BULK_WRITE_EXECUTOR = Executors.newCachedThreadPool(new DaemonThreadFactory("bulk-write"));
+
     private final MongoNamespace namespace;
     private final List<? extends WriteRequest> writeRequests;
     private final boolean ordered;
     private final WriteConcern writeConcern;
     private Boolean bypassDocumentValidation;
+    private WriteCoalescingOptions writeCoalescingOptions;
+    private int parallelism = 1;
 
     /**
      * Construct a new instance.
@@ -156,6 +166,54 @@ public class MixedBulkWriteOperation implements AsyncWriteOperation<BulkWriteRes
         return this;
     }
 
+    /**
+     * Gets the write coalescing options.
+     *
+     * @return the write coalescing options, which may be null if the write is not to be coalesced
+     * @since 3.5
+     */
+    public WriteCoalescingOptions getWriteCoalescingOptions() {
+        return writeCoalescingOptions;
+    }
+
+    /**
+     * Sets the write coalescing options.  Coalescing is carried out by the executor of the operation, which may combine an operation that
+     * consists of a single insert with concurrent operations that do the same into a single unordered insert command.
+     *
+     * @param writeCoalescingOptions the write coalescing options, which may be null
+     * @return this
+     * @since 3.5
+     */
+    public MixedBulkWriteOperation writeCoalescingOptions(final WriteCoalescingOptions writeCoalescingOptions) {
+        this.writeCoalescingOptions = writeCoalescingOptions;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of batches of an unordered bulk write that are sent at once.
+     *
+     * @return the parallelism
+     * @since 3.5
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the maximum number of batches of an unordered bulk write that are sent at once, each over its own connection.  The default
+     * is 1, which sends the batches one after another over a single connection.  The batches of an ordered bulk write are always sent
+     * one after another.
+     *
+     * @param parallelism the parallelism, which must be greater than 0
+     * @return this
+     * @since 3.5
+     */
+    public MixedBulkWriteOperation parallelism(final int parallelism) {
+        isTrueArgument("parallelism > 0", parallelism > 0);
+        this.parallelism = parallelism;
+        return this;
+    }
+
     /**
      * Executes a bulk write operation.
      *
@@ -168,28 +226,48 @@ public class MixedBulkWriteOperation implements AsyncWriteOperation<BulkWriteRes
         return withConnection(binding, new CallableWithConnection<BulkWriteResult>() {
             @Override
             public BulkWriteResult call(final Connection connection) {
-                validateWriteRequests(connection, bypassDocumentValidation, writeRequests,
-                        writeConcern);
-                BulkWriteBatchCombiner bulkWriteBatchCombiner = new BulkWriteBatchCombiner(connection.getDescription().getServerAddress(),
-                                                                                           ordered, writeConcern);
-                for (Run run : getRunGenerator(connection.getDescription())) {
-                    try {
-                        BulkWriteResult result = run.execute(connection);
-                        if (result.wasAcknowledged()) {
-                            bulkWriteBatchCombiner.addResult(result, run.indexMap);
-                        }
-                    } catch (MongoBulkWriteException e) {
-                        bulkWriteBatchCombiner.addErrorResult(e, run.indexMap);
-                        if (bulkWriteBatchCombiner.shouldStopSendingMoreBatches()) {
-                            break;
-                        }
+                if (!ordered && parallelism > 1) {
+                    List<Run> runs = getRuns(connection.getDescription());
+                    if (runs.size() > 1) {
+                        validateWriteRequests(connection, bypassDocumentValidation, writeRequests, writeConcern);
+                        BulkWriteBatchCombiner bulkWriteBatchCombiner =
+                                new BulkWriteBatchCombiner(connection.getDescription().getServerAddress(), ordered, writeConcern);
+                        new ParallelRuns(runs, bulkWriteBatchCombiner).execute(binding, connection);
+                        return bulkWriteBatchCombiner.getResult();
                     }
                 }
-                return bulkWriteBatchCombiner.getResult();
+                return execute(connection);
             }
         });
     }
 
+    /**
+     * Executes the runs of this operation one after another on the given connection.
+     *
+     * @param connection the connection
+     * @return the bulk write result
+     * @throws com.mongodb2.MongoBulkWriteException if a failure to complete the bulk write is detected based on the server response
+     */
+    BulkWriteResult execute(final Connection connection) {
+        validateWriteRequests(connection, bypassDocumentValidation, writeRequests, writeConcern);
+        BulkWriteBatchCombiner bulkWriteBatchCombiner = new BulkWriteBatchCombiner(connection.getDescription().getServerAddress(),
+                                                                                   ordered, writeConcern);
+        for (Run run : getRunGenerator(connection.getDescription())) {
+            try {
+                BulkWriteResult result = run.execute(connection);
+                if (result.wasAcknowledged()) {
+                    bulkWriteBatchCombiner.addResult(result, run.indexMap);
+                }
+            } catch (MongoBulkWriteException e) {
+                bulkWriteBatchCombiner.addErrorResult(e, run.indexMap);
+                if (bulkWriteBatchCombiner.shouldStopSendingMoreBatches()) {
+                    break;
+                }
+            }
+        }
+        return bulkWriteBatchCombiner.getResult();
+    }
+
     @Override
     public void executeAsync(final AsyncWriteBinding binding, final SingleResultCallback<BulkWriteResult> callback) {
         withConnection(binding, new AsyncCallableWithConnection() {
@@ -208,11 +286,18 @@ public class MixedBulkWriteOperation implements AsyncWriteOperation<BulkWriteRes
                                     if (t != null) {
                                         releasingCallback(errHandlingCallback, connection).onResult(null, t);
                                     } else {
-                                        Iterator<Run> runs = getRunGenerator(connection.getDescription()).iterator();
-                                        executeRunsAsync(runs, connection,
-                                                new BulkWriteBatchCombiner(connection.getDescription().getServerAddress(), ordered,
-                                                        writeConcern),
-                                                errHandlingCallback);
+                                        BulkWriteBatchCombiner bulkWriteBatchCombiner = new BulkWriteBatchCombiner(
+                                                connection.getDescription().getServerAddress(), ordered, writeConcern);
+                                        if (!ordered && parallelism > 1) {
+                                            List<Run> runs = getRuns(connection.getDescription());
+                                            if (runs.size() > 1) {
+                                                new ParallelRuns(runs, bulkWriteBatchCombiner).executeAsync(binding, connection,
+                                                                                                            errHandlingCallback);
+                                                return;
+                                            }
+                                        }
+                                        executeRunsAsync(getRunGenerator(connection.getDescription()).iterator(), connection,
+                                                bulkWriteBatchCombiner, errHandlingCallback);
                                     }
                                 }
                             });
@@ -263,6 +348,14 @@ public class MixedBulkWriteOperation implements AsyncWriteOperation<BulkWriteRes
         return connectionDescription.getServerVersion().compareTo(new ServerVersion(2, 6)) >= 0;
     }
 
+    private List<Run> getRuns(final ConnectionDescription connectionDescription) {
+        List<Run> runs = new ArrayList<Run>();
+        for (Run run : getRunGenerator(connectionDescription)) {
+            runs.add(run);
+        }
+        return runs;
+    }
+
     private Iterable<Run> getRunGenerator(final ConnectionDescription connectionDescription) {
         if (ordered) {
             return new OrderedRunGenerator(connectionDescription, bypassDocumentValidation);
@@ -271,6 +364,208 @@ public class MixedBulkWriteOperation implements AsyncWriteOperation<BulkWriteRes
         }
     }
 
+    /**
+     * Sends the runs of an unordered bulk write over several connections at once.  Each connection takes the next run that has not yet
+     * been sent as soon as it is free, and the results are merged under the lock of this object.  The first failure other than a bulk
+     * write exception stops any more runs from being sent, and is reported once every connection has finished.
+     *
+     * <p>The extra connections are checked out while the first connection is already sending runs, so the bulk write completes as soon as
+     * the connections that are sending runs have finished, without waiting for checkouts that are still pending.  A connection that is
+     * checked out once there are no runs left is released straight away.</p>
+     */
+    private final class ParallelRuns {
+        private final BulkWriteBatchCombiner bulkWriteBatchCombiner;
+        private final int extraConnectionCount;
+
+        // guarded by this
+        private final Iterator<Run> runs;
+        private Throwable failure;
+        private int sendingConnectionCount = 1;
+
+        ParallelRuns(final List<Run> runs, final BulkWriteBatchCombiner bulkWriteBatchCombiner) {
+            this.runs = runs.iterator();
+            this.bulkWriteBatchCombiner = bulkWriteBatchCombiner;
+            this.extraConnectionCount = Math.min(parallelism, runs.size()) - 1;
+        }
+
+        void execute(final WriteBinding binding, final Connection connection) {
+            for (int i = 0; i < extraConnectionCount; i++) {
+                // the binding is retained for the task, as the operation may complete before the task has checked out its connection
+                final WriteBinding retainedBinding = binding.retain();
+                BULK_WRITE_EXECUTOR.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            executeRunsOnExtraConnection(retainedBinding);
+                        } finally {
+                            retainedBinding.release();
+                        }
+                    }
+                });
+            }
+            executeRuns(connection);
+
+            boolean interrupted = false;
+            synchronized (this) {
+                sendingConnectionCount--;
+                while (sendingConnectionCount > 0) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+                if (failure instanceof MongoException) {
+                    throw (MongoException) failure;
+                } else if (failure != null) {
+                    throw new MongoInternalException("Unexpected exception executing an unordered bulk write", failure);
+                }
+            }
+        }
+
+        void executeAsync(final AsyncWriteBinding binding, final AsyncConnection connection,
+                          final SingleResultCallback<BulkWriteResult> callback) {
+            for (int i = 0; i < extraConnectionCount; i++) {
+                withConnection(binding, new AsyncCallableWithConnection() {
+                    @Override
+                    public void call(final AsyncConnection connection, final Throwable t) {
+                        if (t != null) {
+                            // the runs are shared out between the connections that could be checked out
+                            LOGGER.debug("Unable to check out an extra connection for an unordered bulk write", t);
+                        } else if (startSending()) {
+                            executeNextRunAsync(connection, callback);
+                        } else {
+                            connection.release();
+                        }
+                    }
+                });
+            }
+            executeNextRunAsync(connection, callback);
+        }
+
+        // The checkout is not cancelled if the other connections send the remaining runs while it waits for the pool.  Instead,
+        // startSending checks once the connection has been checked out whether there are any runs left for it, and the connection is
+        // released if not.
+        private void executeRunsOnExtraConnection(final WriteBinding binding) {
+            synchronized (this) {
+                if (!hasMoreRuns()) {
+                    return;
+                }
+            }
+            try {
+                withConnection(binding, new CallableWithConnection<Void>() {
+                    @Override
+                    public Void call(final Connection connection) {
+                        if (startSending()) {
+                            try {
+                                executeRuns(connection);
+                            } catch (Throwable t) {
+                                failed(t);
+                            } finally {
+                                synchronized (ParallelRuns.this) {
+                                    sendingConnectionCount--;
+                                    ParallelRuns.this.notifyAll();
+                                }
+                            }
+                        }
+                        return null;
+                    }
+                });
+            } catch (MongoException e) {
+                // the runs are shared out between the connections that could be checked out
+                LOGGER.debug("Unable to check out an extra connection for an unordered bulk write", e);
+            } catch (Throwable t) {
+                failed(t);
+            }
+        }
+
+        // counts a newly checked out connection as sending runs, unless there are none left for it to send
+        private synchronized boolean startSending() {
+            if (!hasMoreRuns()) {
+                return false;
+            }
+            sendingConnectionCount++;
+            return true;
+        }
+
+        // must be called while holding the lock
+        private boolean hasMoreRuns() {
+            return failure == null && runs.hasNext();
+        }
+
+        private void executeRuns(final Connection connection) {
+            Run run;
+            while ((run = nextRun()) != null) {
+                try {
+                    runExecuted(run, run.execute(connection), null);
+                } catch (RuntimeException e) {
+                    runExecuted(run, null, e);
+                }
+            }
+        }
+
+        private void executeNextRunAsync(final AsyncConnection connection, final SingleResultCallback<BulkWriteResult> callback) {
+            final Run run = nextRun();
+            if (run == null) {
+                connectionFinished(connection, callback);
+                return;
+            }
+            run.executeAsync(connection, new SingleResultCallback<BulkWriteResult>() {
+                @Override
+                public void onResult(final BulkWriteResult result, final Throwable t) {
+                    runExecuted(run, result, t);
+                    executeNextRunAsync(connection, callback);
+                }
+            });
+        }
+
+        private synchronized Run nextRun() {
+            if (!hasMoreRuns()) {
+                return null;
+            }
+            return runs.next();
+        }
+
+        private synchronized void runExecuted(final Run run, final BulkWriteResult result, final Throwable t) {
+            if (t instanceof MongoBulkWriteException) {
+                bulkWriteBatchCombiner.addErrorResult((MongoBulkWriteException) t, run.indexMap);
+            } else if (t != null) {
+                failed(t);
+            } else if (result.wasAcknowledged()) {
+                bulkWriteBatchCombiner.addResult(result, run.indexMap);
+            }
+        }
+
+        // records the first failure, which stops any more runs from being sent
+        private synchronized void failed(final Throwable t) {
+            if (failure == null) {
+                failure = t;
+            }
+        }
+
+        private void connectionFinished(final AsyncConnection connection, final SingleResultCallback<BulkWriteResult> callback) {
+            if (connection != null) {
+                connection.release();
+            }
+            synchronized (this) {
+                sendingConnectionCount--;
+                if (sendingConnectionCount > 0) {
+                    return;
+                }
+            }
+            if (failure != null) {
+                callback.onResult(null, failure);
+            } else if (bulkWriteBatchCombiner.hasErrors()) {
+                callback.onResult(null, bulkWriteBatchCombiner.getError());
+            } else {
+                callback.onResult(bulkWriteBatchCombiner.getResult(), null);
+            }
+        }
+    }
+
     private class OrderedRunGenerator implements Iterable<Run> {
         private final int maxBatchCount;
         private final Boolean bypassDocumentValidation;
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb2.operation;
+
+import com.mongodb2.MongoInterruptedException;
+import com.mongodb2.ServerAddress;
+import com.mongodb2.ServerCursor;
+import com.mongodb2.internal.thread.DaemonThreadFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.mongodb2.operation.OperationHelper.LOGGER;
+
+/**
+ * A batch cursor that merges the batches of several cursors, each of which is driven by a pooled thread.  The threads stop fetching
+ * batches while the number of batches that are buffered or being fetched is at the buffer capacity, and resume as the consumer takes
+ * them.  Each cursor is closed by its own thread, once it is exhausted or this cursor is closed.
+ *
+ * @param <T> the type of the results
+ */
+class ParallelScanBatchCursor<T> implements BatchCursor<T> {
+    private static final ExecutorService SCAN_EXECUTOR = Executors.newCachedThreadPool(new DaemonThreadFactory("parallel-scan"));
+
+    private final List<BatchCursor<T>> cursors;
+    private final int bufferCapacity;
+    private final ServerAddress serverAddress;
+    private volatile int batchSize;
+    private volatile boolean closed;
+    private List<T> nextBatch;
+
+    // guarded by this
+    private final Deque<List<T>> bufferedBatches = new ArrayDeque<List<T>>();
+    private int pendingBatchCount;
+    private int activeCursorCount;
+    private RuntimeException failure;
+
+    ParallelScanBatchCursor(final List<BatchCursor<T>> cursors, final int bufferCapacity) {
+        this.cursors = cursors;
+        this.bufferCapacity = bufferCapacity;
+        this.serverAddress = cursors.isEmpty() ? null : cursors.get(0).getServerAddress();
+        this.activeCursorCount = cursors.size();
+        for (final BatchCursor<T> cursor : cursors) {
+            SCAN_EXECUTOR.execute(new Runnable() {
+                @Override
+                public void run() {
+                    scan(cursor);
+                }
+            });
+        }
+    }
+
+    @Override
+    public synchronized boolean hasNext() {
+        if (closed) {
+            throw new IllegalStateException("Cursor has been closed");
+        }
+        if (nextBatch != null) {
+            return true;
+        }
+        while (bufferedBatches.isEmpty() && failure == null && activeCursorCount > 0) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                throw new MongoInterruptedException("Interrupted waiting for a batch from a parallel scan", e);
+            }
+        }
+        return takeBufferedBatch();
+    }
+
+    @Override
+    public List<T> next() {
+        if (closed) {
+            throw new IllegalStateException("Iterator has been closed");
+        }
+
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        List<T> retVal = nextBatch;
+        nextBatch = null;
+        return retVal;
+    }
+
+    @Override
+    public synchronized List<T> tryNext() {
+        if (closed) {
+            throw new IllegalStateException("Cursor has been closed");
+        }
+        if (nextBatch == null) {
+            takeBufferedBatch();
+        }
+        List<T> retVal = nextBatch;
+        nextBatch = null;
+        return retVal;
+    }
+
+    @Override
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+        for (BatchCursor<T> cursor : cursors) {
+            cursor.setBatchSize(batchSize);
+        }
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Not implemented yet!");
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!closed) {
+            closed = true;
+            nextBatch = null;
+            bufferedBatches.clear();
+            notifyAll();
+        }
+    }
+
+    @Override
+    public ServerCursor getServerCursor() {
+        return null;
+    }
+
+    @Override
+    public ServerAddress getServerAddress() {
+        return serverAddress;
+    }
+
+    // must be called while holding the lock
+    private boolean takeBufferedBatch() {
+        if (failure != null) {
+            RuntimeException e = failure;
+            close();
+            throw e;
+        }
+        if (bufferedBatches.isEmpty()) {
+            return false;
+        }
+        nextBatch = bufferedBatches.poll();
+        pendingBatchCount--;
+        notifyAll();
+        return true;
+    }
+
+    private void scan(final BatchCursor<T> cursor) {
+        try {
+            while (reserveBufferSpace()) {
+                if (!addBatch(cursor.hasNext() ? cursor.next() : null)) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                if (failure == null && !closed) {
+                    failure = e;
+                }
+                pendingBatchCount--;
+            }
+        } finally {
+            try {
+                cursor.close();
+            } catch (RuntimeException e) {
+                LOGGER.debug("Exception closing a cursor of a parallel scan", e);
+            }
+            synchronized (this) {
+                activeCursorCount--;
+                notifyAll();
+            }
+        }
+    }
+
+    private synchronized boolean reserveBufferSpace() {
+        while (!closed && failure == null && pendingBatchCount >= bufferCapacity) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                // fail the scan rather than let the consumer mistake the interrupted cursor for an exhausted one
+                if (!closed && failure == null) {
+                    failure = new MongoInterruptedException("Interrupted waiting for buffer space in a parallel scan", e);
+                    notifyAll();
+                }
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        if (closed || failure != null) {
+            return false;
+        }
+        pendingBatchCount++;
+        return true;
+    }
+
+    private synchronized boolean addBatch(final List<T> batch) {
+        if (batch == null || closed) {
+            pendingBatchCount--;
+            notifyAll();
+            return false;
+        }
+        bufferedBatches.add(batch);
+        notifyAll();
+        return true;
+    }
+}
@@ -0,0 +1,384 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb2.operation;
+
+import com.mongodb2.MongoCommandException;
+import com.mongodb2.MongoNamespace;
+import com.mongodb2.ReadConcern;
+import com.mongodb2.async.AsyncBatchCursor;
+import com.mongodb2.async.SingleResultCallback;
+import com.mongodb2.binding.AsyncReadBinding;
+import com.mongodb2.binding.ReadBinding;
+import org.bson2.BsonDocument;
+import org.bson2.BsonInt32;
+import org.bson2.BsonValue;
+import org.bson2.codecs.BsonDocumentCodec;
+import org.bson2.codecs.Decoder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.mongodb2.assertions.Assertions.isTrue;
+import static com.mongodb2.assertions.Assertions.notNull;
+import static com.mongodb2.internal.async.ErrorHandlingResultCallback.errorHandlingCallback;
+import static com.mongodb2.operation.CommandOperationHelper.isNamespaceError;
+import static com.mongodb2.operation.OperationHelper.LOGGER;
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+
+/**
+ * An operation that scans a whole collection over several cursors at once, and merges their results into a single cursor.
+ *
+ * <p>The cursors are opened with the {@code parallelCollectionScan} command.  If the server does not support the command, as is the case
+ * for a mongos, or if it returns a single cursor when more than one was asked for, as storage engines that cannot split a collection do,
+ * the collection is instead split into ranges of {@code _id} whose boundaries are taken from a random sample of the collection, and each
+ * range is scanned by a separate find.</p>
+ *
+ * <p>Each of the cursors is driven by its own thread, which fetches and decodes batches ahead of the consumer, up to the maximum number
+ * of buffered batches.  The batches from different cursors are returned in the order in which they arrive, so the order of the results
+ * is not defined.</p>
+ *
+ * @param <T> the operations result type.
+ * @mongodb.driver.manual reference/command/parallelCollectionScan/ parallelCollectionScan
+ * @since 3.5
+ */
+public class ParallelScanOperation<T> implements AsyncReadOperation<AsyncBatchCursor<T>>, ReadOperation<BatchCursor<T>> {
+    private static final int COMMAND_NOT_FOUND = 59;
+    private static final int COMMAND_NOT_SUPPORTED = 115;
+    private static final int SAMPLES_PER_CURSOR = 10;
+
+    private final MongoNamespace namespace;
+    private final int numCursors;
+    private final Decoder<T> decoder;
+    private int batchSize = 0;
+    private int maxBufferedBatches = 0;
+    private ReadConcern readConcern = ReadConcern.DEFAULT;
+
+    /**
+     * Construct a new instance.
+     *
+     * @param namespace the database and collection namespace for the operation.
+     * @param numCursors the maximum number of cursors to scan the collection with.  Must be between 1 and 10000, inclusive.
+     * @param decoder the decoder for the result documents.
+     */
+    public ParallelScanOperation(final MongoNamespace namespace, final int numCursors, final Decoder<T> decoder) {
+        this.namespace = notNull("namespace", namespace);
+        isTrue("numCursors >= 1 and <= 10000", numCursors >= 1 && numCursors <= 10000);
+        this.numCursors = numCursors;
+        this.decoder = notNull("decoder", decoder);
+    }
+
+    /**
+     * Gets the maximum number of cursors to scan the collection with.
+     *
+     * @return the number of cursors
+     */
+    public int getNumCursors() {
+        return numCursors;
+    }
+
+    /**
+     * Gets the batch size to use for each cursor.  The default value is 0, which tells the server to use its own default batch size.
+     *
+     * @return batch size
+     * @mongodb.driver.manual core/cursors/#cursor-batches BatchSize
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * The batch size to use for each cursor.
+     *
+     * @param batchSize the batch size, which must be greater than or equal to  0
+     * @return this
+     * @mongodb.driver.manual core/cursors/#cursor-batches BatchSize
+     */
+    public ParallelScanOperation<T> batchSize(final int batchSize) {
+        isTrue("batchSize >= 0", batchSize >= 0);
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of batches that are fetched ahead of the consumer.  The default value is 0, which allows two batches per
+     * cursor.
+     *
+     * @return the maximum number of buffered batches
+     */
+    public int getMaxBufferedBatches() {
+        return maxBufferedBatches;
+    }
+
+    /**
+     * Sets the maximum number of batches that are fetched ahead of the consumer.  Once the limit is reached, the cursors wait for the
+     * consumer to catch up before fetching more.  The asynchronous cursor always buffers at most one batch per cursor.
+     *
+     * @param maxBufferedBatches the maximum number of buffered batches, which must be greater than or equal to 0
+     * @return this
+     */
+    public ParallelScanOperation<T> maxBufferedBatches(final int maxBufferedBatches) {
+        isTrue("maxBufferedBatches >= 0", maxBufferedBatches >= 0);
+        this.maxBufferedBatches = maxBufferedBatches;
+        return this;
+    }
+
+    /**
+     * Gets the read concern
+     *
+     * @return the read concern
+     * @mongodb.driver.manual reference/readConcern/ Read Concern
+     */
+    public ReadConcern getReadConcern() {
+        return readConcern;
+    }
+
+    /**
+     * Sets the read concern
+     * @param readConcern the read concern
+     * @return this
+     * @mongodb.driver.manual reference/readConcern/ Read Concern
+     */
+    public ParallelScanOperation<T> readConcern(final ReadConcern readConcern) {
+        this.readConcern = notNull("readConcern", readConcern);
+        return this;
+    }
+
+    @Override
+    public BatchCursor<T> execute(final ReadBinding binding) {
+        List<BatchCursor<T>> cursors = executeParallelCollectionScan(binding);
+        if (cursors == null) {
+            cursors = executeIdRangeScan(binding);
+        }
+        return new ParallelScanBatchCursor<T>(cursors, getBufferCapacity());
+    }
+
+    @Override
+    public void executeAsync(final AsyncReadBinding binding, final SingleResultCallback<AsyncBatchCursor<T>> callback) {
+        final SingleResultCallback<AsyncBatchCursor<T>> errHandlingCallback = errorHandlingCallback(callback, LOGGER);
+        createParallelCollectionScanOperation().executeAsync(binding, new SingleResultCallback<List<AsyncBatchCursor<T>>>() {
+            @Override
+            public void onResult(final List<AsyncBatchCursor<T>> result, final Throwable t) {
+                if (t != null && isNamespaceError(t)) {
+                    errHandlingCallback.onResult(new AsyncParallelScanBatchCursor<T>(Collections.<AsyncBatchCursor<T>>emptyList()), null);
+                } else if (t instanceof MongoCommandException && isCommandUnsupported((MongoCommandException) t)) {
+                    executeIdRangeScanAsync(binding, errHandlingCallback);
+                } else if (t != null) {
+                    errHandlingCallback.onResult(null, t);
+                } else if (result.size() == 1 && numCursors > 1) {
+                    result.get(0).close();
+                    executeIdRangeScanAsync(binding, errHandlingCallback);
+                } else {
+                    errHandlingCallback.onResult(new AsyncParallelScanBatchCursor<T>(result), null);
+                }
+            }
+        });
+    }
+
+    // returns null if the collection should be split into _id ranges instead
+    private List<BatchCursor<T>> executeParallelCollectionScan(final ReadBinding binding) {
+        try {
+            List<BatchCursor<T>> cursors = createParallelCollectionScanOperation().execute(binding);
+            if (cursors.size() == 1 && numCursors > 1) {
+                cursors.get(0).close();
+                return null;
+            }
+            return cursors;
+        } catch (MongoCommandException e) {
+            if (isNamespaceError(e)) {
+                return Collections.emptyList();
+            } else if (isCommandUnsupported(e)) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    private ParallelCollectionScanOperation<T> createParallelCollectionScanOperation() {
+        return new ParallelCollectionScanOperation<T>(namespace, numCursors, decoder).batchSize(batchSize).readConcern(readConcern);
+    }
+
+    private int getBufferCapacity() {
+        return maxBufferedBatches == 0 ? numCursors * 2 : maxBufferedBatches;
+    }
+
+    private boolean isCommandUnsupported(final MongoCommandException e) {
+        return e.getErrorCode() == COMMAND_NOT_FOUND || e.getErrorCode() == COMMAND_NOT_SUPPORTED
+               || e.getErrorMessage().startsWith("no such");
+    }
+
+    private List<BatchCursor<T>> executeIdRangeScan(final ReadBinding binding) {
+        List<BsonValue> splitPoints = getSplitPoints(getSampledIds(binding));
+        List<BatchCursor<T>> cursors = new ArrayList<BatchCursor<T>>(splitPoints.size() + 1);
+        try {
+            for (int i = 0; i <= splitPoints.size(); i++) {
+                cursors.add(createIdRangeFindOperation(splitPoints, i).execute(binding));
+            }
+        } catch (RuntimeException e) {
+            for (BatchCursor<T> cursor : cursors) {
+                cursor.close();
+            }
+            throw e;
+        }
+        return cursors;
+    }
+
+    private void executeIdRangeScanAsync(final AsyncReadBinding binding, final SingleResultCallback<AsyncBatchCursor<T>> callback) {
+        getSampledIdsAsync(binding, new SingleResultCallback<List<BsonValue>>() {
+            @Override
+            public void onResult(final List<BsonValue> sampledIds, final Throwable t) {
+                if (t != null) {
+                    callback.onResult(null, t);
+                    return;
+                }
+                List<BsonValue> splitPoints = getSplitPoints(sampledIds);
+                final List<AsyncBatchCursor<T>> cursors = new ArrayList<AsyncBatchCursor<T>>(
+                        Collections.<AsyncBatchCursor<T>>nCopies(splitPoints.size() + 1, null));
+                final AtomicInteger pendingCount = new AtomicInteger(cursors.size());
+                final Throwable[] failure = new Throwable[1];
+                for (int i = 0; i < cursors.size(); i++) {
+                    final int index = i;
+                    createIdRangeFindOperation(splitPoints, i).executeAsync(binding, new SingleResultCallback<AsyncBatchCursor<T>>() {
+                        @Override
+                        public void onResult(final AsyncBatchCursor<T> result, final Throwable t) {
+                            synchronized (cursors) {
+                                cursors.set(index, result);
+                                if (t != null && failure[0] == null) {
+                                    failure[0] = t;
+                                }
+                            }
+                            if (pendingCount.decrementAndGet() == 0) {
+                                if (failure[0] == null) {
+                                    callback.onResult(new AsyncParallelScanBatchCursor<T>(cursors), null);
+                                } else {
+                                    for (AsyncBatchCursor<T> cursor : cursors) {
+                                        if (cursor != null) {
+                                            cursor.close();
+                                        }
+                                    }
+                                    callback.onResult(null, failure[0]);
+                                }
+                            }
+                        }
+                    });
+                }
+            }
+        });
+    }
+
+    // The boundaries of the ranges are evenly spaced through a sorted random sample of the _id values.  The first range has no lower
+    // bound and the last no upper bound, so that documents whose _id is of a type that was not sampled are still scanned.
+    private FindOperation<T> createIdRangeFindOperation(final List<BsonValue> splitPoints, final int index) {
+        BsonDocument modifiers = new BsonDocument("$hint", new BsonDocument("_id", new BsonInt32(1)));
+        if (index > 0) {
+            modifiers.append("$min", new BsonDocument("_id", splitPoints.get(index - 1)));
+        }
+        if (index < splitPoints.size()) {
+            modifiers.append("$max", new BsonDocument("_id", splitPoints.get(index)));
+        }
+        return new FindOperation<T>(namespace, decoder)
+                       .modifiers(modifiers)
+                       .batchSize(batchSize)
+                       .readConcern(readConcern);
+    }
+
+    private List<BsonValue> getSplitPoints(final List<BsonValue> sampledIds) {
+        List<BsonValue> splitPoints = new ArrayList<BsonValue>(numCursors - 1);
+        for (int i = 1; i < numCursors && !sampledIds.isEmpty(); i++) {
+            BsonValue splitPoint = sampledIds.get(i * sampledIds.size() / numCursors);
+            if (splitPoints.isEmpty() || !splitPoints.get(splitPoints.size() - 1).equals(splitPoint)) {
+                splitPoints.add(splitPoint);
+            }
+        }
+        return splitPoints;
+    }
+
+    private List<BsonValue> getSampledIds(final ReadBinding binding) {
+        List<BsonValue> sampledIds = new ArrayList<BsonValue>();
+        try {
+            BatchCursor<BsonDocument> cursor = createSampleOperation().execute(binding);
+            try {
+                while (cursor.hasNext()) {
+                    addIds(cursor.next(), sampledIds);
+                }
+            } finally {
+                cursor.close();
+            }
+        } catch (MongoCommandException e) {
+            LOGGER.debug(format("Unable to sample the _id values of %s, so it will be scanned with a single cursor", namespace), e);
+            sampledIds.clear();
+        }
+        return sampledIds;
+    }
+
+    private void getSampledIdsAsync(final AsyncReadBinding binding, final SingleResultCallback<List<BsonValue>> callback) {
+        final List<BsonValue> sampledIds = new ArrayList<BsonValue>();
+        createSampleOperation().executeAsync(binding, new SingleResultCallback<AsyncBatchCursor<BsonDocument>>() {
+            @Override
+            public void onResult(final AsyncBatchCursor<BsonDocument> cursor, final Throwable t) {
+                if (t != null) {
+                    sampleFailed(t);
+                } else {
+                    cursor.next(new SingleResultCallback<List<BsonDocument>>() {
+                        @Override
+                        public void onResult(final List<BsonDocument> result, final Throwable t) {
+                            if (t != null) {
+                                cursor.close();
+                                sampleFailed(t);
+                            } else if (result == null) {
+                                cursor.close();
+                                callback.onResult(sampledIds, null);
+                            } else {
+                                addIds(result, sampledIds);
+                                cursor.next(this);
+                            }
+                        }
+                    });
+                }
+            }
+
+            private void sampleFailed(final Throwable t) {
+                if (t instanceof MongoCommandException) {
+                    LOGGER.debug(format("Unable to sample the _id values of %s, so it will be scanned with a single cursor", namespace),
+                                 t);
+                    sampledIds.clear();
+                    callback.onResult(sampledIds, null);
+                } else {
+                    callback.onResult(null, t);
+                }
+            }
+        });
+    }
+
+    private AggregateOperation<BsonDocument> createSampleOperation() {
+        return new AggregateOperation<BsonDocument>(namespace, asList(
+                new BsonDocument("$sample", new BsonDocument("size", new BsonInt32(numCursors * SAMPLES_PER_CURSOR))),
+                new BsonDocument("$project", new BsonDocument("_id", new BsonInt32(1))),
+                new BsonDocument("$sort", new BsonDocument("_id", new BsonInt32(1)))), new BsonDocumentCodec())
+                       .readConcern(readConcern);
+    }
+
+    private static void addIds(final List<BsonDocument> documents, final List<BsonValue> ids) {
+        for (BsonDocument document : documents) {
+            if (document.containsKey("_id")) {
+                ids.add(document.get("_id"));
+            }
+        }
+    }
+}
@@ -17,12 +17,15 @@
 package com.mongodb2.operation;
 
 import com.mongodb2.MongoCommandException;
+import com.mongodb2.MongoInternalException;
+import com.mongodb2.MongoInterruptedException;
 import com.mongodb2.MongoNamespace;
 import com.mongodb2.ServerAddress;
 import com.mongodb2.ServerCursor;
 import com.mongodb2.binding.ConnectionSource;
 import com.mongodb2.connection.Connection;
 import com.mongodb2.connection.QueryResult;
+import com.mongodb2.internal.thread.DaemonThreadFactory;
 import com.mongodb2.internal.validator.NoOpFieldNameValidator;
 import org.bson2.BsonDocument;
 import org.bson2.BsonInt32;
@@ -30,8 +33,12 @@ import org.bson2.BsonInt64;
 import org.bson2.BsonString;
 import org.bson2.codecs.Decoder;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static com.mongodb2.assertions.Assertions.isTrueArgument;
 import static com.mongodb2.assertions.Assertions.notNull;
@@ -42,16 +49,28 @@ import static com.mongodb2.operation.QueryHelper.translateCommandException;
 import static java.util.Collections.singletonList;
 
 class QueryBatchCursor<T> implements BatchCursor<T> {
+    // the threads are daemon threads, created as they are needed, so the executor never needs to be shut down
+    private static final ExecutorService PREFETCH_EXECUTOR = Executors.newCachedThreadPool(new DaemonThreadFactory("cursor-prefetch"));
+
     private final MongoNamespace namespace;
     private final int limit;
     private final Decoder<T> decoder;
     private final ConnectionSource connectionSource;
     private final long maxTimeMS;
-    private int batchSize;
-    private ServerCursor serverCursor;
+    private final int maxPrefetchedBatches;
+    // the connection that an exhaust query was executed on, which is held until the server has streamed the last batch
+    private Connection exhaustConnection;
+    private volatile int batchSize;
+    private volatile ServerCursor serverCursor;
     private List<T> nextBatch;
     private int count;
-    private boolean closed;
+    // volatile because close() sets it without holding the lock that the prefetching getMores read it under
+    private volatile boolean closed;
+
+    // when prefetching, these are guarded by this, and serverCursor and count are only changed by the getMore in flight, if any
+    private final Deque<List<T>> prefetchedBatches = new ArrayDeque<List<T>>();
+    private boolean getMoreInFlight;
+    private Throwable prefetchFailure;
 
     QueryBatchCursor(final QueryResult<T> firstQueryResult, final int limit, final int batchSize, final Decoder<T> decoder) {
         this(firstQueryResult, limit, batchSize, decoder, (ConnectionSource) null);
@@ -64,8 +83,33 @@ class QueryBatchCursor<T> implements BatchCursor<T> {
 
     QueryBatchCursor(final QueryResult<T> firstQueryResult, final int limit, final int batchSize, final long maxTimeMS,
                      final Decoder<T> decoder, final ConnectionSource connectionSource, final Connection connection) {
+        this(firstQueryResult, limit, batchSize, maxTimeMS, decoder, connectionSource, connection, 0);
+    }
+
+    /**
+     * Construct an instance which, if {@code maxPrefetchedBatches} is greater than zero, issues each getMore on a background thread as
+     * soon as the previous batch has been received, until that many batches are waiting to be consumed.  Prefetching is not suitable for
+     * tailable cursors, which would then poll the server whether or not the consumer is ready for more results.
+     */
+    QueryBatchCursor(final QueryResult<T> firstQueryResult, final int limit, final int batchSize, final long maxTimeMS,
+                     final Decoder<T> decoder, final ConnectionSource connectionSource, final Connection connection,
+                     final int maxPrefetchedBatches) {
+        this(firstQueryResult, limit, batchSize, maxTimeMS, decoder, connectionSource, connection, maxPrefetchedBatches, false);
+    }
+
+    /**
+     * Construct an instance which, if {@code exhaust} is true, reads each further batch of the results of an exhaust query as the server
+     * streams it on the given connection, which is held until the last batch has been read or the cursor is closed.  Exhaust cursors
+     * are never prefetched, as the server already sends each batch without waiting to be asked.
+     */
+    QueryBatchCursor(final QueryResult<T> firstQueryResult, final int limit, final int batchSize, final long maxTimeMS,
+                     final Decoder<T> decoder, final ConnectionSource connectionSource, final Connection connection,
+                     final int maxPrefetchedBatches, final boolean exhaust) {
         isTrueArgument("maxTimeMS >= 0", maxTimeMS >= 0);
+        isTrueArgument("maxPrefetchedBatches >= 0", maxPrefetchedBatches >= 0);
+        isTrueArgument("not prefetching an exhaust cursor", !exhaust || maxPrefetchedBatches == 0);
         this.maxTimeMS = maxTimeMS;
+        this.maxPrefetchedBatches = maxPrefetchedBatches;
         this.namespace = firstQueryResult.getNamespace();
         this.limit = limit;
         this.batchSize = batchSize;
@@ -80,9 +124,17 @@ class QueryBatchCursor<T> implements BatchCursor<T> {
         }
 
         initFromQueryResult(firstQueryResult);
+        if (exhaust && serverCursor != null) {
+            exhaustConnection = notNull("connection", connection).retain();
+        }
         if (limitReached()) {
             killCursor(connection);
         }
+        if (isPrefetching()) {
+            synchronized (this) {
+                startGetMoreIfNeeded();
+            }
+        }
     }
 
     @Override
@@ -95,6 +147,10 @@ class QueryBatchCursor<T> implements BatchCursor<T> {
             return true;
         }
 
+        if (isPrefetching()) {
+            return takePrefetchedBatch();
+        }
+
         if (limitReached()) {
             return false;
         }
@@ -143,7 +199,11 @@ class QueryBatchCursor<T> implements BatchCursor<T> {
     public void close() {
         if (!closed) {
             closed = true;
+            if (isPrefetching()) {
+                awaitGetMoreInFlight();
+            }
             try {
+                releaseExhaustConnection();
                 killCursor();
             } finally {
                 if (connectionSource != null) {
@@ -170,6 +230,10 @@ class QueryBatchCursor<T> implements BatchCursor<T> {
             return true;
         }
 
+        if (isPrefetching()) {
+            return takePrefetchedBatch();
+        }
+
         if (limitReached()) {
             return false;
         }
@@ -200,31 +264,152 @@ class QueryBatchCursor<T> implements BatchCursor<T> {
     }
 
     private void getMore() {
+        nextBatch = getNextBatch();
+    }
+
+    private List<T> getNextBatch() {
+        if (exhaustConnection != null) {
+            return getNextExhaustBatch();
+        }
         Connection connection = connectionSource.getConnection();
         try {
+            List<T> batch;
             if (serverIsAtLeastVersionThreeDotTwo(connection.getDescription())) {
                 try {
-                    initFromCommandResult(connection.command(namespace.getDatabaseName(),
-                                                             asGetMoreCommandDocument(),
-                                                             false,
-                                                             new NoOpFieldNameValidator(),
-                                                             CommandResultDocumentCodec.create(decoder, "nextBatch")));
+                    batch = processCommandResult(connection.command(namespace.getDatabaseName(),
+                                                                    asGetMoreCommandDocument(),
+                                                                    false,
+                                                                    new NoOpFieldNameValidator(),
+                                                                    CommandResultDocumentCodec.create(decoder, "nextBatch")));
                 } catch (MongoCommandException e) {
                     throw translateCommandException(e, serverCursor);
                 }
             } else {
-                initFromQueryResult(connection.getMore(namespace, serverCursor.getId(),
-                                                       getNumberToReturn(limit, batchSize, count),
-                                                       decoder));
+                batch = processQueryResult(connection.getMore(namespace, serverCursor.getId(),
+                                                              getNumberToReturn(limit, batchSize, count),
+                                                              decoder));
             }
             if (limitReached()) {
                 killCursor(connection);
             }
+            return batch;
         } finally {
             connection.release();
         }
     }
 
+    private List<T> getNextExhaustBatch() {
+        boolean succeeded = false;
+        try {
+            List<T> batch = trimToLimit(processQueryResult(exhaustConnection.receiveExhaustBatch(namespace, decoder)));
+            succeeded = true;
+            return batch;
+        } finally {
+            if (!succeeded || serverCursor == null || limitReached()) {
+                releaseExhaustConnection();
+            }
+        }
+    }
+
+    // the server streams each batch of an exhaust query with the number of results asked for in the query, rather than the number
+    // remaining, so the last batch may go past the limit
+    private List<T> trimToLimit(final List<T> batch) {
+        int excess = limit == 0 ? 0 : count - Math.abs(limit);
+        if (batch == null || excess <= 0) {
+            return batch;
+        }
+        count -= excess;
+        return batch.subList(0, batch.size() - excess);
+    }
+
+    // Any batches still to come are abandoned along with the connection, which the pool closes rather than reuse, and closing the
+    // connection kills the cursor on the server, so there is no need for a killCursors message.
+    private void releaseExhaustConnection() {
+        if (exhaustConnection != null) {
+            serverCursor = null;
+            exhaustConnection.release();
+            exhaustConnection = null;
+        }
+    }
+
+    private boolean isPrefetching() {
+        return maxPrefetchedBatches > 0;
+    }
+
+    private synchronized boolean takePrefetchedBatch() {
+        try {
+            while (prefetchedBatches.isEmpty() && prefetchFailure == null && (getMoreInFlight || canGetMore())) {
+                startGetMoreIfNeeded();
+                wait();
+            }
+        } catch (InterruptedException e) {
+            throw new MongoInterruptedException("Interrupted waiting for the next batch", e);
+        }
+        if (!prefetchedBatches.isEmpty()) {
+            nextBatch = prefetchedBatches.poll();
+            startGetMoreIfNeeded();
+            return true;
+        }
+        if (prefetchFailure instanceof RuntimeException) {
+            throw (RuntimeException) prefetchFailure;
+        } else if (prefetchFailure instanceof Error) {
+            throw (Error) prefetchFailure;
+        } else if (prefetchFailure != null) {
+            throw new MongoInternalException("Unexpected exception prefetching the next batch", prefetchFailure);
+        }
+        return false;
+    }
+
+    // must be called while holding the lock
+    private void startGetMoreIfNeeded() {
+        if (getMoreInFlight || closed || prefetchFailure != null || !canGetMore() || prefetchedBatches.size() >= maxPrefetchedBatches) {
+            return;
+        }
+        getMoreInFlight = true;
+        PREFETCH_EXECUTOR.execute(new Runnable() {
+            @Override
+            public void run() {
+                List<T> batch = null;
+                Throwable failure = null;
+                try {
+                    batch = getNextBatch();
+                } catch (Throwable t) {
+                    failure = t;
+                } finally {
+                    synchronized (QueryBatchCursor.this) {
+                        getMoreInFlight = false;
+                        if (batch != null) {
+                            prefetchedBatches.add(batch);
+                        }
+                        prefetchFailure = failure;
+                        // wake the consumer before starting the next getMore, so that it is woken even if that can't be started
+                        QueryBatchCursor.this.notifyAll();
+                        startGetMoreIfNeeded();
+                    }
+                }
+            }
+        });
+    }
+
+    private boolean canGetMore() {
+        return serverCursor != null && !limitReached();
+    }
+
+    private synchronized void awaitGetMoreInFlight() {
+        boolean interrupted = false;
+        while (getMoreInFlight) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        prefetchedBatches.clear();
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private BsonDocument asGetMoreCommandDocument() {
         BsonDocument document = new BsonDocument("getMore", new BsonInt64(serverCursor.getId()))
                                 .append("collection", new BsonString(namespace.getCollectionName()));
@@ -241,15 +426,19 @@ class QueryBatchCursor<T> implements BatchCursor<T> {
     }
 
     private void initFromQueryResult(final QueryResult<T> queryResult) {
+        nextBatch = processQueryResult(queryResult);
+    }
+
+    private List<T> processQueryResult(final QueryResult<T> queryResult) {
         serverCursor = queryResult.getCursor();
-        nextBatch = queryResult.getResults().isEmpty() ? null : queryResult.getResults();
         count += queryResult.getResults().size();
+        return queryResult.getResults().isEmpty() ? null : queryResult.getResults();
     }
 
-    private void initFromCommandResult(final BsonDocument getMoreCommandResultDocument) {
+    private List<T> processCommandResult(final BsonDocument getMoreCommandResultDocument) {
         QueryResult<T> queryResult = getMoreCursorDocumentToQueryResult(getMoreCommandResultDocument.getDocument("cursor"),
                                                                         connectionSource.getServerDescription().getAddress());
-        initFromQueryResult(queryResult);
+        return processQueryResult(queryResult);
     }
 
     private boolean limitReached() {
@@ -268,7 +457,9 @@ class QueryBatchCursor<T> implements BatchCursor<T> {
     }
 
     private void killCursor(final Connection connection) {
-        if (serverCursor != null) {
+        if (exhaustConnection != null) {
+            releaseExhaustConnection();
+        } else if (serverCursor != null) {
             notNull("connection", connection);
             connection.killCursor(namespace, singletonList(serverCursor.getId()));
             serverCursor = null;
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb2.operation;
+
+import com.mongodb2.MongoBulkWriteException;
+import com.mongodb2.MongoNamespace;
+import com.mongodb2.WriteConcern;
+import com.mongodb2.binding.WriteBinding;
+import com.mongodb2.bulk.BulkWriteResult;
+import com.mongodb2.bulk.InsertRequest;
+import com.mongodb2.connection.BulkWriteBatchCombiner;
+import com.mongodb2.connection.Connection;
+import com.mongodb2.internal.connection.IndexMap;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static com.mongodb2.assertions.Assertions.notNull;
+import static com.mongodb2.operation.OperationHelper.CallableWithConnection;
+import static com.mongodb2.operation.OperationHelper.withConnection;
+
+/**
+ * An operation that inserts the documents from an iterator into a collection, without first collecting them all.  The iterator is drained
+ * one batch at a time, each batch holding at most as many inserts as the server accepts in a single write command, and each batch is
+ * encoded and sent before the next is taken from the iterator.  Documents are therefore encoded only as the messages that contain them are
+ * written, and no more than one batch of inserts is held at a time however many the iterator returns.
+ *
+ * <p>As the iterator is drained by the thread that executes the operation, this operation is only supported synchronously.</p>
+ *
+ * @since 3.5
+ */
+public class StreamingInsertOperation implements WriteOperation<BulkWriteResult> {
+    private final MongoNamespace namespace;
+    private final Iterator<? extends InsertRequest> insertRequests;
+    private final boolean ordered;
+    private final WriteConcern writeConcern;
+    private Boolean bypassDocumentValidation;
+
+    /**
+     * Construct a new instance.
+     *
+     * @param namespace      the database and collection namespace for the operation.
+     * @param insertRequests the iterator of inserts, which is drained as the operation executes.
+     * @param ordered        whether the inserts are ordered.
+     * @param writeConcern   the write concern for the operation.
+     */
+    public StreamingInsertOperation(final MongoNamespace namespace, final Iterator<? extends InsertRequest> insertRequests,
+                                    final boolean ordered, final WriteConcern writeConcern) {
+        this.namespace = notNull("namespace", namespace);
+        this.insertRequests = notNull("insertRequests", insertRequests);
+        this.ordered = ordered;
+        this.writeConcern = notNull("writeConcern", writeConcern);
+    }
+
+    /**
+     * Gets the namespace of the collection to write to.
+     *
+     * @return the namespace
+     */
+    public MongoNamespace getNamespace() {
+        return namespace;
+    }
+
+    /**
+     * Gets the write concern to apply
+     *
+     * @return the write concern
+     */
+    public WriteConcern getWriteConcern() {
+        return writeConcern;
+    }
+
+    /**
+     * Gets whether the inserts are ordered.  If true, no more inserts will be sent to the server after the first error is reported.
+     *
+     * @return whether the inserts are ordered
+     */
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    /**
+     * Gets the bypass document level validation flag
+     *
+     * @return the bypass document level validation flag
+     */
+    public Boolean getBypassDocumentValidation() {
+        return bypassDocumentValidation;
+    }
+
+    /**
+     * Sets the bypass document level validation flag.
+     *
+     * @param bypassDocumentValidation If true, allows the write to opt-out of document level validation.
+     * @return this
+     */
+    public StreamingInsertOperation bypassDocumentValidation(final Boolean bypassDocumentValidation) {
+        this.bypassDocumentValidation = bypassDocumentValidation;
+        return this;
+    }
+
+    /**
+     * Executes the inserts, draining the iterator.
+     *
+     * @param binding the WriteBinding for the operation
+     * @return the bulk write result, in which the index of each error is the position of its insert in the iterator
+     * @throws com.mongodb2.MongoBulkWriteException if a failure to complete the bulk write is detected based on the server response
+     */
+    @Override
+    public BulkWriteResult execute(final WriteBinding binding) {
+        return withConnection(binding, new CallableWithConnection<BulkWriteResult>() {
+            @Override
+            public BulkWriteResult call(final Connection connection) {
+                BulkWriteBatchCombiner bulkWriteBatchCombiner = new BulkWriteBatchCombiner(connection.getDescription().getServerAddress(),
+                                                                                           ordered, writeConcern);
+                int maxBatchCount = connection.getDescription().getMaxBatchCount();
+                int currentRangeStartIndex = 0;
+                while (insertRequests.hasNext() && !bulkWriteBatchCombiner.shouldStopSendingMoreBatches()) {
+                    List<InsertRequest> batch = new ArrayList<InsertRequest>();
+                    while (batch.size() < maxBatchCount && insertRequests.hasNext()) {
+                        batch.add(notNull("insertRequest", insertRequests.next()));
+                    }
+                    IndexMap indexMap = IndexMap.create(currentRangeStartIndex, batch.size());
+                    try {
+                        BulkWriteResult result = new MixedBulkWriteOperation(namespace, batch, ordered, writeConcern)
+                                                 .bypassDocumentValidation(bypassDocumentValidation)
+                                                 .execute(connection);
+                        if (result.wasAcknowledged()) {
+                            bulkWriteBatchCombiner.addResult(result, indexMap);
+                        }
+                    } catch (MongoBulkWriteException e) {
+                        bulkWriteBatchCombiner.addErrorResult(e, indexMap);
+                    }
+                    currentRangeStartIndex += batch.size();
+                }
+                return bulkWriteBatchCombiner.getResult();
+            }
+        });
+    }
+}
@@ -36,6 +36,16 @@ public final class PrimaryServerSelector implements ServerSelector {
         return clusterDescription.getPrimaries();
     }
 
+    @Override
+    public boolean equals(final Object o) {
+        return this == o || (o != null && getClass() == o.getClass());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
     @Override
     public String toString() {
         return "PrimaryServerSelector";
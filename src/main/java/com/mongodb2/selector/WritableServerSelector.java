@@ -34,6 +34,16 @@ public final class WritableServerSelector implements ServerSelector {
         return clusterDescription.getPrimaries();
     }
 
+    @Override
+    public boolean equals(final Object o) {
+        return this == o || (o != null && getClass() == o.getClass());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
     @Override
     public String toString() {
         return "WritableServerSelector";
@@ -21,7 +21,6 @@ import org.bson2.types.ObjectId;
 
 import java.io.Closeable;
 import java.util.Arrays;
-import java.util.Stack;
 
 import static java.lang.String.format;
 
@@ -32,7 +31,8 @@ import static java.lang.String.format;
  */
 public abstract class AbstractBsonWriter implements BsonWriter, Closeable {
     private final BsonWriterSettings settings;
-    private final Stack<FieldNameValidator> fieldNameValidatorStack = new Stack<FieldNameValidator>();
+    private FieldNameValidator[] fieldNameValidatorStack = new FieldNameValidator[4];
+    private int fieldNameValidatorStackSize;
     private State state;
     private Context context;
     private int serializationDepth;
@@ -58,7 +58,7 @@ public abstract class AbstractBsonWriter implements BsonWriter, Closeable {
             throw new IllegalArgumentException("Validator can not be null");
         }
         this.settings = settings;
-        fieldNameValidatorStack.push(validator);
+        pushFieldNameValidator(validator);
         state = State.INITIAL;
     }
 
@@ -273,7 +273,7 @@ public abstract class AbstractBsonWriter implements BsonWriter, Closeable {
     public void writeStartDocument() {
         checkPreconditions("writeStartDocument", State.INITIAL, State.VALUE, State.SCOPE_DOCUMENT, State.DONE);
         if (context != null && context.name != null) {
-            fieldNameValidatorStack.push(fieldNameValidatorStack.peek().getValidatorForField(getName()));
+            pushFieldNameValidator(getFieldNameValidator().getValidatorForField(getName()));
         }
         serializationDepth++;
         if (serializationDepth > settings.getMaxSerializationDepth()) {
@@ -295,7 +295,7 @@ public abstract class AbstractBsonWriter implements BsonWriter, Closeable {
         }
 
         if (context.getParentContext() != null && context.getParentContext().name != null) {
-            fieldNameValidatorStack.pop();
+            fieldNameValidatorStack[--fieldNameValidatorStackSize] = null;
         }
         serializationDepth--;
 
@@ -319,7 +319,7 @@ public abstract class AbstractBsonWriter implements BsonWriter, Closeable {
         checkPreconditions("writeStartArray", State.VALUE);
 
         if (context != null && context.name != null) {
-            fieldNameValidatorStack.push(fieldNameValidatorStack.peek().getValidatorForField(getName()));
+            pushFieldNameValidator(getFieldNameValidator().getValidatorForField(getName()));
         }
         serializationDepth++;
         if (serializationDepth > settings.getMaxSerializationDepth()) {
@@ -340,7 +340,7 @@ public abstract class AbstractBsonWriter implements BsonWriter, Closeable {
         }
 
         if (context.getParentContext() != null && context.getParentContext().name != null) {
-            fieldNameValidatorStack.pop();
+            fieldNameValidatorStack[--fieldNameValidatorStackSize] = null;
         }
         serializationDepth--;
 
@@ -512,7 +512,7 @@ public abstract class AbstractBsonWriter implements BsonWriter, Closeable {
         if (name == null) {
             throw new IllegalArgumentException("BSON field name can not be null");
         }
-        if (!fieldNameValidatorStack.peek().validate(name)) {
+        if (!getFieldNameValidator().validate(name)) {
             throw new IllegalArgumentException(format("Invalid BSON field name %s", name));
         }
         context.name = name;
@@ -849,14 +849,25 @@ public abstract class AbstractBsonWriter implements BsonWriter, Closeable {
         CLOSED
     }
 
+    private void pushFieldNameValidator(final FieldNameValidator validator) {
+        if (fieldNameValidatorStackSize == fieldNameValidatorStack.length) {
+            fieldNameValidatorStack = Arrays.copyOf(fieldNameValidatorStack, fieldNameValidatorStackSize * 2);
+        }
+        fieldNameValidatorStack[fieldNameValidatorStackSize++] = validator;
+    }
+
+    private FieldNameValidator getFieldNameValidator() {
+        return fieldNameValidatorStack[fieldNameValidatorStackSize - 1];
+    }
+
     /**
      * The context for the writer. Records the parent context, creating a bread crumb trail to trace back up to the root context of the
      * reader. Also records the {@link org.bson2.BsonContextType}, indicating whether the writer is reading a document, array, or other
      * complex sub-structure.
      */
     public class Context {
-        private final Context parentContext;
-        private final BsonContextType contextType;
+        private Context parentContext;
+        private BsonContextType contextType;
         private String name;
 
         /**
@@ -880,6 +891,13 @@ public abstract class AbstractBsonWriter implements BsonWriter, Closeable {
             this.contextType = contextType;
         }
 
+        // reinitializes a context that is no longer in use, so that a writer may reuse it rather than allocate a new one
+        void reset(final Context parentContext, final BsonContextType contextType) {
+            this.parentContext = parentContext;
+            this.contextType = contextType;
+            this.name = null;
+        }
+
         /**
          * Returns the parent context.  Allows users of this context object to transition to this parent context.
          *
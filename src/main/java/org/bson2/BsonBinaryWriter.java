@@ -21,7 +21,7 @@ import org.bson2.io.BsonOutput;
 import org.bson2.types.Decimal128;
 import org.bson2.types.ObjectId;
 
-import java.util.Stack;
+import java.util.Arrays;
 
 import static java.lang.String.format;
 
@@ -31,10 +31,27 @@ import static java.lang.String.format;
  * @since 3.0
  */
 public class BsonBinaryWriter extends AbstractBsonWriter {
+    // the encoded names of the elements of an array, which are the indexes of the elements, for as many elements as a batch of writes
+    private static final byte[][] ARRAY_INDEX_NAMES = new byte[1000][];
+
+    static {
+        for (int i = 0; i < ARRAY_INDEX_NAMES.length; i++) {
+            String name = Integer.toString(i);
+            byte[] bytes = new byte[name.length() + 1];
+            for (int j = 0; j < name.length(); j++) {
+                bytes[j] = (byte) name.charAt(j);
+            }
+            ARRAY_INDEX_NAMES[i] = bytes;
+        }
+    }
+
     private final BsonBinaryWriterSettings binaryWriterSettings;
 
     private final BsonOutput bsonOutput;
-    private final Stack<Integer> maxDocumentSizeStack = new Stack<Integer>();
+    private int[] maxDocumentSizeStack = new int[4];
+    private int maxDocumentSizeStackSize;
+    // the contexts of documents and arrays that have been written, linked for reuse by the documents and arrays that follow them
+    private Context spareContext;
     private Mark mark;
 
     /**
@@ -81,7 +98,7 @@ public class BsonBinaryWriter extends AbstractBsonWriter {
         super(settings, validator);
         this.binaryWriterSettings = binaryWriterSettings;
         this.bsonOutput = bsonOutput;
-        maxDocumentSizeStack.push(binaryWriterSettings.getMaxDocumentSize());
+        pushMaxDocumentSize(binaryWriterSettings.getMaxDocumentSize());
     }
 
     @Override
@@ -113,7 +130,7 @@ public class BsonBinaryWriter extends AbstractBsonWriter {
             bsonOutput.writeByte(BsonType.DOCUMENT.getValue());
             writeCurrentName();
         }
-        setContext(new Context(getContext(), BsonContextType.DOCUMENT, bsonOutput.getPosition()));
+        setContext(newContext(BsonContextType.DOCUMENT));
         bsonOutput.writeInt32(0); // reserve space for size
     }
 
@@ -122,7 +139,9 @@ public class BsonBinaryWriter extends AbstractBsonWriter {
         bsonOutput.writeByte(0);
         backpatchSize(); // size of document
 
-        setContext(getContext().getParentContext());
+        Context context = getContext();
+        setContext(context.getParentContext());
+        releaseContext(context);
         if (getContext() != null && getContext().getContextType() == BsonContextType.JAVASCRIPT_WITH_SCOPE) {
             backpatchSize(); // size of the JavaScript with scope value
             setContext(getContext().getParentContext());
@@ -133,7 +152,7 @@ public class BsonBinaryWriter extends AbstractBsonWriter {
     protected void doWriteStartArray() {
         bsonOutput.writeByte(BsonType.ARRAY.getValue());
         writeCurrentName();
-        setContext(new Context(getContext(), BsonContextType.ARRAY, bsonOutput.getPosition()));
+        setContext(newContext(BsonContextType.ARRAY));
         bsonOutput.writeInt32(0); // reserve space for size
     }
 
@@ -141,7 +160,9 @@ public class BsonBinaryWriter extends AbstractBsonWriter {
     protected void doWriteEndArray() {
         bsonOutput.writeByte(0);
         backpatchSize(); // size of document
-        setContext(getContext().getParentContext());
+        Context context = getContext();
+        setContext(context.getParentContext());
+        releaseContext(context);
     }
 
     @Override
@@ -331,14 +352,17 @@ public class BsonBinaryWriter extends AbstractBsonWriter {
      * @param maxDocumentSize the maximum document size.
      */
     public void pushMaxDocumentSize(final int maxDocumentSize) {
-        maxDocumentSizeStack.push(maxDocumentSize);
+        if (maxDocumentSizeStackSize == maxDocumentSizeStack.length) {
+            maxDocumentSizeStack = Arrays.copyOf(maxDocumentSizeStack, maxDocumentSizeStackSize * 2);
+        }
+        maxDocumentSizeStack[maxDocumentSizeStackSize++] = maxDocumentSize;
     }
 
     /**
      * Reset the maximum document size to its previous value.
      */
     public void popMaxDocumentSize() {
-        maxDocumentSizeStack.pop();
+        maxDocumentSizeStackSize--;
     }
 
     /**
@@ -364,24 +388,46 @@ public class BsonBinaryWriter extends AbstractBsonWriter {
 
     private void writeCurrentName() {
         if (getContext().getContextType() == BsonContextType.ARRAY) {
-            bsonOutput.writeCString(Integer.toString(getContext().index++));
+            int index = getContext().index++;
+            if (index < ARRAY_INDEX_NAMES.length) {
+                bsonOutput.writeBytes(ARRAY_INDEX_NAMES[index]);
+            } else {
+                bsonOutput.writeCString(Integer.toString(index));
+            }
         } else {
             bsonOutput.writeCString(getName());
         }
     }
 
+    private Context newContext(final BsonContextType contextType) {
+        if (spareContext == null) {
+            return new Context(getContext(), contextType, bsonOutput.getPosition());
+        }
+        Context context = spareContext;
+        spareContext = context.nextSpareContext;
+        context.nextSpareContext = null;
+        context.reset(getContext(), contextType, bsonOutput.getPosition());
+        return context;
+    }
+
+    private void releaseContext(final Context context) {
+        context.nextSpareContext = spareContext;
+        spareContext = context;
+    }
+
     private void backpatchSize() {
         int size = bsonOutput.getPosition() - getContext().startPosition;
-        if (size > maxDocumentSizeStack.peek()) {
-            throw new BsonSerializationException(format("Document size of %d is larger than maximum of %d.", size,
-                    maxDocumentSizeStack.peek()));
+        int maxDocumentSize = maxDocumentSizeStack[maxDocumentSizeStackSize - 1];
+        if (size > maxDocumentSize) {
+            throw new BsonSerializationException(format("Document size of %d is larger than maximum of %d.", size, maxDocumentSize));
         }
         bsonOutput.writeInt32(bsonOutput.getPosition() - size, size);
     }
 
     protected class Context extends AbstractBsonWriter.Context {
-        private final int startPosition;
+        private int startPosition;
         private int index; // used when contextType is an array
+        private Context nextSpareContext;
 
         /**
          * Creates a new instance
@@ -411,6 +457,12 @@ public class BsonBinaryWriter extends AbstractBsonWriter {
             return (Context) super.getParentContext();
         }
 
+        private void reset(final Context parentContext, final BsonContextType contextType, final int startPosition) {
+            reset(parentContext, contextType);
+            this.startPosition = startPosition;
+            this.index = 0;
+        }
+
         @Override
         public Context copy() {
             return new Context(this);
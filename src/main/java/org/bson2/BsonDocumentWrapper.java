@@ -19,6 +19,8 @@ package org.bson2;
 import org.bson2.codecs.Encoder;
 import org.bson2.codecs.EncoderContext;
 import org.bson2.codecs.configuration.CodecRegistry;
+import org.bson2.conversions.Bson;
+import org.bson2.conversions.WritableBson;
 
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
@@ -64,6 +66,33 @@ public final class BsonDocumentWrapper<T> extends BsonDocument {
         }
     }
 
+    /**
+     * A helper to convert a {@code Bson} to a BsonDocument.
+     *
+     * <p>If the {@code Bson} is a {@code WritableBson}, it is wrapped into a BsonDocumentWrapper which writes it directly to the writer
+     * that the wrapper is encoded with, and it is only rendered into a BsonDocument if the elements of the wrapper are accessed.
+     * Otherwise it is rendered into a BsonDocument immediately.</p>
+     *
+     * @param bson          the Bson to convert
+     * @param documentClass the document class in scope for the collection
+     * @param codecRegistry the codecRegistry that can be used in the conversion of the Bson
+     * @param <TDocument>   the type of the document class
+     * @return a BsonDocument, or null if the Bson is null
+     * @since 3.5
+     */
+    public static <TDocument> BsonDocument asBsonDocument(final Bson bson, final Class<TDocument> documentClass,
+                                                          final CodecRegistry codecRegistry) {
+        if (bson == null) {
+            return null;
+        }
+        if (bson instanceof WritableBson) {
+            return new BsonDocumentWrapper<WritableBson>((WritableBson) bson,
+                                                         new WritableBsonEncoder<TDocument>(documentClass, codecRegistry));
+        } else {
+            return bson.toBsonDocument(documentClass, codecRegistry);
+        }
+    }
+
     /**
      * Construct a new instance with the given document and encoder for the document.
      *
@@ -207,4 +236,24 @@ public final class BsonDocumentWrapper<T> extends BsonDocument {
     private void readObject(final ObjectInputStream stream) throws InvalidObjectException {
         throw new InvalidObjectException("Proxy required");
     }
+
+    private static final class WritableBsonEncoder<TDocument> implements Encoder<WritableBson> {
+        private final Class<TDocument> documentClass;
+        private final CodecRegistry codecRegistry;
+
+        WritableBsonEncoder(final Class<TDocument> documentClass, final CodecRegistry codecRegistry) {
+            this.documentClass = documentClass;
+            this.codecRegistry = codecRegistry;
+        }
+
+        @Override
+        public void encode(final BsonWriter writer, final WritableBson value, final EncoderContext encoderContext) {
+            value.writeTo(writer, documentClass, codecRegistry);
+        }
+
+        @Override
+        public Class<WritableBson> getEncoderClass() {
+            return WritableBson.class;
+        }
+    }
 }
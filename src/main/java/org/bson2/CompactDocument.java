@@ -0,0 +1,173 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson2;
+
+import java.util.Map;
+
+/**
+ * A {@code Document} that uses much less memory than a plain one when many documents with the same fields are held, such as a large
+ * cached result set.  Rather than a hash map entry per field, the field names are held in a shape shared with every other document that
+ * has the same fields in the same order, and the values in arrays, with int32, int64, double and boolean values held unboxed.  As with any
+ * {@code Document}, iterators traverse the fields in insertion order.
+ *
+ * <p>Boxed values put into the document are unboxed, and values are boxed again when read through the {@code Map} interface, so the
+ * primitive accessors of this class should be preferred where possible.  A document with more than 64 fields moves them into a hash map,
+ * as such documents gain little from sharing their shape.  A compact document is equal to a plain document with the same fields, and it
+ * is serialized as a plain document.  Unlike a plain document, a compact document does not accept a null field name.</p>
+ *
+ * <p>This class is not thread-safe.</p>
+ *
+ * @see org.bson2.codecs.DocumentCodec#DocumentCodec(org.bson2.codecs.configuration.CodecRegistry, org.bson2.codecs.BsonTypeClassMap,
+ * Transformer, boolean)
+ * @since 3.5
+ */
+public class CompactDocument extends Document {
+    private static final long serialVersionUID = 4526934416098423853L;
+
+    private final transient CompactMap compactMap;
+
+    /**
+     * Creates an empty instance.
+     */
+    public CompactDocument() {
+        this(new CompactMap());
+    }
+
+    /**
+     * Create an instance initialized with the given key/value pair.
+     *
+     * @param key   key
+     * @param value value
+     */
+    public CompactDocument(final String key, final Object value) {
+        this();
+        put(key, value);
+    }
+
+    /**
+     * Creates an instance initialized with the given map.
+     *
+     * @param map initial map
+     */
+    public CompactDocument(final Map<String, Object> map) {
+        this();
+        putAll(map);
+    }
+
+    private CompactDocument(final CompactMap compactMap) {
+        super(compactMap);
+        this.compactMap = compactMap;
+    }
+
+    /**
+     * Puts an int value without boxing it.
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    public void putInteger(final String key, final int value) {
+        compactMap.putPrimitive(key, DocumentShape.INT32, value);
+    }
+
+    /**
+     * Puts a long value without boxing it.
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    public void putLong(final String key, final long value) {
+        compactMap.putPrimitive(key, DocumentShape.INT64, value);
+    }
+
+    /**
+     * Puts a double value without boxing it.
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    public void putDouble(final String key, final double value) {
+        compactMap.putPrimitive(key, DocumentShape.DOUBLE, Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Puts a boolean value without boxing it.
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    public void putBoolean(final String key, final boolean value) {
+        compactMap.putPrimitive(key, DocumentShape.BOOLEAN, value ? 1 : 0);
+    }
+
+    @Override
+    public int getInteger(final Object key, final int defaultValue) {
+        int index = compactMap.indexOf(key, DocumentShape.INT32);
+        return index >= 0 ? (int) compactMap.getPrimitive(index) : super.getInteger(key, defaultValue);
+    }
+
+    /**
+     * Gets the value of the given key as a primitive long.
+     *
+     * @param key          the key
+     * @param defaultValue what to return if the value is null
+     * @return the value as a primitive long
+     * @throws java.lang.ClassCastException if the value is not a long
+     */
+    public long getLong(final Object key, final long defaultValue) {
+        int index = compactMap.indexOf(key, DocumentShape.INT64);
+        if (index >= 0) {
+            return compactMap.getPrimitive(index);
+        }
+        Object value = get(key);
+        return value == null ? defaultValue : (Long) value;
+    }
+
+    /**
+     * Gets the value of the given key as a primitive double.
+     *
+     * @param key          the key
+     * @param defaultValue what to return if the value is null
+     * @return the value as a primitive double
+     * @throws java.lang.ClassCastException if the value is not a double
+     */
+    public double getDouble(final Object key, final double defaultValue) {
+        int index = compactMap.indexOf(key, DocumentShape.DOUBLE);
+        if (index >= 0) {
+            return Double.longBitsToDouble(compactMap.getPrimitive(index));
+        }
+        Object value = get(key);
+        return value == null ? defaultValue : (Double) value;
+    }
+
+    @Override
+    public boolean getBoolean(final Object key, final boolean defaultValue) {
+        int index = compactMap.indexOf(key, DocumentShape.BOOLEAN);
+        return index >= 0 ? compactMap.getPrimitive(index) != 0 : super.getBoolean(key, defaultValue);
+    }
+
+    /**
+     * Trims the storage of this document to the fields that it holds.  Documents grow their storage in steps as fields are added, so this
+     * is worth calling once a document that is to be held for a long time is complete.
+     */
+    public void trimToSize() {
+        compactMap.trimToSize();
+    }
+
+    private Object writeReplace() {
+        return new Document(this);
+    }
+}
@@ -0,0 +1,337 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson2;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static org.bson2.DocumentShape.BOOLEAN;
+import static org.bson2.DocumentShape.DOUBLE;
+import static org.bson2.DocumentShape.INT32;
+import static org.bson2.DocumentShape.INT64;
+import static org.bson2.DocumentShape.OBJECT;
+import static org.bson2.assertions.Assertions.isTrueArgument;
+
+/**
+ * The map behind a {@code CompactDocument}.  The field names and the kinds of their values are held by a shared {@code DocumentShape},
+ * and the values in two arrays: one of objects, and one of the bits of the int32, int64, double and boolean values, which are held unboxed.
+ * Iteration is in insertion order.  A map that grows beyond {@link DocumentShape#MAX_FIELDS} fields moves its entries into a
+ * {@code LinkedHashMap}.
+ *
+ * <p>This class is not thread-safe.</p>
+ */
+final class CompactMap extends AbstractMap<String, Object> {
+    private static final Object[] NO_OBJECTS = new Object[0];
+    private static final long[] NO_PRIMITIVES = new long[0];
+
+    private DocumentShape shape = DocumentShape.EMPTY;
+    private Object[] objects = NO_OBJECTS;
+    private long[] primitives = NO_PRIMITIVES;
+    private LinkedHashMap<String, Object> overflow;
+
+    @Override
+    public int size() {
+        return overflow != null ? overflow.size() : shape.size();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return overflow != null ? overflow.containsKey(key) : shape.indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(final Object key) {
+        if (overflow != null) {
+            return overflow.get(key);
+        }
+        int index = shape.indexOf(key);
+        return index < 0 ? null : valueAt(index);
+    }
+
+    @Override
+    public Object put(final String key, final Object value) {
+        isTrueArgument("key is not null", key != null);
+        if (overflow != null) {
+            return overflow.put(key, value);
+        }
+        byte kind = DocumentShape.kindOf(value);
+        int index = shape.indexOf(key);
+        Object previous = index < 0 ? null : valueAt(index);
+        if (kind == OBJECT) {
+            index = prepare(key, index, OBJECT);
+            if (index >= 0) {
+                objects[shape.getSlot(index)] = value;
+            } else {
+                overflow.put(key, value);
+            }
+        } else {
+            putPrimitive(key, index, kind, toBits(value, kind));
+        }
+        return previous;
+    }
+
+    /**
+     * Puts a value of one of the primitive kinds without boxing it.
+     *
+     * @param key  the key
+     * @param kind the kind of the value
+     * @param bits the bits of the value
+     */
+    void putPrimitive(final String key, final byte kind, final long bits) {
+        if (overflow != null) {
+            overflow.put(key, fromBits(bits, kind));
+        } else {
+            putPrimitive(key, shape.indexOf(key), kind, bits);
+        }
+    }
+
+    /**
+     * Gets the index of the field with the given key, if its value is held unboxed with the given kind.
+     *
+     * @param key  the key
+     * @param kind the kind
+     * @return the index of the field, or -1 if there is no such field or its value is of another kind
+     */
+    int indexOf(final Object key, final byte kind) {
+        if (overflow != null) {
+            return -1;
+        }
+        int index = shape.indexOf(key);
+        return index >= 0 && shape.getKind(index) == kind ? index : -1;
+    }
+
+    /**
+     * Gets the bits of the value of the field at the given index, which must be of one of the primitive kinds.
+     *
+     * @param index the index of the field
+     * @return the bits of the value
+     */
+    long getPrimitive(final int index) {
+        return primitives[shape.getSlot(index)];
+    }
+
+    @Override
+    public Object remove(final Object key) {
+        if (overflow != null) {
+            return overflow.remove(key);
+        }
+        int index = shape.indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        Object previous = valueAt(index);
+        reshape(index, OBJECT, true);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        shape = DocumentShape.EMPTY;
+        objects = NO_OBJECTS;
+        primitives = NO_PRIMITIVES;
+        overflow = null;
+    }
+
+    /**
+     * Trims the arrays of values to the number of values held.
+     */
+    void trimToSize() {
+        if (objects.length > shape.getObjectCount()) {
+            objects = Arrays.copyOf(objects, shape.getObjectCount());
+        }
+        if (primitives.length > shape.getPrimitiveCount()) {
+            primitives = Arrays.copyOf(primitives, shape.getPrimitiveCount());
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (overflow != null) {
+            return overflow.entrySet();
+        }
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return CompactMap.this.size();
+            }
+        };
+    }
+
+    private void putPrimitive(final String key, final int existingIndex, final byte kind, final long bits) {
+        int index = prepare(key, existingIndex, kind);
+        if (index >= 0) {
+            primitives[shape.getSlot(index)] = bits;
+        } else {
+            overflow.put(key, fromBits(bits, kind));
+        }
+    }
+
+    // Ensures that the shape has a field with the given key and kind, returning its index, or -1 if the entries have moved to the overflow
+    private int prepare(final String key, final int existingIndex, final byte kind) {
+        if (existingIndex >= 0) {
+            if (shape.getKind(existingIndex) != kind) {
+                reshape(existingIndex, kind, false);
+            }
+            return existingIndex;
+        }
+        if (shape.size() == DocumentShape.MAX_FIELDS) {
+            overflow = new LinkedHashMap<String, Object>(this);
+            shape = DocumentShape.EMPTY;
+            objects = NO_OBJECTS;
+            primitives = NO_PRIMITIVES;
+            return -1;
+        }
+        shape = shape.withField(key, kind);
+        if (objects.length < shape.getObjectCount()) {
+            objects = Arrays.copyOf(objects, Math.max(4, objects.length * 2));
+        }
+        if (primitives.length < shape.getPrimitiveCount()) {
+            primitives = Arrays.copyOf(primitives, Math.max(4, primitives.length * 2));
+        }
+        return shape.size() - 1;
+    }
+
+    // Moves the values to the shape that results from changing the kind of, or removing, the field at the given index
+    private void reshape(final int changedIndex, final byte changedKind, final boolean removed) {
+        DocumentShape oldShape = shape;
+        int size = oldShape.size();
+        String[] names = new String[size];
+        byte[] kinds = new byte[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (i == changedIndex && removed) {
+                continue;
+            }
+            names[count] = oldShape.getName(i);
+            kinds[count] = i == changedIndex ? changedKind : oldShape.getKind(i);
+            count++;
+        }
+        DocumentShape newShape = DocumentShape.of(names, kinds, count);
+        Object[] newObjects = newShape.getObjectCount() == 0 ? NO_OBJECTS : new Object[newShape.getObjectCount()];
+        long[] newPrimitives = newShape.getPrimitiveCount() == 0 ? NO_PRIMITIVES : new long[newShape.getPrimitiveCount()];
+        for (int i = 0, j = 0; i < size; i++) {
+            if (i == changedIndex) {
+                if (!removed) {
+                    j++;
+                }
+                continue;
+            }
+            if (oldShape.getKind(i) == OBJECT) {
+                newObjects[newShape.getSlot(j)] = objects[oldShape.getSlot(i)];
+            } else {
+                newPrimitives[newShape.getSlot(j)] = primitives[oldShape.getSlot(i)];
+            }
+            j++;
+        }
+        shape = newShape;
+        objects = newObjects;
+        primitives = newPrimitives;
+    }
+
+    private Object valueAt(final int index) {
+        byte kind = shape.getKind(index);
+        if (kind == OBJECT) {
+            return objects[shape.getSlot(index)];
+        }
+        return fromBits(primitives[shape.getSlot(index)], kind);
+    }
+
+    private static long toBits(final Object value, final byte kind) {
+        switch (kind) {
+            case INT32:
+                return (Integer) value;
+            case INT64:
+                return (Long) value;
+            case DOUBLE:
+                return Double.doubleToRawLongBits((Double) value);
+            case BOOLEAN:
+                return (Boolean) value ? 1 : 0;
+            default:
+                throw new IllegalArgumentException("Unexpected kind " + kind);
+        }
+    }
+
+    private static Object fromBits(final long bits, final byte kind) {
+        switch (kind) {
+            case INT32:
+                return (int) bits;
+            case INT64:
+                return bits;
+            case DOUBLE:
+                return Double.longBitsToDouble(bits);
+            case BOOLEAN:
+                return bits != 0;
+            default:
+                throw new IllegalArgumentException("Unexpected kind " + kind);
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+        private int next;
+        private String lastReturnedKey;
+
+        @Override
+        public boolean hasNext() {
+            return next < shape.size();
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastReturnedKey = shape.getName(next);
+            Entry<String, Object> entry = new CompactEntry(lastReturnedKey, valueAt(next));
+            next++;
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturnedKey == null) {
+                throw new IllegalStateException();
+            }
+            CompactMap.this.remove(lastReturnedKey);
+            lastReturnedKey = null;
+            next--;
+        }
+    }
+
+    private final class CompactEntry extends SimpleEntry<String, Object> {
+        private static final long serialVersionUID = 1L;
+
+        CompactEntry(final String key, final Object value) {
+            super(key, value);
+        }
+
+        @Override
+        public Object setValue(final Object value) {
+            put(getKey(), value);
+            return super.setValue(value);
+        }
+    }
+}
@@ -44,7 +44,7 @@ import static org.bson2.assertions.Assertions.notNull;
 public class Document implements Map<String, Object>, Serializable, Bson {
     private static final long serialVersionUID = 6297731997167536582L;
 
-    private final LinkedHashMap<String, Object> documentAsMap;
+    private final Map<String, Object> documentAsMap;
 
     /**
      * Creates an empty Document instance.
@@ -73,6 +73,10 @@ public class Document implements Map<String, Object>, Serializable, Bson {
         documentAsMap = new LinkedHashMap<String, Object>(map);
     }
 
+    Document(final CompactMap documentAsMap) {
+        this.documentAsMap = documentAsMap;
+    }
+
 
     /**
      * Parses a string in MongoDB Extended JSON format to a {@code Document}
@@ -362,7 +366,7 @@ public class Document implements Map<String, Object>, Serializable, Bson {
         if (this == o) {
             return true;
         }
-        if (o == null || getClass() != o.getClass()) {
+        if (o == null || (getClass() != o.getClass() && !(isPlainOrCompact(getClass()) && isPlainOrCompact(o.getClass())))) {
             return false;
         }
 
@@ -380,6 +384,11 @@ public class Document implements Map<String, Object>, Serializable, Bson {
         return documentAsMap.hashCode();
     }
 
+    // a CompactDocument differs from a Document only in how it stores its entries, so the two are equal if their entries are
+    private static boolean isPlainOrCompact(final Class<?> clazz) {
+        return clazz == Document.class || clazz == CompactDocument.class;
+    }
+
     @Override
     public String toString() {
         return "Document{"
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson2;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.bson2.assertions.Assertions.isTrueArgument;
+
+/**
+ * The shape of a {@code CompactDocument}: its field names in insertion order, together with the kind of value held by each field and the
+ * slot that holds it.  Shapes are immutable and are shared by all the documents that have the same fields with the same kinds of values
+ * added in the same order, so a document needs to hold only its values.
+ *
+ * <p>Shapes form a tree rooted at {@link #EMPTY}, in which each child adds one field to its parent.  The number of shared shapes is
+ * bounded, and once the bound is reached new shapes are still created but are no longer shared, so that documents with an unbounded
+ * number of distinct field names can not exhaust memory.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ */
+final class DocumentShape {
+    static final byte OBJECT = 0;
+    static final byte INT32 = 1;
+    static final byte INT64 = 2;
+    static final byte DOUBLE = 3;
+    static final byte BOOLEAN = 4;
+
+    /**
+     * The maximum number of fields in a shape.  Documents with more fields than this are better served by a hash map.
+     */
+    static final int MAX_FIELDS = 64;
+
+    private static final int MAX_SHARED_SHAPES = 16384;
+    private static final int MAX_CHILDREN = 16;
+    private static final int MAX_LINEAR_SEARCH_FIELDS = 8;
+    private static final DocumentShape[] NO_CHILDREN = new DocumentShape[0];
+    private static final AtomicInteger SHARED_SHAPE_COUNT = new AtomicInteger();
+
+    static final DocumentShape EMPTY = new DocumentShape(new String[0], new byte[0], new int[0], 0, 0);
+
+    private final String[] names;
+    private final byte[] kinds;
+    private final int[] slots;
+    private final int objectCount;
+    private final int primitiveCount;
+    private final Map<String, Integer> indexes;
+    private volatile DocumentShape[] children = NO_CHILDREN;
+
+    private DocumentShape(final String[] names, final byte[] kinds, final int[] slots, final int objectCount, final int primitiveCount) {
+        this.names = names;
+        this.kinds = kinds;
+        this.slots = slots;
+        this.objectCount = objectCount;
+        this.primitiveCount = primitiveCount;
+        if (names.length > MAX_LINEAR_SEARCH_FIELDS) {
+            indexes = new HashMap<String, Integer>(names.length * 2);
+            for (int i = 0; i < names.length; i++) {
+                indexes.put(names[i], i);
+            }
+        } else {
+            indexes = null;
+        }
+    }
+
+    /**
+     * Gets the kind of value held by the given value, which is one of the primitive kinds for a boxed primitive that can be held unboxed.
+     *
+     * @param value the value
+     * @return the kind
+     */
+    static byte kindOf(final Object value) {
+        if (value == null) {
+            return OBJECT;
+        }
+        Class<?> clazz = value.getClass();
+        if (clazz == Integer.class) {
+            return INT32;
+        } else if (clazz == Long.class) {
+            return INT64;
+        } else if (clazz == Double.class) {
+            return DOUBLE;
+        } else if (clazz == Boolean.class) {
+            return BOOLEAN;
+        } else {
+            return OBJECT;
+        }
+    }
+
+    /**
+     * Gets the shape of the given fields, added in the given order.
+     *
+     * @param names the field names
+     * @param kinds the kinds of their values
+     * @param count the number of fields
+     * @return the shape
+     */
+    static DocumentShape of(final String[] names, final byte[] kinds, final int count) {
+        DocumentShape shape = EMPTY;
+        for (int i = 0; i < count; i++) {
+            shape = shape.withField(names[i], kinds[i]);
+        }
+        return shape;
+    }
+
+    int size() {
+        return names.length;
+    }
+
+    String getName(final int index) {
+        return names[index];
+    }
+
+    byte getKind(final int index) {
+        return kinds[index];
+    }
+
+    /**
+     * Gets the slot of the field at the given index, which is an index into the object values of a document for a field of kind
+     * {@code OBJECT}, and into its primitive values for any other field.
+     *
+     * @param index the index of the field
+     * @return the slot
+     */
+    int getSlot(final int index) {
+        return slots[index];
+    }
+
+    int getObjectCount() {
+        return objectCount;
+    }
+
+    int getPrimitiveCount() {
+        return primitiveCount;
+    }
+
+    /**
+     * Gets the index of the field with the given name.
+     *
+     * @param name the name
+     * @return the index, or -1 if there is no such field
+     */
+    int indexOf(final Object name) {
+        if (indexes != null) {
+            Integer index = indexes.get(name);
+            return index == null ? -1 : index;
+        }
+        for (int i = 0; i < names.length; i++) {
+            if (names[i] == name) {
+                return i;
+            }
+        }
+        if (name instanceof String) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(name)) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the shape with the given field added after those of this shape, which must not already contain the field.
+     *
+     * @param name the name of the field, which may not be null
+     * @param kind the kind of its value
+     * @return the shape
+     * @throws IllegalArgumentException if the name is null
+     */
+    DocumentShape withField(final String name, final byte kind) {
+        isTrueArgument("name is not null", name != null);
+        DocumentShape[] currentChildren = children;
+        for (DocumentShape child : currentChildren) {
+            if (child.lastKind() == kind && child.lastName().equals(name)) {
+                return child;
+            }
+        }
+        DocumentShape child = createChild(name, kind);
+        if (currentChildren.length < MAX_CHILDREN && SHARED_SHAPE_COUNT.get() < MAX_SHARED_SHAPES) {
+            synchronized (this) {
+                for (DocumentShape existing : children) {
+                    if (existing.lastKind() == kind && existing.lastName().equals(name)) {
+                        return existing;
+                    }
+                }
+                if (children.length < MAX_CHILDREN) {
+                    DocumentShape[] newChildren = Arrays.copyOf(children, children.length + 1);
+                    newChildren[children.length] = child;
+                    children = newChildren;
+                    SHARED_SHAPE_COUNT.incrementAndGet();
+                }
+            }
+        }
+        return child;
+    }
+
+    private DocumentShape createChild(final String name, final byte kind) {
+        int size = names.length;
+        String[] newNames = Arrays.copyOf(names, size + 1);
+        byte[] newKinds = Arrays.copyOf(kinds, size + 1);
+        int[] newSlots = Arrays.copyOf(slots, size + 1);
+        newNames[size] = name;
+        newKinds[size] = kind;
+        if (kind == OBJECT) {
+            newSlots[size] = objectCount;
+            return new DocumentShape(newNames, newKinds, newSlots, objectCount + 1, primitiveCount);
+        } else {
+            newSlots[size] = primitiveCount;
+            return new DocumentShape(newNames, newKinds, newSlots, objectCount, primitiveCount + 1);
+        }
+    }
+
+    private String lastName() {
+        return names[names.length - 1];
+    }
+
+    private byte lastKind() {
+        return kinds[kinds.length - 1];
+    }
+}
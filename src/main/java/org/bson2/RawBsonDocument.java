@@ -58,6 +58,7 @@ public final class RawBsonDocument extends BsonDocument {
     private final byte[] bytes;
     private final int offset;
     private final int length;
+    private transient RawBsonFieldIndex fieldIndex;
 
     /**
      * Parses a string in MongoDB Extended JSON format to a {@code RawBsonDocument}
@@ -198,21 +199,7 @@ public final class RawBsonDocument extends BsonDocument {
 
     @Override
     public int size() {
-        int size = 0;
-        BsonBinaryReader bsonReader = createReader();
-        try {
-            bsonReader.readStartDocument();
-            while (bsonReader.readBsonType() != BsonType.END_OF_DOCUMENT) {
-                size++;
-                bsonReader.readName();
-                bsonReader.skipValue();
-            }
-            bsonReader.readEndDocument();
-        } finally {
-            bsonReader.close();
-        }
-
-        return size;
+        return getFieldIndex().size();
     }
 
     @Override
@@ -236,21 +223,7 @@ public final class RawBsonDocument extends BsonDocument {
             throw new IllegalArgumentException("key can not be null");
         }
 
-        BsonBinaryReader bsonReader = createReader();
-        try {
-            bsonReader.readStartDocument();
-            while (bsonReader.readBsonType() != BsonType.END_OF_DOCUMENT) {
-                if (bsonReader.readName().equals(key)) {
-                    return true;
-                }
-                bsonReader.skipValue();
-            }
-            bsonReader.readEndDocument();
-        } finally {
-            bsonReader.close();
-        }
-
-        return false;
+        return getFieldIndex().indexOf(key) >= 0;
     }
 
     @Override
@@ -272,25 +245,27 @@ public final class RawBsonDocument extends BsonDocument {
         return false;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The first lookup builds an index of the fields of this document, so that this and later lookups find the field without scanning
+     * the document.  An embedded document is returned as a {@code RawBsonDocument} that shares the bytes of this one.</p>
+     */
     @Override
     public BsonValue get(final Object key) {
         notNull("key", key);
 
-        BsonBinaryReader bsonReader = createReader();
-        try {
-            bsonReader.readStartDocument();
-            while (bsonReader.readBsonType() != BsonType.END_OF_DOCUMENT) {
-                if (bsonReader.readName().equals(key)) {
-                    return deserializeBsonValue(bsonReader);
-                }
-                bsonReader.skipValue();
-            }
-            bsonReader.readEndDocument();
-        } finally {
-            bsonReader.close();
+        RawBsonFieldIndex fieldIndex = getFieldIndex();
+        int index = fieldIndex.indexOf(key);
+        if (index < 0) {
+            return null;
         }
-
-        return null;
+        return fieldIndex.getValue(getByteBuffer(), index, new RawBsonFieldIndex.DocumentFactory() {
+            @Override
+            public BsonDocument create(final int documentOffset, final int documentLength) {
+                return new RawBsonDocument(bytes, offset + documentOffset, documentLength);
+            }
+        });
     }
 
     @Override
@@ -324,6 +299,16 @@ public final class RawBsonDocument extends BsonDocument {
         return REGISTRY.get(getClassForBsonType(bsonReader.getCurrentBsonType())).decode(bsonReader, DecoderContext.builder().build());
     }
 
+    // racy single-check: the index is immutable, so at worst it is built more than once
+    private RawBsonFieldIndex getFieldIndex() {
+        RawBsonFieldIndex index = fieldIndex;
+        if (index == null) {
+            index = RawBsonFieldIndex.build(getByteBuffer());
+            fieldIndex = index;
+        }
+        return index;
+    }
+
     private BsonBinaryReader createReader() {
         return new BsonBinaryReader(new ByteBufferBsonInput(getByteBuffer()));
     }
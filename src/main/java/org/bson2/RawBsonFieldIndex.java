@@ -0,0 +1,327 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson2;
+
+import org.bson2.codecs.BsonValueCodecProvider;
+import org.bson2.codecs.DecoderContext;
+import org.bson2.codecs.configuration.CodecRegistry;
+import org.bson2.io.ByteBufferBsonInput;
+import org.bson2.types.Decimal128;
+
+import java.util.Arrays;
+
+import static org.bson2.codecs.BsonValueCodecProvider.getClassForBsonType;
+import static org.bson2.codecs.configuration.CodecRegistries.fromProviders;
+
+/**
+ * An index of the top-level fields of a BSON document held as raw bytes, mapping each field name to the type and offset of its value.  The
+ * index is built in a single pass over the bytes, after which a field is found by hashing its name and its value is decoded directly from
+ * its offset, without a reader having to scan the fields that precede it.  Embedded documents are created by a factory supplied by the
+ * caller, from the range of bytes that they occupy.
+ *
+ * <p>Instances are immutable, and so may be shared between threads.</p>
+ *
+ * <p>This class should not be considered a part of the public API.</p>
+ *
+ * @since 3.5
+ */
+public final class RawBsonFieldIndex {
+    private static final CodecRegistry REGISTRY = fromProviders(new BsonValueCodecProvider());
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final String[] names;
+    private final byte[] types;
+    private final int[] valueOffsets;
+    // open addressing hash table of index + 1 into the arrays above, with 0 marking an empty slot
+    private final int[] slots;
+
+    /**
+     * Creates the embedded documents of an indexed document from the range of its bytes that each occupies.
+     */
+    public interface DocumentFactory {
+        /**
+         * Creates a document over the given range of the bytes of the indexed document.
+         *
+         * @param offset the offset of the embedded document, relative to the start of the indexed document
+         * @param length the length of the embedded document
+         * @return the document
+         */
+        BsonDocument create(int offset, int length);
+    }
+
+    /**
+     * Builds an index of the document that starts at the current position of the given buffer.  The position of the buffer is not changed.
+     *
+     * @param document the buffer containing the document
+     * @return the index
+     */
+    public static RawBsonFieldIndex build(final ByteBuf document) {
+        ByteBufferBsonInput bsonInput = new ByteBufferBsonInput(document.duplicate());
+        try {
+            int start = bsonInput.getPosition();
+            int end = start + bsonInput.readInt32() - 1;
+            String[] names = new String[INITIAL_CAPACITY];
+            byte[] types = new byte[INITIAL_CAPACITY];
+            int[] valueOffsets = new int[INITIAL_CAPACITY];
+            int size = 0;
+            while (bsonInput.getPosition() < end) {
+                if (size == names.length) {
+                    names = Arrays.copyOf(names, size * 2);
+                    types = Arrays.copyOf(types, size * 2);
+                    valueOffsets = Arrays.copyOf(valueOffsets, size * 2);
+                }
+                types[size] = bsonInput.readByte();
+                names[size] = bsonInput.readCString();
+                valueOffsets[size] = bsonInput.getPosition() - start;
+                skipValue(bsonInput, types[size]);
+                size++;
+            }
+            return new RawBsonFieldIndex(Arrays.copyOf(names, size), Arrays.copyOf(types, size), Arrays.copyOf(valueOffsets, size));
+        } finally {
+            bsonInput.close();
+        }
+    }
+
+    private RawBsonFieldIndex(final String[] names, final byte[] types, final int[] valueOffsets) {
+        this.names = names;
+        this.types = types;
+        this.valueOffsets = valueOffsets;
+        int capacity = 2;
+        while (capacity < names.length * 2) {
+            capacity <<= 1;
+        }
+        this.slots = new int[capacity];
+        for (int i = 0; i < names.length; i++) {
+            int slot = slotFor(names[i]);
+            while (slots[slot] != 0 && !names[slots[slot] - 1].equals(names[i])) {
+                slot = (slot + 1) & (slots.length - 1);
+            }
+            // with duplicate names, the first one wins, as it does when scanning the document
+            if (slots[slot] == 0) {
+                slots[slot] = i + 1;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of fields in the document.
+     *
+     * @return the number of fields
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * Gets the position of the field with the given name.
+     *
+     * @param key the field name
+     * @return the position of the field, or -1 if the document has no such field
+     */
+    public int indexOf(final Object key) {
+        if (!(key instanceof String)) {
+            return -1;
+        }
+        int slot = slotFor((String) key);
+        while (slots[slot] != 0) {
+            if (names[slots[slot] - 1].equals(key)) {
+                return slots[slot] - 1;
+            }
+            slot = (slot + 1) & (slots.length - 1);
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the name of the field at the given position.
+     *
+     * @param index the position of the field
+     * @return the field name
+     */
+    public String getName(final int index) {
+        return names[index];
+    }
+
+    /**
+     * Gets the type of the value of the field at the given position.
+     *
+     * @param index the position of the field
+     * @return the BSON type of the value
+     */
+    public BsonType getType(final int index) {
+        return BsonType.findByValue(types[index]);
+    }
+
+    /**
+     * Decodes the value of the field at the given position.
+     *
+     * @param document        the buffer containing the document that was indexed, positioned at its start
+     * @param index           the position of the field
+     * @param documentFactory the factory for embedded documents
+     * @return the value
+     */
+    public BsonValue getValue(final ByteBuf document, final int index, final DocumentFactory documentFactory) {
+        ByteBuf duplicate = document.duplicate();
+        duplicate.position(document.position() + valueOffsets[index]);
+        ByteBufferBsonInput bsonInput = new ByteBufferBsonInput(duplicate);
+        try {
+            return readValue(bsonInput, getType(index), valueOffsets[index], documentFactory);
+        } finally {
+            bsonInput.close();
+        }
+    }
+
+    private int slotFor(final String name) {
+        int hash = name.hashCode();
+        return (hash ^ (hash >>> 16)) & (slots.length - 1);
+    }
+
+    private static BsonValue readValue(final ByteBufferBsonInput bsonInput, final BsonType type, final int valueOffset,
+                                       final DocumentFactory documentFactory) {
+        int start = bsonInput.getPosition();
+        switch (type) {
+            case DOUBLE:
+                return new BsonDouble(bsonInput.readDouble());
+            case STRING:
+                return new BsonString(bsonInput.readString());
+            case DOCUMENT:
+                return documentFactory.create(valueOffset, bsonInput.readInt32());
+            case ARRAY:
+                return readArray(bsonInput);
+            case BINARY:
+                return readBinary(bsonInput);
+            case UNDEFINED:
+                return new BsonUndefined();
+            case OBJECT_ID:
+                return new BsonObjectId(bsonInput.readObjectId());
+            case BOOLEAN:
+                return BsonBoolean.valueOf(bsonInput.readByte() == 0x1);
+            case DATE_TIME:
+                return new BsonDateTime(bsonInput.readInt64());
+            case NULL:
+                return BsonNull.VALUE;
+            case REGULAR_EXPRESSION:
+                return new BsonRegularExpression(bsonInput.readCString(), bsonInput.readCString());
+            case DB_POINTER:
+                return new BsonDbPointer(bsonInput.readString(), bsonInput.readObjectId());
+            case JAVASCRIPT:
+                return new BsonJavaScript(bsonInput.readString());
+            case SYMBOL:
+                return new BsonSymbol(bsonInput.readString());
+            case JAVASCRIPT_WITH_SCOPE:
+                bsonInput.readInt32();
+                String code = bsonInput.readString();
+                int scopeOffset = valueOffset + bsonInput.getPosition() - start;
+                return new BsonJavaScriptWithScope(code, documentFactory.create(scopeOffset, bsonInput.readInt32()));
+            case INT32:
+                return new BsonInt32(bsonInput.readInt32());
+            case TIMESTAMP:
+                int increment = bsonInput.readInt32();
+                return new BsonTimestamp(bsonInput.readInt32(), increment);
+            case INT64:
+                return new BsonInt64(bsonInput.readInt64());
+            case DECIMAL128:
+                long low = bsonInput.readInt64();
+                return new BsonDecimal128(Decimal128.fromIEEE754BIDEncoding(bsonInput.readInt64(), low));
+            case MIN_KEY:
+                return new BsonMinKey();
+            case MAX_KEY:
+                return new BsonMaxKey();
+            default:
+                throw new BsonSerializationException(String.format("Unexpected BSON type %s", type));
+        }
+    }
+
+    private static BsonArray readArray(final ByteBufferBsonInput bsonInput) {
+        // an array is encoded as a document, so a reader positioned at the array sees a top-level document
+        BsonBinaryReader reader = new BsonBinaryReader(bsonInput);
+        BsonArray array = new BsonArray();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            reader.skipName();
+            array.add(REGISTRY.get(getClassForBsonType(reader.getCurrentBsonType())).decode(reader, DecoderContext.builder().build()));
+        }
+        reader.readEndDocument();
+        return array;
+    }
+
+    private static BsonBinary readBinary(final ByteBufferBsonInput bsonInput) {
+        int numBytes = bsonInput.readInt32();
+        byte subType = bsonInput.readByte();
+        if (subType == BsonBinarySubType.OLD_BINARY.getValue()) {
+            bsonInput.readInt32();
+            numBytes -= 4;
+        }
+        byte[] bytes = new byte[numBytes];
+        bsonInput.readBytes(bytes);
+        return new BsonBinary(subType, bytes);
+    }
+
+    private static void skipValue(final ByteBufferBsonInput bsonInput, final byte type) {
+        BsonType bsonType = BsonType.findByValue(type);
+        if (bsonType == null) {
+            throw new BsonSerializationException(String.format("Unexpected BSON type %d", type));
+        }
+        switch (bsonType) {
+            case UNDEFINED:
+            case NULL:
+            case MIN_KEY:
+            case MAX_KEY:
+                break;
+            case BOOLEAN:
+                bsonInput.skip(1);
+                break;
+            case INT32:
+                bsonInput.skip(4);
+                break;
+            case DOUBLE:
+            case DATE_TIME:
+            case TIMESTAMP:
+            case INT64:
+                bsonInput.skip(8);
+                break;
+            case OBJECT_ID:
+                bsonInput.skip(12);
+                break;
+            case DECIMAL128:
+                bsonInput.skip(16);
+                break;
+            case STRING:
+            case JAVASCRIPT:
+            case SYMBOL:
+                bsonInput.skip(bsonInput.readInt32());
+                break;
+            case DOCUMENT:
+            case ARRAY:
+            case JAVASCRIPT_WITH_SCOPE:
+                bsonInput.skip(bsonInput.readInt32() - 4);
+                break;
+            case BINARY:
+                bsonInput.skip(bsonInput.readInt32() + 1);
+                break;
+            case DB_POINTER:
+                bsonInput.skip(bsonInput.readInt32() + 12);
+                break;
+            case REGULAR_EXPRESSION:
+                bsonInput.skipCString();
+                bsonInput.skipCString();
+                break;
+            default:
+                throw new BsonSerializationException(String.format("Unexpected BSON type %d", type));
+        }
+    }
+}
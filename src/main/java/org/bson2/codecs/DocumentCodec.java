@@ -23,6 +23,7 @@ import org.bson2.BsonReader;
 import org.bson2.BsonType;
 import org.bson2.BsonValue;
 import org.bson2.BsonWriter;
+import org.bson2.CompactDocument;
 import org.bson2.Document;
 import org.bson2.Transformer;
 import org.bson2.codecs.configuration.CodecRegistry;
@@ -55,6 +56,8 @@ public class DocumentCodec implements CollectibleCodec<Document> {
     private final CodecRegistry registry;
     private final IdGenerator idGenerator;
     private final Transformer valueTransformer;
+    private final boolean compactDocuments;
+    private final boolean unboxedDecoding;
 
     /**
      * Construct a new instance with a default {@code CodecRegistry} and
@@ -83,6 +86,22 @@ public class DocumentCodec implements CollectibleCodec<Document> {
      * @param valueTransformer the value transformer to use as a final step when decoding the value of any field in the document
      */
     public DocumentCodec(final CodecRegistry registry, final BsonTypeClassMap bsonTypeClassMap, final Transformer valueTransformer) {
+        this(registry, bsonTypeClassMap, valueTransformer, false);
+    }
+
+    /**
+     * Construct a new instance with the given registry, BSON type class map and value transformer, which decodes either into plain
+     * documents or into compact ones.  When decoding into compact documents, embedded documents are also decoded into compact documents,
+     * and, unless there is a value transformer, int32, int64, double and boolean values are stored without being boxed.
+     *
+     * @param registry         the registry
+     * @param bsonTypeClassMap the BSON type class map
+     * @param valueTransformer the value transformer to use as a final step when decoding the value of any field in the document
+     * @param compactDocuments whether to decode into instances of {@link CompactDocument}
+     * @since 3.5
+     */
+    public DocumentCodec(final CodecRegistry registry, final BsonTypeClassMap bsonTypeClassMap, final Transformer valueTransformer,
+                         final boolean compactDocuments) {
         this.registry = notNull("registry", registry);
         this.bsonTypeCodecMap = new BsonTypeCodecMap(notNull("bsonTypeClassMap", bsonTypeClassMap), registry);
         this.idGenerator = new ObjectIdGenerator();
@@ -92,6 +111,10 @@ public class DocumentCodec implements CollectibleCodec<Document> {
                 return value;
             }
         };
+        this.compactDocuments = compactDocuments;
+        this.unboxedDecoding = compactDocuments && valueTransformer == null
+                               && isDecodedBy(BsonType.INT32, IntegerCodec.class) && isDecodedBy(BsonType.INT64, LongCodec.class)
+                               && isDecodedBy(BsonType.DOUBLE, DoubleCodec.class) && isDecodedBy(BsonType.BOOLEAN, BooleanCodec.class);
     }
 
     @Override
@@ -134,11 +157,14 @@ public class DocumentCodec implements CollectibleCodec<Document> {
 
     @Override
     public Document decode(final BsonReader reader, final DecoderContext decoderContext) {
-        Document document = new Document();
+        Document document = compactDocuments ? new CompactDocument() : new Document();
 
         reader.readStartDocument();
         while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
             String fieldName = reader.readName();
+            if (unboxedDecoding && readUnboxed(reader, fieldName, (CompactDocument) document)) {
+                continue;
+            }
             Object obj = readValue(reader, decoderContext) ;
 
             if(obj instanceof String){
@@ -182,6 +208,9 @@ public class DocumentCodec implements CollectibleCodec<Document> {
         }
 
         reader.readEndDocument();
+        if (compactDocuments) {
+            ((CompactDocument) document).trimToSize();
+        }
 
         return document;
     }
@@ -301,9 +330,36 @@ public class DocumentCodec implements CollectibleCodec<Document> {
         writer.writeEndArray();
     }
 
+    private boolean isDecodedBy(final BsonType bsonType, final Class<?> codecClass) {
+        Codec<?> codec = bsonTypeCodecMap.get(bsonType);
+        return codec != null && codec.getClass() == codecClass;
+    }
+
+    // Reads a numeric or boolean value straight into the document, reconverting it as decode does for boxed values
+    private boolean readUnboxed(final BsonReader reader, final String fieldName, final CompactDocument document) {
+        switch (reader.getCurrentBsonType()) {
+            case INT32:
+                document.putInteger(fieldName, ValueConverter.reconvertInteger(reader.readInt32()));
+                return true;
+            case INT64:
+                document.putLong(fieldName, ValueConverter.reconvertLong(reader.readInt64()));
+                return true;
+            case DOUBLE:
+                document.putDouble(fieldName, ValueConverter.reconvertDouble(reader.readDouble()));
+                return true;
+            case BOOLEAN:
+                document.putBoolean(fieldName, ValueConverter.reconvertBoolean(reader.readBoolean()));
+                return true;
+            default:
+                return false;
+        }
+    }
+
     private Object readValue(final BsonReader reader, final DecoderContext decoderContext) {
         BsonType bsonType = reader.getCurrentBsonType();
-        if (bsonType == BsonType.NULL) {
+        if (compactDocuments && bsonType == BsonType.DOCUMENT && bsonTypeCodecMap.get(bsonType) instanceof DocumentCodec) {
+            return valueTransformer.transform(decode(reader, decoderContext));
+        } else if (bsonType == BsonType.NULL) {
             reader.readNull();
             return null;
         } else if (bsonType == BsonType.ARRAY) {
@@ -43,9 +43,13 @@ class ChildCodecRegistry<T> implements CodecRegistry {
         return codecClass;
     }
 
-    // Gets a Codec, but if it detects a cyclic dependency, return a LazyCodec which breaks the chain.
+    // Gets a Codec, but if it detects a cyclic dependency, return a LazyCodec which breaks the chain.  A codec that has already been
+    // found is returned as is, as that is what a LazyCodec would delegate to.
     public <U> Codec<U> get(final Class<U> clazz) {
-        if (hasCycles(clazz)) {
+        Codec<U> cachedCodec = registry.getCached(clazz);
+        if (cachedCodec != null) {
+            return cachedCodec;
+        } else if (hasCycles(clazz)) {
             return new LazyCodec<U>(registry, clazz);
         } else {
             return registry.get(new ChildCodecRegistry<U>(this, clazz));
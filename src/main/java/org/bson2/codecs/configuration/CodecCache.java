@@ -35,14 +35,27 @@ final class CodecCache {
         codecCache.put(clazz, Optional.of(codec));
     }
 
+    /**
+     * Gets the cached codec for the given class with a single lookup.
+     *
+     * @param clazz the class
+     * @param <T> the type of the class
+     * @return the codec, or null if none is cached, either because the class has not been looked up or because no codec was found for it
+     */
     @SuppressWarnings("unchecked")
+    public <T> Codec<T> get(final Class<T> clazz) {
+        Optional<? extends Codec<?>> optionalCodec = codecCache.get(clazz);
+        if (optionalCodec == null || optionalCodec.isEmpty()) {
+            return null;
+        }
+        return (Codec<T>) optionalCodec.get();
+    }
+
     public <T> Codec<T> getOrThrow(final Class<T> clazz) {
-        if (codecCache.containsKey(clazz)) {
-            Optional<? extends Codec<?>> optionalCodec = codecCache.get(clazz);
-            if (!optionalCodec.isEmpty()) {
-                return (Codec<T>) optionalCodec.get();
-            }
+        Codec<T> codec = get(clazz);
+        if (codec == null) {
+            throw new CodecConfigurationException(format("Can't find a codec for %s.", clazz));
         }
-        throw new CodecConfigurationException(format("Can't find a codec for %s.", clazz));
+        return codec;
     }
 }
@@ -34,9 +34,18 @@ final class ProvidersCodecRegistry implements CodecRegistry, CodecProvider {
 
     @Override
     public <T> Codec<T> get(final Class<T> clazz) {
+        Codec<T> codec = codecCache.get(clazz);
+        if (codec != null) {
+            return codec;
+        }
         return get(new ChildCodecRegistry<T>(this, clazz));
     }
 
+    // Gets the codec for the class if it has already been found, without allocating a child registry to look it up
+    <T> Codec<T> getCached(final Class<T> clazz) {
+        return codecCache.get(clazz);
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     public <T> Codec<T> get(final Class<T> clazz, final CodecRegistry registry) {
         for (CodecProvider provider : codecProviders) {
@@ -50,6 +59,10 @@ final class ProvidersCodecRegistry implements CodecRegistry, CodecProvider {
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
     <T> Codec<T> get(final ChildCodecRegistry context) {
+        Codec<T> cachedCodec = codecCache.get(context.getCodecClass());
+        if (cachedCodec != null) {
+            return cachedCodec;
+        }
         if (!codecCache.containsKey(context.getCodecClass())) {
             for (CodecProvider provider : codecProviders) {
                 Codec<T> codec = provider.get(context.getCodecClass(), context);
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson2.conversions;
+
+import org.bson2.BsonWriter;
+import org.bson2.codecs.configuration.CodecRegistry;
+
+/**
+ * A {@code Bson} that is also able to write itself directly to a {@code BsonWriter}, so that it can be encoded into a message without first
+ * being rendered into a {@code BsonDocument}.  Writing an instance must produce the same document as rendering it with
+ * {@link #toBsonDocument(Class, CodecRegistry)}.
+ *
+ * @see org.bson2.BsonDocumentWrapper#asBsonDocument(Bson, Class, CodecRegistry)
+ * @since 3.5
+ */
+public interface WritableBson extends Bson {
+    /**
+     * Write the document to the given writer.
+     *
+     * @param writer        the writer, positioned where a document may be written
+     * @param documentClass the document class in scope for the collection.  This parameter may be ignored, but it may be used to alter
+     *                      the structure of the written document based on some knowledge of the document class.
+     * @param codecRegistry the codec registry.  This parameter may be ignored, but it may be used to look up {@code Codec} instances for
+     *                      the document class or any other related class.
+     * @param <TDocument> the type of the document class
+     */
+    <TDocument> void writeTo(BsonWriter writer, Class<TDocument> documentClass, CodecRegistry codecRegistry);
+}
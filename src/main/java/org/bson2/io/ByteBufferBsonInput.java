@@ -35,6 +35,10 @@ public class ByteBufferBsonInput implements BsonInput {
 
     private static final String[] ONE_BYTE_ASCII_STRINGS = new String[Byte.MAX_VALUE + 1];
 
+    // field names repeat in every document of a result, and short string values often repeat too, so both are decoded through a cache
+    private static final Utf8StringCache FIELD_NAME_CACHE = new Utf8StringCache(4096, 64);
+    private static final Utf8StringCache VALUE_CACHE = new Utf8StringCache(4096, 16);
+
     static {
         for (int b = 0; b < ONE_BYTE_ASCII_STRINGS.length; b++) {
             ONE_BYTE_ASCII_STRINGS[b] = String.valueOf((char) b);
@@ -130,13 +134,27 @@ public class ByteBufferBsonInput implements BsonInput {
     public String readCString() {
         ensureOpen();
 
-        // TODO: potentially optimize this
-        int mark = buffer.position();
-        readUntilNullByte();
-        int size = buffer.position() - mark;
-        buffer.position(mark);
-
-        return readString(size);
+        // scan for the null byte, hashing the bytes on the way, so that a cached field name is found without a second pass
+        int start = buffer.position();
+        int limit = buffer.limit();
+        int hash = 0;
+        boolean ascii = true;
+        int end = start;
+        while (true) {
+            if (end == limit) {
+                throw new BsonSerializationException("Found a BSON string that is not null-terminated");
+            }
+            byte curByte = buffer.get(end);
+            if (curByte == 0) {
+                break;
+            }
+            hash = 31 * hash + curByte;
+            ascii &= curByte >= 0;
+            end++;
+        }
+        String value = decode(start, end - start, hash, ascii, FIELD_NAME_CACHE);
+        buffer.position(end + 1);
+        return value;
     }
 
     private String readString(final int size) {
@@ -150,6 +168,23 @@ public class ByteBufferBsonInput implements BsonInput {
                 return UTF8_CHARSET.newDecoder().replacement();
             }
             return ONE_BYTE_ASCII_STRINGS[asciiByte];  // this will throw if asciiByte is negative
+        } else if (size - 1 <= VALUE_CACHE.getMaxLength()) {
+            ensureAvailable(size);
+            int start = buffer.position();
+            int length = size - 1;
+            if (buffer.get(start + length) != 0) {
+                throw new BsonSerializationException("Found a BSON string that is not null-terminated");
+            }
+            int hash = 0;
+            boolean ascii = true;
+            for (int i = start; i < start + length; i++) {
+                byte curByte = buffer.get(i);
+                hash = 31 * hash + curByte;
+                ascii &= curByte >= 0;
+            }
+            String value = decode(start, length, hash, ascii, VALUE_CACHE);
+            buffer.position(start + size);
+            return value;
         } else {
             byte[] bytes = new byte[size - 1];
             readBytes(bytes);
@@ -161,6 +196,33 @@ public class ByteBufferBsonInput implements BsonInput {
         }
     }
 
+    private String decode(final int start, final int length, final int hash, final boolean ascii, final Utf8StringCache cache) {
+        boolean cacheable = length <= cache.getMaxLength();
+        if (cacheable) {
+            String cached = cache.get(buffer, start, length, hash);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        String value;
+        if (ascii) {
+            // every byte is a char, so there is no need for a charset decoder
+            char[] chars = new char[length];
+            for (int i = 0; i < length; i++) {
+                chars[i] = (char) buffer.get(start + i);
+            }
+            value = new String(chars);
+        } else {
+            byte[] bytes = new byte[length];
+            buffer.get(start, bytes);
+            value = new String(bytes, UTF8_CHARSET);
+        }
+        if (cacheable) {
+            cache.put(value, buffer, start, length, hash);
+        }
+        return value;
+    }
+
     private void readUntilNullByte() {
         //CHECKSTYLE:OFF
         while (readByte() != 0) { //NOPMD
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson2.io;
+
+import org.bson2.ByteBuf;
+
+/**
+ * A bounded cache of decoded strings, keyed by their UTF-8 bytes, so that strings which repeat from one document to the next, such as field
+ * names, are decoded once and then shared.  Each key maps to a single slot, and a new string replaces whatever string was in its slot, so
+ * the cache never holds more than its capacity however many distinct strings pass through it.
+ *
+ * <p>This class is thread-safe: entries are immutable, so a reader sees either a complete entry or none, and a lost update only costs a
+ * later miss.</p>
+ */
+final class Utf8StringCache {
+    private final Entry[] entries;
+    private final int maxLength;
+
+    /**
+     * Construct an instance.
+     *
+     * @param capacity  the number of slots, which must be a power of two
+     * @param maxLength the maximum length in bytes of the strings to cache
+     */
+    Utf8StringCache(final int capacity, final int maxLength) {
+        this.entries = new Entry[capacity];
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Gets the maximum length in bytes of the strings that this cache holds.
+     *
+     * @return the maximum length
+     */
+    int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Gets the cached string with the given UTF-8 bytes.
+     *
+     * @param buffer the buffer containing the bytes
+     * @param start  the index of the first byte
+     * @param length the number of bytes
+     * @param hash   the hash of the bytes
+     * @return the string, or null if it is not cached
+     */
+    String get(final ByteBuf buffer, final int start, final int length, final int hash) {
+        Entry entry = entries[slotFor(hash)];
+        if (entry == null || entry.hash != hash || entry.bytes.length != length) {
+            return null;
+        }
+        for (int i = 0; i < length; i++) {
+            if (entry.bytes[i] != buffer.get(start + i)) {
+                return null;
+            }
+        }
+        return entry.value;
+    }
+
+    /**
+     * Caches the given string under its UTF-8 bytes.
+     *
+     * @param value  the string
+     * @param buffer the buffer containing the bytes
+     * @param start  the index of the first byte
+     * @param length the number of bytes
+     * @param hash   the hash of the bytes
+     */
+    void put(final String value, final ByteBuf buffer, final int start, final int length, final int hash) {
+        byte[] bytes = new byte[length];
+        buffer.get(start, bytes);
+        entries[slotFor(hash)] = new Entry(hash, bytes, value);
+    }
+
+    private int slotFor(final int hash) {
+        return (hash ^ (hash >>> 16)) & (entries.length - 1);
+    }
+
+    private static final class Entry {
+        private final int hash;
+        private final byte[] bytes;
+        private final String value;
+
+        Entry(final int hash, final byte[] bytes, final String value) {
+            this.hash = hash;
+            this.bytes = bytes;
+            this.value = value;
+        }
+    }
+}
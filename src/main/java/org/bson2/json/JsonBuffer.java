@@ -16,47 +16,68 @@
 
 package org.bson2.json;
 
-class JsonBuffer {
-
-    private final String buffer;
-    private int position;
-    private boolean eof;
-
-    public JsonBuffer(final String buffer) {
-        this.buffer = buffer;
-    }
-
-    public int getPosition() {
-        return position;
-    }
-
-    public void setPosition(final int position) {
-        this.position = position;
-    }
-
-    public int read() {
-        if (eof) {
-            throw new JsonParseException("Trying to read past EOF.");
-    } else if (position >= buffer.length()) {
-            eof = true;
-            return -1;
-        }  else {
-            return buffer.charAt(position++);
-        }
-    }
-
-    public void unread(final int c) {
-        eof = false;
-        if (c != -1 && buffer.charAt(position - 1) == c) {
-            position--;
-        }
-    }
-
-    public String substring(final int beginIndex) {
-        return buffer.substring(beginIndex);
-    }
-
-    public String substring(final int beginIndex, final int endIndex) {
-        return buffer.substring(beginIndex, endIndex);
-    }
+/**
+ * A source of characters for a {@code JsonScanner}.  Positions are counted from the start of the source.
+ */
+interface JsonBuffer {
+
+    /**
+     * @return the current position
+     */
+    int getPosition();
+
+    /**
+     * Moves to the given position, which must not be before the position of the last call to {@link #discard(int)}, unless it is that of
+     * the current mark.
+     *
+     * @param position the new position
+     */
+    void setPosition(int position);
+
+    /**
+     * Reads the next character.
+     *
+     * @return the character, or -1 at the end of the source
+     * @throws JsonParseException if the end of the source has already been read
+     */
+    int read();
+
+    /**
+     * Steps back over the last character read, if it was the given character.
+     *
+     * @param c the character
+     */
+    void unread(int c);
+
+    /**
+     * Gets the characters between the given positions, which must not be before the position of the last call to
+     * {@link #discard(int)}.
+     *
+     * @param beginIndex the position of the first character
+     * @param endIndex   the position after the last character
+     * @return the characters
+     */
+    String substring(int beginIndex, int endIndex);
+
+    /**
+     * Marks the current position, so that the buffer keeps the characters from it until the next call to {@link #reset(int)}.  There is
+     * at most one mark at a time.
+     *
+     * @return the marked position
+     */
+    int mark();
+
+    /**
+     * Moves back to the marked position and removes the mark.
+     *
+     * @param markedPosition the marked position
+     */
+    void reset(int markedPosition);
+
+    /**
+     * Allows the buffer to discard the characters before the given position that are not kept by a mark.
+     *
+     * @param position the position
+     */
+    void discard(int position);
 }
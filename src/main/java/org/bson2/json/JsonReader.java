@@ -34,6 +34,10 @@ import org.bson2.types.MinKey;
 import org.bson2.types.ObjectId;
 
 import javax.xml.bind.DatatypeConverter;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
 import java.text.DateFormat;
 import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
@@ -71,8 +75,42 @@ public class JsonReader extends AbstractBsonReader {
      * @param json     A string representation of a JSON.
      */
     public JsonReader(final String json) {
+        this(new JsonScanner(json));
+    }
+
+    /**
+     * Constructs a new instance that reads JSON from the given reader as it is needed, rather than holding all of it in memory.  The
+     * reader may hold any number of top-level values one after the other, such as a file with one JSON document per line, which can be
+     * decoded with a loop like:
+     * <blockquote><pre>
+     *    while (jsonReader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+     *        documents.add(codec.decode(jsonReader, DecoderContext.builder().build()));
+     *    }
+     * </pre></blockquote>
+     *
+     * <p>The reader is not closed by this instance.</p>
+     *
+     * @param reader the reader of the JSON
+     * @since 3.5
+     */
+    public JsonReader(final Reader reader) {
+        this(new JsonScanner(reader));
+    }
+
+    /**
+     * Constructs a new instance that reads UTF-8 encoded JSON from the given stream as it is needed.
+     *
+     * @param inputStream the stream of the JSON
+     * @see #JsonReader(Reader)
+     * @since 3.5
+     */
+    public JsonReader(final InputStream inputStream) {
+        this(new InputStreamReader(inputStream, Charset.forName("UTF-8")));
+    }
+
+    private JsonReader(final JsonScanner scanner) {
         super();
-        scanner = new JsonScanner(json);
+        this.scanner = scanner;
         setContext(new Context(null, BsonContextType.TOP_LEVEL));
     }
 
@@ -1107,14 +1145,14 @@ public class JsonReader extends AbstractBsonReader {
             super();
             pushedToken = JsonReader.this.pushedToken;
             currentValue = JsonReader.this.currentValue;
-            position = JsonReader.this.scanner.getBufferPosition();
+            position = JsonReader.this.scanner.mark();
         }
 
         protected void reset() {
             super.reset();
             JsonReader.this.pushedToken = pushedToken;
             JsonReader.this.currentValue = currentValue;
-            JsonReader.this.scanner.setBufferPosition(position);
+            JsonReader.this.scanner.reset(position);
             JsonReader.this.setContext(new Context(getParentContext(), getContextType()));
         }
     }
@@ -18,12 +18,26 @@ package org.bson2.json;
 
 import org.bson2.BsonRegularExpression;
 
+import java.io.Reader;
+
 /**
  * Parses the string representation of a JSON object into a set of {@link JsonToken}-derived objects.
  *
  * @since 3.0
  */
 class JsonScanner {
+    // the tokens without a value of their own are shared, as they are the most common ones
+    private static final JsonToken END_OF_FILE = new JsonToken(JsonTokenType.END_OF_FILE, "<eof>");
+    private static final JsonToken BEGIN_OBJECT = new JsonToken(JsonTokenType.BEGIN_OBJECT, "{");
+    private static final JsonToken END_OBJECT = new JsonToken(JsonTokenType.END_OBJECT, "}");
+    private static final JsonToken BEGIN_ARRAY = new JsonToken(JsonTokenType.BEGIN_ARRAY, "[");
+    private static final JsonToken END_ARRAY = new JsonToken(JsonTokenType.END_ARRAY, "]");
+    private static final JsonToken LEFT_PAREN = new JsonToken(JsonTokenType.LEFT_PAREN, "(");
+    private static final JsonToken RIGHT_PAREN = new JsonToken(JsonTokenType.RIGHT_PAREN, ")");
+    private static final JsonToken COLON = new JsonToken(JsonTokenType.COLON, ":");
+    private static final JsonToken COMMA = new JsonToken(JsonTokenType.COMMA, ",");
+    // the number of decimal digits that always fit in a long
+    private static final int MAX_LONG_DIGITS = 18;
 
     private final JsonBuffer buffer;
 
@@ -56,7 +70,35 @@ class JsonScanner {
      * @param json A string representation of a JSON to be scanned.
      */
     public JsonScanner(final String json) {
-        this(new JsonBuffer(json));
+        this(new JsonStringBuffer(json));
+    }
+
+    /**
+     * Constructs a a new {@code JSONScanner} that produces values scanned from the specified {@code Reader}, which is read as the tokens
+     * are scanned.
+     *
+     * @param reader A reader of a JSON to be scanned.
+     */
+    public JsonScanner(final Reader reader) {
+        this(new JsonStreamBuffer(reader));
+    }
+
+    /**
+     * Marks the current position of the cursor, so that it can be returned to with {@link #reset(int)}.
+     *
+     * @return the marked position
+     */
+    public int mark() {
+        return buffer.mark();
+    }
+
+    /**
+     * Returns the cursor to the marked position.
+     *
+     * @param markedPosition the marked position
+     */
+    public void reset(final int markedPosition) {
+        buffer.reset(markedPosition);
     }
 
     /**
@@ -67,32 +109,33 @@ class JsonScanner {
      * @throws JsonParseException if source is invalid.
      */
     public JsonToken nextToken() {
+        buffer.discard(buffer.getPosition());
 
         int c = buffer.read();
-        while (c != -1 && Character.isWhitespace(c)) {
+        while (c == ' ' || c == '\n' || (c != -1 && Character.isWhitespace(c))) {
             c = buffer.read();
         }
         if (c == -1) {
-            return new JsonToken(JsonTokenType.END_OF_FILE, "<eof>");
+            return END_OF_FILE;
         }
 
         switch (c) {
             case '{':
-                return new JsonToken(JsonTokenType.BEGIN_OBJECT, "{");
+                return BEGIN_OBJECT;
             case '}':
-                return new JsonToken(JsonTokenType.END_OBJECT, "}");
+                return END_OBJECT;
             case '[':
-                return new JsonToken(JsonTokenType.BEGIN_ARRAY, "[");
+                return BEGIN_ARRAY;
             case ']':
-                return new JsonToken(JsonTokenType.END_ARRAY, "]");
+                return END_ARRAY;
             case '(':
-                return new JsonToken(JsonTokenType.LEFT_PAREN, "(");
+                return LEFT_PAREN;
             case ')':
-                return new JsonToken(JsonTokenType.RIGHT_PAREN, ")");
+                return RIGHT_PAREN;
             case ':':
-                return new JsonToken(JsonTokenType.COLON, ":");
+                return COLON;
             case ',':
-                return new JsonToken(JsonTokenType.COMMA, ",");
+                return COMMA;
             case '\'':
             case '"':
                 return scanString((char) c);
@@ -202,7 +245,7 @@ class JsonScanner {
     private JsonToken scanUnquotedString() {
         int start = buffer.getPosition() - 1;
         int c = buffer.read();
-        while (c == '$' || c == '_' || Character.isLetterOrDigit(c)) {
+        while (isAsciiLetterOrDigit(c) || c == '$' || c == '_' || (c >= 0x80 && Character.isLetterOrDigit(c))) {
             c = buffer.read();
         }
         buffer.unread(c);
@@ -236,6 +279,9 @@ class JsonScanner {
         int start = buffer.getPosition() - 1;
 
         NumberState state;
+        // the magnitude of an integer is accumulated as it is scanned, so that it need not be parsed from a string
+        long magnitude = 0;
+        int digitCount = 0;
 
         switch (c) {
             case '-':
@@ -248,6 +294,12 @@ class JsonScanner {
                 state = NumberState.SAW_INTEGER_DIGITS;
                 break;
         }
+        if (c >= '0' && c <= '9') {
+            magnitude = c - '0';
+            digitCount = 1;
+        } else if (c != '-') {
+            digitCount = MAX_LONG_DIGITS + 1;
+        }
 
         JsonTokenType type = JsonTokenType.INT64;
 
@@ -258,48 +310,34 @@ class JsonScanner {
                 case SAW_LEADING_MINUS:
                     switch (c) {
                         case '0':
+                            digitCount = 1;
                             state = NumberState.SAW_LEADING_ZERO;
                             break;
                         case 'I':
                             state = NumberState.SAW_MINUS_I;
                             break;
                         default:
-                            if (Character.isDigit(c)) {
+                            if (c >= '0' && c <= '9') {
+                                magnitude = c - '0';
+                                digitCount = 1;
                                 state = NumberState.SAW_INTEGER_DIGITS;
-                            } else {
-                                state = NumberState.INVALID;
-                            }
-                            break;
-                    }
-                    break;
-                case SAW_LEADING_ZERO:
-                    switch (c) {
-                        case '.':
-                            state = NumberState.SAW_DECIMAL_POINT;
-                            break;
-                        case 'e':
-                        case 'E':
-                            state = NumberState.SAW_EXPONENT_LETTER;
-                            break;
-                        case ',':
-                        case '}':
-                        case ']':
-                        case ')':
-                        case -1:
-                            state = NumberState.DONE;
-                            break;
-                        default:
-                            if (Character.isDigit(c)) {
+                            } else if (Character.isDigit(c)) {
+                                digitCount = MAX_LONG_DIGITS + 1;
                                 state = NumberState.SAW_INTEGER_DIGITS;
-                            } else if (Character.isWhitespace(c)) {
-                                state = NumberState.DONE;
                             } else {
                                 state = NumberState.INVALID;
                             }
                             break;
                     }
                     break;
+                case SAW_LEADING_ZERO:
                 case SAW_INTEGER_DIGITS:
+                    if (c >= '0' && c <= '9') {
+                        magnitude = magnitude * 10 + (c - '0');
+                        digitCount++;
+                        state = NumberState.SAW_INTEGER_DIGITS;
+                        break;
+                    }
                     switch (c) {
                         case '.':
                             state = NumberState.SAW_DECIMAL_POINT;
@@ -317,6 +355,8 @@ class JsonScanner {
                             break;
                         default:
                             if (Character.isDigit(c)) {
+                                // a digit other than an ASCII one
+                                digitCount = MAX_LONG_DIGITS + 1;
                                 state = NumberState.SAW_INTEGER_DIGITS;
                             } else if (Character.isWhitespace(c)) {
                                 state = NumberState.DONE;
@@ -440,11 +480,15 @@ class JsonScanner {
                     throw new JsonParseException("Invalid JSON number");
                 case DONE:
                     buffer.unread(c);
-                    String lexeme = buffer.substring(start, buffer.getPosition());
                     if (type == JsonTokenType.DOUBLE) {
-                        return new JsonToken(JsonTokenType.DOUBLE, Double.parseDouble(lexeme));
+                        return new JsonToken(JsonTokenType.DOUBLE, Double.parseDouble(buffer.substring(start, buffer.getPosition())));
                     } else {
-                        long value = Long.parseLong(lexeme);
+                        long value;
+                        if (digitCount <= MAX_LONG_DIGITS) {
+                            value = firstChar == '-' ? -magnitude : magnitude;
+                        } else {
+                            value = Long.parseLong(buffer.substring(start, buffer.getPosition()));
+                        }
                         if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
                             return new JsonToken(JsonTokenType.INT64, value);
                         } else {
@@ -466,7 +510,22 @@ class JsonScanner {
     //CHECKSTYLE:OFF
     private JsonToken scanString(final char quoteCharacter) {
 
+        // most strings have no escape sequences, and those are taken straight from the buffer
+        int start = buffer.getPosition();
+        while (true) {
+            int c = buffer.read();
+            if (c == quoteCharacter) {
+                return new JsonToken(JsonTokenType.STRING, buffer.substring(start, buffer.getPosition() - 1));
+            } else if (c == '\\') {
+                buffer.unread(c);
+                break;
+            } else if (c == -1) {
+                throw new JsonParseException("End of file in JSON string.");
+            }
+        }
+
         StringBuilder sb = new StringBuilder();
+        sb.append(buffer.substring(start, buffer.getPosition()));
 
         while (true) {
             int c = buffer.read();
@@ -530,6 +589,10 @@ class JsonScanner {
         }
     }
 
+    private static boolean isAsciiLetterOrDigit(final int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
     private enum NumberState {
         SAW_LEADING_MINUS,
         SAW_LEADING_ZERO,
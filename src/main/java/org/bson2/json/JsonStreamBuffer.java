@@ -0,0 +1,132 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson2.json;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+import static org.bson2.assertions.Assertions.isTrue;
+
+/**
+ * A {@code JsonBuffer} that reads its characters from a {@code Reader} into a sliding window, so that a source of any length can be
+ * scanned in bounded memory.  The window holds the characters from the last discarded position, or from the mark if that is earlier, and
+ * grows only if a single token, or the span since the mark, does not fit.
+ */
+class JsonStreamBuffer implements JsonBuffer {
+    private static final int DEFAULT_CAPACITY = 8192;
+
+    private final Reader reader;
+    private char[] chars = new char[DEFAULT_CAPACITY];
+    // the position of chars[0]
+    private int offset;
+    // the number of characters read into the window
+    private int limit;
+    private int position;
+    private int discardedPosition;
+    private int markedPosition = -1;
+    private boolean eof;
+    private boolean endOfStream;
+
+    JsonStreamBuffer(final Reader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public int getPosition() {
+        return position;
+    }
+
+    @Override
+    public void setPosition(final int position) {
+        isTrue("position is within the window", position >= offset && position <= offset + limit);
+        this.position = position;
+    }
+
+    @Override
+    public int read() {
+        if (eof) {
+            throw new JsonParseException("Trying to read past EOF.");
+        }
+        if (position == offset + limit && !fill()) {
+            eof = true;
+            return -1;
+        }
+        return chars[position++ - offset];
+    }
+
+    @Override
+    public void unread(final int c) {
+        eof = false;
+        if (c != -1 && position > offset && chars[position - 1 - offset] == c) {
+            position--;
+        }
+    }
+
+    @Override
+    public String substring(final int beginIndex, final int endIndex) {
+        return new String(chars, beginIndex - offset, endIndex - beginIndex);
+    }
+
+    @Override
+    public int mark() {
+        markedPosition = position;
+        return position;
+    }
+
+    @Override
+    public void reset(final int markedPosition) {
+        setPosition(markedPosition);
+        this.markedPosition = -1;
+        discardedPosition = Math.min(discardedPosition, markedPosition);
+    }
+
+    @Override
+    public void discard(final int position) {
+        discardedPosition = position;
+    }
+
+    private boolean fill() {
+        if (endOfStream) {
+            return false;
+        }
+        int keptPosition = markedPosition >= 0 ? Math.min(markedPosition, discardedPosition) : discardedPosition;
+        int shift = keptPosition - offset;
+        if (shift > 0) {
+            System.arraycopy(chars, shift, chars, 0, limit - shift);
+            limit -= shift;
+            offset = keptPosition;
+        }
+        if (limit == chars.length) {
+            chars = Arrays.copyOf(chars, chars.length * 2);
+        }
+        try {
+            int count;
+            do {
+                count = reader.read(chars, limit, chars.length - limit);
+            } while (count == 0);
+            if (count < 0) {
+                endOfStream = true;
+                return false;
+            }
+            limit += count;
+            return true;
+        } catch (IOException e) {
+            throw new JsonParseException(e);
+        }
+    }
+}
@@ -27,6 +27,7 @@ import org.bson2.types.Decimal128;
 import org.bson2.types.ObjectId;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Writer;
 import java.text.SimpleDateFormat;
 import java.util.Date;
@@ -41,8 +42,32 @@ import static javax.xml.bind.DatatypeConverter.printBase64Binary;
  * @since 3.0
  */
 public class JsonWriter extends AbstractBsonWriter {
+    // the escape sequence of each ASCII character that must be escaped, or null if the character is written as is
+    private static final String[] ASCII_ESCAPES = new String[0x80];
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    // the number of characters in Long.MIN_VALUE
+    private static final int MAX_LONG_CHARS = 20;
+    // Double.toString formats a double of smaller magnitude than this that has no fractional part as the long value followed by ".0"
+    private static final double MAX_PLAIN_INTEGRAL_DOUBLE = 1.0e7;
+
+    static {
+        for (int c = 0; c < 0x20; c++) {
+            ASCII_ESCAPES[c] = "\\u00" + HEX_DIGITS[c >> 4] + HEX_DIGITS[c & 0xf];
+        }
+        ASCII_ESCAPES[0x7f] = "\\u007f";
+        ASCII_ESCAPES['"'] = "\\\"";
+        ASCII_ESCAPES['\\'] = "\\\\";
+        ASCII_ESCAPES['\b'] = "\\b";
+        ASCII_ESCAPES['\f'] = "\\f";
+        ASCII_ESCAPES['\n'] = "\\n";
+        ASCII_ESCAPES['\r'] = "\\r";
+        ASCII_ESCAPES['\t'] = "\\t";
+    }
+
     private final Writer writer;
     private final JsonWriterSettings settings;
+    private final char[] scratch = new char[MAX_LONG_CHARS];
+    private SimpleDateFormat shellDateFormat;
 
     /**
      * Creates a new instance which uses {@code writer} to write JSON to.
@@ -66,6 +91,41 @@ public class JsonWriter extends AbstractBsonWriter {
         setContext(new Context(null, BsonContextType.TOP_LEVEL, ""));
     }
 
+    /**
+     * Creates a new instance which writes JSON to the given stream encoded as UTF-8.
+     *
+     * @param outputStream the stream to write JSON to
+     * @see #JsonWriter(OutputStream, JsonWriterSettings)
+     * @since 3.5
+     */
+    public JsonWriter(final OutputStream outputStream) {
+        this(outputStream, new JsonWriterSettings());
+    }
+
+    /**
+     * Creates a new instance which writes JSON to the given stream encoded as UTF-8, and uses the given settings.
+     *
+     * <p>Characters are encoded straight into a buffer owned by this writer, which is written to the stream whenever it fills, so
+     * {@link #flush()} must be called once the JSON has been written.  This is the fastest way to write a large amount of JSON, such as
+     * an export of a collection.  A document that is already encoded as BSON, such as a {@code RawBsonDocument}, can be written without
+     * being decoded by piping it from a {@code BsonBinaryReader}:</p>
+     * <pre>
+     *    JsonWriter jsonWriter = new JsonWriter(outputStream, settings);
+     *    for (RawBsonDocument document : collection.find(RawBsonDocument.class)) {
+     *        jsonWriter.pipe(new BsonBinaryReader(new ByteBufferBsonInput(document.getByteBuffer())));
+     *        jsonWriter.getWriter().write('\n');
+     *    }
+     *    jsonWriter.flush();
+     * </pre>
+     *
+     * @param outputStream the stream to write JSON to
+     * @param settings     the settings to apply to this writer
+     * @since 3.5
+     */
+    public JsonWriter(final OutputStream outputStream, final JsonWriterSettings settings) {
+        this(new Utf8Writer(outputStream), settings);
+    }
+
     /**
      * Gets the {@code Writer}.
      *
@@ -179,18 +239,24 @@ public class JsonWriter extends AbstractBsonWriter {
                 case STRICT:
                     writeStartDocument();
                     writeNameHelper("$date");
-                    writer.write(Long.toString(value));
+                    writeLongValue(value);
                     writeEndDocument();
                     break;
                 case SHELL:
                     writeNameHelper(getName());
 
-                    SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd\'T\'HH:mm:ss.SSS\'Z\'");
-                    dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
                     if (value >= -59014396800000L && value <= 253399536000000L) {
-                        writer.write(format("ISODate(\"%s\")", dateFormat.format(new Date(value))));
+                        if (shellDateFormat == null) {
+                            shellDateFormat = new SimpleDateFormat("yyyy-MM-dd\'T\'HH:mm:ss.SSS\'Z\'");
+                            shellDateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+                        }
+                        writer.write("ISODate(\"");
+                        writer.write(shellDateFormat.format(new Date(value)));
+                        writer.write("\")");
                     } else {
-                        writer.write(format("new Date(%d)", value));
+                        writer.write("new Date(");
+                        writeLongValue(value);
+                        writer.write(")");
                     }
                     break;
                 default:
@@ -213,7 +279,7 @@ public class JsonWriter extends AbstractBsonWriter {
     protected void doWriteDouble(final double value) {
         try {
             writeNameHelper(getName());
-            writer.write(Double.toString(value));
+            writeDoubleValue(value);
             setState(getNextState());
         } catch (IOException e) {
             throwBSONException(e);
@@ -224,7 +290,7 @@ public class JsonWriter extends AbstractBsonWriter {
     protected void doWriteInt32(final int value) {
         try {
             writeNameHelper(getName());
-            writer.write(Integer.toString(value));
+            writeLongValue(value);
         } catch (IOException e) {
             throwBSONException(e);
         }
@@ -237,20 +303,26 @@ public class JsonWriter extends AbstractBsonWriter {
                 case STRICT:
                     writeStartDocument();
                     writeNameHelper("$numberLong");
-                    writer.write(format("\"%d\"", value));
+                    writer.write('"');
+                    writeLongValue(value);
+                    writer.write('"');
                     writeEndDocument();
                     break;
                 case SHELL:
                     writeNameHelper(getName());
                     if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
-                        writer.write(format("NumberLong(%d)", value));
+                        writer.write("NumberLong(");
+                        writeLongValue(value);
+                        writer.write(")");
                     } else {
-                        writer.write(format("NumberLong(\"%d\")", value));
+                        writer.write("NumberLong(\"");
+                        writeLongValue(value);
+                        writer.write("\")");
                     }
                     break;
                 default:
                     writeNameHelper(getName());
-                    writer.write(Long.toString(value));
+                    writeLongValue(value);
                     break;
             }
         } catch (IOException e) {
@@ -327,7 +399,9 @@ public class JsonWriter extends AbstractBsonWriter {
                     break;
                 case SHELL:
                     writeNameHelper(getName());
-                    writer.write(format("ObjectId(\"%s\")", objectId.toString()));
+                    writer.write("ObjectId(\"");
+                    writer.write(objectId.toHexString());
+                    writer.write("\")");
                     break;
                 default:
                     throw new BSONException("Unknown output mode" + settings.getOutputMode());
@@ -395,7 +469,11 @@ public class JsonWriter extends AbstractBsonWriter {
                     break;
                 case SHELL:
                     writeNameHelper(getName());
-                    writer.write(format("Timestamp(%d, %d)", value.getTime(), value.getInc()));
+                    writer.write("Timestamp(");
+                    writeLongValue(value.getTime());
+                    writer.write(", ");
+                    writeLongValue(value.getInc());
+                    writer.write(")");
                     break;
                 default:
                     throw new BSONException("Unknown output mode" + settings.getOutputMode());
@@ -468,66 +546,104 @@ public class JsonWriter extends AbstractBsonWriter {
 
     private void writeStringHelper(final String str) throws IOException {
         writer.write('"');
-        for (final char c : str.toCharArray()) {
-            switch (c) {
-                case '"':
-                    writer.write("\\\"");
-                    break;
-                case '\\':
-                    writer.write("\\\\");
-                    break;
-                case '\b':
-                    writer.write("\\b");
-                    break;
-                case '\f':
-                    writer.write("\\f");
-                    break;
-                case '\n':
-                    writer.write("\\n");
-                    break;
-                case '\r':
-                    writer.write("\\r");
-                    break;
-                case '\t':
-                    writer.write("\\t");
-                    break;
-                default:
-                    switch (Character.getType(c)) {
-                        case Character.UPPERCASE_LETTER:
-                        case Character.LOWERCASE_LETTER:
-                        case Character.TITLECASE_LETTER:
-                        case Character.OTHER_LETTER:
-                        case Character.DECIMAL_DIGIT_NUMBER:
-                        case Character.LETTER_NUMBER:
-                        case Character.OTHER_NUMBER:
-                        case Character.SPACE_SEPARATOR:
-                        case Character.CONNECTOR_PUNCTUATION:
-                        case Character.DASH_PUNCTUATION:
-                        case Character.START_PUNCTUATION:
-                        case Character.END_PUNCTUATION:
-                        case Character.INITIAL_QUOTE_PUNCTUATION:
-                        case Character.FINAL_QUOTE_PUNCTUATION:
-                        case Character.OTHER_PUNCTUATION:
-                        case Character.MATH_SYMBOL:
-                        case Character.CURRENCY_SYMBOL:
-                        case Character.MODIFIER_SYMBOL:
-                        case Character.OTHER_SYMBOL:
-                            writer.write(c);
-                            break;
-                        default:
-                            writer.write("\\u");
-                            writer.write(Integer.toHexString((c & 0xf000) >> 12));
-                            writer.write(Integer.toHexString((c & 0x0f00) >> 8));
-                            writer.write(Integer.toHexString((c & 0x00f0) >> 4));
-                            writer.write(Integer.toHexString(c & 0x000f));
-                            break;
-                    }
-                    break;
+        // write the characters that need no escaping in runs, rather than one at a time
+        int length = str.length();
+        int runStart = 0;
+        for (int i = 0; i < length; i++) {
+            char c = str.charAt(i);
+            String escape;
+            if (c < 0x80) {
+                escape = ASCII_ESCAPES[c];
+                if (escape == null) {
+                    continue;
+                }
+            } else if (isPrintable(c)) {
+                continue;
+            } else {
+                escape = null;
+            }
+            if (i > runStart) {
+                writer.write(str, runStart, i - runStart);
             }
+            if (escape != null) {
+                writer.write(escape);
+            } else {
+                writeUnicodeEscape(c);
+            }
+            runStart = i + 1;
+        }
+        if (length > runStart) {
+            writer.write(str, runStart, length - runStart);
         }
         writer.write('"');
     }
 
+    private static boolean isPrintable(final char c) {
+        switch (Character.getType(c)) {
+            case Character.UPPERCASE_LETTER:
+            case Character.LOWERCASE_LETTER:
+            case Character.TITLECASE_LETTER:
+            case Character.OTHER_LETTER:
+            case Character.DECIMAL_DIGIT_NUMBER:
+            case Character.LETTER_NUMBER:
+            case Character.OTHER_NUMBER:
+            case Character.SPACE_SEPARATOR:
+            case Character.CONNECTOR_PUNCTUATION:
+            case Character.DASH_PUNCTUATION:
+            case Character.START_PUNCTUATION:
+            case Character.END_PUNCTUATION:
+            case Character.INITIAL_QUOTE_PUNCTUATION:
+            case Character.FINAL_QUOTE_PUNCTUATION:
+            case Character.OTHER_PUNCTUATION:
+            case Character.MATH_SYMBOL:
+            case Character.CURRENCY_SYMBOL:
+            case Character.MODIFIER_SYMBOL:
+            case Character.OTHER_SYMBOL:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private void writeUnicodeEscape(final char c) throws IOException {
+        scratch[0] = '\\';
+        scratch[1] = 'u';
+        scratch[2] = HEX_DIGITS[(c >> 12) & 0xf];
+        scratch[3] = HEX_DIGITS[(c >> 8) & 0xf];
+        scratch[4] = HEX_DIGITS[(c >> 4) & 0xf];
+        scratch[5] = HEX_DIGITS[c & 0xf];
+        writer.write(scratch, 0, 6);
+    }
+
+    // writes the decimal digits of the value, as Long.toString would, without creating a string
+    private void writeLongValue(final long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            writer.write("-9223372036854775808");
+            return;
+        }
+        long remaining = value < 0 ? -value : value;
+        int position = MAX_LONG_CHARS;
+        do {
+            scratch[--position] = (char) ('0' + (int) (remaining % 10));
+            remaining /= 10;
+        } while (remaining != 0);
+        if (value < 0) {
+            scratch[--position] = '-';
+        }
+        writer.write(scratch, position, MAX_LONG_CHARS - position);
+    }
+
+    // writes the value as Double.toString would, formatting the common case of a small integral value without creating a string
+    private void writeDoubleValue(final double value) throws IOException {
+        if (value == (long) value && Math.abs(value) < MAX_PLAIN_INTEGRAL_DOUBLE
+                && Double.doubleToRawLongBits(value) != Double.doubleToRawLongBits(-0.0)) {
+            writeLongValue((long) value);
+            writer.write(".0");
+        } else {
+            writer.write(Double.toString(value));
+        }
+    }
+
     private void throwBSONException(final IOException e) {
         throw new BSONException("Wrapping IOException", e);
     }
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2017 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson2.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+
+/**
+ * A {@code Writer} that encodes characters as UTF-8 straight into a byte buffer, which is written to an {@code OutputStream} when it is
+ * full and when the writer is flushed.  Unlike an {@code OutputStreamWriter}, strings are encoded without first being copied into a
+ * character array, and runs of ASCII characters are copied a byte at a time.  An unpaired surrogate is encoded as {@code '?'}, as it is
+ * by {@code String.getBytes}.
+ *
+ * <p>This class is not thread-safe.</p>
+ */
+final class Utf8Writer extends Writer {
+    private static final int BUFFER_SIZE = 8192;
+    // the largest number of bytes that a single call to encode can add to the buffer
+    private static final int MAX_BYTES_PER_CHAR = 4;
+
+    private final OutputStream outputStream;
+    private final byte[] bytes = new byte[BUFFER_SIZE];
+    private int count;
+    private char highSurrogate;
+
+    Utf8Writer(final OutputStream outputStream) {
+        this.outputStream = outputStream;
+    }
+
+    @Override
+    public void write(final int c) throws IOException {
+        ensureSpace();
+        encode((char) c);
+    }
+
+    @Override
+    public void write(final String str) throws IOException {
+        write(str, 0, str.length());
+    }
+
+    @Override
+    public void write(final String str, final int off, final int len) throws IOException {
+        int i = off;
+        int end = off + len;
+        while (i < end) {
+            ensureSpace();
+            // copy as many ASCII characters as fit before falling back to the general encoding
+            int asciiEnd = Math.min(end, i + bytes.length - count);
+            char c;
+            while (i < asciiEnd && (c = str.charAt(i)) < 0x80 && highSurrogate == 0) {
+                bytes[count++] = (byte) c;
+                i++;
+            }
+            if (i < end && count <= bytes.length - MAX_BYTES_PER_CHAR) {
+                encode(str.charAt(i++));
+            }
+        }
+    }
+
+    @Override
+    public void write(final char[] cbuf, final int off, final int len) throws IOException {
+        for (int i = off; i < off + len; i++) {
+            ensureSpace();
+            encode(cbuf[i]);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        outputStream.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (highSurrogate != 0) {
+            highSurrogate = 0;
+            ensureSpace();
+            bytes[count++] = '?';
+        }
+        flush();
+        outputStream.close();
+    }
+
+    private void ensureSpace() throws IOException {
+        if (count > bytes.length - MAX_BYTES_PER_CHAR) {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (count > 0) {
+            outputStream.write(bytes, 0, count);
+            count = 0;
+        }
+    }
+
+    private void encode(final char c) {
+        if (highSurrogate != 0) {
+            char high = highSurrogate;
+            highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                int codePoint = Character.toCodePoint(high, c);
+                bytes[count++] = (byte) (0xf0 | (codePoint >> 18));
+                bytes[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                bytes[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                bytes[count++] = (byte) (0x80 | (codePoint & 0x3f));
+                return;
+            }
+            // an unpaired high surrogate takes one byte, which leaves room for any character that can follow it
+            bytes[count++] = '?';
+        }
+        if (c < 0x80) {
+            bytes[count++] = (byte) c;
+        } else if (c < 0x800) {
+            bytes[count++] = (byte) (0xc0 | (c >> 6));
+            bytes[count++] = (byte) (0x80 | (c & 0x3f));
+        } else if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            bytes[count++] = '?';
+        } else {
+            bytes[count++] = (byte) (0xe0 | (c >> 12));
+            bytes[count++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+            bytes[count++] = (byte) (0x80 | (c & 0x3f));
+        }
+    }
+}
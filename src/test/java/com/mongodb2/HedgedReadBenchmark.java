@@ -0,0 +1,187 @@
+package com.mongodb2;
+
+import com.mongodb2.client.MongoCollection;
+import com.mongodb2.client.model.HedgeOptions;
+import org.bson2.BsonArray;
+import org.bson2.BsonBinaryWriter;
+import org.bson2.BsonBoolean;
+import org.bson2.BsonDocument;
+import org.bson2.BsonInt32;
+import org.bson2.BsonString;
+import org.bson2.BsonValue;
+import org.bson2.Document;
+import org.bson2.codecs.BsonDocumentCodec;
+import org.bson2.codecs.EncoderContext;
+import org.bson2.io.BasicOutputBuffer;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Measures the tail latency of secondaryPreferred counts against a stand-in replica set whose secondaries occasionally stall, with and
+ * without hedged reads.  Each stand-in member answers counts in about a millisecond, except for one in fifty, which takes 100
+ * milliseconds.
+ */
+public class HedgedReadBenchmark {
+    private static final int THREAD_COUNT = 8;
+    private static final int COUNTS_PER_THREAD = 500;
+    private static final int STALL_PERCENT = 2;
+    private static final int STALL_MS = 100;
+    private static final AtomicInteger COUNT_REQUESTS = new AtomicInteger();
+
+    public static void main(final String[] args) throws Exception {
+        List<ServerSocket> serverSockets = new ArrayList<ServerSocket>();
+        List<ServerAddress> serverAddresses = new ArrayList<ServerAddress>();
+        for (int i = 0; i < 3; i++) {
+            ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+            serverSockets.add(serverSocket);
+            serverAddresses.add(new ServerAddress("localhost", serverSocket.getLocalPort()));
+        }
+        for (int i = 0; i < serverSockets.size(); i++) {
+            start(serverSockets.get(i), createIsMasterReply(serverAddresses, i));
+        }
+
+        MongoClient client = new MongoClient(serverAddresses, MongoClientOptions.builder()
+                                                                                .readPreference(ReadPreference.secondaryPreferred())
+                                                                                .build());
+        try {
+            MongoCollection<Document> collection = client.getDatabase("test").getCollection("test");
+            collection.count();
+
+            run("not hedged", collection);
+            run("hedged", collection.withHedgeOptions(HedgeOptions.builder().maxHedgeRatio(0.1).build()));
+            run("hedged, fixed 10ms delay", collection.withHedgeOptions(HedgeOptions.builder()
+                                                                                  .minDelay(10, MILLISECONDS)
+                                                                                  .maxDelay(10, MILLISECONDS)
+                                                                                  .maxHedgeRatio(0.1).build()));
+        } finally {
+            client.close();
+        }
+    }
+
+    private static void run(final String name, final MongoCollection<Document> collection) throws InterruptedException {
+        final long[] latencies = new long[THREAD_COUNT * COUNTS_PER_THREAD];
+        Thread[] threads = new Thread[THREAD_COUNT];
+        COUNT_REQUESTS.set(0);
+        for (int i = 0; i < threads.length; i++) {
+            final int offset = i * COUNTS_PER_THREAD;
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < COUNTS_PER_THREAD; j++) {
+                        long startTimeNanos = System.nanoTime();
+                        collection.count();
+                        latencies[offset + j] = System.nanoTime() - startTimeNanos;
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Arrays.sort(latencies);
+        System.out.println(String.format("%-26s p50 %6.2f ms, p95 %6.2f ms, p99 %6.2f ms, p99.9 %6.2f ms, max %6.2f ms, "
+                                         + "count requests per count %.3f",
+                                         name, percentile(latencies, 50), percentile(latencies, 95), percentile(latencies, 99),
+                                         percentile(latencies, 99.9), latencies[latencies.length - 1] / 1e6,
+                                         COUNT_REQUESTS.get() / (double) latencies.length));
+    }
+
+    private static double percentile(final long[] sortedLatencies, final double percentile) {
+        return sortedLatencies[(int) Math.ceil(percentile / 100 * sortedLatencies.length) - 1] / 1e6;
+    }
+
+    private static void start(final ServerSocket serverSocket, final byte[] isMasterReply) {
+        Thread acceptor = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                while (true) {
+                    try {
+                        final Socket socket = serverSocket.accept();
+                        Thread server = new Thread(new Runnable() {
+                            @Override
+                            public void run() {
+                                serve(socket, isMasterReply);
+                            }
+                        });
+                        server.setDaemon(true);
+                        server.start();
+                    } catch (IOException e) {
+                        return;
+                    }
+                }
+            }
+        });
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    private static void serve(final Socket socket, final byte[] isMasterReply) {
+        try {
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            OutputStream out = socket.getOutputStream();
+            byte[] countReply = encode(new BsonDocument("ok", new BsonInt32(1)).append("n", new BsonInt32(42)));
+            Random random = new Random();
+            while (true) {
+                byte[] headerBytes = new byte[16];
+                in.readFully(headerBytes);
+                ByteBuffer header = ByteBuffer.wrap(headerBytes).order(ByteOrder.LITTLE_ENDIAN);
+                byte[] body = new byte[header.getInt(0) - 16];
+                in.readFully(body);
+
+                byte[] replyDocument;
+                if (new String(body, "ISO-8859-1").contains("count")) {
+                    COUNT_REQUESTS.incrementAndGet();
+                    Thread.sleep(random.nextInt(100) < STALL_PERCENT ? STALL_MS : 1);
+                    replyDocument = countReply;
+                } else {
+                    replyDocument = isMasterReply;
+                }
+                ByteBuffer reply = ByteBuffer.allocate(36 + replyDocument.length).order(ByteOrder.LITTLE_ENDIAN);
+                reply.putInt(reply.capacity()).putInt(0).putInt(header.getInt(4)).putInt(1)
+                     .putInt(0).putLong(0).putInt(0).putInt(1).put(replyDocument);
+                out.write(reply.array());
+            }
+        } catch (Exception e) {
+            // client went away
+        }
+    }
+
+    private static byte[] createIsMasterReply(final List<ServerAddress> serverAddresses, final int index) {
+        List<BsonValue> hosts = new ArrayList<BsonValue>();
+        for (ServerAddress cur : serverAddresses) {
+            hosts.add(new BsonString(cur.toString()));
+        }
+        return encode(new BsonDocument("ok", new BsonInt32(1))
+                      .append("ismaster", BsonBoolean.valueOf(index == 0))
+                      .append("secondary", BsonBoolean.valueOf(index != 0))
+                      .append("setName", new BsonString("rs"))
+                      .append("hosts", new BsonArray(hosts))
+                      .append("primary", new BsonString(serverAddresses.get(0).toString()))
+                      .append("me", new BsonString(serverAddresses.get(index).toString()))
+                      .append("maxWireVersion", new BsonInt32(5))
+                      .append("versionArray", new BsonArray(Arrays.<BsonValue>asList(new BsonInt32(3), new BsonInt32(4), new BsonInt32(0),
+                                                                                     new BsonInt32(0)))));
+    }
+
+    private static byte[] encode(final BsonDocument document) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        new BsonDocumentCodec().encode(new BsonBinaryWriter(buffer), document, EncoderContext.builder().build());
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,160 @@
+package com.mongodb2.connection;
+
+import com.mongodb2.ServerAddress;
+import com.mongodb2.internal.connection.PowerOfTwoBufferPool;
+import org.bson2.ByteBuf;
+
+import javax.net.SocketFactory;
+import java.io.DataInputStream;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Round trips a small message through a {@code SocketStream} against a local stand-in server, and reports the number of socket reads and
+ * writes issued per operation together with the average latency.
+ */
+public class SocketStreamBenchmark {
+    private static final int ITERATIONS = 20000;
+    private static final int BUFFERS_PER_MESSAGE = 4;
+    private static final int BUFFER_SIZE = 256;
+    private static final int REPLY_BODY_SIZE = 512;
+
+    public static void main(final String[] args) throws Exception {
+        final ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        Thread server = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                serve(serverSocket);
+            }
+        });
+        server.setDaemon(true);
+        server.start();
+
+        CountingSocketFactory socketFactory = new CountingSocketFactory();
+        BufferProvider bufferProvider = new PowerOfTwoBufferPool();
+        SocketStream stream = new SocketStream(new ServerAddress("localhost", serverSocket.getLocalPort()),
+                                               SocketSettings.builder().build(), SslSettings.builder().build(), socketFactory,
+                                               bufferProvider);
+        stream.open();
+
+        for (int i = 0; i < ITERATIONS / 10; i++) {
+            roundTrip(stream, bufferProvider);
+        }
+        socketFactory.reads.set(0);
+        socketFactory.writes.set(0);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            roundTrip(stream, bufferProvider);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        System.out.println(String.format("writes/op: %.2f", socketFactory.writes.get() / (double) ITERATIONS));
+        System.out.println(String.format("reads/op: %.2f", socketFactory.reads.get() / (double) ITERATIONS));
+        System.out.println(String.format("latency: %.1f us/op", elapsed / 1000.0 / ITERATIONS));
+
+        stream.close();
+        serverSocket.close();
+    }
+
+    private static void roundTrip(final SocketStream stream, final BufferProvider bufferProvider) throws IOException {
+        List<ByteBuf> buffers = new ArrayList<ByteBuf>();
+        for (int i = 0; i < BUFFERS_PER_MESSAGE; i++) {
+            ByteBuf buffer = bufferProvider.getBuffer(BUFFER_SIZE);
+            if (i == 0) {
+                buffer.asNIO().putInt(0, BUFFERS_PER_MESSAGE * BUFFER_SIZE);
+            }
+            buffers.add(buffer);
+        }
+        stream.write(buffers);
+        for (ByteBuf buffer : buffers) {
+            buffer.release();
+        }
+
+        ByteBuf header = stream.read(ReplyHeader.REPLY_HEADER_LENGTH);
+        header.release();
+        ByteBuf body = stream.read(REPLY_BODY_SIZE);
+        body.release();
+    }
+
+    private static void serve(final ServerSocket serverSocket) {
+        try {
+            Socket socket = serverSocket.accept();
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            OutputStream out = socket.getOutputStream();
+            byte[] message = new byte[BUFFERS_PER_MESSAGE * BUFFER_SIZE];
+            ByteBuffer reply = ByteBuffer.allocate(ReplyHeader.REPLY_HEADER_LENGTH + REPLY_BODY_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            reply.putInt(0, reply.capacity());
+            while (true) {
+                in.readFully(message);
+                out.write(reply.array());
+            }
+        } catch (IOException e) {
+            // client went away
+        }
+    }
+
+    private static class CountingSocketFactory extends SocketFactory {
+        private final AtomicLong reads = new AtomicLong();
+        private final AtomicLong writes = new AtomicLong();
+
+        @Override
+        public Socket createSocket() {
+            return new Socket() {
+                @Override
+                public InputStream getInputStream() throws IOException {
+                    return new FilterInputStream(super.getInputStream()) {
+                        @Override
+                        public int read(final byte[] b, final int off, final int len) throws IOException {
+                            reads.incrementAndGet();
+                            return super.read(b, off, len);
+                        }
+                    };
+                }
+
+                @Override
+                public OutputStream getOutputStream() throws IOException {
+                    return new FilterOutputStream(super.getOutputStream()) {
+                        @Override
+                        public void write(final byte[] b, final int off, final int len) throws IOException {
+                            writes.incrementAndGet();
+                            out.write(b, off, len);
+                        }
+                    };
+                }
+            };
+        }
+
+        @Override
+        public Socket createSocket(final String host, final int port) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Socket createSocket(final String host, final int port, final InetAddress localHost, final int localPort) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Socket createSocket(final InetAddress host, final int port) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Socket createSocket(final InetAddress address, final int port, final InetAddress localAddress, final int localPort) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
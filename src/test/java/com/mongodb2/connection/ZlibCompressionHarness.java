@@ -0,0 +1,163 @@
+package com.mongodb2.connection;
+
+import com.mongodb2.MongoCompressor;
+import com.mongodb2.MongoCredential;
+import com.mongodb2.ServerAddress;
+import com.mongodb2.client.MongoDriverInformation;
+import org.bson2.BsonArray;
+import org.bson2.BsonBinaryWriter;
+import org.bson2.BsonBoolean;
+import org.bson2.BsonDocument;
+import org.bson2.BsonInt32;
+import org.bson2.BsonString;
+import org.bson2.codecs.BsonDocumentCodec;
+import org.bson2.codecs.EncoderContext;
+import org.bson2.io.BasicOutputBuffer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Opens a connection that negotiates zlib compression with a local stand-in server, runs a command over it, and reports how many of the
+ * requests the stand-in received were compressed.  The stand-in answers every request with the same reply document, compressing the reply
+ * whenever the request was compressed.
+ */
+public class ZlibCompressionHarness {
+    private static final AtomicInteger COMPRESSED_REQUESTS = new AtomicInteger();
+    private static final AtomicInteger REQUESTS = new AtomicInteger();
+
+    public static void main(final String[] args) throws Exception {
+        final ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        Thread server = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                serve(serverSocket);
+            }
+        });
+        server.setDaemon(true);
+        server.start();
+
+        InternalStreamConnectionFactory connectionFactory =
+        new InternalStreamConnectionFactory(new SocketStreamFactory(SocketSettings.builder().build(), SslSettings.builder().build()),
+                                            Collections.<MongoCredential>emptyList(), new NoOpConnectionListener(), null,
+                                            MongoDriverInformation.builder().build(),
+                                            asList(MongoCompressor.createZlibCompressor().withThreshold(0)));
+        InternalConnection connection = connectionFactory.create(new ServerId(new ClusterId(),
+                                                                              new ServerAddress("localhost", serverSocket.getLocalPort())));
+        connection.open();
+        int handshakeRequests = REQUESTS.get();
+
+        BsonDocument result = null;
+        for (int i = 0; i < 100; i++) {
+            result = CommandHelper.executeCommand("admin", new BsonDocument("ping", new BsonInt32(1)), connection);
+        }
+
+        System.out.println("negotiated compressors: " + connection.getDescription().getCompressors());
+        System.out.println("handshake requests: " + handshakeRequests);
+        System.out.println("requests: " + REQUESTS.get() + ", compressed: " + COMPRESSED_REQUESTS.get());
+        System.out.println("last reply ok: " + result.getNumber("ok").intValue() + ", padding length: "
+                           + result.getString("padding").getValue().length());
+
+        connection.close();
+        serverSocket.close();
+    }
+
+    private static void serve(final ServerSocket serverSocket) {
+        try {
+            Socket socket = serverSocket.accept();
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            OutputStream out = socket.getOutputStream();
+            byte[] replyDocument = createReplyDocument();
+            while (true) {
+                byte[] headerBytes = new byte[16];
+                in.readFully(headerBytes);
+                ByteBuffer header = ByteBuffer.wrap(headerBytes).order(ByteOrder.LITTLE_ENDIAN);
+                byte[] body = new byte[header.getInt(0) - 16];
+                in.readFully(body);
+
+                REQUESTS.incrementAndGet();
+                boolean compressed = header.getInt(12) == ZlibCompressor.OP_COMPRESSED_OP_CODE;
+                if (compressed) {
+                    COMPRESSED_REQUESTS.incrementAndGet();
+                    inflate(body);
+                }
+                out.write(createReply(header.getInt(4), replyDocument, compressed));
+            }
+        } catch (IOException e) {
+            // client went away
+        }
+    }
+
+    private static byte[] createReplyDocument() {
+        StringBuilder padding = new StringBuilder();
+        for (int i = 0; i < 4096; i++) {
+            padding.append('a');
+        }
+        BsonDocument document = new BsonDocument("ok", new BsonInt32(1))
+                                .append("ismaster", BsonBoolean.TRUE)
+                                .append("maxWireVersion", new BsonInt32(5))
+                                .append("compression", new BsonArray(asList(new BsonString(MongoCompressor.ZLIB))))
+                                .append("versionArray", new BsonArray(asList(new BsonInt32(3), new BsonInt32(4), new BsonInt32(0),
+                                                                             new BsonInt32(0))))
+                                .append("padding", new BsonString(padding.toString()));
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        new BsonDocumentCodec().encode(new BsonBinaryWriter(buffer), document, EncoderContext.builder().build());
+        return buffer.toByteArray();
+    }
+
+    private static byte[] createReply(final int responseTo, final byte[] replyDocument, final boolean compressed) {
+        ByteBuffer replyBody = ByteBuffer.allocate(20 + replyDocument.length).order(ByteOrder.LITTLE_ENDIAN);
+        replyBody.putInt(0).putLong(0).putInt(0).putInt(1).put(replyDocument);
+
+        if (!compressed) {
+            ByteBuffer reply = ByteBuffer.allocate(16 + replyBody.capacity()).order(ByteOrder.LITTLE_ENDIAN);
+            reply.putInt(reply.capacity()).putInt(0).putInt(responseTo).putInt(1).put(replyBody.array());
+            return reply.array();
+        }
+
+        Deflater deflater = new Deflater();
+        deflater.setInput(replyBody.array());
+        deflater.finish();
+        ByteArrayOutputStream deflated = new ByteArrayOutputStream();
+        byte[] chunk = new byte[1024];
+        while (!deflater.finished()) {
+            deflated.write(chunk, 0, deflater.deflate(chunk));
+        }
+        deflater.end();
+
+        ByteBuffer reply = ByteBuffer.allocate(25 + deflated.size()).order(ByteOrder.LITTLE_ENDIAN);
+        reply.putInt(reply.capacity()).putInt(0).putInt(responseTo).putInt(ZlibCompressor.OP_COMPRESSED_OP_CODE)
+             .putInt(1).putInt(replyBody.capacity()).put(ZlibCompressor.ZLIB_COMPRESSOR_ID).put(deflated.toByteArray());
+        return reply.array();
+    }
+
+    private static void inflate(final byte[] body) throws IOException {
+        ByteBuffer compressedHeader = ByteBuffer.wrap(body).order(ByteOrder.LITTLE_ENDIAN);
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(body, 9, body.length - 9);
+            byte[] original = new byte[compressedHeader.getInt(4)];
+            if (inflater.inflate(original) != original.length) {
+                throw new IOException("Compressed request is shorter than its uncompressed size");
+            }
+        } catch (DataFormatException e) {
+            throw new IOException(e);
+        } finally {
+            inflater.end();
+        }
+    }
+}